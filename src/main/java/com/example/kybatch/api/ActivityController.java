@@ -1,18 +1,33 @@
 package com.example.kybatch.api;
 
+import com.example.kybatch.ingest.ActivityBulkIngestService;
+import com.example.kybatch.ingest.ActivityIngestBuffer;
+import com.example.kybatch.ingest.ActivityPreAggregator;
+import com.example.kybatch.ingest.dto.ActivityBulkIngestResponse;
 import com.example.kybatch.service.UserActivityService;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/activity")
 public class ActivityController {
 
     private final UserActivityService  userActivityService;
+    private final ActivityIngestBuffer ingestBuffer;
+    private final ActivityBulkIngestService bulkIngestService;
+    private final ActivityPreAggregator preAggregator;
 
     @PostMapping("/login")
     public void login(@RequestParam Long userId) {
@@ -28,4 +43,28 @@ public class ActivityController {
     public void order(@RequestParam Long userId) {
         userActivityService.recordOrder(userId);
     }
+
+    /**
+     * 대량 이벤트 수집 (NDJSON 또는 JSON Array 본문)
+     * - 본문을 스트리밍으로 읽어 청크 단위 multi-row INSERT + 청크마다 커밋
+     * - 본문 구조 오류는 400 + 진행 상황 본문 (커밋된 청크는 유지 → resumeFrom 이후만 재전송)
+     */
+    @PostMapping(value = "/bulk", consumes = {"application/x-ndjson", MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<ActivityBulkIngestResponse> bulk(HttpServletRequest request) throws IOException {
+        ActivityBulkIngestResponse response = bulkIngestService.ingest(request.getInputStream());
+        return response.getError() == null
+                ? ResponseEntity.ok(response)
+                : ResponseEntity.badRequest().body(response);
+    }
+
+    /**
+     * 수집 버퍼 상태 조회 (큐 적재량 / flush 지연 등)
+     */
+    @GetMapping("/ingest/stats")
+    public Map<String, Object> ingestStats() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("buffer", ingestBuffer.stats());
+        result.put("preAggregate", preAggregator.stats());
+        return result;
+    }
 }
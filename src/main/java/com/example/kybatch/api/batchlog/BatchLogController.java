@@ -1,16 +1,25 @@
 package com.example.kybatch.api.batchlog;
 
 import com.example.kybatch.api.batchlog.dto.JobLogResponseDTO;
+import com.example.kybatch.api.batchlog.dto.LogPageResponseDTO;
 import com.example.kybatch.api.batchlog.dto.StepLogResponseDTO;
 import com.example.kybatch.api.batchlog.service.BatchLogQueryService;
+import com.example.kybatch.domain.batchlog.BatchLogSearchCondition;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
-import java.util.List;
+import java.time.LocalDateTime;
 
+/**
+ * 배치 실행 로그 조회 (keyset 페이지)
+ * - 모든 조건은 선택, from(포함) ~ to(미포함) 은 startTime 기준
+ * - 다음 페이지 : 응답의 nextCursor 를 cursor 로 전달
+ * - size : 기본 50, 최대 500
+ */
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/api/batch-logs")
@@ -19,12 +28,27 @@ public class BatchLogController {
     private final BatchLogQueryService batchLogQueryService;
 
     @GetMapping("/jobs")
-    public List<JobLogResponseDTO> getJobLogs(@RequestParam String jobName) {
-        return batchLogQueryService.getRecentJobLogs(jobName);
+    public LogPageResponseDTO<JobLogResponseDTO> getJobLogs(
+            @RequestParam(required = false) String jobName,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "" + BatchLogQueryService.DEFAULT_PAGE_SIZE) int size) {
+        return batchLogQueryService.getJobLogs(
+                new BatchLogSearchCondition(jobName, null, status, from, to, cursor, size));
     }
 
     @GetMapping("/steps")
-    public List<StepLogResponseDTO> getStepLogs(@RequestParam String stepName) {
-        return batchLogQueryService.getRecentStepLogs(stepName);
+    public LogPageResponseDTO<StepLogResponseDTO> getStepLogs(
+            @RequestParam(required = false) String stepName,
+            @RequestParam(required = false) String jobName,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "" + BatchLogQueryService.DEFAULT_PAGE_SIZE) int size) {
+        return batchLogQueryService.getStepLogs(
+                new BatchLogSearchCondition(jobName, stepName, status, from, to, cursor, size));
     }
 }
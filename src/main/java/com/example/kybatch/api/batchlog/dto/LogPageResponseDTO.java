@@ -0,0 +1,17 @@
+package com.example.kybatch.api.batchlog.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class LogPageResponseDTO<T> {
+
+    private List<T> items;
+
+    // 다음 페이지 요청 시 cursor 로 전달 (마지막 페이지면 null)
+    private Long nextCursor;
+    private boolean hasNext;
+}
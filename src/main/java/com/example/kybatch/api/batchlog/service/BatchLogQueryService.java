@@ -1,8 +1,10 @@
 package com.example.kybatch.api.batchlog.service;
 
 import com.example.kybatch.api.batchlog.dto.JobLogResponseDTO;
+import com.example.kybatch.api.batchlog.dto.LogPageResponseDTO;
 import com.example.kybatch.api.batchlog.dto.StepLogResponseDTO;
-import com.example.kybatch.domain.batchlog.BatchJobLogRepository;
+import com.example.kybatch.domain.batchlog.BatchLogSearchCondition;
+import com.example.kybatch.domain.batchlog.BatchLogSearchRepository;
 import com.example.kybatch.domain.batchlog.BatchStepLog;
 import com.example.kybatch.domain.batchlog.BatchStepLogRepository;
 import lombok.RequiredArgsConstructor;
@@ -11,32 +13,41 @@ import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
 
 @Service
 @RequiredArgsConstructor
 public class BatchLogQueryService {
 
-    private final BatchJobLogRepository jobRepo;
+    public static final int DEFAULT_PAGE_SIZE = 50;
+    public static final int MAX_PAGE_SIZE = 500;
+
+    private final BatchLogSearchRepository searchRepo;
     private final BatchStepLogRepository stepRepo;
 
-    public List<JobLogResponseDTO> getRecentJobLogs(String jobName) {
+    public LogPageResponseDTO<JobLogResponseDTO> getJobLogs(BatchLogSearchCondition condition) {
+
+        BatchLogSearchCondition c = normalize(condition);
 
-        return jobRepo.findRecentLogs(jobName).stream()
-                .map(j -> JobLogResponseDTO.builder()
+        return page(searchRepo.searchJobLogs(c), c.size(),
+                j -> JobLogResponseDTO.builder()
                         .id(j.getId())
                         .jobName(j.getJobName())
                         .startTime(j.getStartTime())
                         .endTime(j.getEndTime())
                         .status(j.getStatus())
                         .parameters(j.getParameters())
-                        .build())
-                .toList();
+                        .build(),
+                JobLogResponseDTO::getId);
     }
 
-    public List<StepLogResponseDTO> getRecentStepLogs(String stepName) {
+    public LogPageResponseDTO<StepLogResponseDTO> getStepLogs(BatchLogSearchCondition condition) {
+
+        BatchLogSearchCondition c = normalize(condition);
 
-        return stepRepo.findRecentLogs(stepName).stream()
-                .map(s -> StepLogResponseDTO.builder()
+        return page(searchRepo.searchStepLogs(c), c.size(),
+                s -> StepLogResponseDTO.builder()
                         .id(s.getId())
                         .jobName(s.getJobName())
                         .stepName(s.getStepName())
@@ -46,8 +57,8 @@ public class BatchLogQueryService {
                         .readCount(s.getReadCount())
                         .writeCount(s.getWriteCount())
                         .skipCount(s.getSkipCount())
-                        .build())
-                .toList();
+                        .build(),
+                StepLogResponseDTO::getId);
     }
 
 
@@ -55,4 +66,39 @@ public class BatchLogQueryService {
     public void saveStep(BatchStepLog log){
         stepRepo.save(log);
     }
+
+    /**
+     * 페이지 크기 보정 (1 ~ MAX_PAGE_SIZE), 빈 문자열 조건은 조건 없음으로 처리
+     */
+    private static BatchLogSearchCondition normalize(BatchLogSearchCondition c) {
+        int size = c.size() <= 0 ? DEFAULT_PAGE_SIZE : Math.min(c.size(), MAX_PAGE_SIZE);
+        return new BatchLogSearchCondition(
+                blankToNull(c.jobName()),
+                blankToNull(c.stepName()),
+                blankToNull(c.status()),
+                c.from(),
+                c.to(),
+                c.cursor(),
+                size);
+    }
+
+    /**
+     * size + 1 건 조회 결과 → 한 페이지 + 다음 커서
+     */
+    private static <E, D> LogPageResponseDTO<D> page(List<E> rows, int size,
+                                                     Function<E, D> mapper,
+                                                     ToLongFunction<D> idOf) {
+        boolean hasNext = rows.size() > size;
+        List<D> items = rows.stream().limit(size).map(mapper).toList();
+
+        return LogPageResponseDTO.<D>builder()
+                .items(items)
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? idOf.applyAsLong(items.get(items.size() - 1)) : null)
+                .build();
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value;
+    }
 }
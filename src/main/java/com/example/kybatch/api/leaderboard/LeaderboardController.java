@@ -0,0 +1,35 @@
+package com.example.kybatch.api.leaderboard;
+
+import com.example.kybatch.api.leaderboard.dto.LeaderboardEntryResponseDTO;
+import com.example.kybatch.api.leaderboard.service.LeaderboardQueryService;
+import com.example.kybatch.domain.stats.LeaderboardMetric;
+import com.example.kybatch.domain.stats.LeaderboardPeriod;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * 기간별 상위 유저 조회
+ * - period    : DAILY / WEEKLY / MONTHLY
+ * - periodKey : 2025-07-01 / 2025-W27 / 2025-07
+ * - metric    : ORDERS / VIEWS
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/leaderboards")
+public class LeaderboardController {
+
+    private final LeaderboardQueryService leaderboardQueryService;
+
+    @GetMapping
+    public List<LeaderboardEntryResponseDTO> getLeaderboard(@RequestParam LeaderboardPeriod period,
+                                                            @RequestParam String periodKey,
+                                                            @RequestParam(defaultValue = "ORDERS") LeaderboardMetric metric,
+                                                            @RequestParam(defaultValue = "100") int limit) {
+        return leaderboardQueryService.getLeaderboard(period, periodKey, metric, limit);
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.kybatch.api.leaderboard.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class LeaderboardEntryResponseDTO {
+
+    private int rank;
+    private Long userId;
+    private long value;
+
+}
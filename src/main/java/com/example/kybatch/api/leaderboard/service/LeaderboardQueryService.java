@@ -0,0 +1,37 @@
+package com.example.kybatch.api.leaderboard.service;
+
+import com.example.kybatch.api.leaderboard.dto.LeaderboardEntryResponseDTO;
+import com.example.kybatch.domain.stats.LeaderboardEntryRepository;
+import com.example.kybatch.domain.stats.LeaderboardMetric;
+import com.example.kybatch.domain.stats.LeaderboardPeriod;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class LeaderboardQueryService {
+
+    public static final int MAX_LIMIT = 500;
+
+    private final LeaderboardEntryRepository repository;
+
+    public List<LeaderboardEntryResponseDTO> getLeaderboard(LeaderboardPeriod period,
+                                                            String periodKey,
+                                                            LeaderboardMetric metric,
+                                                            int limit) {
+
+        // 0 이하 → 기록된 전체, 상한은 MAX_LIMIT
+        int capped = limit <= 0 ? MAX_LIMIT : Math.min(limit, MAX_LIMIT);
+
+        return repository.findByPeriodTypeAndPeriodKeyAndMetricOrderByRankNo(period, periodKey, metric).stream()
+                .limit(capped)
+                .map(e -> LeaderboardEntryResponseDTO.builder()
+                        .rank(e.getRankNo())
+                        .userId(e.getUserId())
+                        .value(e.getValue())
+                        .build())
+                .toList();
+    }
+}
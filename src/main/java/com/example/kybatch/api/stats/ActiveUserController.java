@@ -0,0 +1,44 @@
+package com.example.kybatch.api.stats;
+
+import com.example.kybatch.api.stats.dto.ActiveUserCountResponseDTO;
+import com.example.kybatch.api.stats.service.ActiveUserQueryService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+
+/**
+ * 고유 활동 유저 수 조회 (HyperLogLog 근사치)
+ * - /range   : from(포함) ~ to(미포함)
+ * - /weekly  : weekStartDate(월요일) 부터 7일
+ * - /monthly : year, month
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/stats/active-users")
+public class ActiveUserController {
+
+    private final ActiveUserQueryService activeUserQueryService;
+
+    @GetMapping("/range")
+    public ActiveUserCountResponseDTO getBetween(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return activeUserQueryService.countBetween(from, to);
+    }
+
+    @GetMapping("/weekly")
+    public ActiveUserCountResponseDTO getWeekly(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate weekStartDate) {
+        return activeUserQueryService.countWeek(weekStartDate);
+    }
+
+    @GetMapping("/monthly")
+    public ActiveUserCountResponseDTO getMonthly(@RequestParam int year, @RequestParam int month) {
+        return activeUserQueryService.countMonth(year, month);
+    }
+}
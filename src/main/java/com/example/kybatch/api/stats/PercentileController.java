@@ -0,0 +1,39 @@
+package com.example.kybatch.api.stats;
+
+import com.example.kybatch.api.stats.dto.PercentileResponseDTO;
+import com.example.kybatch.api.stats.service.PercentileQueryService;
+import com.example.kybatch.domain.stats.LeaderboardMetric;
+import com.example.kybatch.domain.stats.LeaderboardPeriod;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * 기간별 유저 활동량 분위수 조회 (quantile sketch 근사치)
+ * - period    : DAILY / WEEKLY / MONTHLY
+ * - periodKey : 2025-07-01 / 2025-W27 / 2025-07
+ * - metric    : ORDERS / VIEWS
+ * - p         : 백분위 목록 (기본 50, 95, 99)
+ * - 해당 기간 sketch 가 없으면 404
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/stats/percentiles")
+public class PercentileController {
+
+    private final PercentileQueryService percentileQueryService;
+
+    @GetMapping
+    public ResponseEntity<PercentileResponseDTO> getPercentiles(
+            @RequestParam LeaderboardPeriod period,
+            @RequestParam String periodKey,
+            @RequestParam(defaultValue = "VIEWS") LeaderboardMetric metric,
+            @RequestParam(name = "p", defaultValue = "50,95,99") List<Double> percentiles) {
+        return ResponseEntity.of(percentileQueryService.getPercentiles(period, periodKey, metric, percentiles));
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.kybatch.api.stats;
+
+import com.example.kybatch.api.stats.dto.RetentionCohortResponseDTO;
+import com.example.kybatch.api.stats.service.RetentionQueryService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * first-activity cohort retention matrix 조회
+ * - from(포함) ~ to(미포함) 날짜별 cohort, day-0 ~ day-maxDayN 유지 유저 수
+ * - 기간은 최대 90일, maxDayN 은 0 ~ 90 (벗어나면 400)
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/stats/retention")
+public class RetentionController {
+
+    private final RetentionQueryService retentionQueryService;
+
+    @GetMapping
+    public List<RetentionCohortResponseDTO> getRetention(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "30") int maxDayN) {
+        try {
+            return retentionQueryService.getRetention(from, to, maxDayN);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.kybatch.api.stats;
+
+import com.example.kybatch.api.stats.dto.StatsCacheMetricsDTO;
+import com.example.kybatch.api.stats.dto.StatsResponseDTO;
+import com.example.kybatch.api.stats.service.SnapshotStatsQueryService;
+import com.example.kybatch.api.stats.service.StatsQueryService;
+import com.example.kybatch.domain.stats.LeaderboardPeriod;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+
+/**
+ * 유저별 통계 조회
+ * - /users/{userId}/...          : 지정 기간, 캐시 경유
+ * - /snapshot/{period}/users/... : 최신 주간 / 월간, memory-mapped snapshot (DB 조회 없음)
+ * - 해당 기간 통계가 없으면 404
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/stats")
+public class StatsQueryController {
+
+    private final StatsQueryService statsQueryService;
+    private final SnapshotStatsQueryService snapshotStatsQueryService;
+
+    @GetMapping("/users/{userId}/daily")
+    public ResponseEntity<StatsResponseDTO> getDaily(
+            @PathVariable long userId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+        return ResponseEntity.of(statsQueryService.getDaily(userId, date));
+    }
+
+    @GetMapping("/users/{userId}/weekly")
+    public ResponseEntity<StatsResponseDTO> getWeekly(@PathVariable long userId,
+                                                      @RequestParam int year,
+                                                      @RequestParam int week) {
+        return ResponseEntity.of(statsQueryService.getWeekly(userId, year, week));
+    }
+
+    @GetMapping("/users/{userId}/monthly")
+    public ResponseEntity<StatsResponseDTO> getMonthly(@PathVariable long userId,
+                                                       @RequestParam int year,
+                                                       @RequestParam int month) {
+        return ResponseEntity.of(statsQueryService.getMonthly(userId, year, month));
+    }
+
+    @GetMapping("/snapshot/{period}/users/{userId}")
+    public ResponseEntity<StatsResponseDTO> getLatestFromSnapshot(@PathVariable LeaderboardPeriod period,
+                                                                  @PathVariable long userId) {
+        return ResponseEntity.of(snapshotStatsQueryService.getLatest(period, userId));
+    }
+
+    @GetMapping("/cache/metrics")
+    public StatsCacheMetricsDTO getCacheMetrics() {
+        return statsQueryService.getCacheMetrics();
+    }
+}
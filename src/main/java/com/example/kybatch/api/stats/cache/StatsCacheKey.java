@@ -0,0 +1,10 @@
+package com.example.kybatch.api.stats.cache;
+
+import com.example.kybatch.domain.stats.LeaderboardPeriod;
+
+/**
+ * (기간 종류, 기간 키, 유저) 캐시 키
+ * - periodKey 규칙은 LeaderboardPeriod 키 헬퍼와 동일 (2025-07-01 / 2025-W27 / 2025-07)
+ */
+public record StatsCacheKey(LeaderboardPeriod period, String periodKey, long userId) {
+}
@@ -0,0 +1,112 @@
+package com.example.kybatch.api.stats.cache;
+
+import com.example.kybatch.api.stats.dto.StatsCacheMetricsDTO;
+import com.example.kybatch.api.stats.dto.StatsResponseDTO;
+import com.example.kybatch.domain.stats.LeaderboardPeriod;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * StatsQueryCache
+ * ------------------------------------------------------------
+ * 통계 조회 API 의 read-through 캐시 (in-process, Caffeine)
+ *
+ * - 최대 크기 초과 시 오래 안 쓰인 항목부터 제거, 저장 후 TTL 이 지나면 만료
+ * - 없는 통계(Optional.empty)도 캐시 → 같은 미존재 조회가 DB 로 반복되지 않음
+ * - 통계 배치가 끝나면 StatsCacheInvalidationListener 가 배치가 다시 쓴 (기간 종류, 기간 키) 항목만 즉시 무효화
+ *   (같은 프로세스에서 배치가 실행되는 경우. 그 외에는 TTL 이 상한)
+ * - (기간 종류, 기간 키) → 캐시 키 색인을 함께 유지 → 무효화 시 전체 키 스캔 없음
+ *
+ * 설정
+ * - stats.query.cache.max-size : 최대 항목 수 (기본 100,000)
+ * - stats.query.cache.ttl      : 항목 유지 시간 (기본 10m)
+ */
+@Slf4j
+@Component
+public class StatsQueryCache {
+
+    private final Cache<StatsCacheKey, Optional<StatsResponseDTO>> cache;
+    private final Map<PeriodSlot, Set<StatsCacheKey>> index = new ConcurrentHashMap<>();
+    private final LongAdder invalidations = new LongAdder();
+
+    public StatsQueryCache(@Value("${stats.query.cache.max-size:100000}") long maxSize,
+                           @Value("${stats.query.cache.ttl:10m}") Duration ttl) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                // 용량 / TTL 로 빠진 항목은 색인에서도 제거 (eviction listener 는 제거 시점에 동기 호출)
+                .evictionListener((StatsCacheKey key, Optional<StatsResponseDTO> value, RemovalCause cause) -> unindex(key))
+                .build();
+    }
+
+    public Optional<StatsResponseDTO> get(StatsCacheKey key,
+                                          Function<StatsCacheKey, Optional<StatsResponseDTO>> loader) {
+        // 로딩 전에 색인 → 로딩 중에 끝난 배치의 무효화도 이 키를 찾음
+        return cache.get(key, k -> {
+            index.computeIfAbsent(PeriodSlot.of(k), slot -> ConcurrentHashMap.newKeySet()).add(k);
+            return loader.apply(k);
+        });
+    }
+
+    /**
+     * (기간 종류, 기간 키) 단위 무효화
+     * @return 제거된 항목 수
+     */
+    public long invalidate(LeaderboardPeriod period, Collection<String> periodKeys) {
+        Map<StatsCacheKey, Optional<StatsResponseDTO>> entries = cache.asMap();
+        long removed = 0;
+        for (String periodKey : periodKeys) {
+            Set<StatsCacheKey> keys = index.remove(new PeriodSlot(period, periodKey));
+            if (keys == null) {
+                continue;
+            }
+            for (StatsCacheKey key : keys) {
+                if (entries.remove(key) != null) {
+                    removed++;
+                }
+            }
+        }
+        invalidations.add(removed);
+        return removed;
+    }
+
+    public StatsCacheMetricsDTO metrics() {
+        CacheStats stats = cache.stats();
+        return StatsCacheMetricsDTO.builder()
+                .size(cache.estimatedSize())
+                .hitCount(stats.hitCount())
+                .missCount(stats.missCount())
+                .hitRate(stats.hitRate())
+                .evictionCount(stats.evictionCount())
+                .invalidationCount(invalidations.sum())
+                .build();
+    }
+
+    private void unindex(StatsCacheKey key) {
+        index.computeIfPresent(PeriodSlot.of(key), (slot, keys) -> {
+            keys.remove(key);
+            return keys.isEmpty() ? null : keys;
+        });
+    }
+
+    private record PeriodSlot(LeaderboardPeriod period, String periodKey) {
+        static PeriodSlot of(StatsCacheKey key) {
+            return new PeriodSlot(key.period(), key.periodKey());
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.kybatch.api.stats.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+@Getter
+@Builder
+public class ActiveUserCountResponseDTO {
+
+    private LocalDate from;
+    private LocalDate to;
+    private long estimate;
+    private double relativeStandardError;
+    private int coveredDays;
+    private int missingDays;
+}
@@ -0,0 +1,22 @@
+package com.example.kybatch.api.stats.dto;
+
+import com.example.kybatch.domain.stats.LeaderboardMetric;
+import com.example.kybatch.domain.stats.LeaderboardPeriod;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.Map;
+
+@Getter
+@Builder
+public class PercentileResponseDTO {
+
+    private LeaderboardPeriod period;
+    private String periodKey;
+    private LeaderboardMetric metric;
+    private long userCount;
+    private double relativeAccuracy;
+
+    // "p50" → 값
+    private Map<String, Long> percentiles;
+}
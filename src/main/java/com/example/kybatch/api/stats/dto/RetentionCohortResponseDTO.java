@@ -0,0 +1,18 @@
+package com.example.kybatch.api.stats.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Getter
+@Builder
+public class RetentionCohortResponseDTO {
+
+    private LocalDate cohortDate;
+    private long cohortSize;
+
+    // index = day-N, -1 = bitmap 미빌드
+    private List<Long> retained;
+}
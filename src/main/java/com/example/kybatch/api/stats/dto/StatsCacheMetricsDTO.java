@@ -0,0 +1,20 @@
+package com.example.kybatch.api.stats.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class StatsCacheMetricsDTO {
+
+    private long size;
+    private long hitCount;
+    private long missCount;
+    private double hitRate;
+
+    // 크기 초과 / TTL 만료로 밀려난 수
+    private long evictionCount;
+
+    // 배치 종료로 무효화된 수
+    private long invalidationCount;
+}
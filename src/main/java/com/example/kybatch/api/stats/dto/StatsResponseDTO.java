@@ -0,0 +1,17 @@
+package com.example.kybatch.api.stats.dto;
+
+import com.example.kybatch.domain.stats.LeaderboardPeriod;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class StatsResponseDTO {
+
+    private Long userId;
+    private LeaderboardPeriod period;
+    private String periodKey;
+    private long loginCount;
+    private long viewCount;
+    private long orderCount;
+}
@@ -0,0 +1,53 @@
+package com.example.kybatch.api.stats.service;
+
+import com.example.kybatch.api.stats.dto.PercentileResponseDTO;
+import com.example.kybatch.domain.stats.ActivityQuantileSketchRepository;
+import com.example.kybatch.domain.stats.LeaderboardMetric;
+import com.example.kybatch.domain.stats.LeaderboardPeriod;
+import com.example.kybatch.job.stats.sketch.QuantileSketch;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 기간별 유저 활동량 분위수
+ * - 배치가 저장한 quantile sketch(수 KB) 하나만 읽어 계산 → 통계 테이블 정렬 없음
+ * - 반환값의 상대 오차 ≤ QuantileSketch.RELATIVE_ACCURACY
+ */
+@Service
+@RequiredArgsConstructor
+public class PercentileQueryService {
+
+    private final ActivityQuantileSketchRepository repository;
+
+    public Optional<PercentileResponseDTO> getPercentiles(LeaderboardPeriod period,
+                                                          String periodKey,
+                                                          LeaderboardMetric metric,
+                                                          List<Double> percentiles) {
+
+        return repository.findByPeriodTypeAndPeriodKeyAndMetric(period, periodKey, metric)
+                .map(entity -> {
+                    QuantileSketch sketch = QuantileSketch.fromBytes(entity.getSketch());
+
+                    Map<String, Long> values = new LinkedHashMap<>();
+                    for (double p : percentiles) {
+                        values.put("p" + BigDecimal.valueOf(p).stripTrailingZeros().toPlainString(),
+                                sketch.quantile(p / 100));
+                    }
+
+                    return PercentileResponseDTO.builder()
+                            .period(period)
+                            .periodKey(periodKey)
+                            .metric(metric)
+                            .userCount(sketch.count())
+                            .relativeAccuracy(QuantileSketch.RELATIVE_ACCURACY)
+                            .percentiles(values)
+                            .build();
+                });
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.kybatch.api.stats.service;
+
+import com.example.kybatch.api.stats.dto.RetentionCohortResponseDTO;
+import com.example.kybatch.job.stats.retention.RetentionMatrixCalculator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class RetentionQueryService {
+
+    private final RetentionMatrixCalculator calculator;
+
+    public List<RetentionCohortResponseDTO> getRetention(LocalDate from, LocalDate to, int maxDayN) {
+        return calculator.calculate(from, to, maxDayN).stream()
+                .map(row -> RetentionCohortResponseDTO.builder()
+                        .cohortDate(row.cohortDate())
+                        .cohortSize(row.cohortSize())
+                        .retained(Arrays.stream(row.retained()).boxed().toList())
+                        .build())
+                .toList();
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.kybatch.api.stats.service;
+
+import com.example.kybatch.api.stats.dto.StatsResponseDTO;
+import com.example.kybatch.domain.stats.LeaderboardPeriod;
+import com.example.kybatch.job.stats.snapshot.MappedStatsSnapshot;
+import com.example.kybatch.job.stats.snapshot.StatsSnapshotRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+
+/**
+ * 최신 주간 / 월간 통계를 memory-mapped snapshot 에서 조회 (DB 조회 없음)
+ * - 조회 중 snapshot 이 교체돼도 처음 잡은 snapshot 으로 끝까지 읽음
+ */
+@Service
+@RequiredArgsConstructor
+public class SnapshotStatsQueryService {
+
+    private final StatsSnapshotRegistry registry;
+
+    public Optional<StatsResponseDTO> getLatest(LeaderboardPeriod period, long userId) {
+        MappedStatsSnapshot snapshot = registry.current(period);
+        if (snapshot == null) {
+            return Optional.empty();
+        }
+
+        int index = snapshot.indexOf(userId);
+        if (index < 0) {
+            return Optional.empty();
+        }
+
+        return Optional.of(StatsResponseDTO.builder()
+                .userId(userId)
+                .period(period)
+                .periodKey(snapshot.periodKey())
+                .loginCount(snapshot.loginCount(index))
+                .viewCount(snapshot.viewCount(index))
+                .orderCount(snapshot.orderCount(index))
+                .build());
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.kybatch.api.stats.service;
+
+import com.example.kybatch.api.stats.cache.StatsCacheKey;
+import com.example.kybatch.api.stats.cache.StatsQueryCache;
+import com.example.kybatch.api.stats.dto.StatsCacheMetricsDTO;
+import com.example.kybatch.api.stats.dto.StatsResponseDTO;
+import com.example.kybatch.domain.stats.DailyStatusRepository;
+import com.example.kybatch.domain.stats.LeaderboardPeriod;
+import com.example.kybatch.domain.stats.MonthlyStatusRepository;
+import com.example.kybatch.domain.stats.WeeklyStatusRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+/**
+ * 유저별 일간 / 주간 / 월간 통계 조회
+ * - StatsQueryCache 를 먼저 보고, 없을 때만 통계 테이블 조회 (read-through)
+ */
+@Service
+@RequiredArgsConstructor
+public class StatsQueryService {
+
+    private final StatsQueryCache cache;
+    private final DailyStatusRepository dailyRepository;
+    private final WeeklyStatusRepository weeklyRepository;
+    private final MonthlyStatusRepository monthlyRepository;
+
+    public Optional<StatsResponseDTO> getDaily(long userId, LocalDate date) {
+        StatsCacheKey key = new StatsCacheKey(LeaderboardPeriod.DAILY, LeaderboardPeriod.dailyKey(date), userId);
+        return cache.get(key, k -> dailyRepository.findByUserIdAndDate(userId, date)
+                .map(d -> response(k, d.getLoginCount(), d.getViewCount(), d.getOrderCount())));
+    }
+
+    public Optional<StatsResponseDTO> getWeekly(long userId, int year, int weekOfYear) {
+        StatsCacheKey key = new StatsCacheKey(LeaderboardPeriod.WEEKLY, LeaderboardPeriod.weeklyKey(year, weekOfYear), userId);
+        return cache.get(key, k -> weeklyRepository.findByUserIdAndYearAndWeekOfYear(userId, year, weekOfYear)
+                .map(w -> response(k, w.getLoginCount(), w.getViewCount(), w.getOrderCount())));
+    }
+
+    public Optional<StatsResponseDTO> getMonthly(long userId, int year, int month) {
+        StatsCacheKey key = new StatsCacheKey(LeaderboardPeriod.MONTHLY, LeaderboardPeriod.monthlyKey(year, month), userId);
+        return cache.get(key, k -> monthlyRepository.findByUserIdAndYearAndMonth(userId, year, month)
+                .map(m -> response(k, m.getLoginCount(), m.getViewCount(), m.getOrderCount())));
+    }
+
+    public StatsCacheMetricsDTO getCacheMetrics() {
+        return cache.metrics();
+    }
+
+    private static StatsResponseDTO response(StatsCacheKey key, long login, long view, long order) {
+        return StatsResponseDTO.builder()
+                .userId(key.userId())
+                .period(key.period())
+                .periodKey(key.periodKey())
+                .loginCount(login)
+                .viewCount(view)
+                .orderCount(order)
+                .build();
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.kybatch.domain.activity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * ActivityWalCheckpoint
+ * ---------------------------------
+ * 로컬 WAL(write-ahead log)에서 user_activity로 이관 완료된 위치
+ *
+ * - nodeId : WAL을 가진 서버 식별자 (WAL은 서버 로컬 디스크에 있으므로 서버별로 관리)
+ * - committedSequence : 이 값 미만의 레코드는 모두 DB에 적재됨
+ *
+ * user_activity INSERT와 같은 트랜잭션에서 갱신 → 재시작/장애 시에도 중복/유실 없음
+ */
+@Entity
+@Table(name = "activity_wal_checkpoint")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ActivityWalCheckpoint {
+
+    @Id
+    @Column(name = "node_id", length = 100)
+    private String nodeId;
+
+    @Column(name = "committed_sequence", nullable = false)
+    private long committedSequence;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    public ActivityWalCheckpoint(String nodeId) {
+        this.nodeId = nodeId;
+        this.committedSequence = 0;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public void advanceTo(long committedSequence) {
+        this.committedSequence = committedSequence;
+        this.updatedAt = LocalDateTime.now();
+    }
+}
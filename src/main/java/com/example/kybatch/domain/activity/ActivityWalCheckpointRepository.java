@@ -0,0 +1,6 @@
+package com.example.kybatch.domain.activity;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface ActivityWalCheckpointRepository extends JpaRepository<ActivityWalCheckpoint, String> {
+}
@@ -3,12 +3,23 @@ package com.example.kybatch.domain.activity;
 import com.example.kybatch.domain.user.User;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.CurrentTimestamp;
+import org.hibernate.annotations.SourceType;
+import org.hibernate.generator.EventType;
 
 import java.time.LocalDateTime;
 import java.time.temporal.WeekFields;
 
 @Entity
-@Table(name = "user_activity")
+@Table(name = "user_activity",
+        indexes = {
+                // 일간 집계 keyset 페이징 (userId 순서 + 기간 필터)
+                @Index(name = "idx_user_activity_user_created", columnList = "user_seq, created_at"),
+                // 기간 단위 조회/집계
+                @Index(name = "idx_user_activity_created", columnList = "created_at"),
+                // 증분 집계 상한 / late-arriving 탐지
+                @Index(name = "idx_user_activity_ingested", columnList = "ingested_at")
+        })
 @Getter @Setter @Builder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -40,6 +51,15 @@ public class UserActivity {
     /* 행동 발생 시각 (기간 필터링에 활용) */
     private LocalDateTime createdAt;
 
+    /*
+     * DB 적재 시각 (증분 상한 / 늦게 도착한 데이터 탐지용)
+     * - 집계 시각(daily_status.created_at)과 같은 DB 시계로 INSERT 시점에 기록
+     * - 컬럼 DEFAULT 를 두지 않음 → 컬럼 추가 이전 row 는 NULL (적재 시각 미상, late 탐지 대상 아님)
+     */
+    @CurrentTimestamp(event = EventType.INSERT, source = SourceType.DB)
+    @Column(name = "ingested_at", updatable = false)
+    private LocalDateTime ingestedAt;
+
     /* 통계 그룹핑을 빠르게 하기 위한 필드 */
     private long weekOfYear;
 
@@ -0,0 +1,91 @@
+package com.example.kybatch.domain.activity;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.temporal.WeekFields;
+import java.util.List;
+
+/**
+ * UserActivity 대량 적재 전용 JDBC Repository
+ *
+ * - JPA save()는 IDENTITY 전략 때문에 row마다 INSERT + 커밋이 발생
+ * - 여기서는 multi-row INSERT (VALUES (...),(...)) 로 묶어서 한 번에 적재
+ * - 호출 1회 = 트랜잭션 1회 (group commit)
+ */
+@Repository
+@RequiredArgsConstructor
+public class UserActivityJdbcRepository {
+
+    /**
+     * INSERT 대상 컬럼 (user_id 연관관계 컬럼은 수집 경로에서 사용하지 않음)
+     * - ingested_at 은 JPA 경로(@CurrentTimestamp)와 같이 DB 시계로 기록
+     */
+    private static final String INSERT_PREFIX = """
+            INSERT INTO user_activity
+                (user_seq, login_count, view_count, order_count, created_at, week_of_year, month_value, ingested_at)
+            VALUES
+            """;
+
+    private static final String ROW_PLACEHOLDER = "(?, ?, ?, ?, ?, ?, ?, CURRENT_TIMESTAMP)";
+
+    /**
+     * 한 INSERT 문에 담는 최대 row 수
+     * - PostgreSQL 바인드 파라미터 한도(32767) 안쪽으로 유지 (500 * 7 = 3500)
+     */
+    private static final int MAX_ROWS_PER_STATEMENT = 500;
+
+    private static final String FULL_INSERT_SQL = insertSql(MAX_ROWS_PER_STATEMENT);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 전달받은 활동 로그를 multi-row INSERT로 적재
+     *
+     * @return 적재된 row 수
+     */
+    @Transactional
+    public int batchInsert(List<UserActivity> activities) {
+        int inserted = 0;
+
+        for (int from = 0; from < activities.size(); from += MAX_ROWS_PER_STATEMENT) {
+            List<UserActivity> slice = activities.subList(
+                    from, Math.min(from + MAX_ROWS_PER_STATEMENT, activities.size()));
+
+            String sql = slice.size() == MAX_ROWS_PER_STATEMENT
+                    ? FULL_INSERT_SQL
+                    : insertSql(slice.size());
+
+            inserted += jdbcTemplate.update(sql, ps -> bind(ps, slice));
+        }
+        return inserted;
+    }
+
+    private void bind(PreparedStatement ps, List<UserActivity> slice) throws SQLException {
+        int i = 1;
+        for (UserActivity activity : slice) {
+            ps.setLong(i++, activity.getUserId());
+            ps.setLong(i++, activity.getLoginCount());
+            ps.setLong(i++, activity.getViewCount());
+            ps.setLong(i++, activity.getOrderCount());
+            ps.setTimestamp(i++, Timestamp.valueOf(activity.getCreatedAt()));
+            // @PrePersist와 동일한 규칙으로 주차/월 계산
+            ps.setLong(i++, activity.getCreatedAt().get(WeekFields.ISO.weekOfWeekBasedYear()));
+            ps.setLong(i++, activity.getCreatedAt().getMonthValue());
+        }
+    }
+
+    private static String insertSql(int rows) {
+        StringBuilder sb = new StringBuilder(INSERT_PREFIX);
+        for (int i = 0; i < rows; i++) {
+            if (i > 0) sb.append(", ");
+            sb.append(ROW_PLACEHOLDER);
+        }
+        return sb.toString();
+    }
+}
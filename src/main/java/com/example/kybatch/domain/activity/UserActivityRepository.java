@@ -41,4 +41,53 @@ public interface UserActivityRepository extends JpaRepository<UserActivity, Long
     @Query("SELECT MAX(a.createdAt) FROM UserActivity a")
     LocalDateTime findMaxCreatedAt();
 
+    @Query("SELECT MAX(a.id) FROM UserActivity a")
+    Long findMaxId();
+
+    /**
+     * DB 현재 시각 - lagSeconds 이전에 적재된 row 중 최대 id (증분 집계 상한)
+     * - IDENTITY id 는 커밋 순서가 아님 → 아직 커밋 안 된 낮은 id 를 건너뛰지 않도록 적재 시각으로 지연
+     * - ingested_at 과 같은 DB 시계로 비교 (JVM 시계와의 차이 배제)
+     * - ingested_at 이 없는 row(컬럼 추가 이전 적재분)는 이미 커밋된 것으로 보고 포함
+     */
+    @Query(value = """
+        SELECT MAX(id)
+        FROM user_activity
+        WHERE ingested_at IS NULL
+           OR ingested_at <= LOCALTIMESTAMP - CAST(:lagSeconds AS INTEGER) * INTERVAL '1' SECOND
+    """, nativeQuery = true)
+    Long findMaxIdIngestedBefore(@Param("lagSeconds") long lagSeconds);
+
+    /**
+     * 증분 집계 : 기간 내 row 중 id가 (afterId, uptoId] 구간인 것만 합산
+     */
+    @Query("""
+        SELECT new com.example.kybatch.dto.DailyAggregationDTO(
+            ua.userId,
+            SUM(ua.loginCount),
+            SUM(ua.viewCount),
+            SUM(ua.orderCount)
+        )
+        FROM UserActivity ua
+        WHERE ua.createdAt >= :start
+          AND ua.createdAt < :end
+          AND ua.id > :afterId
+          AND ua.id <= :uptoId
+        GROUP BY ua.userId
+        """)
+    List<DailyAggregationDTO> aggregateDailyBetweenIds(
+            @Param("start") LocalDateTime start,
+            @Param("end") LocalDateTime end,
+            @Param("afterId") long afterId,
+            @Param("uptoId") long uptoId);
+
+    /**
+     * 기간 내 userId 범위 (파티셔닝 기준)
+     */
+    @Query("SELECT MIN(a.userId) FROM UserActivity a WHERE a.createdAt >= :start AND a.createdAt < :end")
+    Long findMinUserIdBetween(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+
+    @Query("SELECT MAX(a.userId) FROM UserActivity a WHERE a.createdAt >= :start AND a.createdAt < :end")
+    Long findMaxUserIdBetween(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+
 }
@@ -17,7 +17,15 @@ import java.time.LocalDateTime;
  * - 실패 시 에러 메시지 + 스택 트레이스 저장
  */
 @Entity
-@Table(name = "batch_job_log")
+@Table(name = "batch_job_log",
+        indexes = {
+                // keyset 페이지 (id 커서) + 조건 조합별 인덱스
+                @Index(name = "idx_batch_job_log_job_name_id", columnList = "job_name, id"),
+                @Index(name = "idx_batch_job_log_job_name_status_id", columnList = "job_name, status, id"),
+                @Index(name = "idx_batch_job_log_job_name_start_time_id", columnList = "job_name, start_time, id"),
+                @Index(name = "idx_batch_job_log_status_id", columnList = "status, id"),
+                @Index(name = "idx_batch_job_log_start_time", columnList = "start_time")
+        })
 @Getter
 @NoArgsConstructor
 public class BatchJobLog {
@@ -8,15 +8,6 @@ import java.util.List;
 
 public interface BatchJobLogRepository extends JpaRepository<BatchJobLog, Long> {
 
-    @Query(value = """
-        SELECT * 
-        FROM batch_job_log
-        WHERE (:jobName IS NULL OR job_name = :jobName)
-        ORDER BY id DESC
-        LIMIT 50
-    """, nativeQuery = true)
-    List<BatchJobLog> findRecentLogs(@Param("jobName") String jobName);
-
     /**
      * STEP 35 대비: 특정 originJobExecutionId 기준으로 Admin 재실행 이력 조회
      */
@@ -0,0 +1,23 @@
+package com.example.kybatch.domain.batchlog;
+
+import java.time.LocalDateTime;
+
+/**
+ * 배치 로그 검색 조건 (null 인 조건은 WHERE 절에서 아예 빠짐)
+ *
+ * @param jobName  Job 이름 (일치)
+ * @param stepName Step 이름 (일치, Step 로그만)
+ * @param status   COMPLETED / FAILED / ...
+ * @param from     startTime 하한 (포함)
+ * @param to       startTime 상한 (미포함)
+ * @param cursor   이전 페이지 마지막 id → 이 id 보다 작은 row 부터 (첫 페이지는 null)
+ * @param size     페이지 크기
+ */
+public record BatchLogSearchCondition(String jobName,
+                                      String stepName,
+                                      String status,
+                                      LocalDateTime from,
+                                      LocalDateTime to,
+                                      Long cursor,
+                                      int size) {
+}
@@ -0,0 +1,70 @@
+package com.example.kybatch.domain.batchlog;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 배치 로그 keyset 페이지 조회
+ *
+ * - 조건이 있는 것만 WHERE 에 넣어 동적으로 JPQL 생성 (":x IS NULL OR" 없음 → 인덱스 사용 가능)
+ * - 페이지 이동은 OFFSET 대신 id 커서 (id < :cursor ORDER BY id DESC)
+ *   → 몇 번째 페이지든 인덱스에서 바로 시작, 앞 페이지 row 를 건너뛰며 읽지 않음
+ * - size + 1 건을 읽어 다음 페이지 존재 여부 판단 (COUNT 쿼리 없음)
+ *
+ * 조건별 인덱스는 BatchJobLog / BatchStepLog @Table 참고
+ */
+@Repository
+@RequiredArgsConstructor
+public class BatchLogSearchRepository {
+
+    private final EntityManager em;
+
+    public List<BatchJobLog> searchJobLogs(BatchLogSearchCondition condition) {
+        return search(BatchJobLog.class, condition);
+    }
+
+    public List<BatchStepLog> searchStepLogs(BatchLogSearchCondition condition) {
+        return search(BatchStepLog.class, condition);
+    }
+
+    private <T> List<T> search(Class<T> type, BatchLogSearchCondition c) {
+        StringBuilder jpql = new StringBuilder("SELECT l FROM ").append(type.getSimpleName()).append(" l WHERE 1 = 1");
+        Map<String, Object> params = new LinkedHashMap<>();
+
+        if (c.jobName() != null) {
+            jpql.append(" AND l.jobName = :jobName");
+            params.put("jobName", c.jobName());
+        }
+        if (c.stepName() != null && type == BatchStepLog.class) {
+            jpql.append(" AND l.stepName = :stepName");
+            params.put("stepName", c.stepName());
+        }
+        if (c.status() != null) {
+            jpql.append(" AND l.status = :status");
+            params.put("status", c.status());
+        }
+        if (c.from() != null) {
+            jpql.append(" AND l.startTime >= :from");
+            params.put("from", c.from());
+        }
+        if (c.to() != null) {
+            jpql.append(" AND l.startTime < :to");
+            params.put("to", c.to());
+        }
+        if (c.cursor() != null) {
+            jpql.append(" AND l.id < :cursor");
+            params.put("cursor", c.cursor());
+        }
+        jpql.append(" ORDER BY l.id DESC");
+
+        TypedQuery<T> query = em.createQuery(jpql.toString(), type);
+        params.forEach(query::setParameter);
+        return query.setMaxResults(c.size() + 1).getResultList();
+    }
+}
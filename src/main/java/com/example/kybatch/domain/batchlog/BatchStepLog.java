@@ -10,7 +10,15 @@ import java.io.StringWriter;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "batch_step_log")
+@Table(name = "batch_step_log",
+        indexes = {
+                // keyset 페이지 (id 커서) + 조건 조합별 인덱스
+                @Index(name = "idx_batch_step_log_step_name_id", columnList = "step_name, id"),
+                @Index(name = "idx_batch_step_log_step_name_status_id", columnList = "step_name, status, id"),
+                @Index(name = "idx_batch_step_log_job_name_id", columnList = "job_name, id"),
+                @Index(name = "idx_batch_step_log_status_id", columnList = "status, id"),
+                @Index(name = "idx_batch_step_log_start_time", columnList = "start_time")
+        })
 @Getter
 @NoArgsConstructor
 public class BatchStepLog {
@@ -49,6 +57,29 @@ public class BatchStepLog {
         // ❗ status는 처음에 넣지 않음 → Dirty Checking 방해됨
     }
 
+    /**
+     * Step 내부 작업 단위(예: 백필 일자별) 진행 기록
+     * - stepName 에 단위를 붙여 저장 (예: dailyStatsBackfillStep[2025-01-01])
+     */
+    public BatchStepLog(String jobName, String stepName, LocalDateTime startTime) {
+        this.jobName = jobName;
+        this.stepName = stepName;
+        this.startTime = startTime;
+    }
+
+    /** 작업 단위 종료 후 업데이트 */
+    public void updateProgress(String status, long readCount, long writeCount, Throwable error) {
+        this.endTime = LocalDateTime.now();
+        this.status = status;
+        this.readCount = readCount;
+        this.writeCount = writeCount;
+
+        if (error != null) {
+            this.errorMessage = error.getMessage();
+            this.errorStack = getStackTrace(error);
+        }
+    }
+
     /** Step 종료 후 업데이트 */
     public void updateAfter(StepExecution se) {
 
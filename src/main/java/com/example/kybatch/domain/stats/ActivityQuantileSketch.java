@@ -0,0 +1,64 @@
+package com.example.kybatch.domain.stats;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * ActivityQuantileSketch
+ * ---------------------------------
+ * 기간 + 지표별 유저 활동량 분포 sketch (QuantileSketch.toBytes())
+ *
+ * - periodType / periodKey 규칙은 leaderboard_entry 와 동일 (2025-07-01 / 2025-W27 / 2025-07)
+ * - p50 / p95 / p99 등 분위수는 이 sketch 만 읽어 계산 (통계 테이블 정렬 없음)
+ */
+@Entity
+@Table(name = "activity_quantile_sketch",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_activity_quantile_sketch_period_metric",
+                columnNames = {"period_type", "period_key", "metric"}))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ActivityQuantileSketch {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "period_type", nullable = false, length = 10)
+    private LeaderboardPeriod periodType;
+
+    @Column(name = "period_key", nullable = false, length = 10)
+    private String periodKey;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "metric", nullable = false, length = 10)
+    private LeaderboardMetric metric;
+
+    @Column(name = "sketch", nullable = false, length = 65_536)
+    private byte[] sketch;
+
+    @Column(name = "user_count", nullable = false)
+    private long userCount;
+
+    @Column(name = "created_at", insertable = false, columnDefinition = "TIMESTAMP DEFAULT CURRENT_TIMESTAMP")
+    private LocalDateTime createdAt;
+
+    @Builder
+    public ActivityQuantileSketch(LeaderboardPeriod periodType,
+                                  String periodKey,
+                                  LeaderboardMetric metric,
+                                  byte[] sketch,
+                                  long userCount) {
+        this.periodType = periodType;
+        this.periodKey = periodKey;
+        this.metric = metric;
+        this.sketch = sketch;
+        this.userCount = userCount;
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.kybatch.domain.stats;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface ActivityQuantileSketchRepository extends JpaRepository<ActivityQuantileSketch, Long> {
+
+    Optional<ActivityQuantileSketch> findByPeriodTypeAndPeriodKeyAndMetric(
+            LeaderboardPeriod periodType, String periodKey, LeaderboardMetric metric);
+
+    /**
+     * 해당 기간 sketch 삭제 (재집계 시 교체, bulk DELETE)
+     */
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("DELETE FROM ActivityQuantileSketch s WHERE s.periodType = :periodType AND s.periodKey = :periodKey")
+    void deleteByPeriod(@Param("periodType") LeaderboardPeriod periodType, @Param("periodKey") String periodKey);
+}
@@ -0,0 +1,63 @@
+package com.example.kybatch.domain.stats;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * DailyActiveBitmap
+ * ---------------------------------
+ * 하루 활동 유저(userId) 집합의 Roaring bitmap (daily_status 와 같은 날짜 단위)
+ *
+ * - bitmap      : RoaringBitmap 직렬화 결과 (run-length 최적화 후 저장)
+ * - cardinality : 그날 활동 유저 수 (정확값)
+ * - seenBitmap  : 그날까지(포함) 한 번이라도 활동한 유저 누적 bitmap (ActiveBitmapBuildTasklet 이 직전 날짜에서 이어서 계산)
+ *                 → first-activity cohort 가 과거 bitmap 전체를 OR 하지 않고 직전 날짜 1건만 읽음
+ *                 NULL = 누적 컬럼 추가 이전에 빌드된 row (다시 빌드하면 채워짐)
+ *
+ * retention / cohort 는 날짜 bitmap 의 AND / ANDNOT / cardinality 로 메모리에서 계산
+ */
+@Entity
+@Table(name = "daily_active_bitmap")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class DailyActiveBitmap {
+
+    @Id
+    @Column(name = "bitmap_date")
+    private LocalDate date;
+
+    @Column(name = "bitmap", nullable = false, length = 67_108_864)
+    private byte[] bitmap;
+
+    @Column(name = "cardinality", nullable = false)
+    private long cardinality;
+
+    @Column(name = "seen_bitmap", length = 67_108_864)
+    private byte[] seenBitmap;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    public DailyActiveBitmap(LocalDate date, byte[] bitmap, long cardinality) {
+        this.date = date;
+        this.bitmap = bitmap;
+        this.cardinality = cardinality;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public void replace(byte[] bitmap, long cardinality) {
+        this.bitmap = bitmap;
+        this.cardinality = cardinality;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public void replaceSeen(byte[] seenBitmap) {
+        this.seenBitmap = seenBitmap;
+        this.updatedAt = LocalDateTime.now();
+    }
+}
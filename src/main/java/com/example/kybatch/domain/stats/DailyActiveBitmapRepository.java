@@ -0,0 +1,36 @@
+package com.example.kybatch.domain.stats;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+public interface DailyActiveBitmapRepository extends JpaRepository<DailyActiveBitmap, LocalDate> {
+
+    /**
+     * [from, to) 기간 bitmap
+     */
+    @Query("SELECT b FROM DailyActiveBitmap b WHERE b.date >= :from AND b.date < :to ORDER BY b.date")
+    List<DailyActiveBitmap> findBetween(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    /**
+     * date 직전에 빌드된 날짜 (누적 seen bitmap 의 시작점)
+     */
+    Optional<DailyActiveBitmap> findFirstByDateBeforeOrderByDateDesc(LocalDate date);
+
+    /**
+     * date 다음에 빌드된 날짜 (재빌드 후 누적 seen bitmap 전파용)
+     */
+    Optional<DailyActiveBitmap> findFirstByDateAfterOrderByDateAsc(LocalDate date);
+
+    /**
+     * before 이전 날짜의 bitmap 바이트만 스트리밍 (엔티티로 올리지 않음, 트랜잭션 필요)
+     * - 직전 날짜에 누적 seen bitmap 이 없을 때(컬럼 추가 이전 빌드분) 빌드 Job 이 한 번만 사용
+     */
+    @Query("SELECT b.bitmap FROM DailyActiveBitmap b WHERE b.date < :before")
+    Stream<byte[]> streamBitmapsBefore(@Param("before") LocalDate before);
+}
@@ -0,0 +1,52 @@
+package com.example.kybatch.domain.stats;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * DailyActiveSketch
+ * ---------------------------------
+ * 하루 활동 유저(userId) 집합의 HyperLogLog 스케치
+ *
+ * - sketch   : HyperLogLog.toBytes() 결과 (기본 precision 14 → 16KB 고정)
+ * - estimate : 저장 시점의 그날 고유 활동 유저 추정치 (조회 편의용)
+ *
+ * 주간 / 월간 / 임의 기간 고유 유저 수는 날짜 스케치를 merge 해서 계산 (raw 재스캔 없음)
+ */
+@Entity
+@Table(name = "daily_active_sketch")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class DailyActiveSketch {
+
+    @Id
+    @Column(name = "sketch_date")
+    private LocalDate date;
+
+    @Column(name = "sketch", nullable = false, length = 262_146)
+    private byte[] sketch;
+
+    @Column(name = "estimate", nullable = false)
+    private long estimate;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    public DailyActiveSketch(LocalDate date, byte[] sketch, long estimate) {
+        this.date = date;
+        this.sketch = sketch;
+        this.estimate = estimate;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public void replace(byte[] sketch, long estimate) {
+        this.sketch = sketch;
+        this.estimate = estimate;
+        this.updatedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.kybatch.domain.stats;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface DailyActiveSketchRepository extends JpaRepository<DailyActiveSketch, LocalDate> {
+
+    /**
+     * [from, to) 기간 스케치 (최대 기간 일수만큼의 row)
+     */
+    @Query("SELECT s FROM DailyActiveSketch s WHERE s.date >= :from AND s.date < :to ORDER BY s.date")
+    List<DailyActiveSketch> findBetween(@Param("from") LocalDate from, @Param("to") LocalDate to);
+}
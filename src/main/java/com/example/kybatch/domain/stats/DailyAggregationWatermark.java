@@ -0,0 +1,47 @@
+package com.example.kybatch.domain.stats;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * DailyAggregationWatermark
+ * ---------------------------------
+ * 일간 증분 집계의 high-water mark (대상 일자별)
+ *
+ * - targetDate : 집계 대상 일자
+ * - lastActivityId : 이 값 이하의 user_activity.id 는 daily_status에 반영 완료
+ *
+ * daily_status 병합과 같은 트랜잭션에서 갱신 → 재실행 시 이미 반영한 row를 다시 더하지 않음
+ */
+@Entity
+@Table(name = "daily_aggregation_watermark")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class DailyAggregationWatermark {
+
+    @Id
+    @Column(name = "target_date")
+    private LocalDate targetDate;
+
+    @Column(name = "last_activity_id", nullable = false)
+    private long lastActivityId;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    public DailyAggregationWatermark(LocalDate targetDate) {
+        this.targetDate = targetDate;
+        this.lastActivityId = 0;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public void advanceTo(long lastActivityId) {
+        this.lastActivityId = lastActivityId;
+        this.updatedAt = LocalDateTime.now();
+    }
+}
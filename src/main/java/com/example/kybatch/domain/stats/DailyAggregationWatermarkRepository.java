@@ -0,0 +1,20 @@
+package com.example.kybatch.domain.stats;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+
+public interface DailyAggregationWatermarkRepository extends JpaRepository<DailyAggregationWatermark, LocalDate> {
+
+    /**
+     * 전체 재집계(일간 / 백필 / 파티션 / late 재집계)로 daily_status 를 다시 만든 날짜의 watermark 제거
+     * - 남겨두면 다음 증분 실행이 새로 만든 합계 위에 delta 를 또 더함
+     * - 제거 후 첫 증분 실행은 해당 일자를 0부터 다시 집계 (initWatermark)
+     */
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("DELETE FROM DailyAggregationWatermark w WHERE w.targetDate >= :start AND w.targetDate < :end")
+    int deleteBetween(@Param("start") LocalDate start, @Param("end") LocalDate end);
+}
@@ -12,6 +12,10 @@ import java.time.LocalDateTime;
  * - 이후 Weekly / Monthly 통계의 원본 데이터
  */
 @Entity
+@Table(name = "daily_status",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_daily_status_user_date",
+                columnNames = {"user_id", "date"}))
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class DailyStatus {
@@ -28,7 +32,12 @@ public class DailyStatus {
     private Long viewCount;
     private Long orderCount;
 
-    @Column(name = "created_at", insertable = false, columnDefinition = "TIMESTAMP DEFAULT CURRENT_TIMESTAMP")
+    /*
+     * 집계 시각 (late-arriving 탐지 기준)
+     * - user_activity.ingested_at 과 같은 DB 시계만 사용 → INSERT 는 DB DEFAULT, 갱신은 DailyStatusRepository.touchCreatedAt
+     */
+    @Column(name = "created_at", insertable = false, updatable = false,
+            columnDefinition = "TIMESTAMP DEFAULT CURRENT_TIMESTAMP")
     private LocalDateTime createdAt;
 
     @Builder
@@ -43,4 +52,23 @@ public class DailyStatus {
         this.viewCount = viewCount;
         this.orderCount = orderCount;
     }
+
+    /**
+     * 증분 집계 delta 병합
+     * - createdAt(집계 시각)은 호출 측에서 touchCreatedAt 으로 갱신 → 이미 반영된 row가 late-arriving 으로 다시 잡히지 않음
+     */
+    public void accumulate(long loginCount, long viewCount, long orderCount) {
+        this.loginCount += loginCount;
+        this.viewCount += viewCount;
+        this.orderCount += orderCount;
+    }
+
+    /**
+     * late-arriving 재집계 결과로 덮어쓰기 (집계 시각은 touchCreatedAt 으로 갱신)
+     */
+    public void recalculate(long loginCount, long viewCount, long orderCount) {
+        this.loginCount = loginCount;
+        this.viewCount = viewCount;
+        this.orderCount = orderCount;
+    }
 }
@@ -1,6 +1,7 @@
 package com.example.kybatch.domain.stats;
 
 import com.example.kybatch.dto.DailyAggregationDTO;
+import com.example.kybatch.dto.StatsTotalsDTO;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -8,6 +9,7 @@ import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,9 +17,45 @@ public interface DailyStatusRepository extends JpaRepository<DailyStatus, Long>
 
     Optional<DailyStatus> findByUserIdAndDate(Long userId, LocalDate date);
 
+    List<DailyStatus> findByDate(LocalDate date);
+
+    /**
+     * 기간 전체 합계 (월간 finalize 검증용)
+     */
+    @Query("""
+        SELECT new com.example.kybatch.dto.StatsTotalsDTO(
+            COUNT(DISTINCT d.userId),
+            COALESCE(SUM(d.loginCount), 0L),
+            COALESCE(SUM(d.viewCount), 0L),
+            COALESCE(SUM(d.orderCount), 0L)
+        )
+        FROM DailyStatus d
+        WHERE d.date >= :start
+          AND d.date < :end
+    """)
+    StatsTotalsDTO sumTotalsBetween(
+            @Param("start") LocalDate start,
+            @Param("end") LocalDate end);
+
+    /**
+     * 집계 시각(created_at)을 DB 현재 시각으로 갱신 (증분 병합 / late 재집계 후)
+     * - 컬럼 DEFAULT 와 같은 DB 시계 → user_activity.ingested_at 과 직접 비교 가능
+     * - 변경 감지 UPDATE 가 먼저 나가도록 flush 후 실행
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+        UPDATE daily_status
+        SET created_at = CURRENT_TIMESTAMP
+        WHERE date = :date
+          AND user_id IN (:userIds)
+    """, nativeQuery = true)
+    int touchCreatedAt(@Param("date") LocalDate date, @Param("userIds") Collection<Long> userIds);
+
     // ✅ (1) 기존 데이터 삭제 (Idempotent)
+    // - 파생 delete는 엔티티를 전부 로딩 후 1건씩 삭제하므로 bulk DELETE 로 처리
     @Modifying(clearAutomatically = true, flushAutomatically = true)
-    void deleteByDate(LocalDate date);
+    @Query("DELETE FROM DailyStatus d WHERE d.date = :date")
+    void deleteByDate(@Param("date") LocalDate date);
 
     // ✅ (2) Raw(UserActivity.createdAt) -> Daily 집계
     @Query("""
@@ -0,0 +1,145 @@
+package com.example.kybatch.domain.stats;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 늦게 도착한(late-arriving) 활동 로그 탐지 전용 JDBC Repository
+ *
+ * - 일간 집계가 끝난 날짜(daily_status 존재)에 대해
+ *   user_activity.ingested_at 이 해당 DailyStatus.created_at(집계 시각) - safety lag 이후인 row를 찾음
+ * - DailyStatus 가 아예 없는 유저는 그 날짜의 최초 집계 시각과 비교
+ * - 두 시각 모두 DB 시계로 기록됨. PostgreSQL CURRENT_TIMESTAMP 는 트랜잭션 시작 시각이라
+ *   집계보다 먼저 시작해 나중에 커밋된 적재분은 ingested_at 이 집계 시각보다 앞섬 → lag 만큼 당겨서 비교
+ * - 기간 내 가장 이른 집계 시각 - lag 을 먼저 구해 ingested_at 하한으로 고정
+ *   → idx_user_activity_ingested 범위 스캔으로 최근 적재분만 읽고, row 별 비교는 그 안에서만 수행
+ * - ingested_at 이 NULL 인 row(컬럼 추가 이전 적재분)는 비교에서 빠짐
+ * - 결과는 재집계가 필요한 (userId, date) 쌍
+ *
+ * 재집계는 (userId, date) 쌍 묶음을 VALUES 목록으로 넘겨 한 쿼리로 합산 ({@link #sumPairs})
+ */
+@Repository
+@RequiredArgsConstructor
+public class LateActivityRepository {
+
+    private static final int PAIR_BATCH_SIZE = 500;
+
+    private static final String FIRST_AGGREGATED_AT_SQL = """
+            SELECT MIN(created_at)
+            FROM daily_status
+            WHERE date >= ? AND date < ?
+            """;
+
+    private static final String FIND_LATE_PAIRS_SQL = """
+            SELECT ua.user_seq AS user_id, agg.date AS activity_date
+            FROM user_activity ua
+            JOIN (
+                SELECT date, MIN(created_at) AS aggregated_at
+                FROM daily_status
+                WHERE date >= ? AND date < ?
+                GROUP BY date
+            ) agg ON CAST(ua.created_at AS DATE) = agg.date
+            LEFT JOIN daily_status ds
+                   ON ds.user_id = ua.user_seq
+                  AND ds.date = agg.date
+            WHERE ua.ingested_at > ?
+              AND ua.created_at >= ?
+              AND ua.created_at < ?
+              AND ua.ingested_at > COALESCE(ds.created_at, agg.aggregated_at)
+                                   - CAST(? AS INTEGER) * INTERVAL '1' SECOND
+            GROUP BY ua.user_seq, agg.date
+            ORDER BY agg.date, ua.user_seq
+            """;
+
+    private static final String PAIR_VALUE = "(CAST(? AS BIGINT), CAST(? AS DATE), CAST(? AS TIMESTAMP), CAST(? AS TIMESTAMP))";
+
+    private static final String SUM_PAIRS_SQL = """
+            SELECT p.user_id, p.activity_date,
+                   SUM(ua.login_count) AS login_count,
+                   SUM(ua.view_count)  AS view_count,
+                   SUM(ua.order_count) AS order_count
+            FROM (VALUES %s) AS p(user_id, activity_date, start_at, end_at)
+            JOIN user_activity ua
+              ON ua.user_seq = p.user_id
+             AND ua.created_at >= p.start_at
+             AND ua.created_at < p.end_at
+            GROUP BY p.user_id, p.activity_date
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * [from, to) 기간에서 재집계가 필요한 (userId, date) 쌍 조회
+     *
+     * @param lagSeconds 집계 시각보다 이만큼 앞서 적재된 row 까지 late 로 간주 (적재 트랜잭션 최대 길이)
+     */
+    public List<LateActivityPair> findLatePairs(LocalDate from, LocalDate to, long lagSeconds) {
+        // 1️⃣ 기간 내 가장 이른 집계 시각 (집계된 날짜가 없으면 late 도 없음)
+        Timestamp firstAggregatedAt = jdbcTemplate.queryForObject(FIRST_AGGREGATED_AT_SQL, Timestamp.class,
+                Date.valueOf(from), Date.valueOf(to));
+        if (firstAggregatedAt == null) {
+            return List.of();
+        }
+
+        // 2️⃣ 그보다 lag 만큼 앞선 시각 이후 적재분만 인덱스로 읽어서 row 별 집계 시각과 비교
+        Timestamp ingestedAfter = Timestamp.valueOf(
+                firstAggregatedAt.toLocalDateTime().minusSeconds(lagSeconds));
+
+        return jdbcTemplate.query(FIND_LATE_PAIRS_SQL,
+                (rs, rowNum) -> new LateActivityPair(
+                        rs.getLong("user_id"),
+                        rs.getDate("activity_date").toLocalDate()),
+                Date.valueOf(from),
+                Date.valueOf(to),
+                ingestedAfter,
+                Timestamp.valueOf(from.atStartOfDay()),
+                Timestamp.valueOf(to.atStartOfDay()),
+                lagSeconds);
+    }
+
+    /**
+     * (userId, date) 쌍별 그날 raw 로그 합계 (PAIR_BATCH_SIZE 쌍씩 한 쿼리)
+     * - 로그가 없는 쌍은 결과에서 빠짐
+     */
+    public List<DailyStatus> sumPairs(List<LateActivityPair> pairs) {
+        List<DailyStatus> sums = new ArrayList<>(pairs.size());
+        for (int i = 0; i < pairs.size(); i += PAIR_BATCH_SIZE) {
+            List<LateActivityPair> batch = pairs.subList(i, Math.min(i + PAIR_BATCH_SIZE, pairs.size()));
+
+            String sql = SUM_PAIRS_SQL.formatted(String.join(", ", Collections.nCopies(batch.size(), PAIR_VALUE)));
+            Object[] args = new Object[batch.size() * 4];
+            int idx = 0;
+            for (LateActivityPair pair : batch) {
+                args[idx++] = pair.userId();
+                args[idx++] = Date.valueOf(pair.date());
+                args[idx++] = Timestamp.valueOf(pair.date().atStartOfDay());
+                args[idx++] = Timestamp.valueOf(pair.date().plusDays(1).atStartOfDay());
+            }
+
+            sums.addAll(jdbcTemplate.query(sql,
+                    (rs, rowNum) -> DailyStatus.builder()
+                            .userId(rs.getLong("user_id"))
+                            .date(rs.getDate("activity_date").toLocalDate())
+                            .loginCount(rs.getLong("login_count"))
+                            .viewCount(rs.getLong("view_count"))
+                            .orderCount(rs.getLong("order_count"))
+                            .build(),
+                    args));
+        }
+        return sums;
+    }
+
+    /**
+     * 재집계 대상 (유저, 일자)
+     */
+    public record LateActivityPair(long userId, LocalDate date) {
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.kybatch.domain.stats;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * LeaderboardEntry
+ * ---------------------------------
+ * 기간 / 지표별 상위 N 유저 (통계 배치가 집계하면서 함께 기록)
+ *
+ * - (periodType, periodKey, metric) 당 최대 N row
+ * - 조회는 인덱스 범위 1회 (전체 통계 테이블 정렬 불필요)
+ */
+@Entity
+@Table(name = "leaderboard_entry",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_leaderboard_entry_period_metric_rank",
+                columnNames = {"period_type", "period_key", "metric", "rank_no"}))
+@Getter
+@Builder
+@NoArgsConstructor @AllArgsConstructor
+public class LeaderboardEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "period_type", nullable = false, length = 10)
+    private LeaderboardPeriod periodType;
+
+    @Column(name = "period_key", nullable = false, length = 10)
+    private String periodKey;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private LeaderboardMetric metric;
+
+    /** 1부터 시작 */
+    @Column(name = "rank_no", nullable = false)
+    private int rankNo;
+
+    private Long userId;
+
+    @Column(name = "metric_value")
+    private long value;
+
+    @Column(name = "created_at", insertable = false, columnDefinition = "TIMESTAMP DEFAULT CURRENT_TIMESTAMP")
+    private LocalDateTime createdAt;
+}
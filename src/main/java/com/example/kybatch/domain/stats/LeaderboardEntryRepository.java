@@ -0,0 +1,21 @@
+package com.example.kybatch.domain.stats;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface LeaderboardEntryRepository extends JpaRepository<LeaderboardEntry, Long> {
+
+    List<LeaderboardEntry> findByPeriodTypeAndPeriodKeyAndMetricOrderByRankNo(
+            LeaderboardPeriod periodType, String periodKey, LeaderboardMetric metric);
+
+    /**
+     * 해당 기간 리더보드 삭제 (재집계 시 교체, bulk DELETE)
+     */
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("DELETE FROM LeaderboardEntry e WHERE e.periodType = :periodType AND e.periodKey = :periodKey")
+    void deleteByPeriod(@Param("periodType") LeaderboardPeriod periodType, @Param("periodKey") String periodKey);
+}
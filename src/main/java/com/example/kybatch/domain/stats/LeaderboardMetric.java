@@ -0,0 +1,9 @@
+package com.example.kybatch.domain.stats;
+
+/**
+ * 리더보드 순위 기준 지표
+ */
+public enum LeaderboardMetric {
+    ORDERS,
+    VIEWS
+}
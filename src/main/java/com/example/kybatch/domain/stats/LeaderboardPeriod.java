@@ -0,0 +1,27 @@
+package com.example.kybatch.domain.stats;
+
+import java.time.LocalDate;
+
+/**
+ * 리더보드 집계 기간 단위 + periodKey 규칙
+ * - DAILY   : yyyy-MM-dd
+ * - WEEKLY  : yyyy-Www  (WeeklyStatus 의 year / weekOfYear, year 는 ISO week-based year)
+ * - MONTHLY : yyyy-MM
+ */
+public enum LeaderboardPeriod {
+    DAILY,
+    WEEKLY,
+    MONTHLY;
+
+    public static String dailyKey(LocalDate date) {
+        return date.toString();
+    }
+
+    public static String weeklyKey(int year, int weekOfYear) {
+        return String.format("%d-W%02d", year, weekOfYear);
+    }
+
+    public static String monthlyKey(int year, int month) {
+        return String.format("%d-%02d", year, month);
+    }
+}
@@ -9,6 +9,10 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
+@Table(name = "monthly_status",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_monthly_status_user_year_month",
+                columnNames = {"user_id", "year_value", "month_value"}))
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class MonthlyStatus {
@@ -42,4 +46,13 @@ public class MonthlyStatus {
         this.viewCount = viewCount;
         this.orderCount = orderCount;
     }
+
+    /**
+     * 일간 통계 보정 결과 반영
+     */
+    public void recalculate(long loginCount, long viewCount, long orderCount) {
+        this.loginCount = loginCount;
+        this.viewCount = viewCount;
+        this.orderCount = orderCount;
+    }
 }
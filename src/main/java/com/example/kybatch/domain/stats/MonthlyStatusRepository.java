@@ -1,6 +1,7 @@
 package com.example.kybatch.domain.stats;
 
 import com.example.kybatch.dto.MonthlyAggregationDTO;
+import com.example.kybatch.dto.StatsTotalsDTO;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -8,6 +9,7 @@ import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
 
 public interface MonthlyStatusRepository extends JpaRepository<MonthlyStatus, Long> {
 
@@ -31,7 +33,29 @@ public interface MonthlyStatusRepository extends JpaRepository<MonthlyStatus, Lo
             @Param("startOfMonth") LocalDate startOfMonth,
             @Param("startOfNextMonth") LocalDate startOfNextMonth);
 
-    // ★ 여기 추가
-    void deleteByYearAndMonth(int year, int month);
+    Optional<MonthlyStatus> findByUserIdAndYearAndMonth(Long userId, int year, int month);
+
+    boolean existsByYearAndMonth(int year, int month);
+
+    /**
+     * 해당 연도/월 월간 통계 전체 합계 (month-to-date finalize 검증용)
+     */
+    @Query("""
+        SELECT new com.example.kybatch.dto.StatsTotalsDTO(
+            COUNT(m),
+            COALESCE(SUM(m.loginCount), 0L),
+            COALESCE(SUM(m.viewCount), 0L),
+            COALESCE(SUM(m.orderCount), 0L)
+        )
+        FROM MonthlyStatus m
+        WHERE m.year = :year
+          AND m.month = :month
+    """)
+    StatsTotalsDTO sumTotals(@Param("year") int year, @Param("month") int month);
+
+    // ★ 여기 추가 (bulk DELETE)
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("DELETE FROM MonthlyStatus m WHERE m.year = :year AND m.month = :month")
+    void deleteByYearAndMonth(@Param("year") int year, @Param("month") int month);
 
 }
\ No newline at end of file
@@ -0,0 +1,44 @@
+package com.example.kybatch.domain.stats;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * RollingStatus
+ * ---------------------------------
+ * 유저별 최근 7일 / 30일 활동 합계 (sliding window)
+ *
+ * - 일간 배치가 매일 새 날짜를 더하고 윈도우에서 빠진 날짜를 빼서 유지
+ * - 조회는 유저당 1 row (daily_status 최대 30 row 스캔 불필요)
+ * - 기준일은 RollingWindowCursor.lastDate
+ */
+@Entity
+@Table(name = "rolling_status",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_rolling_status_user",
+                columnNames = {"user_id"}))
+@Getter
+@Builder
+@NoArgsConstructor @AllArgsConstructor
+public class RollingStatus {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private Long userId;
+
+    @Column(name = "login_count_7d")
+    private long loginCount7d;
+    @Column(name = "view_count_7d")
+    private long viewCount7d;
+    @Column(name = "order_count_7d")
+    private long orderCount7d;
+
+    @Column(name = "login_count_30d")
+    private long loginCount30d;
+    @Column(name = "view_count_30d")
+    private long viewCount30d;
+    @Column(name = "order_count_30d")
+    private long orderCount30d;
+}
@@ -0,0 +1,24 @@
+package com.example.kybatch.domain.stats;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.Optional;
+
+public interface RollingStatusRepository extends JpaRepository<RollingStatus, Long> {
+
+    Optional<RollingStatus> findByUserId(Long userId);
+
+    /**
+     * 30일 윈도우에서 완전히 빠진 유저 정리 (bulk DELETE)
+     */
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("""
+        DELETE FROM RollingStatus r
+        WHERE r.loginCount30d = 0
+          AND r.viewCount30d = 0
+          AND r.orderCount30d = 0
+    """)
+    int deleteEmpty();
+}
@@ -0,0 +1,70 @@
+package com.example.kybatch.domain.stats;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * RollingWindowCursor
+ * ---------------------------------
+ * rolling_status 가 어느 날짜 기준까지 반영되었는지 기록
+ *
+ * - lastDate    : 이 날짜를 마지막 날로 하는 7일 / 30일 윈도우가 rolling_status 에 반영됨
+ * - rebuiltDate : 마지막으로 daily_status 에서 전체 재생성한 기준일
+ * - stale       : 윈도우 안의 daily_status 가 일간 배치 밖에서 바뀜 → 다음 갱신 때 재생성
+ *
+ * rolling_status 갱신과 같은 트랜잭션에서 갱신 → 윈도우 이동(차감)을 두 번 하지 않음
+ */
+@Entity
+@Table(name = "rolling_window_cursor")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class RollingWindowCursor {
+
+    public static final String ROLLING_STATUS = "rolling_status";
+
+    @Id
+    @Column(name = "name")
+    private String name;
+
+    @Column(name = "last_date", nullable = false)
+    private LocalDate lastDate;
+
+    @Column(name = "rebuilt_date")
+    private LocalDate rebuiltDate;
+
+    @Column(name = "stale", nullable = false, columnDefinition = "boolean default false not null")
+    private boolean stale;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    public RollingWindowCursor(String name, LocalDate lastDate) {
+        this.name = name;
+        this.lastDate = lastDate;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public void advanceTo(LocalDate lastDate) {
+        this.lastDate = lastDate;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    /**
+     * 전체 재생성 완료 (기준일 이동 + stale 해제)
+     */
+    public void rebuiltAt(LocalDate lastDate) {
+        advanceTo(lastDate);
+        this.rebuiltDate = lastDate;
+        this.stale = false;
+    }
+
+    public void markStale() {
+        this.stale = true;
+        this.updatedAt = LocalDateTime.now();
+    }
+}
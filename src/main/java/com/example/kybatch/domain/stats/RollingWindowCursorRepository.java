@@ -0,0 +1,6 @@
+package com.example.kybatch.domain.stats;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface RollingWindowCursorRepository extends JpaRepository<RollingWindowCursor, String> {
+}
@@ -0,0 +1,388 @@
+package com.example.kybatch.domain.stats;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * 통계 집계 Pushdown 전용 JDBC Repository
+ *
+ * - 집계(GROUP BY)와 저장(INSERT)을 INSERT INTO ... SELECT 한 문장으로 DB 안에서 처리
+ * - 집계 결과가 JVM을 거치지 않으므로 row 단위 save() / IDENTITY 조회 비용이 없음
+ * - 반환값은 INSERT된 row 수 (StepContribution write count로 사용)
+ * - 일간 결과 조회도 (user_id, 카운터) 만 JDBC 로 읽음 → 영속성 컨텍스트에 엔티티를 올리지 않음
+ */
+@Repository
+@RequiredArgsConstructor
+public class StatsPushdownRepository {
+
+    private static final String INSERT_DAILY_SQL = """
+            INSERT INTO daily_status (user_id, date, login_count, view_count, order_count)
+            SELECT ua.user_seq, ?, SUM(ua.login_count), SUM(ua.view_count), SUM(ua.order_count)
+            FROM user_activity ua
+            WHERE ua.created_at >= ?
+              AND ua.created_at < ?
+            GROUP BY ua.user_seq
+            """;
+
+    private static final String INSERT_WEEKLY_SQL = """
+            INSERT INTO weekly_status
+                (user_id, year_value, week_of_year, login_count, view_count, order_count, start_date, end_date)
+            SELECT ds.user_id, ?, ?, SUM(ds.login_count), SUM(ds.view_count), SUM(ds.order_count), ?, ?
+            FROM daily_status ds
+            WHERE ds.date >= ?
+              AND ds.date < ?
+            GROUP BY ds.user_id
+            """;
+
+    private static final String INSERT_MONTHLY_SQL = """
+            INSERT INTO monthly_status
+                (user_id, year_value, month_value, login_count, view_count, order_count)
+            SELECT ds.user_id, ?, ?, SUM(ds.login_count), SUM(ds.view_count), SUM(ds.order_count)
+            FROM daily_status ds
+            WHERE ds.date >= ?
+              AND ds.date < ?
+            GROUP BY ds.user_id
+            """;
+
+    private static final String INSERT_ROLLING_SQL = """
+            INSERT INTO rolling_status
+                (user_id, login_count_7d, view_count_7d, order_count_7d,
+                 login_count_30d, view_count_30d, order_count_30d)
+            SELECT ds.user_id,
+                   SUM(CASE WHEN ds.date >= ? THEN ds.login_count ELSE 0 END),
+                   SUM(CASE WHEN ds.date >= ? THEN ds.view_count ELSE 0 END),
+                   SUM(CASE WHEN ds.date >= ? THEN ds.order_count ELSE 0 END),
+                   SUM(ds.login_count), SUM(ds.view_count), SUM(ds.order_count)
+            FROM daily_status ds
+            WHERE ds.date >= ?
+              AND ds.date < ?
+            GROUP BY ds.user_id
+            """;
+
+    /*
+     * UPSERT 모드 정리용 : 이번 집계 원천에 더 이상 없는 키 삭제
+     * (upsert 는 있는 키만 덮어쓰므로 기간에서 빠진 유저의 이전 row 가 남음)
+     */
+    private static final String DELETE_STALE_DAILY_SQL = """
+            DELETE FROM daily_status ds
+            WHERE ds.date = ?
+              AND NOT EXISTS (SELECT 1 FROM user_activity ua
+                              WHERE ua.user_seq = ds.user_id
+                                AND ua.created_at >= ?
+                                AND ua.created_at < ?)
+            """;
+
+    private static final String DELETE_STALE_WEEKLY_SQL = """
+            DELETE FROM weekly_status ws
+            WHERE ws.year_value = ?
+              AND ws.week_of_year = ?
+              AND NOT EXISTS (SELECT 1 FROM daily_status ds
+                              WHERE ds.user_id = ws.user_id
+                                AND ds.date >= ?
+                                AND ds.date < ?)
+            """;
+
+    private static final String DELETE_STALE_MONTHLY_SQL = """
+            DELETE FROM monthly_status ms
+            WHERE ms.year_value = ?
+              AND ms.month_value = ?
+              AND NOT EXISTS (SELECT 1 FROM daily_status ds
+                              WHERE ds.user_id = ms.user_id
+                                AND ds.date >= ?
+                                AND ds.date < ?)
+            """;
+
+    private static final String SELECT_DAILY_SQL = """
+            SELECT ds.user_id, ds.login_count, ds.view_count, ds.order_count
+            FROM daily_status ds
+            WHERE ds.date = ?
+            """;
+
+    private static final String SELECT_STALE_DAILY_SQL = """
+            SELECT ds.user_id, ds.login_count, ds.view_count, ds.order_count
+            FROM daily_status ds
+            WHERE ds.date = ?
+              AND NOT EXISTS (SELECT 1 FROM user_activity ua
+                              WHERE ua.user_seq = ds.user_id
+                                AND ua.created_at >= ?
+                                AND ua.created_at < ?)
+            """;
+
+    /*
+     * to-date 차감 후 카운터가 모두 0이 된 유저 row 정리 (그 기간에 남은 일간 결과가 없는 유저)
+     */
+    private static final String DELETE_EMPTY_WEEKLY_SQL = """
+            DELETE FROM weekly_status
+            WHERE year_value = ?
+              AND week_of_year = ?
+              AND user_id = ?
+              AND login_count = 0
+              AND view_count = 0
+              AND order_count = 0
+            """;
+
+    private static final String DELETE_EMPTY_MONTHLY_SQL = """
+            DELETE FROM monthly_status
+            WHERE year_value = ?
+              AND month_value = ?
+              AND user_id = ?
+              AND login_count = 0
+              AND view_count = 0
+              AND order_count = 0
+            """;
+
+    /*
+     * 순위 / 분포 계산용 : 엔티티 대신 필요한 컬럼만 (user_id, order_count, view_count)
+     */
+    private static final String SELECT_WEEKLY_RANKING_SQL = """
+            SELECT ws.user_id, ws.order_count, ws.view_count
+            FROM weekly_status ws
+            WHERE ws.year_value = ?
+              AND ws.week_of_year = ?
+            """;
+
+    private static final String SELECT_MONTHLY_RANKING_SQL = """
+            SELECT ms.user_id, ms.order_count, ms.view_count
+            FROM monthly_status ms
+            WHERE ms.year_value = ?
+              AND ms.month_value = ?
+            """;
+
+    private static final int STREAM_FETCH_SIZE = 10_000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * user_activity [start, end) → daily_status (date = targetDate)
+     */
+    public int insertDailyFromActivity(LocalDate targetDate, LocalDateTime start, LocalDateTime end) {
+        return jdbcTemplate.update(INSERT_DAILY_SQL,
+                Date.valueOf(targetDate),
+                Timestamp.valueOf(start),
+                Timestamp.valueOf(end));
+    }
+
+    /**
+     * daily_status [startDate, endDate) → weekly_status
+     * - end_date 컬럼은 주의 마지막 날 (endDate - 1일)
+     */
+    public int insertWeeklyFromDaily(int year, int weekOfYear, LocalDate startDate, LocalDate endDate) {
+        return jdbcTemplate.update(INSERT_WEEKLY_SQL,
+                year,
+                weekOfYear,
+                Date.valueOf(startDate),
+                Date.valueOf(endDate.minusDays(1)),
+                Date.valueOf(startDate),
+                Date.valueOf(endDate));
+    }
+
+    /**
+     * daily_status [startOfMonth, startOfNextMonth) → monthly_status
+     */
+    public int insertMonthlyFromDaily(int year, int month, LocalDate startOfMonth, LocalDate startOfNextMonth) {
+        return jdbcTemplate.update(INSERT_MONTHLY_SQL,
+                year,
+                month,
+                Date.valueOf(startOfMonth),
+                Date.valueOf(startOfNextMonth));
+    }
+
+    /**
+     * daily_status (asOf - 29일 ~ asOf) → rolling_status (7일 / 30일 윈도우 전체 재생성)
+     */
+    public int insertRollingFromDaily(LocalDate asOf) {
+        Date start7 = Date.valueOf(asOf.minusDays(6));
+        return jdbcTemplate.update(INSERT_ROLLING_SQL,
+                start7, start7, start7,
+                Date.valueOf(asOf.minusDays(29)),
+                Date.valueOf(asOf.plusDays(1)));
+    }
+
+    /**
+     * UPSERT 모드 : [start, end) 활동이 없는 유저의 targetDate daily_status 삭제
+     */
+    public int deleteStaleDaily(LocalDate targetDate, LocalDateTime start, LocalDateTime end) {
+        return jdbcTemplate.update(DELETE_STALE_DAILY_SQL,
+                Date.valueOf(targetDate),
+                Timestamp.valueOf(start),
+                Timestamp.valueOf(end));
+    }
+
+    /**
+     * UPSERT 모드 : [startDate, endDate) daily_status 가 없는 유저의 주간 row 삭제
+     */
+    public int deleteStaleWeekly(int year, int weekOfYear, LocalDate startDate, LocalDate endDate) {
+        return jdbcTemplate.update(DELETE_STALE_WEEKLY_SQL,
+                year,
+                weekOfYear,
+                Date.valueOf(startDate),
+                Date.valueOf(endDate));
+    }
+
+    /**
+     * UPSERT 모드 : [startOfMonth, startOfNextMonth) daily_status 가 없는 유저의 월간 row 삭제
+     */
+    public int deleteStaleMonthly(int year, int month, LocalDate startOfMonth, LocalDate startOfNextMonth) {
+        return jdbcTemplate.update(DELETE_STALE_MONTHLY_SQL,
+                year,
+                month,
+                Date.valueOf(startOfMonth),
+                Date.valueOf(startOfNextMonth));
+    }
+
+    /**
+     * targetDate 일간 결과 (userId → login, view, order)
+     */
+    public Map<Long, long[]> findDailyCounts(LocalDate targetDate) {
+        Map<Long, long[]> counts = new HashMap<>();
+        jdbcTemplate.query(SELECT_DAILY_SQL, countsInto(counts), Date.valueOf(targetDate));
+        return counts;
+    }
+
+    /**
+     * targetDate 일간 결과 중 userIds 에 해당하는 row (chunk 저장 전 이전 값)
+     */
+    public Map<Long, long[]> findDailyCounts(LocalDate targetDate, Collection<Long> userIds) {
+        Map<Long, long[]> counts = new HashMap<>(userIds.size() * 2);
+        if (userIds.isEmpty()) {
+            return counts;
+        }
+        String sql = SELECT_DAILY_SQL + "  AND ds.user_id IN ("
+                + userIds.stream().map(id -> "?").collect(Collectors.joining(", ")) + ")";
+
+        List<Object> args = new ArrayList<>(userIds.size() + 1);
+        args.add(Date.valueOf(targetDate));
+        args.addAll(userIds);
+        jdbcTemplate.query(sql, countsInto(counts), args.toArray());
+        return counts;
+    }
+
+    /**
+     * targetDate 일간 결과를 저장 형태 그대로 조회 (PUSHDOWN 저장 후 후속 갱신용, 영속 상태 아님)
+     */
+    public List<DailyStatus> findDaily(LocalDate targetDate) {
+        return jdbcTemplate.query(SELECT_DAILY_SQL, (rs, rowNum) -> DailyStatus.builder()
+                .userId(rs.getLong(1))
+                .date(targetDate)
+                .loginCount(rs.getLong(2))
+                .viewCount(rs.getLong(3))
+                .orderCount(rs.getLong(4))
+                .build(), Date.valueOf(targetDate));
+    }
+
+    /**
+     * targetDate 일간 결과를 한 row 씩 스트리밍 (하루 전체를 목록으로 올리지 않고 스케치 / 순위 기록)
+     */
+    public void forEachDaily(LocalDate targetDate, Consumer<DailyStatus> action) {
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(SELECT_DAILY_SQL);
+            ps.setFetchSize(STREAM_FETCH_SIZE);
+            ps.setDate(1, Date.valueOf(targetDate));
+            return ps;
+        }, (RowCallbackHandler) rs -> action.accept(DailyStatus.builder()
+                .userId(rs.getLong(1))
+                .date(targetDate)
+                .loginCount(rs.getLong(2))
+                .viewCount(rs.getLong(3))
+                .orderCount(rs.getLong(4))
+                .build()));
+    }
+
+    /**
+     * 해당 주차 주간 결과를 (user_id, order_count, view_count) 로 스트리밍 (리더보드 / 분포 계산)
+     */
+    public void forEachWeeklyRanking(int year, int weekOfYear, RankingRowHandler handler) {
+        streamRanking(SELECT_WEEKLY_RANKING_SQL, year, weekOfYear, handler);
+    }
+
+    /**
+     * 해당 월 월간 결과를 (user_id, order_count, view_count) 로 스트리밍 (리더보드 / 분포 계산)
+     */
+    public void forEachMonthlyRanking(int year, int month, RankingRowHandler handler) {
+        streamRanking(SELECT_MONTHLY_RANKING_SQL, year, month, handler);
+    }
+
+    private void streamRanking(String sql, int year, int value, RankingRowHandler handler) {
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(sql);
+            ps.setFetchSize(STREAM_FETCH_SIZE);
+            ps.setInt(1, year);
+            ps.setInt(2, value);
+            return ps;
+        }, (RowCallbackHandler) rs -> handler.accept(rs.getLong(1), rs.getLong(2), rs.getLong(3)));
+    }
+
+    /**
+     * {@link #deleteStaleDaily} 가 지울 row (삭제 전에 to-date 차감용으로 조회)
+     */
+    public Map<Long, long[]> findStaleDailyCounts(LocalDate targetDate, LocalDateTime start, LocalDateTime end) {
+        Map<Long, long[]> counts = new HashMap<>();
+        jdbcTemplate.query(SELECT_STALE_DAILY_SQL, countsInto(counts),
+                Date.valueOf(targetDate),
+                Timestamp.valueOf(start),
+                Timestamp.valueOf(end));
+        return counts;
+    }
+
+    /**
+     * 주간 to-date 에서 카운터가 모두 0이 된 userIds row 삭제
+     */
+    public int deleteEmptyWeekly(int year, int weekOfYear, Collection<Long> userIds) {
+        return deleteEmpty(DELETE_EMPTY_WEEKLY_SQL, year, weekOfYear, userIds);
+    }
+
+    /**
+     * 월간 to-date 에서 카운터가 모두 0이 된 userIds row 삭제
+     */
+    public int deleteEmptyMonthly(int year, int month, Collection<Long> userIds) {
+        return deleteEmpty(DELETE_EMPTY_MONTHLY_SQL, year, month, userIds);
+    }
+
+    private int deleteEmpty(String sql, int year, int value, Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return 0;
+        }
+        List<Object[]> rows = new ArrayList<>(userIds.size());
+        for (Long userId : userIds) {
+            rows.add(new Object[]{year, value, userId});
+        }
+        int deleted = 0;
+        for (int count : jdbcTemplate.batchUpdate(sql, rows)) {
+            deleted += Math.max(count, 0);
+        }
+        return deleted;
+    }
+
+    private static RowCallbackHandler countsInto(Map<Long, long[]> counts) {
+        return (ResultSet rs) -> counts.put(rs.getLong(1), readCounters(rs));
+    }
+
+    private static long[] readCounters(ResultSet rs) throws SQLException {
+        return new long[]{rs.getLong(2), rs.getLong(3), rs.getLong(4)};
+    }
+
+    /**
+     * 순위 / 분포 계산용 row 한 건 (user_id, order_count, view_count)
+     */
+    @FunctionalInterface
+    public interface RankingRowHandler {
+        void accept(long userId, long orderCount, long viewCount);
+    }
+}
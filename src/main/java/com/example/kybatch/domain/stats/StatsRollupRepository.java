@@ -0,0 +1,87 @@
+package com.example.kybatch.domain.stats;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.function.Consumer;
+
+/**
+ * 주간 + 월간 동시 집계(rollup) 전용 JDBC Repository
+ *
+ * - 두 기간을 모두 덮는 daily_status 범위를 한 번만 스캔
+ * - 유저별로 주간 구간 / 월간 구간 합계를 CASE 조건 집계로 동시에 계산
+ * - 결과는 스트리밍으로 전달 (전체 결과를 메모리에 올리지 않음)
+ */
+@Repository
+@RequiredArgsConstructor
+public class StatsRollupRepository {
+
+    private static final int FETCH_SIZE = 10_000;
+
+    private static final String ROLLUP_SQL = """
+            SELECT ds.user_id,
+                   COUNT(CASE WHEN ds.date >= ? AND ds.date < ? THEN 1 END) AS week_days,
+                   SUM(CASE WHEN ds.date >= ? AND ds.date < ? THEN ds.login_count ELSE 0 END) AS week_login,
+                   SUM(CASE WHEN ds.date >= ? AND ds.date < ? THEN ds.view_count ELSE 0 END) AS week_view,
+                   SUM(CASE WHEN ds.date >= ? AND ds.date < ? THEN ds.order_count ELSE 0 END) AS week_order,
+                   COUNT(CASE WHEN ds.date >= ? AND ds.date < ? THEN 1 END) AS month_days,
+                   SUM(CASE WHEN ds.date >= ? AND ds.date < ? THEN ds.login_count ELSE 0 END) AS month_login,
+                   SUM(CASE WHEN ds.date >= ? AND ds.date < ? THEN ds.view_count ELSE 0 END) AS month_view,
+                   SUM(CASE WHEN ds.date >= ? AND ds.date < ? THEN ds.order_count ELSE 0 END) AS month_order
+            FROM daily_status ds
+            WHERE ds.date >= ?
+              AND ds.date < ?
+            GROUP BY ds.user_id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 주간 [weekStart, weekEnd) / 월간 [monthStart, monthEnd) 유저별 합계를 한 번의 스캔으로 조회
+     */
+    public void scanWeeklyAndMonthly(LocalDate weekStart, LocalDate weekEnd,
+                                     LocalDate monthStart, LocalDate monthEnd,
+                                     Consumer<RollupRow> consumer) {
+
+        Date ws = Date.valueOf(weekStart);
+        Date we = Date.valueOf(weekEnd);
+        Date ms = Date.valueOf(monthStart);
+        Date me = Date.valueOf(monthEnd);
+
+        Date scanStart = weekStart.isBefore(monthStart) ? ws : ms;
+        Date scanEnd = weekEnd.isAfter(monthEnd) ? we : me;
+
+        JdbcTemplate streaming = new JdbcTemplate(jdbcTemplate.getDataSource());
+        streaming.setFetchSize(FETCH_SIZE);
+
+        streaming.query(ROLLUP_SQL, (RowCallbackHandler) rs -> consumer.accept(new RollupRow(
+                        rs.getLong("user_id"),
+                        new PeriodTotals(rs.getLong("week_days"),
+                                rs.getLong("week_login"), rs.getLong("week_view"), rs.getLong("week_order")),
+                        new PeriodTotals(rs.getLong("month_days"),
+                                rs.getLong("month_login"), rs.getLong("month_view"), rs.getLong("month_order")))),
+                ws, we, ws, we, ws, we, ws, we,
+                ms, me, ms, me, ms, me, ms, me,
+                scanStart, scanEnd);
+    }
+
+    /**
+     * 유저 1명의 주간 / 월간 합계
+     */
+    public record RollupRow(long userId, PeriodTotals week, PeriodTotals month) {
+    }
+
+    /**
+     * @param days 해당 기간에 DailyStatus 가 있는 일수 (0이면 기간 내 활동 없음)
+     */
+    public record PeriodTotals(long days, long loginCount, long viewCount, long orderCount) {
+
+        public boolean isEmpty() {
+            return days == 0;
+        }
+    }
+}
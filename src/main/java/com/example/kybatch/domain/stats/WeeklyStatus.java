@@ -7,7 +7,10 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "weekly_status")
+@Table(name = "weekly_status",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_weekly_status_user_year_week",
+                columnNames = {"user_id", "year_value", "week_of_year"}))
 @Getter
 @Setter @Builder
 @NoArgsConstructor @AllArgsConstructor
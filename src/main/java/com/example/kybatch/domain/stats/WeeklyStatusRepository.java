@@ -9,6 +9,7 @@ import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface WeeklyStatusRepository extends JpaRepository<WeeklyStatus, Long> {
@@ -35,10 +36,16 @@ public interface WeeklyStatusRepository extends JpaRepository<WeeklyStatus, Long
             @Param("end") LocalDate endOfWeek
     );
 
+    Optional<WeeklyStatus> findByUserIdAndYearAndWeekOfYear(Long userId, int year, int weekOfYear);
+
+    boolean existsByYearAndWeekOfYear(int year, int weekOfYear);
+
     /**
-     * 해당 연도/주차의 기존 통계 삭제
+     * 해당 연도/주차의 기존 통계 삭제 (bulk DELETE)
      */
-    void deleteByYearAndWeekOfYear(int year, int weekOfYear);
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("DELETE FROM WeeklyStatus w WHERE w.year = :year AND w.weekOfYear = :weekOfYear")
+    void deleteByYearAndWeekOfYear(@Param("year") int year, @Param("weekOfYear") int weekOfYear);
 
 
 }
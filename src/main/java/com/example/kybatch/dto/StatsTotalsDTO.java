@@ -0,0 +1,36 @@
+package com.example.kybatch.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Objects;
+
+/**
+ * 기간 전체 합계 (집계 결과 검증용)
+ * - userCount : 해당 기간 유저 수 (로그용, 비교하지 않음)
+ */
+@Getter
+@AllArgsConstructor
+public class StatsTotalsDTO {
+
+    private Long userCount;
+
+    private Long loginCount;
+    private Long viewCount;
+    private Long orderCount;
+
+    /**
+     * 카운터 합계만 비교
+     * - 유저 수는 원천마다 세는 방식이 달라(일간 = COUNT(DISTINCT userId), 월간 = row 수) 비교 대상에서 제외
+     */
+    public boolean matches(StatsTotalsDTO other) {
+        return Objects.equals(loginCount, other.loginCount)
+                && Objects.equals(viewCount, other.viewCount)
+                && Objects.equals(orderCount, other.orderCount);
+    }
+
+    @Override
+    public String toString() {
+        return "users=" + userCount + ", login=" + loginCount + ", view=" + viewCount + ", order=" + orderCount;
+    }
+}
@@ -0,0 +1,231 @@
+package com.example.kybatch.ingest;
+
+import com.example.kybatch.domain.activity.UserActivity;
+import com.example.kybatch.domain.activity.UserActivityJdbcRepository;
+import com.example.kybatch.ingest.dto.ActivityBulkIngestResponse;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * ActivityBulkIngestService
+ * ---------------------------------------------------------------
+ * - 업스트림에서 이미 묶어 보낸 이벤트를 한 번의 HTTP 요청으로 수신
+ * - 본문 전체를 메모리에 올리지 않고 Jackson 스트리밍 파서로 한 건씩 읽음
+ * - chunkSize 만큼 모이면 multi-row INSERT 1회로 적재, 청크마다 독립 트랜잭션으로 커밋
+ *   → 요청 전체를 한 트랜잭션으로 묶지 않아 큰 본문에도 트랜잭션 / 락이 길게 열려 있지 않음
+ *
+ * 지원 포맷 (둘 다 동일한 객체 스키마)
+ * - NDJSON     : {"userId":1,"type":"VIEW"}\n{"userId":2,"type":"ORDER","createdAt":"2025-01-01T10:00:00"}
+ * - JSON Array : [{"userId":1,"type":"VIEW"}, ...]
+ *
+ * createdAt이 없으면 수신 시각을 사용
+ *
+ * 오류 처리
+ * - 레코드 단위 오류 (userId / type 누락, 숫자가 아닌 userId, 형식이 틀린 createdAt, 객체 / 배열 값)
+ *   → 해당 레코드만 rejected 로 세고 계속 진행
+ * - 구조 오류 (깨진 JSON, 객체가 아닌 최상위 토큰) → 그 자리에서 중단, 커밋 안 된 버퍼는 버림 (API 는 400)
+ *   → 응답의 committed(커밋된 이벤트 수) / resumeFrom(커밋까지 읽은 레코드 수) 로 남은 부분만 재전송
+ */
+@Slf4j
+@Service
+public class ActivityBulkIngestService {
+
+    private final ObjectMapper objectMapper;
+    private final UserActivityJdbcRepository jdbcRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    public ActivityBulkIngestService(
+            ObjectMapper objectMapper,
+            UserActivityJdbcRepository jdbcRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${activity.ingest.bulk.chunk-size:1000}") int chunkSize
+    ) {
+        this.objectMapper = objectMapper;
+        this.jdbcRepository = jdbcRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * 본문 구조가 잘못된 경우에도 예외 대신 error 가 채워진 응답 반환 (앞서 커밋한 청크는 유지)
+     */
+    public ActivityBulkIngestResponse ingest(InputStream body) throws IOException {
+        IngestProgress progress = new IngestProgress();
+        try {
+            ingestAll(body, progress);
+        } catch (JsonProcessingException e) {
+            return progress.abort("잘못된 bulk 포맷: " + e.getOriginalMessage());
+        } catch (IllegalArgumentException e) {
+            return progress.abort(e.getMessage());
+        }
+
+        log.info("[INGEST] bulk ingest done. committed={}, rejected={}, chunks={}",
+                progress.committed, progress.rejected, progress.chunks);
+        return progress.toResponse(null);
+    }
+
+    private void ingestAll(InputStream body, IngestProgress progress) throws IOException {
+
+        LocalDateTime receivedAt = LocalDateTime.now();
+        List<UserActivity> buffer = new ArrayList<>(chunkSize);
+
+        try (JsonParser parser = objectMapper.getFactory().createParser(body)) {
+
+            JsonToken token = parser.nextToken();
+
+            // JSON Array면 감싸는 '[' 를 건너뛰고, NDJSON이면 첫 객체부터 바로 읽음
+            boolean array = token == JsonToken.START_ARRAY;
+            if (array) {
+                token = parser.nextToken();
+            }
+
+            while (token != null && token != JsonToken.END_ARRAY) {
+
+                if (token != JsonToken.START_OBJECT) {
+                    throw new IllegalArgumentException(
+                            "잘못된 bulk 포맷: 객체가 아닌 토큰 " + token + " at " + parser.getCurrentLocation());
+                }
+
+                UserActivity activity = readEvent(parser, receivedAt);
+                progress.read++;
+                if (activity == null) {
+                    progress.rejected++;
+                } else {
+                    progress.accepted++;
+                    buffer.add(activity);
+                }
+
+                if (buffer.size() >= chunkSize) {
+                    commitChunk(buffer, progress);
+                }
+
+                token = parser.nextToken();
+            }
+        }
+
+        // 잔여 데이터 flush
+        if (!buffer.isEmpty()) {
+            commitChunk(buffer, progress);
+        }
+        progress.resumeFrom = progress.read;
+    }
+
+    /**
+     * 청크 1개 = 트랜잭션 1개 (커밋 후 버퍼 비움)
+     */
+    private void commitChunk(List<UserActivity> buffer, IngestProgress progress) {
+        Integer inserted = transactionTemplate.execute(status -> jdbcRepository.batchInsert(buffer));
+        progress.committed += inserted != null ? inserted : 0;
+        progress.chunks++;
+        progress.resumeFrom = progress.read;
+        buffer.clear();
+    }
+
+    /**
+     * START_OBJECT 위치에서 호출 → END_OBJECT 까지 읽고 엔티티로 변환
+     * 필수값(userId, type)이 없거나 값 형식이 틀리면 null 반환 (객체는 끝까지 소비)
+     */
+    private UserActivity readEvent(JsonParser parser, LocalDateTime receivedAt) throws IOException {
+
+        Long userId = null;
+        ActivityType type = null;
+        LocalDateTime createdAt = receivedAt;
+        boolean malformed = false;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+
+            switch (field) {
+                case "userId" -> {
+                    if (value == JsonToken.VALUE_NUMBER_INT
+                            && parser.getNumberType() != JsonParser.NumberType.BIG_INTEGER) {
+                        userId = parser.getLongValue();
+                    } else if (value != JsonToken.VALUE_NULL) {
+                        malformed = true;
+                    }
+                }
+                case "type" -> {
+                    if (value == JsonToken.VALUE_STRING) {
+                        type = parseType(parser.getText());
+                    } else if (value != JsonToken.VALUE_NULL) {
+                        malformed = true;
+                    }
+                }
+                case "createdAt" -> {
+                    if (value == JsonToken.VALUE_STRING) {
+                        createdAt = parseDateTime(parser.getText());
+                        malformed |= createdAt == null;
+                    } else if (value != JsonToken.VALUE_NULL) {
+                        malformed = true;
+                    }
+                }
+                default -> {
+                }
+            }
+
+            // 객체 / 배열 값은 (모르는 필드 포함) 하위 구조까지 통째로 건너뜀, 스칼라 값은 no-op
+            parser.skipChildren();
+        }
+
+        if (malformed || userId == null || type == null) {
+            return null;
+        }
+        return new ActivityEvent(userId, type, createdAt).toEntity();
+    }
+
+    /**
+     * 요청 하나의 진행 상황 (read / resumeFrom 은 본문 레코드 순번 기준)
+     */
+    private static class IngestProgress {
+        long read;
+        long accepted;
+        long rejected;
+        long committed;
+        long chunks;
+        long resumeFrom;
+
+        ActivityBulkIngestResponse abort(String error) {
+            log.warn("[INGEST] bulk ingest aborted. committed={}, resumeFrom={}, error={}", committed, resumeFrom, error);
+            return toResponse(error);
+        }
+
+        ActivityBulkIngestResponse toResponse(String error) {
+            return new ActivityBulkIngestResponse(accepted, committed, rejected, chunks, resumeFrom, error);
+        }
+    }
+
+    private LocalDateTime parseDateTime(String text) {
+        try {
+            return LocalDateTime.parse(text);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    private ActivityType parseType(String text) {
+        if (text == null) {
+            return null;
+        }
+        try {
+            return ActivityType.valueOf(text.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.kybatch.ingest;
+
+import com.example.kybatch.domain.activity.UserActivity;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 수집 버퍼에 적재되는 단건 이벤트
+ * - Controller 요청 시점의 시각(createdAt)을 그대로 보존
+ * - DB 적재 직전에만 UserActivity 엔티티로 변환
+ */
+@Getter
+@AllArgsConstructor
+public class ActivityEvent {
+
+    private final Long userId;
+    private final ActivityType type;
+    private final LocalDateTime createdAt;
+
+    public UserActivity toEntity() {
+        return UserActivity.builder()
+                .userId(userId)
+                .loginCount(type.getLoginCount())
+                .viewCount(type.getViewCount())
+                .orderCount(type.getOrderCount())
+                .createdAt(createdAt)
+                .build();
+    }
+}
@@ -0,0 +1,298 @@
+package com.example.kybatch.ingest;
+
+import com.example.kybatch.domain.activity.UserActivity;
+import com.example.kybatch.domain.activity.UserActivityJdbcRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * ActivityIngestBuffer (Group Commit 수집 파이프라인)
+ * ---------------------------------------------------------------
+ * - Controller 요청 스레드는 bounded 큐에 이벤트만 넣고 바로 반환
+ * - 전용 writer 스레드가 큐를 비우면서 batchSize / lingerMs 기준으로 묶어 JDBC 배치 INSERT
+ * - 이벤트 N건 = 트랜잭션 1회 → DB 커밋 지연이 수집 처리량의 상한이 되지 않음
+ *
+ * 운영 포인트
+ * - 큐가 가득 차면 offer()가 false 반환 → 호출 측에서 기존 단건 저장으로 fallback
+ * - DB 일시 장애(커넥션 / 타임아웃 등)는 성공할 때까지 backoff 재시도
+ *   → 그동안 큐가 차면 새 요청은 단건 저장 fallback, 버퍼에 든 이벤트는 버리지 않음
+ * - 데이터 자체 오류(제약 위반)는 행 단위 INSERT 로 나눠 문제 row 만 격리 (ERROR 로그 + droppedEvents)
+ * - 애플리케이션 종료 시 웹 서버가 먼저 내려간 뒤 남은 큐를 전부 flush 후 종료 (graceful drain)
+ *   → 종료 중에도 DB 장애가 계속되면 MAX_FLUSH_ATTEMPTS 후 포기하고 유실 건수를 로그로 남김
+ * - activity.ingest.mode=BUFFERED 일 때만 writer 스레드가 기동되고 큐 용량만큼 할당됨
+ */
+@Slf4j
+@Component
+public class ActivityIngestBuffer implements SmartLifecycle {
+
+    /** 종료 중 flush 실패 시 재시도 횟수 (평상시에는 성공할 때까지 재시도) */
+    private static final int MAX_FLUSH_ATTEMPTS = 3;
+
+    /** 재시도 간격 상한 */
+    private static final long MAX_BACKOFF_MILLIS = 1_000;
+
+    /** 종료 시 drain 대기 최대 시간 */
+    private static final long SHUTDOWN_TIMEOUT_MILLIS = 30_000;
+
+    private final UserActivityJdbcRepository jdbcRepository;
+    private final BlockingQueue<ActivityEvent> queue;
+
+    private final boolean enabled;
+    private final int batchSize;
+    private final long lingerMillis;
+    private final long offerTimeoutMillis;
+
+    private volatile boolean running;
+    private Thread writer;
+
+    // ---------------------------------------------------------------
+    // 메트릭
+    // ---------------------------------------------------------------
+    private final LongAdder accepted = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder flushedEvents = new LongAdder();
+    private final LongAdder droppedEvents = new LongAdder();
+    private final AtomicLong flushCount = new AtomicLong();
+    private final AtomicLong totalFlushNanos = new AtomicLong();
+    private final AtomicLong maxFlushNanos = new AtomicLong();
+    private final AtomicLong lastFlushNanos = new AtomicLong();
+
+    public ActivityIngestBuffer(
+            UserActivityJdbcRepository jdbcRepository,
+            @Value("${activity.ingest.mode:DIRECT}") ActivityIngestMode mode,
+            @Value("${activity.ingest.buffer.capacity:100000}") int capacity,
+            @Value("${activity.ingest.buffer.batch-size:1000}") int batchSize,
+            @Value("${activity.ingest.buffer.linger-ms:50}") long lingerMillis,
+            @Value("${activity.ingest.buffer.offer-timeout-ms:10}") long offerTimeoutMillis
+    ) {
+        this.jdbcRepository = jdbcRepository;
+        // 비활성 모드에서는 offer()가 항상 false → 큐 용량을 미리 잡아둘 필요 없음
+        this.queue = new ArrayBlockingQueue<>(mode == ActivityIngestMode.BUFFERED ? capacity : 1);
+        this.enabled = mode == ActivityIngestMode.BUFFERED;
+        this.batchSize = batchSize;
+        this.lingerMillis = lingerMillis;
+        this.offerTimeoutMillis = offerTimeoutMillis;
+    }
+
+    /**
+     * 이벤트 적재
+     *
+     * @return 버퍼에 적재되었으면 true, 비활성/포화 상태면 false (호출 측 fallback)
+     */
+    public boolean offer(ActivityEvent event) {
+        if (!running) {
+            return false;
+        }
+        try {
+            if (queue.offer(event, offerTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                accepted.increment();
+                return true;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        rejected.increment();
+        return false;
+    }
+
+    // =====================================================
+    // Writer 스레드
+    // =====================================================
+
+    private void drainLoop() {
+        List<ActivityEvent> batch = new ArrayList<>(batchSize);
+
+        // 종료 요청 이후에도 큐가 빌 때까지 계속 flush
+        while (running || !queue.isEmpty()) {
+            try {
+                ActivityEvent first = queue.poll(lingerMillis, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - batch.size());
+
+                // batchSize를 채우지 못했다면 linger 시간까지만 추가로 대기
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(lingerMillis);
+                while (running && batch.size() < batchSize) {
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) break;
+
+                    ActivityEvent next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) break;
+
+                    batch.add(next);
+                    queue.drainTo(batch, batchSize - batch.size());
+                }
+
+                flush(batch);
+
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                log.warn("[INGEST] writer interrupted. remaining={}", queue.size());
+                flush(batch);
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+        log.info("[INGEST] writer drained and stopped.");
+    }
+
+    private void flush(List<ActivityEvent> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        List<UserActivity> rows = new ArrayList<>(batch.size());
+        for (ActivityEvent event : batch) {
+            rows.add(event.toEntity());
+        }
+        write(rows);
+    }
+
+    /**
+     * rows 를 적재할 때까지 재시도
+     * - 제약 위반 : 여러 row 면 한 건씩 나눠 다시 적재, 한 건이면 해당 row 만 포기
+     * - 그 외 오류 : DB 장애로 보고 backoff 재시도 (종료 중이면 MAX_FLUSH_ATTEMPTS 까지만)
+     */
+    private void write(List<UserActivity> rows) {
+        for (int attempt = 1; ; attempt++) {
+            long started = System.nanoTime();
+            try {
+                jdbcRepository.batchInsert(rows);
+                recordFlush(System.nanoTime() - started, rows.size());
+                return;
+
+            } catch (DataIntegrityViolationException e) {
+                if (rows.size() > 1) {
+                    log.warn("[INGEST] flush rejected by constraint. size={} → row-by-row - {}",
+                            rows.size(), e.getMessage());
+                    rows.forEach(row -> write(List.of(row)));
+                } else {
+                    UserActivity row = rows.get(0);
+                    droppedEvents.increment();
+                    log.error("[INGEST] row rejected. userId={}, createdAt={}, login={}, view={}, order={} - {}",
+                            row.getUserId(), row.getCreatedAt(),
+                            row.getLoginCount(), row.getViewCount(), row.getOrderCount(), e.getMessage());
+                }
+                return;
+
+            } catch (Exception e) {
+                boolean stopping = !running || Thread.currentThread().isInterrupted();
+                if (stopping && attempt >= MAX_FLUSH_ATTEMPTS) {
+                    droppedEvents.add(rows.size());
+                    log.error("[INGEST] flush failed during shutdown. lost={} events", rows.size(), e);
+                    return;
+                }
+                log.warn("[INGEST] flush failed (attempt {}) size={}, retrying - {}",
+                        attempt, rows.size(), e.getMessage());
+                backoff(attempt);
+            }
+        }
+    }
+
+    private void backoff(int attempt) {
+        try {
+            Thread.sleep(Math.min(MAX_BACKOFF_MILLIS, 10L << Math.min(attempt, 10)));
+        } catch (InterruptedException e) {
+            // 종료 신호 → 재시도 횟수 제한 모드로 전환
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void recordFlush(long elapsedNanos, int size) {
+        flushedEvents.add(size);
+        flushCount.incrementAndGet();
+        totalFlushNanos.addAndGet(elapsedNanos);
+        lastFlushNanos.set(elapsedNanos);
+        maxFlushNanos.accumulateAndGet(elapsedNanos, Math::max);
+    }
+
+    // =====================================================
+    // 메트릭 조회
+    // =====================================================
+
+    public Map<String, Object> stats() {
+        long flushes = flushCount.get();
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("running", running);
+        result.put("queueDepth", queue.size());
+        result.put("queueRemainingCapacity", queue.remainingCapacity());
+        result.put("accepted", accepted.sum());
+        result.put("rejected", rejected.sum());
+        result.put("flushedEvents", flushedEvents.sum());
+        result.put("droppedEvents", droppedEvents.sum());
+        result.put("flushCount", flushes);
+        result.put("lastFlushMillis", toMillis(lastFlushNanos.get()));
+        result.put("maxFlushMillis", toMillis(maxFlushNanos.get()));
+        result.put("avgFlushMillis", flushes == 0 ? 0.0 : toMillis(totalFlushNanos.get() / flushes));
+        return result;
+    }
+
+    private double toMillis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    // =====================================================
+    // SmartLifecycle
+    // =====================================================
+
+    @Override
+    public void start() {
+        running = true;
+        writer = new Thread(this::drainLoop, "activity-ingest-writer");
+        writer.start();
+        log.info("[INGEST] buffered ingestion started. batchSize={}, lingerMs={}", batchSize, lingerMillis);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (writer == null) {
+            return;
+        }
+        try {
+            writer.join(SHUTDOWN_TIMEOUT_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (writer.isAlive()) {
+            log.error("[INGEST] drain not finished within {}ms. remaining={}",
+                    SHUTDOWN_TIMEOUT_MILLIS, queue.size());
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public boolean isAutoStartup() {
+        return enabled;
+    }
+
+    /**
+     * 웹 서버(graceful shutdown)보다 낮은 phase
+     * → 기동은 먼저, 종료는 웹 서버가 요청 수신을 멈춘 뒤에 수행
+     */
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.kybatch.ingest;
+
+/**
+ * UserActivity 수집 모드
+ *
+ * DIRECT   : 요청마다 repository.save (기본값, 기존 동작)
+ * BUFFERED : bounded 버퍼에 적재 후 writer 스레드가 JDBC 배치로 group commit
+ * PRE_AGGREGATE : (userId, 시간 버킷) 단위로 메모리에서 합산 후 버킷당 1 row만 적재
+ * WAL      : 로컬 append-only 로그(mmap 세그먼트)에 먼저 기록 → 비동기 loader가 DB로 이관
+ */
+public enum ActivityIngestMode {
+    DIRECT,
+    BUFFERED,
+    PRE_AGGREGATE,
+    WAL
+}
@@ -0,0 +1,271 @@
+package com.example.kybatch.ingest;
+
+import com.example.kybatch.domain.activity.UserActivity;
+import com.example.kybatch.domain.activity.UserActivityJdbcRepository;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * ActivityPreAggregator (수집 단계 사전 집계)
+ * ---------------------------------------------------------------
+ * - UserActivity row 대부분은 login/view/order 중 하나에 1만 담긴 단건 이벤트
+ * - 이벤트를 (userId, 시간 버킷) 키로 메모리에서 LongAdder 합산
+ * - flush 주기마다 버킷당 1 row(createdAt = 버킷 시작 시각)만 user_activity에 적재
+ *
+ * 결과 동일성
+ * - 버킷은 하루 경계를 넘지 않도록 자정 기준으로 자름 (bucketSeconds는 86400의 약수 권장)
+ * - 버킷 row의 createdAt은 원본 이벤트와 같은 날/주/월 → aggregateDaily 등의 SUM 결과는 raw 경로와 동일
+ *
+ * 동시성
+ * - 요청 스레드: read lock + computeIfAbsent + LongAdder.add → 서로 경합 없음
+ * - flush 스레드: write lock으로 map 참조만 교체한 뒤, 이전 map은 lock 밖에서 적재
+ */
+@Slf4j
+@Component
+public class ActivityPreAggregator implements SmartLifecycle {
+
+    private static final int SECONDS_OF_DAY = 86_400;
+
+    private final UserActivityJdbcRepository jdbcRepository;
+
+    private final boolean enabled;
+    private final int bucketSeconds;
+    private final long flushIntervalMillis;
+
+    private final ReadWriteLock swapLock = new ReentrantReadWriteLock();
+    private volatile ConcurrentHashMap<BucketKey, Counters> buckets = new ConcurrentHashMap<>();
+
+    private volatile boolean running;
+    private ScheduledExecutorService flusher;
+
+    // 메트릭
+    private final LongAdder recordedEvents = new LongAdder();
+    private final LongAdder flushedRows = new LongAdder();
+
+    public ActivityPreAggregator(
+            UserActivityJdbcRepository jdbcRepository,
+            @Value("${activity.ingest.mode:DIRECT}") ActivityIngestMode mode,
+            @Value("${activity.ingest.pre-aggregate.bucket-seconds:60}") int bucketSeconds,
+            @Value("${activity.ingest.pre-aggregate.flush-interval-ms:5000}") long flushIntervalMillis
+    ) {
+        if (bucketSeconds <= 0 || bucketSeconds > SECONDS_OF_DAY) {
+            throw new IllegalArgumentException("bucketSeconds는 1 ~ 86400 사이여야 합니다: " + bucketSeconds);
+        }
+        this.jdbcRepository = jdbcRepository;
+        this.enabled = mode == ActivityIngestMode.PRE_AGGREGATE;
+        this.bucketSeconds = bucketSeconds;
+        this.flushIntervalMillis = flushIntervalMillis;
+    }
+
+    /**
+     * 이벤트 합산
+     *
+     * @return 합산되었으면 true, 비활성 상태면 false (호출 측 fallback)
+     */
+    public boolean add(ActivityEvent event) {
+        swapLock.readLock().lock();
+        try {
+            if (!running) {
+                return false;
+            }
+            BucketKey key = new BucketKey(event.getUserId(), bucketStart(event.getCreatedAt()));
+            buckets.computeIfAbsent(key, k -> new Counters()).add(event.getType());
+            recordedEvents.increment();
+            return true;
+        } finally {
+            swapLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 현재까지 합산된 버킷을 user_activity에 적재
+     *
+     * @return 적재된 row 수
+     */
+    public int flush() {
+        ConcurrentHashMap<BucketKey, Counters> snapshot;
+
+        swapLock.writeLock().lock();
+        try {
+            snapshot = buckets;
+            buckets = new ConcurrentHashMap<>();
+        } finally {
+            swapLock.writeLock().unlock();
+        }
+
+        if (snapshot.isEmpty()) {
+            return 0;
+        }
+
+        List<UserActivity> rows = new ArrayList<>(snapshot.size());
+        snapshot.forEach((key, counters) -> rows.add(counters.toEntity(key)));
+
+        int inserted;
+        try {
+            inserted = jdbcRepository.batchInsert(rows);
+        } catch (RuntimeException e) {
+            // 적재 실패 시 합산값을 현재 map에 되돌려 다음 flush에서 재시도
+            restore(snapshot);
+            throw e;
+        }
+        flushedRows.add(inserted);
+
+        log.debug("[INGEST] pre-aggregate flush. rows={}", inserted);
+        return inserted;
+    }
+
+    private void restore(Map<BucketKey, Counters> snapshot) {
+        swapLock.readLock().lock();
+        try {
+            snapshot.forEach((key, counters) ->
+                    buckets.computeIfAbsent(key, k -> new Counters()).merge(counters));
+        } finally {
+            swapLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 자정 기준으로 bucketSeconds 단위 내림 → 버킷이 날짜 경계를 넘지 않음
+     */
+    private LocalDateTime bucketStart(LocalDateTime createdAt) {
+        int secondOfDay = createdAt.toLocalTime().toSecondOfDay();
+        int bucketOfDay = secondOfDay - (secondOfDay % bucketSeconds);
+        return createdAt.toLocalDate().atStartOfDay().plusSeconds(bucketOfDay);
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("running", running);
+        result.put("bucketSeconds", bucketSeconds);
+        result.put("openBuckets", buckets.size());
+        result.put("recordedEvents", recordedEvents.sum());
+        result.put("flushedRows", flushedRows.sum());
+        return result;
+    }
+
+    private void flushSafely() {
+        try {
+            flush();
+        } catch (Exception e) {
+            log.error("[INGEST] pre-aggregate flush failed", e);
+        }
+    }
+
+    // =====================================================
+    // SmartLifecycle
+    // =====================================================
+
+    @Override
+    public void start() {
+        running = true;
+        flusher = Executors.newSingleThreadScheduledExecutor(r -> new Thread(r, "activity-pre-aggregate-flusher"));
+        flusher.scheduleWithFixedDelay(this::flushSafely,
+                flushIntervalMillis, flushIntervalMillis, TimeUnit.MILLISECONDS);
+        log.info("[INGEST] pre-aggregation started. bucketSeconds={}, flushIntervalMs={}",
+                bucketSeconds, flushIntervalMillis);
+    }
+
+    @Override
+    public void stop() {
+        // write lock 안에서 running=false → 이후 add()는 모두 fallback 경로로 빠짐
+        swapLock.writeLock().lock();
+        try {
+            running = false;
+        } finally {
+            swapLock.writeLock().unlock();
+        }
+
+        if (flusher != null) {
+            flusher.shutdown();
+            try {
+                flusher.awaitTermination(flushIntervalMillis, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        // 남은 버킷 최종 flush (실패하면 재시도할 flusher가 없으므로 유실 건수를 남김)
+        try {
+            flush();
+        } catch (Exception e) {
+            long lostEvents = buckets.values().stream().mapToLong(Counters::total).sum();
+            log.error("[INGEST] pre-aggregate final flush failed. lost rows={}, events={}",
+                    buckets.size(), lostEvents, e);
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public boolean isAutoStartup() {
+        return enabled;
+    }
+
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    // =====================================================
+    // 내부 구조
+    // =====================================================
+
+    @EqualsAndHashCode
+    @RequiredArgsConstructor
+    private static final class BucketKey {
+        private final long userId;
+        private final LocalDateTime bucketStart;
+    }
+
+    private static final class Counters {
+        private final LongAdder login = new LongAdder();
+        private final LongAdder view = new LongAdder();
+        private final LongAdder order = new LongAdder();
+
+        void add(ActivityType type) {
+            if (type.getLoginCount() > 0) login.add(type.getLoginCount());
+            if (type.getViewCount() > 0) view.add(type.getViewCount());
+            if (type.getOrderCount() > 0) order.add(type.getOrderCount());
+        }
+
+        long total() {
+            return login.sum() + view.sum() + order.sum();
+        }
+
+        void merge(Counters other) {
+            login.add(other.login.sum());
+            view.add(other.view.sum());
+            order.add(other.order.sum());
+        }
+
+        UserActivity toEntity(BucketKey key) {
+            return UserActivity.builder()
+                    .userId(key.userId)
+                    .loginCount(login.sum())
+                    .viewCount(view.sum())
+                    .orderCount(order.sum())
+                    .createdAt(key.bucketStart)
+                    .build();
+        }
+    }
+}
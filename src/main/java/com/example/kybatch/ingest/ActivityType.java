@@ -0,0 +1,21 @@
+package com.example.kybatch.ingest;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 수집 대상 유저 행동 유형
+ * - 이벤트 1건이 UserActivity의 어떤 카운트에 1을 더하는지 정의
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ActivityType {
+
+    LOGIN(1, 0, 0),
+    VIEW(0, 1, 0),
+    ORDER(0, 0, 1);
+
+    private final int loginCount;
+    private final int viewCount;
+    private final int orderCount;
+}
@@ -0,0 +1,27 @@
+package com.example.kybatch.ingest.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class ActivityBulkIngestResponse {
+
+    /** 형식이 맞아 적재 대상이 된 이벤트 수 (중단된 경우 커밋 전 버퍼 포함) */
+    private long accepted;
+
+    /** 커밋까지 끝난 이벤트 수 */
+    private long committed;
+
+    /** userId / type 누락, 형식이 틀린 값 등으로 건너뛴 이벤트 수 */
+    private long rejected;
+
+    /** 커밋된 INSERT 청크 수 */
+    private long chunks;
+
+    /** 마지막 커밋까지 읽은 본문 레코드 수 → 중단된 경우 이 순번부터 재전송 */
+    private long resumeFrom;
+
+    /** 본문 구조 오류로 중단된 경우 사유 (끝까지 읽었으면 null) */
+    private String error;
+}
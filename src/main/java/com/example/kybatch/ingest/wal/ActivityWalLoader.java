@@ -0,0 +1,201 @@
+package com.example.kybatch.ingest.wal;
+
+import com.example.kybatch.domain.activity.ActivityWalCheckpoint;
+import com.example.kybatch.domain.activity.ActivityWalCheckpointRepository;
+import com.example.kybatch.domain.activity.UserActivity;
+import com.example.kybatch.domain.activity.UserActivityJdbcRepository;
+import com.example.kybatch.ingest.ActivityEvent;
+import com.example.kybatch.ingest.ActivityIngestMode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.net.InetAddress;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * ActivityWalLoader
+ * ---------------------------------------------------------------
+ * - 로컬 WAL에 쌓인 이벤트를 batchSize 단위로 user_activity에 적재
+ * - INSERT와 체크포인트(committedSequence) 갱신을 같은 트랜잭션으로 처리 → exactly-once
+ * - 기동 시 체크포인트 이후 레코드부터 이어서 적재 → 재시작해도 유실 없음
+ *
+ * 실행 경로
+ * - 비동기 : WAL 모드일 때 loader-interval-ms 주기로 자동 실행
+ * - 배치   : activityWalReplayJob 에서 loadAvailable() 직접 호출
+ */
+@Slf4j
+@Component
+public class ActivityWalLoader implements SmartLifecycle {
+
+    private final ActivityWriteAheadLog wal;
+    private final UserActivityJdbcRepository jdbcRepository;
+    private final ActivityWalCheckpointRepository checkpointRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private final boolean enabled;
+    private final int batchSize;
+    private final long intervalMillis;
+    private final String nodeId;
+
+    // 비동기 loader와 replay job이 동시에 같은 구간을 적재하지 않도록 보호
+    private final ReentrantLock loadLock = new ReentrantLock();
+
+    private ScheduledExecutorService scheduler;
+    private volatile boolean running;
+
+    public ActivityWalLoader(
+            ActivityWriteAheadLog wal,
+            UserActivityJdbcRepository jdbcRepository,
+            ActivityWalCheckpointRepository checkpointRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${activity.ingest.mode:DIRECT}") ActivityIngestMode mode,
+            @Value("${activity.ingest.wal.loader.batch-size:5000}") int batchSize,
+            @Value("${activity.ingest.wal.loader.interval-ms:1000}") long intervalMillis,
+            @Value("${activity.ingest.wal.node-id:}") String nodeId
+    ) {
+        this.wal = wal;
+        this.jdbcRepository = jdbcRepository;
+        this.checkpointRepository = checkpointRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        // replay job 의 Step 트랜잭션 안에서 호출되어도 batch 마다 독립 커밋
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.enabled = mode == ActivityIngestMode.WAL;
+        this.batchSize = batchSize;
+        this.intervalMillis = intervalMillis;
+        this.nodeId = nodeId.isBlank() ? hostname() : nodeId;
+    }
+
+    /**
+     * 현재까지 기록된 WAL 레코드를 모두 적재
+     *
+     * @return 적재된 이벤트 수
+     */
+    public long loadAvailable() {
+        loadLock.lock();
+        try {
+            // WAL 모드가 아니어서 기록이 꺼져 있으면 디스크에서 로그 끝을 다시 읽음
+            wal.refreshForReplay();
+
+            long total = 0;
+            while (true) {
+                Integer loaded = transactionTemplate.execute(status -> loadBatch());
+                if (loaded == null || loaded == 0) {
+                    break;
+                }
+                total += loaded;
+            }
+
+            checkpointRepository.findById(nodeId)
+                    .ifPresent(cp -> wal.deleteSegmentsBefore(cp.getCommittedSequence()));
+
+            if (total > 0) {
+                log.info("[WAL] loaded {} events into user_activity. node={}", total, nodeId);
+            }
+            return total;
+        } finally {
+            loadLock.unlock();
+        }
+    }
+
+    /**
+     * 1 트랜잭션 = WAL 레코드 최대 batchSize 건 INSERT + 체크포인트 전진
+     */
+    private int loadBatch() {
+        ActivityWalCheckpoint checkpoint = checkpointRepository.findById(nodeId)
+                .orElseGet(() -> new ActivityWalCheckpoint(nodeId));
+
+        long committed = checkpoint.getCommittedSequence();
+
+        // WAL 디렉토리가 초기화된 경우 (체크포인트가 로그 끝보다 앞섬) → 처음부터 다시 추적
+        if (committed > wal.nextSequence()) {
+            log.warn("[WAL] checkpoint({}) ahead of log end({}). resetting checkpoint.",
+                    committed, wal.nextSequence());
+            committed = 0;
+        }
+
+        long from = Math.max(committed, wal.firstSequence());
+        List<ActivityEvent> events = wal.read(from, batchSize);
+        if (events.isEmpty()) {
+            return 0;
+        }
+
+        List<UserActivity> rows = events.stream().map(ActivityEvent::toEntity).toList();
+        jdbcRepository.batchInsert(rows);
+
+        checkpoint.advanceTo(from + events.size());
+        checkpointRepository.save(checkpoint);
+
+        return events.size();
+    }
+
+    private void loadSafely() {
+        try {
+            loadAvailable();
+        } catch (Exception e) {
+            // 체크포인트가 전진하지 않았으므로 다음 주기에 같은 구간부터 재시도
+            log.error("[WAL] load failed. node={}", nodeId, e);
+        }
+    }
+
+    private String hostname() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            return "unknown";
+        }
+    }
+
+    // =====================================================
+    // SmartLifecycle
+    // =====================================================
+
+    @Override
+    public void start() {
+        running = true;
+        scheduler = Executors.newSingleThreadScheduledExecutor(r -> new Thread(r, "activity-wal-loader"));
+        scheduler.scheduleWithFixedDelay(this::loadSafely, 0, intervalMillis, TimeUnit.MILLISECONDS);
+        log.info("[WAL] async loader started. node={}, batchSize={}", nodeId, batchSize);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (scheduler != null) {
+            scheduler.shutdown();
+            try {
+                scheduler.awaitTermination(intervalMillis * 10, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        // 종료 직전 남은 레코드 최대한 적재 (남더라도 다음 기동 시 이어서 적재)
+        loadSafely();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public boolean isAutoStartup() {
+        return enabled;
+    }
+
+    /**
+     * WAL보다 한 단계 높은 phase → WAL 이후 기동, WAL 닫히기 전에 종료
+     */
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4095;
+    }
+}
@@ -0,0 +1,404 @@
+package com.example.kybatch.ingest.wal;
+
+import com.example.kybatch.ingest.ActivityEvent;
+import com.example.kybatch.ingest.ActivityIngestMode;
+import com.example.kybatch.ingest.ActivityType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * ActivityWriteAheadLog (로컬 append-only 수집 로그)
+ * ---------------------------------------------------------------
+ * - DB가 느려져도 요청 스레드는 로컬 디스크(mmap)에만 기록하고 바로 반환
+ * - 세그먼트 파일(segment-000...N.wal)을 고정 크기로 미리 매핑해 순차 기록
+ * - DB 이관은 ActivityWalLoader(비동기) 또는 activityWalReplayJob(배치)이 담당
+ *
+ * 레코드 포맷 (고정 24 bytes, sequence 번호로 위치 계산)
+ *   [0..8)   userId      (long)
+ *   [8..16)  createdAt   (epoch millis, long)
+ *   [16..20) type        (int, ActivityType.ordinal + 1 / 0 = 미기록)
+ *   [20..24) checksum    (int)
+ *
+ * 복구
+ * - 기동 시 마지막 세그먼트를 스캔해 type=0 또는 checksum 불일치 지점을 다음 기록 위치로 사용
+ * - WAL 모드가 아닌 노드(기록 비활성)에서도 replay 전 refreshForReplay()로 로그 끝을 읽기 전용 복구
+ * - 이관 완료된 세그먼트는 삭제하되, 마지막 레코드가 있는 세그먼트는 항상 남겨 sequence 연속성 보장
+ */
+@Slf4j
+@Component
+public class ActivityWriteAheadLog implements SmartLifecycle {
+
+    static final int RECORD_BYTES = 24;
+
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".wal";
+
+    private final Path directory;
+    private final int recordsPerSegment;
+    private final boolean enabled;
+    private final boolean forceOnAppend;
+
+    private final Object appendLock = new Object();
+
+    private FileChannel activeChannel;
+    private MappedByteBuffer activeBuffer;
+    private long activeSegment = -1;
+
+    /** 다음 레코드가 기록될 sequence (= 지금까지 기록된 레코드의 끝) */
+    private volatile long nextSequence;
+
+    private volatile boolean running;
+
+    public ActivityWriteAheadLog(
+            @Value("${activity.ingest.mode:DIRECT}") ActivityIngestMode mode,
+            @Value("${activity.ingest.wal.dir:./data/activity-wal}") String directory,
+            @Value("${activity.ingest.wal.segment-bytes:67108864}") int segmentBytes,
+            @Value("${activity.ingest.wal.force-on-append:false}") boolean forceOnAppend
+    ) {
+        this.enabled = mode == ActivityIngestMode.WAL;
+        this.directory = Paths.get(directory);
+        this.recordsPerSegment = segmentBytes / RECORD_BYTES;
+        this.forceOnAppend = forceOnAppend;
+    }
+
+    // =====================================================
+    // 기록
+    // =====================================================
+
+    /**
+     * 이벤트를 로그 끝에 기록
+     *
+     * @return 기록되었으면 true, 비활성/IO 실패 시 false (호출 측 fallback)
+     */
+    public boolean append(ActivityEvent event) {
+        if (!running) {
+            return false;
+        }
+
+        synchronized (appendLock) {
+            if (!running) {
+                return false;
+            }
+            try {
+                long sequence = nextSequence;
+                long segment = sequence / recordsPerSegment;
+                if (segment != activeSegment) {
+                    openActiveSegment(segment);
+                }
+
+                int offset = (int) (sequence % recordsPerSegment) * RECORD_BYTES;
+                writeRecord(offset, event);
+
+                if (forceOnAppend) {
+                    activeBuffer.force();
+                }
+
+                // 레코드를 다 쓴 뒤에 sequence 공개 → reader는 완성된 레코드만 읽음
+                nextSequence = sequence + 1;
+                return true;
+
+            } catch (IOException e) {
+                log.error("[WAL] append failed. sequence={}", nextSequence, e);
+                return false;
+            }
+        }
+    }
+
+    private void writeRecord(int offset, ActivityEvent event) {
+        long userId = event.getUserId();
+        long millis = toEpochMillis(event.getCreatedAt());
+        int type = event.getType().ordinal() + 1;
+
+        activeBuffer.putLong(offset, userId);
+        activeBuffer.putLong(offset + 8, millis);
+        activeBuffer.putInt(offset + 20, checksum(userId, millis, type));
+        // type을 마지막에 기록 → 0이 아니면 레코드 기록 완료로 간주
+        activeBuffer.putInt(offset + 16, type);
+    }
+
+    // =====================================================
+    // 읽기 (Loader / Replay Job)
+    // =====================================================
+
+    /**
+     * fromSequence 부터 최대 maxRecords 건 읽기
+     * - 이미 기록이 끝난 레코드(nextSequence 미만)만 반환
+     */
+    public List<ActivityEvent> read(long fromSequence, int maxRecords) {
+        long end = Math.min(nextSequence, fromSequence + maxRecords);
+        List<ActivityEvent> events = new ArrayList<>((int) Math.max(0, end - fromSequence));
+
+        long mappedSegment = -1;
+        MappedByteBuffer buffer = null;
+
+        try {
+            for (long sequence = fromSequence; sequence < end; sequence++) {
+                long segment = sequence / recordsPerSegment;
+                if (segment != mappedSegment) {
+                    buffer = mapReadOnly(segment);
+                    mappedSegment = segment;
+                }
+
+                ActivityEvent event = readRecord(buffer, (int) (sequence % recordsPerSegment) * RECORD_BYTES);
+                if (event == null) {
+                    log.warn("[WAL] corrupted record. sequence={}", sequence);
+                    break;
+                }
+                events.add(event);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("[WAL] read failed. from=" + fromSequence, e);
+        }
+        return events;
+    }
+
+    private ActivityEvent readRecord(MappedByteBuffer buffer, int offset) {
+        long userId = buffer.getLong(offset);
+        long millis = buffer.getLong(offset + 8);
+        int type = buffer.getInt(offset + 16);
+        int checksum = buffer.getInt(offset + 20);
+
+        if (type <= 0 || type > ActivityType.values().length
+                || checksum != checksum(userId, millis, type)) {
+            return null;
+        }
+        return new ActivityEvent(userId, ActivityType.values()[type - 1], toLocalDateTime(millis));
+    }
+
+    public long nextSequence() {
+        return nextSequence;
+    }
+
+    /**
+     * 기록이 꺼져 있을 때 디스크 기준으로 로그 끝(nextSequence) 재계산
+     * - WAL 모드로 기록하다 DIRECT 모드로 전환된 노드에 남은 세그먼트를 replay 하기 위함
+     * - 기록 중(running)이면 메모리의 nextSequence 가 최신이므로 그대로 사용
+     * - 세그먼트는 읽기 전용으로만 열고 active segment 는 건드리지 않음
+     */
+    public void refreshForReplay() {
+        synchronized (appendLock) {
+            if (running) {
+                return;
+            }
+            try {
+                long lastSegment = lastSegmentNumber();
+                if (lastSegment < 0) {
+                    nextSequence = 0;
+                    return;
+                }
+                MappedByteBuffer buffer = mapReadOnly(lastSegment);
+                nextSequence = lastSegment * recordsPerSegment + countRecords(buffer);
+                log.info("[WAL] refreshed for replay. segment={}, nextSequence={}", lastSegment, nextSequence);
+            } catch (IOException e) {
+                throw new UncheckedIOException("[WAL] refresh failed. dir=" + directory, e);
+            }
+        }
+    }
+
+    /** 디스크에 남아 있는 가장 오래된 레코드의 sequence */
+    public long firstSequence() {
+        if (!Files.isDirectory(directory)) {
+            return nextSequence;
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(this::segmentNumber)
+                    .filter(n -> n >= 0)
+                    .min(Long::compare)
+                    .map(n -> n * recordsPerSegment)
+                    .orElse(nextSequence);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 이관 완료된 세그먼트 삭제
+     * - committedSequence 이전에 완전히 포함되는 세그먼트만
+     * - 현재 기록 중인(기록 비활성 시 마지막 레코드가 있는) 세그먼트는 삭제하지 않음
+     */
+    public void deleteSegmentsBefore(long committedSequence) {
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+        long keepSegment = activeSegment >= 0
+                ? activeSegment
+                : Math.max(0, nextSequence - 1) / recordsPerSegment;
+        long lastDeletable = Math.min(committedSequence / recordsPerSegment, keepSegment);
+
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : files.toList()) {
+                long segment = segmentNumber(file);
+                if (segment >= 0 && segment < lastDeletable) {
+                    Files.deleteIfExists(file);
+                    log.info("[WAL] segment deleted. {}", file.getFileName());
+                }
+            }
+        } catch (IOException e) {
+            log.warn("[WAL] segment cleanup failed - {}", e.getMessage());
+        }
+    }
+
+    // =====================================================
+    // 세그먼트 관리
+    // =====================================================
+
+    private void openActiveSegment(long segment) throws IOException {
+        closeActiveSegment();
+
+        activeChannel = FileChannel.open(segmentPath(segment),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        activeBuffer = activeChannel.map(FileChannel.MapMode.READ_WRITE, 0,
+                (long) recordsPerSegment * RECORD_BYTES);
+        activeSegment = segment;
+    }
+
+    private void closeActiveSegment() throws IOException {
+        if (activeBuffer != null) {
+            activeBuffer.force();
+            activeBuffer = null;
+        }
+        if (activeChannel != null) {
+            activeChannel.close();
+            activeChannel = null;
+        }
+    }
+
+    private MappedByteBuffer mapReadOnly(long segment) throws IOException {
+        try (FileChannel channel = FileChannel.open(segmentPath(segment), StandardOpenOption.READ)) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+    }
+
+    /**
+     * 마지막 세그먼트를 스캔해 다음 기록 위치 복구
+     */
+    private void recover() throws IOException {
+        Files.createDirectories(directory);
+
+        long lastSegment = lastSegmentNumber();
+        if (lastSegment < 0) {
+            nextSequence = 0;
+            return;
+        }
+
+        openActiveSegment(lastSegment);
+        nextSequence = lastSegment * recordsPerSegment + countRecords(activeBuffer);
+
+        log.info("[WAL] recovered. segment={}, nextSequence={}", lastSegment, nextSequence);
+    }
+
+    /** 세그먼트 앞에서부터 완성된 레코드 수 (type=0 또는 checksum 불일치 지점까지) */
+    private int countRecords(MappedByteBuffer buffer) {
+        int capacity = (int) Math.min(recordsPerSegment, buffer.capacity() / RECORD_BYTES);
+        int count = 0;
+        while (count < capacity && readRecord(buffer, count * RECORD_BYTES) != null) {
+            count++;
+        }
+        return count;
+    }
+
+    private long lastSegmentNumber() throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return -1;
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(this::segmentNumber)
+                    .filter(n -> n >= 0)
+                    .max(Long::compare)
+                    .orElse(-1L);
+        }
+    }
+
+    private Path segmentPath(long segment) {
+        return directory.resolve(SEGMENT_PREFIX + String.format("%020d", segment) + SEGMENT_SUFFIX);
+    }
+
+    private long segmentNumber(Path file) {
+        String name = file.getFileName().toString();
+        if (!name.startsWith(SEGMENT_PREFIX) || !name.endsWith(SEGMENT_SUFFIX)) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    // =====================================================
+    // 유틸
+    // =====================================================
+
+    private static int checksum(long userId, long millis, int type) {
+        long h = userId * 0x9E3779B97F4A7C15L ^ millis * 0xC2B2AE3D27D4EB4FL ^ type;
+        return (int) (h ^ (h >>> 32)) | 1;
+    }
+
+    private static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private static LocalDateTime toLocalDateTime(long millis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(millis), ZoneId.systemDefault());
+    }
+
+    // =====================================================
+    // SmartLifecycle
+    // =====================================================
+
+    @Override
+    public void start() {
+        synchronized (appendLock) {
+            try {
+                recover();
+                running = true;
+            } catch (IOException e) {
+                throw new UncheckedIOException("[WAL] open failed. dir=" + directory, e);
+            }
+        }
+    }
+
+    @Override
+    public void stop() {
+        synchronized (appendLock) {
+            running = false;
+            try {
+                closeActiveSegment();
+            } catch (IOException e) {
+                log.warn("[WAL] close failed - {}", e.getMessage());
+            }
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public boolean isAutoStartup() {
+        return enabled;
+    }
+
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+}
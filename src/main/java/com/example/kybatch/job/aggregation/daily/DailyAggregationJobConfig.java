@@ -1,9 +1,14 @@
 package com.example.kybatch.job.aggregation.daily;
 
+import com.example.kybatch.domain.stats.DailyAggregationWatermarkRepository;
 import com.example.kybatch.domain.stats.DailyStatus;
+import com.example.kybatch.domain.stats.DailyStatusRepository;
+import com.example.kybatch.domain.stats.LeaderboardPeriod;
 import com.example.kybatch.dto.DailyAggregationDTO;
 import com.example.kybatch.job.listener.JobExecutionLoggingListener;
+import com.example.kybatch.job.listener.StatsCacheInvalidationListener;
 import com.example.kybatch.job.listener.StepExecutionLoggingListener;
+import com.example.kybatch.job.stats.daily.RollingWindowUpdater;
 import jakarta.persistence.EntityManagerFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.batch.core.Job;
@@ -14,9 +19,8 @@ import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.builder.StepBuilder;
 import org.springframework.batch.item.ItemProcessor;
 import org.springframework.batch.item.database.JpaItemWriter;
-import org.springframework.batch.item.database.JpaPagingItemReader;
 import org.springframework.batch.item.database.builder.JpaItemWriterBuilder;
-import org.springframework.batch.item.database.builder.JpaPagingItemReaderBuilder;
+import org.springframework.batch.repeat.RepeatStatus;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -24,8 +28,6 @@ import org.springframework.context.annotation.Profile;
 import org.springframework.transaction.PlatformTransactionManager;
 
 import java.time.LocalDate;
-import java.util.HashMap;
-import java.util.Map;
 
 @Profile("aggregation")
 @Configuration
@@ -36,54 +38,73 @@ public class DailyAggregationJobConfig {
     private final JobRepository jobRepository;
     private final PlatformTransactionManager tm;
 
+    private final DailyStatusRepository dailyStatusRepository;
+    private final DailyAggregationWatermarkRepository watermarkRepository;
+    private final RollingWindowUpdater rollingWindowUpdater;
+
     private final JobExecutionLoggingListener jobExecutionLoggingListener;
     private final StepExecutionLoggingListener stepExecutionLoggingListener;
+    private final StatsCacheInvalidationListener statsCacheInvalidationListener;
+
+    /* =========================================================
+     * Cleanup
+     * - (user_id, date) 유니크 키 → 재실행 전에 대상 일자 기존 결과 삭제
+     * - 다시 만드는 날짜이므로 증분 watermark 제거 + rolling_status stale 표시
+     * ========================================================= */
+    @Bean
+    public Step dailyAggregationCleanupStep() {
+        return new StepBuilder("dailyAggregationCleanupStep", jobRepository)
+                .tasklet((contribution, chunkContext) -> {
+                    Object targetDate = chunkContext.getStepContext().getJobParameters().get("targetDate");
+                    LocalDate target = resolveTargetDate((String) targetDate);
+
+                    // 종료 시 캐시에서 비울 기간 (StatsCacheInvalidationListener)
+                    StatsCacheInvalidationListener.markRewritten(
+                            chunkContext.getStepContext().getStepExecution().getJobExecution().getExecutionContext(),
+                            LeaderboardPeriod.DAILY, LeaderboardPeriod.dailyKey(target));
+
+                    dailyStatusRepository.deleteByDate(target);
+                    watermarkRepository.deleteBetween(target, target.plusDays(1));
+                    rollingWindowUpdater.invalidate(target);
+                    return RepeatStatus.FINISHED;
+                }, tm)
+                .listener(stepExecutionLoggingListener)
+                .build();
+    }
 
     /* =========================================================
      * Reader
+     * - GROUP BY 결과를 OFFSET 페이징하지 않고 userId keyset으로 스트리밍
      * ========================================================= */
     @Bean
     @StepScope
-    public JpaPagingItemReader<DailyAggregationDTO> dailyAggregationReader(
+    public DailyAggregationKeysetReader dailyAggregationReader(
             @Value("#{jobParameters['targetDate']}") String targetDate
     ) {
 
         // jobParameter → LocalDate (없으면 어제 기준)
-        LocalDate target = (targetDate != null)
-                ? LocalDate.parse(targetDate)
-                : LocalDate.now().minusDays(1);
-
-        Map<String, Object> params = new HashMap<>();
-        params.put("start", target.atStartOfDay());
-        params.put("end", target.plusDays(1).atStartOfDay());
+        LocalDate target = resolveTargetDate(targetDate);
 
-        return new JpaPagingItemReaderBuilder<DailyAggregationDTO>()
-                .name("dailyAggregationReader")
-                .entityManagerFactory(emf)
-                .pageSize(1000)
-                .queryString(
-                        "SELECT new com.example.kybatch.dto.DailyAggregationDTO(" +
-                                "ua.userId, " +
-                                "SUM(ua.loginCount), " +
-                                "SUM(ua.viewCount), " +
-                                "SUM(ua.orderCount)) " +
-                                "FROM UserActivity ua " +
-                                "WHERE ua.createdAt >= :start " +
-                                "AND ua.createdAt < :end " +
-                                "GROUP BY ua.userId"
-                )
-                .parameterValues(params)
-                .build();
+        return new DailyAggregationKeysetReader(
+                "dailyAggregationReader",
+                emf,
+                target.atStartOfDay(),
+                target.plusDays(1).atStartOfDay(),
+                1000
+        );
     }
 
     /* =========================================================
      * Processor
      * ========================================================= */
     @Bean
-    public ItemProcessor<DailyAggregationDTO, DailyStatus> dailyAggregationProcessor() {
+    @StepScope
+    public ItemProcessor<DailyAggregationDTO, DailyStatus> dailyAggregationProcessor(
+            @Value("#{jobParameters['targetDate']}") String targetDateParam
+    ) {
 
-        // ✅ date는 여기서만 관리
-        LocalDate targetDate = LocalDate.now().minusDays(1);
+        // ✅ Reader / Cleanup 과 같은 날짜 (jobParameter, 없으면 어제)
+        LocalDate targetDate = resolveTargetDate(targetDateParam);
 
         return dto -> DailyStatus.builder()
                 .userId(dto.getUserId())
@@ -109,7 +130,7 @@ public class DailyAggregationJobConfig {
      * ========================================================= */
     @Bean
     public Step dailyAggregationStep(
-            JpaPagingItemReader<DailyAggregationDTO> dailyAggregationReader,
+            DailyAggregationKeysetReader dailyAggregationReader,
             ItemProcessor<DailyAggregationDTO, DailyStatus> dailyAggregationProcessor,
             JpaItemWriter<DailyStatus> dailyAggregationWriter
     ) {
@@ -126,10 +147,18 @@ public class DailyAggregationJobConfig {
      * Job
      * ========================================================= */
     @Bean
-    public Job dailyAggregationJob(Step dailyAggregationStep) {
+    public Job dailyAggregationJob(Step dailyAggregationCleanupStep, Step dailyAggregationStep) {
         return new JobBuilder("dailyAggregationJob", jobRepository)
                 .listener(jobExecutionLoggingListener)
-                .start(dailyAggregationStep)
+                .listener(statsCacheInvalidationListener)
+                .start(dailyAggregationCleanupStep)
+                .next(dailyAggregationStep)
                 .build();
     }
+
+    private static LocalDate resolveTargetDate(String targetDate) {
+        return (targetDate != null)
+                ? LocalDate.parse(targetDate)
+                : LocalDate.now().minusDays(1);
+    }
 }
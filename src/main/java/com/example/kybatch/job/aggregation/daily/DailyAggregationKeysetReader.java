@@ -0,0 +1,148 @@
+package com.example.kybatch.job.aggregation.daily;
+
+import com.example.kybatch.dto.DailyAggregationDTO;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamException;
+import org.springframework.batch.item.ItemStreamReader;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * DailyAggregationKeysetReader
+ * ------------------------------------------------------------
+ * JpaPagingItemReader + GROUP BY 조합의 문제
+ *   - 페이지마다 하루치 전체 집계를 다시 수행하고 OFFSET 만큼 버림
+ *   - 활성 유저 수가 N이면 전체 비용이 O(N² / pageSize)
+ *
+ * Keyset 방식
+ *   - "userId > 마지막으로 읽은 userId" 조건 + ORDER BY userId + LIMIT pageSize
+ *   - (user_seq, created_at) 인덱스를 타고 다음 페이지 구간만 집계 → 전체 비용 O(N)
+ *
+ * 재시작
+ *   - 청크 커밋 시점마다 마지막 userId를 ExecutionContext에 저장
+ *   - 재시작 시 그 다음 userId부터 이어서 읽음
+ *
+ * userId 범위(minUserId ~ maxUserId)를 지정하면 해당 구간만 읽음 (파티셔닝용)
+ */
+public class DailyAggregationKeysetReader implements ItemStreamReader<DailyAggregationDTO> {
+
+    private static final String QUERY = """
+            SELECT new com.example.kybatch.dto.DailyAggregationDTO(
+                ua.userId,
+                SUM(ua.loginCount),
+                SUM(ua.viewCount),
+                SUM(ua.orderCount)
+            )
+            FROM UserActivity ua
+            WHERE ua.createdAt >= :start
+              AND ua.createdAt < :end
+              AND ua.userId > :afterUserId
+              AND ua.userId <= :maxUserId
+            GROUP BY ua.userId
+            ORDER BY ua.userId
+            """;
+
+    private final String name;
+    private final EntityManagerFactory emf;
+    private final LocalDateTime start;
+    private final LocalDateTime end;
+    private final int pageSize;
+    private final long maxUserId;
+
+    /** 마지막으로 반환한 userId (다음 페이지의 keyset) */
+    private long lastUserId;
+
+    private Iterator<DailyAggregationDTO> page = Collections.emptyIterator();
+    private boolean lastPage;
+
+    public DailyAggregationKeysetReader(String name,
+                                        EntityManagerFactory emf,
+                                        LocalDateTime start,
+                                        LocalDateTime end,
+                                        int pageSize) {
+        this(name, emf, start, end, pageSize, null, null);
+    }
+
+    public DailyAggregationKeysetReader(String name,
+                                        EntityManagerFactory emf,
+                                        LocalDateTime start,
+                                        LocalDateTime end,
+                                        int pageSize,
+                                        Long minUserId,
+                                        Long maxUserId) {
+        this.name = name;
+        this.emf = emf;
+        this.start = start;
+        this.end = end;
+        this.pageSize = pageSize;
+        this.lastUserId = minUserId == null ? Long.MIN_VALUE : minUserId - 1;
+        this.maxUserId = maxUserId == null ? Long.MAX_VALUE : maxUserId;
+    }
+
+    @Override
+    public DailyAggregationDTO read() {
+        if (!page.hasNext()) {
+            if (lastPage) {
+                return null;
+            }
+            fetchNextPage();
+            if (!page.hasNext()) {
+                return null;
+            }
+        }
+
+        DailyAggregationDTO item = page.next();
+        lastUserId = item.getUserId();
+        return item;
+    }
+
+    private void fetchNextPage() {
+        EntityManager em = emf.createEntityManager();
+        try {
+            List<DailyAggregationDTO> rows = em.createQuery(QUERY, DailyAggregationDTO.class)
+                    .setParameter("start", start)
+                    .setParameter("end", end)
+                    .setParameter("afterUserId", lastUserId)
+                    .setParameter("maxUserId", maxUserId)
+                    .setMaxResults(pageSize)
+                    .getResultList();
+
+            page = rows.iterator();
+            lastPage = rows.size() < pageSize;
+        } finally {
+            em.close();
+        }
+    }
+
+    // =====================================================
+    // ItemStream (재시작 지원)
+    // =====================================================
+
+    @Override
+    public void open(ExecutionContext executionContext) throws ItemStreamException {
+        if (executionContext.containsKey(lastUserIdKey())) {
+            lastUserId = executionContext.getLong(lastUserIdKey());
+        }
+        page = Collections.emptyIterator();
+        lastPage = false;
+    }
+
+    @Override
+    public void update(ExecutionContext executionContext) throws ItemStreamException {
+        executionContext.putLong(lastUserIdKey(), lastUserId);
+    }
+
+    @Override
+    public void close() throws ItemStreamException {
+        page = Collections.emptyIterator();
+    }
+
+    private String lastUserIdKey() {
+        return name + ".lastUserId";
+    }
+}
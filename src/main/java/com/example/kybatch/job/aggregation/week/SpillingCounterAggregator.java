@@ -0,0 +1,342 @@
+package com.example.kybatch.job.aggregation.week;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * SpillingCounterAggregator
+ * ------------------------------------------------------------
+ * userId 별 (login, view, order) 누적 + 메모리 예산 초과 시 디스크로 spill
+ *
+ * 1) 누적 : WeeklyCounterMap 에 쌓다가 예산(maxEntries)에 도달하면
+ *           userId 정렬 순서로 run 파일 1개를 쓰고 메모리 비우기
+ * 2) 병합 : run 파일들 + 메모리 잔여분을 k-way merge,
+ *           같은 userId 는 합산해서 userId 오름차순으로 한 번씩 전달
+ *           (openMerged 커서로 한 건씩 당겨 읽음 → chunk Reader 에서 그대로 사용)
+ *
+ * run 파일 포맷 : [userId, login, view, order] long 4개 반복
+ * close() 시 run 파일 삭제
+ */
+@Slf4j
+public class SpillingCounterAggregator implements AutoCloseable {
+
+    /** open addressing(long 4개, load factor 0.6) 기준 엔트리당 대략적인 heap 사용량 */
+    static final int BYTES_PER_ENTRY = 64;
+
+    private static final int IO_BUFFER_SIZE = 1 << 16;
+
+    private final Path spillDirectory;
+    private final int maxEntries;
+    private final WeeklyCounterMap counters;
+    private final List<Path> runs = new ArrayList<>();
+
+    private MergedCursor openCursor;
+
+    public SpillingCounterAggregator(Path spillDirectory, long memoryBudgetBytes) {
+        this.spillDirectory = spillDirectory;
+        this.maxEntries = (int) Math.max(1, Math.min(Integer.MAX_VALUE / 2, memoryBudgetBytes / BYTES_PER_ENTRY));
+        this.counters = new WeeklyCounterMap(Math.min(maxEntries, 1 << 16));
+    }
+
+    public void add(long userId, long login, long view, long order) {
+        counters.add(userId, login, view, order);
+        if (counters.size() >= maxEntries) {
+            spill();
+        }
+    }
+
+    public int spillCount() {
+        return runs.size();
+    }
+
+    /**
+     * 전체 결과를 userId 오름차순으로 읽는 커서 (같은 userId 는 합산된 1건)
+     * - 커서를 연 뒤에는 add 하지 않음
+     * - 커서는 close() 시 함께 닫힘
+     */
+    public MergedCursor openMerged() {
+        if (runs.isEmpty()) {
+            openCursor = new InMemoryCursor(counters);
+            return openCursor;
+        }
+
+        // 메모리 잔여분도 run 으로 내려서 동일한 경로로 병합
+        if (counters.size() > 0) {
+            spill();
+        }
+
+        RunMergeCursor cursor = new RunMergeCursor();
+        openCursor = cursor;
+        try {
+            for (Path run : runs) {
+                cursor.addRun(run);
+            }
+        } catch (IOException e) {
+            cursor.close();
+            throw new UncheckedIOException("[Spill] merge failed. dir=" + spillDirectory, e);
+        }
+        return cursor;
+    }
+
+    /**
+     * 전체 결과를 userId 오름차순으로 한 번에 전달
+     */
+    public void merge(WeeklyCounterMap.CounterConsumer consumer) {
+        try (MergedCursor cursor = openMerged()) {
+            while (cursor.next()) {
+                consumer.accept(cursor.userId(), cursor.login(), cursor.view(), cursor.order());
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        if (openCursor != null) {
+            openCursor.close();
+            openCursor = null;
+        }
+        for (Path run : runs) {
+            try {
+                Files.deleteIfExists(run);
+            } catch (IOException e) {
+                log.warn("[Spill] failed to delete run file {}", run, e);
+            }
+        }
+        runs.clear();
+        counters.clear();
+    }
+
+    /**
+     * userId 오름차순 병합 결과 커서
+     */
+    public interface MergedCursor extends AutoCloseable {
+
+        /** 다음 userId 로 이동, 더 없으면 false */
+        boolean next();
+
+        long userId();
+
+        long login();
+
+        long view();
+
+        long order();
+
+        @Override
+        void close();
+    }
+
+    // =====================================================
+    // internal
+    // =====================================================
+
+    private void spill() {
+        try {
+            Files.createDirectories(spillDirectory);
+            Path run = Files.createTempFile(spillDirectory, "weekly-agg-", ".run");
+
+            try (DataOutputStream out = new DataOutputStream(
+                    new BufferedOutputStream(Files.newOutputStream(run), IO_BUFFER_SIZE))) {
+                counters.forEachSorted((userId, login, view, order) -> {
+                    try {
+                        out.writeLong(userId);
+                        out.writeLong(login);
+                        out.writeLong(view);
+                        out.writeLong(order);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            }
+
+            runs.add(run);
+            log.info("[Spill] run #{} written. entries={}, file={}", runs.size(), counters.size(), run);
+            counters.clear();
+
+        } catch (IOException e) {
+            throw new UncheckedIOException("[Spill] write failed. dir=" + spillDirectory, e);
+        }
+    }
+
+    /** spill 없이 끝난 경우 : 메모리 카운터를 userId 정렬 배열로 복사해서 순회 */
+    private static final class InMemoryCursor implements MergedCursor {
+
+        private final long[] userIds;
+        private final long[] logins;
+        private final long[] views;
+        private final long[] orders;
+        private int index = -1;
+
+        InMemoryCursor(WeeklyCounterMap counters) {
+            int size = counters.size();
+            userIds = new long[size];
+            logins = new long[size];
+            views = new long[size];
+            orders = new long[size];
+
+            int[] n = {0};
+            counters.forEachSorted((userId, login, view, order) -> {
+                int i = n[0]++;
+                userIds[i] = userId;
+                logins[i] = login;
+                views[i] = view;
+                orders[i] = order;
+            });
+        }
+
+        @Override
+        public boolean next() {
+            return ++index < userIds.length;
+        }
+
+        @Override
+        public long userId() {
+            return userIds[index];
+        }
+
+        @Override
+        public long login() {
+            return logins[index];
+        }
+
+        @Override
+        public long view() {
+            return views[index];
+        }
+
+        @Override
+        public long order() {
+            return orders[index];
+        }
+
+        @Override
+        public void close() {
+            index = userIds.length;
+        }
+    }
+
+    /** run 파일 k-way merge */
+    private final class RunMergeCursor implements MergedCursor {
+
+        private final PriorityQueue<RunCursor> queue = new PriorityQueue<>(Comparator.comparingLong(c -> c.userId));
+
+        private long userId;
+        private long login;
+        private long view;
+        private long order;
+
+        void addRun(Path run) throws IOException {
+            RunCursor cursor = new RunCursor(run);
+            requeue(cursor);
+        }
+
+        @Override
+        public boolean next() {
+            if (queue.isEmpty()) {
+                return false;
+            }
+            try {
+                RunCursor head = queue.poll();
+                userId = head.userId;
+                login = head.login;
+                view = head.view;
+                order = head.order;
+                requeue(head);
+
+                while (!queue.isEmpty() && queue.peek().userId == userId) {
+                    RunCursor same = queue.poll();
+                    login += same.login;
+                    view += same.view;
+                    order += same.order;
+                    requeue(same);
+                }
+                return true;
+
+            } catch (IOException e) {
+                throw new UncheckedIOException("[Spill] merge failed. dir=" + spillDirectory, e);
+            }
+        }
+
+        @Override
+        public long userId() {
+            return userId;
+        }
+
+        @Override
+        public long login() {
+            return login;
+        }
+
+        @Override
+        public long view() {
+            return view;
+        }
+
+        @Override
+        public long order() {
+            return order;
+        }
+
+        @Override
+        public void close() {
+            queue.forEach(RunCursor::close);
+            queue.clear();
+        }
+
+        private void requeue(RunCursor cursor) throws IOException {
+            if (cursor.advance()) {
+                queue.add(cursor);
+            } else {
+                cursor.close();
+            }
+        }
+    }
+
+    /** 정렬된 run 파일 하나를 앞에서부터 읽는 커서 */
+    private static class RunCursor {
+
+        private final DataInputStream in;
+
+        long userId;
+        long login;
+        long view;
+        long order;
+
+        RunCursor(Path run) throws IOException {
+            this.in = new DataInputStream(new BufferedInputStream(Files.newInputStream(run), IO_BUFFER_SIZE));
+        }
+
+        boolean advance() throws IOException {
+            try {
+                userId = in.readLong();
+            } catch (EOFException e) {
+                return false;
+            }
+            login = in.readLong();
+            view = in.readLong();
+            order = in.readLong();
+            return true;
+        }
+
+        void close() {
+            try {
+                in.close();
+            } catch (IOException ignored) {
+                // 읽기 전용 스트림
+            }
+        }
+    }
+}
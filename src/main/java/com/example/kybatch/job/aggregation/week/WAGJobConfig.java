@@ -1,20 +1,16 @@
 package com.example.kybatch.job.aggregation.week;
 
-import com.example.kybatch.domain.stats.DailyStatus;
+import com.example.kybatch.domain.stats.LeaderboardPeriod;
 import com.example.kybatch.domain.stats.WeeklyStatus;
 import com.example.kybatch.domain.stats.WeeklyStatusRepository;
 import com.example.kybatch.job.listener.JobExecutionLoggingListener;
+import com.example.kybatch.job.listener.StatsCacheInvalidationListener;
 import com.example.kybatch.job.listener.StepExecutionLoggingListener;
-import jakarta.persistence.EntityManagerFactory;
-import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.batch.core.ExitStatus;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.JobParameters;
 import org.springframework.batch.core.Step;
-import org.springframework.batch.core.StepExecution;
-import org.springframework.batch.core.StepExecutionListener;
 import org.springframework.batch.core.configuration.annotation.StepScope;
 import org.springframework.batch.core.job.builder.JobBuilder;
 import org.springframework.batch.core.repository.JobRepository;
@@ -22,53 +18,90 @@ import org.springframework.batch.core.step.builder.StepBuilder;
 import org.springframework.batch.item.Chunk;
 import org.springframework.batch.item.ItemProcessor;
 import org.springframework.batch.item.ItemWriter;
-import org.springframework.batch.item.database.JpaPagingItemReader;
-import org.springframework.batch.item.database.builder.JpaPagingItemReaderBuilder;
+import org.springframework.batch.repeat.RepeatStatus;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.transaction.PlatformTransactionManager;
 
+import javax.sql.DataSource;
+import java.nio.file.Path;
 import java.time.LocalDate;
 import java.time.temporal.WeekFields;
-import java.util.*;
 
+/**
+ * 🧩 Weekly Aggregation Job
+ * - 해당 주 daily_status 를 한 번 스캔해서 userId 별로 합산 (primitive 카운터 맵)
+ *   → 메모리 예산(aggregation.spill.memory-budget-mb)을 넘으면 정렬 run 파일로 spill
+ *   → userId 순 병합 결과를 WeeklyStatus 로 변환 → chunk 단위 저장
+ * - 재시작 시 cleanup step은 건너뛰고 집계 step은 마지막 commit 된 userId 이후부터 이어서 진행
+ */
 @Configuration
 @RequiredArgsConstructor
 @Slf4j
 public class WAGJobConfig {
 
+    private static final int CHUNK_SIZE = 1000;
+
     private final JobRepository jobRepository;
     private final PlatformTransactionManager tm;
-    private final EntityManagerFactory emf;
+    private final DataSource dataSource;
     private final WeeklyStatusRepository weeklyRepo;
 
     private final JobExecutionLoggingListener jobExecutionLoggingListener;
+    private final StatsCacheInvalidationListener statsCacheInvalidationListener;
     private final StepExecutionLoggingListener stepExecutionLoggingListener;
 
     // ============================================================
     // 1) Job
     // ============================================================
     @Bean
-    public Job weeklyAggregationJob(Step weeklyAggregationStep) {
+    public Job weeklyAggregationJob(Step weeklyAggregationCleanupStep, Step weeklyAggregationStep) {
         return new JobBuilder("weeklyAggregationJob", jobRepository)
                 .listener(jobExecutionLoggingListener)
-                .start(weeklyAggregationStep)
+                .listener(statsCacheInvalidationListener)
+                .start(weeklyAggregationCleanupStep)
+                .next(weeklyAggregationStep)
                 .build();
     }
 
     // ============================================================
     // 2) Step
     // ============================================================
+
+    /**
+     * 기존 주간 통계 삭제 (idempotent 보장)
+     * - 별도 step 으로 분리 → 재시작 시 이미 저장된 chunk 를 다시 지우지 않음
+     */
+    @Bean
+    public Step weeklyAggregationCleanupStep() {
+        return new StepBuilder("weeklyAggregationCleanupStep", jobRepository)
+                .tasklet((contribution, chunkContext) -> {
+                    JobParameters params = chunkContext.getStepContext().getStepExecution().getJobParameters();
+                    int year = params.getLong("year").intValue();
+                    int week = params.getLong("week").intValue();
+
+                    // 종료 시 캐시에서 비울 기간 (StatsCacheInvalidationListener)
+                    StatsCacheInvalidationListener.markRewritten(
+                            chunkContext.getStepContext().getStepExecution().getJobExecution().getExecutionContext(),
+                            LeaderboardPeriod.WEEKLY, LeaderboardPeriod.weeklyKey(year, week));
+
+                    weeklyRepo.deleteByYearAndWeekOfYear(year, week);
+                    return RepeatStatus.FINISHED;
+                }, tm)
+                .listener(stepExecutionLoggingListener)
+                .build();
+    }
+
     @Bean
     public Step weeklyAggregationStep(
-            JpaPagingItemReader<DailyStatus> weeklyDailyReader,
-            WeeklyAggregationProcessor weeklyProcessor,
+            WeeklyCounterReader weeklyCounterReader,
+            WeeklyCounterProcessor weeklyProcessor,
             WeeklyAggregationWriter weeklyWriter
     ) {
         return new StepBuilder("weeklyAggregationStep", jobRepository)
-                .<DailyStatus, WeeklyStatus>chunk(1000, tm)
-                .reader(weeklyDailyReader)
+                .<WeeklyCounterReader.WeeklyCounter, WeeklyStatus>chunk(CHUNK_SIZE, tm)
+                .reader(weeklyCounterReader)
                 .processor(weeklyProcessor)
                 .writer(weeklyWriter)
                 .listener(stepExecutionLoggingListener)   // ⭐ 변경된 부분
@@ -76,143 +109,90 @@ public class WAGJobConfig {
     }
 
     // ============================================================
-    // 3) Reader (해당 연도/주차 데이터를 DailyStatus에서 조회)
+    // 3) Reader (해당 연도/주차 daily_status 스캔 → userId 별 합계를 userId 순으로)
     // ============================================================
     @Bean
     @StepScope
-    public JpaPagingItemReader<DailyStatus> weeklyDailyReader(
+    public WeeklyCounterReader weeklyCounterReader(
             @Value("#{jobParameters['year']}") Long yearParam,
-            @Value("#{jobParameters['week']}") Long weekParam
+            @Value("#{jobParameters['week']}") Long weekParam,
+            @Value("${aggregation.spill.dir:#{systemProperties['java.io.tmpdir']}}") String spillDir,
+            @Value("${aggregation.spill.memory-budget-mb:256}") long memoryBudgetMb
     ) {
-
-        int year = yearParam.intValue();
-        int week = weekParam.intValue();
-
-        // ----- ISO 기준 주차 → 해당 주의 월요일/일요일 구하기 -----
-        WeekFields wf = WeekFields.ISO;
-        LocalDate anchor = LocalDate.of(year, 1, 4);
-        LocalDate monday = anchor
-                .with(wf.weekOfYear(), week)
-                .with(wf.dayOfWeek(), 1);
-        LocalDate sunday = monday.plusDays(6);
-
-        Map<String, Object> params = Map.of(
-                "start", monday,
-                "end", sunday
-        );
-
-        return new JpaPagingItemReaderBuilder<DailyStatus>()
-                .name("weeklyDailyReader")
-                .entityManagerFactory(emf)
-                .queryString("SELECT d FROM DailyStatus d " +
-                        "WHERE d.date BETWEEN :start AND :end")
-                .parameterValues(params)
-                .pageSize(1000)
-                .build();
+        return new WeeklyCounterReader(
+                dataSource,
+                tm,
+                mondayOf(yearParam.intValue(), weekParam.intValue()),
+                Path.of(spillDir),
+                memoryBudgetMb * 1024 * 1024);
     }
 
     // ============================================================
-    // 4) Processor (DailyStatus → WeeklyStatus 누적 집계)
+    // 4) Processor (유저 1명의 주간 합계 → WeeklyStatus 1건)
     // ============================================================
     @Bean
     @StepScope
-    public WeeklyAggregationProcessor weeklyProcessor(
+    public WeeklyCounterProcessor weeklyProcessor(
             @Value("#{jobParameters['year']}") Long yearParam,
             @Value("#{jobParameters['week']}") Long weekParam
     ) {
-        return new WeeklyAggregationProcessor(yearParam.intValue(), weekParam.intValue());
+        return new WeeklyCounterProcessor(yearParam.intValue(), weekParam.intValue());
     }
 
-    @Getter
-    public static class WeeklyAggregationProcessor implements ItemProcessor<DailyStatus, WeeklyStatus> {
+    public static class WeeklyCounterProcessor
+            implements ItemProcessor<WeeklyCounterReader.WeeklyCounter, WeeklyStatus> {
 
         private final int year;
         private final int week;
-        private final Map<String, WeeklyStatus> map = new HashMap<>();
+        private final LocalDate monday;
 
-        public WeeklyAggregationProcessor(int year, int week) {
+        public WeeklyCounterProcessor(int year, int week) {
             this.year = year;
             this.week = week;
+            this.monday = mondayOf(year, week);
         }
 
         @Override
-        public WeeklyStatus process(DailyStatus item) {
-
-            Long userId = item.getUserId();
-            String key = userId + "_" + year + "_" + week;
-
-            WeeklyStatus weekly = map.get(key);
-
-            if (weekly == null) {
-                weekly = WeeklyStatus.builder()
-                        .userId(userId)
-                        .year(year)
-                        .weekOfYear(week)
-                        .loginCount(0)
-                        .viewCount(0)
-                        .orderCount(0)
-                        .startDate(null)
-                        .endDate(null)
-                        .build();
-                map.put(key, weekly);
-            }
-
-            // 누적
-            weekly.setLoginCount(weekly.getLoginCount() + item.getLoginCount());
-            weekly.setViewCount(weekly.getViewCount() + item.getViewCount());
-            weekly.setOrderCount(weekly.getOrderCount() + item.getOrderCount());
-
-            return null; // writer로 직접 전달하지 않음
+        public WeeklyStatus process(WeeklyCounterReader.WeeklyCounter counter) {
+            return WeeklyStatus.builder()
+                    .userId(counter.userId())
+                    .year(year)
+                    .weekOfYear(week)
+                    .loginCount(counter.loginCount())
+                    .viewCount(counter.viewCount())
+                    .orderCount(counter.orderCount())
+                    .startDate(monday)
+                    .endDate(monday.plusDays(6))
+                    .build();
         }
+    }
 
-        public Collection<WeeklyStatus> aggregated() {
-            return map.values();
-        }
+    /** ISO 기준 주차 → 해당 주의 월요일 */
+    static LocalDate mondayOf(int year, int week) {
+        return LocalDate.of(year, 1, 4)
+                .with(WeekFields.ISO.weekOfYear(), week)
+                .with(WeekFields.ISO.dayOfWeek(), 1);
     }
 
     // ============================================================
-    // 5) Writer (집계 결과 삭제 → 저장)
+    // 5) Writer (chunk 단위 저장)
     // ============================================================
     @Bean
-    @StepScope
-    public WeeklyAggregationWriter weeklyWriter(
-            WeeklyAggregationProcessor processor
-    ) {
-        return new WeeklyAggregationWriter(weeklyRepo, processor);
+    public WeeklyAggregationWriter weeklyWriter() {
+        return new WeeklyAggregationWriter(weeklyRepo);
     }
 
-    public static class WeeklyAggregationWriter implements ItemWriter<WeeklyStatus>, StepExecutionListener {
+    public static class WeeklyAggregationWriter implements ItemWriter<WeeklyStatus> {
 
         private final WeeklyStatusRepository repo;
-        private final WeeklyAggregationProcessor processor;
-
-        private int year;
-        private int week;
 
-        public WeeklyAggregationWriter(WeeklyStatusRepository repo,
-                                       WeeklyAggregationProcessor processor) {
+        public WeeklyAggregationWriter(WeeklyStatusRepository repo) {
             this.repo = repo;
-            this.processor = processor;
-        }
-
-        @Override
-        public void beforeStep(StepExecution stepExecution) {
-            JobParameters params = stepExecution.getJobParameters();
-            this.year = params.getLong("year").intValue();
-            this.week = params.getLong("week").intValue();
-
-            repo.deleteByYearAndWeekOfYear(year, week);
         }
 
         @Override
         public void write(Chunk<? extends WeeklyStatus> chunk) {
-            // Processor는 null만 반환하므로 chunk는 비어 있음 → 무시
-        }
-
-        @Override
-        public ExitStatus afterStep(StepExecution stepExecution) {
-            repo.saveAll(processor.aggregated());
-            return ExitStatus.COMPLETED;
+            repo.saveAll(chunk.getItems());
         }
     }
 }
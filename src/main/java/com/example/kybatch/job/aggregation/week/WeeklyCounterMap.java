@@ -0,0 +1,164 @@
+package com.example.kybatch.job.aggregation.week;
+
+import java.util.Arrays;
+
+/**
+ * WeeklyCounterMap
+ * ------------------------------------------------------------
+ * userId(long) → (login, view, order) 누적 카운터
+ *
+ * - open addressing (linear probing), 용량은 항상 2의 거듭제곱
+ * - key / 카운터를 병렬 primitive 배열에 보관 → 유저당 객체 할당 없음
+ * - 빈 슬롯 표시로 Long.MIN_VALUE 사용 (userId로 쓰이지 않는 값)
+ *
+ * 단일 스레드 전용 (주간 집계 Step 의 Reader 안에서만 사용)
+ */
+public class WeeklyCounterMap {
+
+    private static final long EMPTY = Long.MIN_VALUE;
+    private static final float LOAD_FACTOR = 0.6f;
+
+    private long[] keys;
+    private long[] loginCounts;
+    private long[] viewCounts;
+    private long[] orderCounts;
+
+    private int mask;
+    private int size;
+    private int resizeAt;
+
+    public WeeklyCounterMap() {
+        this(1024);
+    }
+
+    public WeeklyCounterMap(int expectedSize) {
+        allocate(capacityFor(expectedSize));
+    }
+
+    /**
+     * userId 카운터에 더하기 (없으면 0에서 시작)
+     */
+    public void add(long userId, long login, long view, long order) {
+        if (userId == EMPTY) {
+            throw new IllegalArgumentException("지원하지 않는 userId: " + userId);
+        }
+
+        int slot = slotOf(userId);
+        if (keys[slot] == EMPTY) {
+            keys[slot] = userId;
+            if (++size > resizeAt) {
+                resize();
+                slot = slotOf(userId);
+            }
+        }
+
+        loginCounts[slot] += login;
+        viewCounts[slot] += view;
+        orderCounts[slot] += order;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void clear() {
+        Arrays.fill(keys, EMPTY);
+        Arrays.fill(loginCounts, 0);
+        Arrays.fill(viewCounts, 0);
+        Arrays.fill(orderCounts, 0);
+        size = 0;
+    }
+
+    /**
+     * 저장된 카운터 순회 (순서 보장 없음)
+     */
+    public void forEach(CounterConsumer consumer) {
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != EMPTY) {
+                consumer.accept(keys[i], loginCounts[i], viewCounts[i], orderCounts[i]);
+            }
+        }
+    }
+
+    /**
+     * userId 오름차순 순회 (spill run 파일 작성용)
+     */
+    public void forEachSorted(CounterConsumer consumer) {
+        long[] sorted = new long[size];
+        int n = 0;
+        for (long key : keys) {
+            if (key != EMPTY) {
+                sorted[n++] = key;
+            }
+        }
+        Arrays.sort(sorted);
+
+        for (long key : sorted) {
+            int slot = slotOf(key);
+            consumer.accept(key, loginCounts[slot], viewCounts[slot], orderCounts[slot]);
+        }
+    }
+
+    @FunctionalInterface
+    public interface CounterConsumer {
+        void accept(long userId, long login, long view, long order);
+    }
+
+    // =====================================================
+    // internal
+    // =====================================================
+
+    /** key가 있는 슬롯 또는 들어갈 빈 슬롯 */
+    private int slotOf(long key) {
+        int slot = mix(key) & mask;
+        while (keys[slot] != EMPTY && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    /** 연속된 userId가 인접 슬롯에 몰리지 않도록 섞기 (murmur3 fmix64) */
+    private static int mix(long key) {
+        long h = key;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return (int) h;
+    }
+
+    private void resize() {
+        long[] oldKeys = keys;
+        long[] oldLogin = loginCounts;
+        long[] oldView = viewCounts;
+        long[] oldOrder = orderCounts;
+
+        allocate(oldKeys.length << 1);
+
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY) {
+                int slot = slotOf(oldKeys[i]);
+                keys[slot] = oldKeys[i];
+                loginCounts[slot] = oldLogin[i];
+                viewCounts[slot] = oldView[i];
+                orderCounts[slot] = oldOrder[i];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        Arrays.fill(keys, EMPTY);
+        loginCounts = new long[capacity];
+        viewCounts = new long[capacity];
+        orderCounts = new long[capacity];
+        mask = capacity - 1;
+        resizeAt = (int) (capacity * LOAD_FACTOR);
+    }
+
+    private static int capacityFor(int expectedSize) {
+        int needed = (int) Math.ceil(Math.max(expectedSize, 16) / LOAD_FACTOR);
+        return Integer.highestOneBit(needed - 1) << 1;
+    }
+}
@@ -0,0 +1,119 @@
+package com.example.kybatch.job.aggregation.week;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamReader;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.nio.file.Path;
+import java.time.LocalDate;
+
+/**
+ * WeeklyCounterReader
+ * ------------------------------------------------------------
+ * 해당 주차 daily_status 를 한 번 스캔해서 userId 별로 합산 → userId 오름차순으로 1건씩 반환
+ *
+ * 1) open  : (user_id, login, view, order) 만 JDBC 로 스트리밍 (fetch size 적용, 엔티티 미생성)
+ *            → SpillingCounterAggregator 에 누적 (예산 초과분은 정렬 run 파일로 spill)
+ * 2) read  : 병합 커서에서 유저 1명분 합계를 당겨 읽음
+ * 3) 재시작 : 마지막으로 commit 된 userId 를 ExecutionContext 에 저장
+ *            → 다시 열 때 그 이후 userId 만 스캔
+ *
+ * - DB 에서 userId 정렬을 하지 않으므로 (user_id, date) 인덱스 전체 정렬 비용 없음
+ */
+@Slf4j
+public class WeeklyCounterReader implements ItemStreamReader<WeeklyCounterReader.WeeklyCounter> {
+
+    static final String LAST_USER_ID_KEY = "weeklyCounterReader.lastUserId";
+
+    private static final int FETCH_SIZE = 10_000;
+
+    private static final String SCAN_SQL = """
+            SELECT d.user_id, d.login_count, d.view_count, d.order_count
+            FROM daily_status d
+            WHERE d.date BETWEEN ? AND ?
+              AND d.user_id > ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readTransaction;
+    private final LocalDate monday;
+    private final Path spillDirectory;
+    private final long memoryBudgetBytes;
+
+    private SpillingCounterAggregator aggregator;
+    private SpillingCounterAggregator.MergedCursor cursor;
+    private long lastUserId = Long.MIN_VALUE;
+
+    public WeeklyCounterReader(DataSource dataSource,
+                               PlatformTransactionManager transactionManager,
+                               LocalDate monday,
+                               Path spillDirectory,
+                               long memoryBudgetBytes) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(FETCH_SIZE);
+        // PostgreSQL 은 autocommit off 일 때만 fetch size 만큼 나눠서 가져옴
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+        this.monday = monday;
+        this.spillDirectory = spillDirectory;
+        this.memoryBudgetBytes = memoryBudgetBytes;
+    }
+
+    @Override
+    public void open(ExecutionContext executionContext) {
+        if (executionContext.containsKey(LAST_USER_ID_KEY)) {
+            lastUserId = executionContext.getLong(LAST_USER_ID_KEY);
+        }
+
+        aggregator = new SpillingCounterAggregator(spillDirectory, memoryBudgetBytes);
+
+        long[] rows = {0};
+        readTransaction.executeWithoutResult(status ->
+                jdbcTemplate.query(SCAN_SQL, rs -> {
+                    aggregator.add(
+                            rs.getLong(1),
+                            rs.getLong(2),
+                            rs.getLong(3),
+                            rs.getLong(4));
+                    rows[0]++;
+                }, monday, monday.plusDays(6), lastUserId));
+
+        log.info("[WeeklyCounterReader] scanned rows={}, spills={}, resumeAfterUserId={}",
+                rows[0], aggregator.spillCount(), lastUserId == Long.MIN_VALUE ? "-" : lastUserId);
+
+        cursor = aggregator.openMerged();
+    }
+
+    @Override
+    public WeeklyCounter read() {
+        if (!cursor.next()) {
+            return null;
+        }
+        lastUserId = cursor.userId();
+        return new WeeklyCounter(cursor.userId(), cursor.login(), cursor.view(), cursor.order());
+    }
+
+    @Override
+    public void update(ExecutionContext executionContext) {
+        executionContext.putLong(LAST_USER_ID_KEY, lastUserId);
+    }
+
+    @Override
+    public void close() {
+        if (aggregator != null) {
+            aggregator.close();   // 커서 + spill run 파일 정리
+            aggregator = null;
+            cursor = null;
+        }
+    }
+
+    /**
+     * 유저 1명의 주간 합계
+     */
+    public record WeeklyCounter(long userId, long loginCount, long viewCount, long orderCount) {
+    }
+}
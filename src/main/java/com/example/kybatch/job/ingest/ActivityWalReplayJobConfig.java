@@ -0,0 +1,65 @@
+package com.example.kybatch.job.ingest;
+
+import com.example.kybatch.ingest.wal.ActivityWalLoader;
+import com.example.kybatch.job.listener.JobExecutionLoggingListener;
+import com.example.kybatch.job.listener.StepExecutionLoggingListener;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * 🧩 Activity WAL Replay Job
+ * - 로컬 WAL에 남아 있는 이벤트를 체크포인트 이후부터 user_activity로 일괄 이관
+ * - 비동기 loader가 꺼져 있거나, DB 장애 복구 직후 밀린 구간을 한 번에 따라잡을 때 사용
+ * - 일간 집계 전에 실행하면 집계 대상 raw 데이터 누락 방지
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class ActivityWalReplayJobConfig {
+
+    private final JobRepository jobRepository;
+    private final PlatformTransactionManager tm;
+
+    private final ActivityWalLoader walLoader;
+
+    private final JobExecutionLoggingListener jobExecutionLoggingListener;
+    private final StepExecutionLoggingListener stepExecutionLoggingListener;
+
+    @Bean
+    public Job activityWalReplayJob(Step activityWalReplayStep) {
+        return new JobBuilder("activityWalReplayJob", jobRepository)
+                .listener(jobExecutionLoggingListener)
+                .start(activityWalReplayStep)
+                .build();
+    }
+
+    /**
+     * 적재/체크포인트 트랜잭션은 loader 내부에서 batch 단위로 관리 (REQUIRES_NEW)
+     * → Step 트랜잭션과 분리되어 중간 실패 시에도 이미 적재된 구간은 유지
+     * → activity.ingest.mode 가 WAL 이 아닌 노드에서도 디스크에 남은 세그먼트를 읽어 이관
+     */
+    @Bean
+    public Step activityWalReplayStep() {
+        return new StepBuilder("activityWalReplayStep", jobRepository)
+                .tasklet((contribution, chunkContext) -> {
+
+                    long loaded = walLoader.loadAvailable();
+                    contribution.incrementWriteCount(loaded);
+
+                    log.info("[ActivityWalReplayJob] replayed={}", loaded);
+                    return RepeatStatus.FINISHED;
+
+                }, tm)
+                .listener(stepExecutionLoggingListener)
+                .build();
+    }
+}
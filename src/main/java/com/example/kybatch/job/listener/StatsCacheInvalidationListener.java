@@ -0,0 +1,80 @@
+package com.example.kybatch.job.listener;
+
+import com.example.kybatch.api.stats.cache.StatsQueryCache;
+import com.example.kybatch.domain.stats.LeaderboardPeriod;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionListener;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.temporal.IsoFields;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * 통계 배치 종료 시 통계 조회 캐시 무효화
+ * - Tasklet 이 쓰기 전에 Job ExecutionContext 에 다시 쓸 (기간 종류, 기간 키)를 기록 (markRewritten)
+ *   → 종료 시 기록된 키의 항목만 비움 (기록이 없으면 쓴 것도 없으므로 무효화 없음)
+ * - 성공 / 실패와 상관없이 무효화 (실패한 Job 도 일부 데이터를 지웠거나 바꿨을 수 있음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StatsCacheInvalidationListener implements JobExecutionListener {
+
+    private static final String KEY_PREFIX = "statsCache.rewritten.";
+
+    private final StatsQueryCache cache;
+
+    /**
+     * 다시 쓸 기간 키 기록 (Job ExecutionContext, 쉼표 구분 문자열)
+     */
+    public static void markRewritten(ExecutionContext jobContext, LeaderboardPeriod period, String periodKey) {
+        Set<String> keys = rewrittenKeys(jobContext, period);
+        if (keys.add(periodKey)) {
+            jobContext.putString(KEY_PREFIX + period.name(), String.join(",", keys));
+        }
+    }
+
+    /**
+     * 일간 통계 + 그 날짜가 속한 week / month-to-date 를 다시 쓰는 경우
+     */
+    public static void markRewrittenThroughPeriod(ExecutionContext jobContext, LocalDate date) {
+        markRewritten(jobContext, LeaderboardPeriod.DAILY, LeaderboardPeriod.dailyKey(date));
+        markRewritten(jobContext, LeaderboardPeriod.WEEKLY, LeaderboardPeriod.weeklyKey(
+                date.get(IsoFields.WEEK_BASED_YEAR), date.get(IsoFields.WEEK_OF_WEEK_BASED_YEAR)));
+        markRewritten(jobContext, LeaderboardPeriod.MONTHLY, LeaderboardPeriod.monthlyKey(
+                date.getYear(), date.getMonthValue()));
+    }
+
+    @Override
+    public void afterJob(JobExecution jobExecution) {
+        String jobName = jobExecution.getJobInstance().getJobName();
+        ExecutionContext jobContext = jobExecution.getExecutionContext();
+
+        for (LeaderboardPeriod period : LeaderboardPeriod.values()) {
+            Set<String> keys = rewrittenKeys(jobContext, period);
+            if (keys.isEmpty()) {
+                continue;
+            }
+
+            long removed = cache.invalidate(period, keys);
+
+            log.info("[StatsCache] {} finished ({}) → invalidated {} entries of {} {}",
+                    jobName, jobExecution.getStatus(), removed, period, keys);
+        }
+    }
+
+    private static Set<String> rewrittenKeys(ExecutionContext jobContext, LeaderboardPeriod period) {
+        Set<String> keys = new TreeSet<>();
+        String joined = jobContext.getString(KEY_PREFIX + period.name(), "");
+        if (!joined.isEmpty()) {
+            keys.addAll(Arrays.asList(joined.split(",")));
+        }
+        return keys;
+    }
+}
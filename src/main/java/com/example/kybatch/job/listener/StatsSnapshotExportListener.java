@@ -0,0 +1,57 @@
+package com.example.kybatch.job.listener;
+
+import com.example.kybatch.domain.stats.LeaderboardPeriod;
+import com.example.kybatch.job.stats.snapshot.StatsSnapshotExporter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionListener;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 주간 / 월간 통계 Job 이 성공하면 해당 기간 columnar snapshot 을 내보내고 교체
+ * - statsRollupJob 은 한 실행에서 주간 / 월간을 함께 쓰므로 두 기간 모두 내보냄
+ * - 내보내기 실패는 Job 결과에 영향 없음 (이전 snapshot 을 계속 서빙)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StatsSnapshotExportListener implements JobExecutionListener {
+
+    private static final Map<String, List<LeaderboardPeriod>> SNAPSHOT_PERIODS = Map.of(
+            "weeklyStatsAggregationJob", List.of(LeaderboardPeriod.WEEKLY),
+            "monthlyStatsAggregationJob", List.of(LeaderboardPeriod.MONTHLY),
+            "statsRollupJob", List.of(LeaderboardPeriod.WEEKLY, LeaderboardPeriod.MONTHLY)
+    );
+
+    private final StatsSnapshotExporter exporter;
+
+    @Override
+    public void afterJob(JobExecution jobExecution) {
+        String jobName = jobExecution.getJobInstance().getJobName();
+        List<LeaderboardPeriod> periods = SNAPSHOT_PERIODS.get(jobName);
+        ExecutionContext jobContext = jobExecution.getExecutionContext();
+
+        if (periods == null || jobExecution.getStatus() != BatchStatus.COMPLETED) {
+            return;
+        }
+
+        for (LeaderboardPeriod period : periods) {
+            if (!jobContext.containsKey(StatsSnapshotExporter.yearKey(period))) {
+                continue;
+            }
+            try {
+                exporter.export(period,
+                        jobContext.getInt(StatsSnapshotExporter.yearKey(period)),
+                        jobContext.getInt(StatsSnapshotExporter.valueKey(period)));
+            } catch (RuntimeException e) {
+                log.error("[StatsSnapshot] {} {} export failed. previous snapshot keeps serving", jobName, period, e);
+            }
+        }
+    }
+}
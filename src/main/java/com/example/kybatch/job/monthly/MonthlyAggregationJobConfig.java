@@ -1,6 +1,8 @@
 package com.example.kybatch.job.monthly;
 
+import com.example.kybatch.domain.stats.LeaderboardPeriod;
 import com.example.kybatch.job.listener.JobExecutionLoggingListener;
+import com.example.kybatch.job.listener.StatsCacheInvalidationListener;
 import com.example.kybatch.job.listener.StepExecutionLoggingListener;
 import com.example.kybatch.service.MonthlyAggregationService;
 import lombok.RequiredArgsConstructor;
@@ -24,12 +26,14 @@ public class MonthlyAggregationJobConfig {
 
     private final JobExecutionLoggingListener jobExecutionLoggingListener;
     private final StepExecutionLoggingListener stepExecutionLoggingListener;
+    private final StatsCacheInvalidationListener statsCacheInvalidationListener;
 
 
     @Bean
     public Job monthlyAggregationJob() {
         return new JobBuilder("monthlyAggregationJob", jobRepository)
                 .listener(jobExecutionLoggingListener)
+                .listener(statsCacheInvalidationListener)
                 .start(monthlyAggregationStep())
                 .build();
     }
@@ -51,6 +55,11 @@ public class MonthlyAggregationJobConfig {
         int year = params.getLong("year").intValue();
         int month = params.getLong("month").intValue();
 
+        // 종료 시 캐시에서 비울 기간 (StatsCacheInvalidationListener)
+        StatsCacheInvalidationListener.markRewritten(
+                chunkContext.getStepContext().getStepExecution().getJobExecution().getExecutionContext(),
+                LeaderboardPeriod.MONTHLY, LeaderboardPeriod.monthlyKey(year, month));
+
         service.aggregateMonthly(year, month);
 
         return RepeatStatus.FINISHED;
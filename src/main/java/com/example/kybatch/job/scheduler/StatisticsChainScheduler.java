@@ -21,6 +21,8 @@ import java.time.LocalDateTime;
 @ConditionalOnProperty(name = "cron.enabled", havingValue = "true")
 public class StatisticsChainScheduler {
 
+    private static final long ACTIVE_BITMAP_LOOKBACK_DAYS = 7;
+
     private final JobLauncher jobLauncher;
     private final JobRegistry jobRegistry;
 
@@ -30,6 +32,8 @@ public class StatisticsChainScheduler {
      * ✔ 매일 새벽 02:00 실행
      * ✔ Daily → Weekly → Monthly 순서 보장
      * ✔ 앞 단계 실패 시 다음 단계 실행되지 않음
+     * ✔ 월요일 + 1일이 겹치면 Weekly/Monthly 대신 rollup 1회
+     * ✔ Daily 뒤에 retention 용 활동 유저 bitmap 갱신 (최근 7일)
      */
     @Scheduled(cron = "0 0 2 * * *")
     public void runStatisticsChain() throws Exception {
@@ -43,16 +47,26 @@ public class StatisticsChainScheduler {
         // 1️⃣ Daily 통계 (항상 실행)
         // ==========================
         runDaily(today, now);
+        runActiveBitmap(today, now);
 
         // ==========================
-        // 2️⃣ Weekly 통계 (월요일만)
+        // 2️⃣ 주간 + 월간 경계가 겹치는 날 → rollup 1회 (daily_status 1회 스캔)
+        // ==========================
+        if (isWeeklyBoundary(today) && isMonthlyBoundary(today)) {
+            runRollup(today, now);
+            log.info("[Scheduler] Statistics chain finished (rollup)");
+            return;
+        }
+
+        // ==========================
+        // 3️⃣ Weekly 통계 (월요일만)
         // ==========================
         if (isWeeklyBoundary(today)) {
             runWeekly(today, now);
         }
 
         // ==========================
-        // 3️⃣ Monthly 통계 (1일만)
+        // 4️⃣ Monthly 통계 (1일만)
         // ==========================
         if (isMonthlyBoundary(today)) {
             runMonthly(today, now);
@@ -77,6 +91,23 @@ public class StatisticsChainScheduler {
         jobLauncher.run(job, params);
     }
 
+    /**
+     * 활동 유저 bitmap 갱신
+     * - late-arriving 재집계 기본 탐지 기간(7일)과 같은 범위를 다시 빌드 → 늦게 반영된 유저도 포함
+     */
+    private void runActiveBitmap(LocalDate today, LocalDateTime now) throws Exception {
+
+        Job job = jobRegistry.getJob("activeBitmapBuildJob");
+
+        JobParameters params = new JobParametersBuilder()
+                .addString("startDate", today.minusDays(ACTIVE_BITMAP_LOOKBACK_DAYS).toString())
+                .addString("endDate", today.toString())
+                .addLocalDateTime("runAt", now)
+                .toJobParameters();
+
+        jobLauncher.run(job, params);
+    }
+
     /**
      * Weekly 통계 실행
      * - 지난 주 월~일 기준
@@ -117,6 +148,23 @@ public class StatisticsChainScheduler {
         jobLauncher.run(job, params);
     }
 
+    /**
+     * Weekly + Monthly 동시 실행
+     * - 지난 주 월~일 / 지난 달을 한 번의 스캔으로 집계
+     */
+    private void runRollup(LocalDate today, LocalDateTime now) throws Exception {
+
+        Job job = jobRegistry.getJob("statsRollupJob");
+
+        JobParameters params = new JobParametersBuilder()
+                .addString("weekStartDate", today.minusWeeks(1).with(DayOfWeek.MONDAY).toString())
+                .addString("monthStartDate", today.minusMonths(1).withDayOfMonth(1).toString())
+                .addLocalDateTime("runAt", now)
+                .toJobParameters();
+
+        jobLauncher.run(job, params);
+    }
+
     /**
      * 주차 경계 판단 (월요일)
      */
@@ -0,0 +1,51 @@
+package com.example.kybatch.job.stats.daily;
+
+import com.example.kybatch.domain.stats.DailyStatus;
+import com.example.kybatch.domain.stats.LeaderboardPeriod;
+import com.example.kybatch.job.stats.ranking.LeaderboardRecorder;
+import com.example.kybatch.job.stats.ranking.TopKCollector;
+import com.example.kybatch.job.stats.sketch.QuantileCollector;
+import com.example.kybatch.job.stats.sketch.QuantileSketchRecorder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * DailyRankingRecorder
+ * ------------------------------------------------------------
+ * 하루치 일간 결과로 DAILY 리더보드 + 유저별 분포(quantile sketch) 교체
+ *
+ * - 정기 / 백필 / 파티션 집계가 날짜 결과를 다시 만든 뒤 공통으로 호출
+ * - 목록 또는 스트리밍 소스 (하루 전체를 메모리에 올리지 않는 경우) 모두 지원
+ * - 같은 날짜 기존 기록은 교체 (결과가 비어 있으면 빈 기록으로 교체)
+ * - 호출한 쪽 트랜잭션 안에서 실행
+ */
+@Component
+@RequiredArgsConstructor
+public class DailyRankingRecorder {
+
+    private final LeaderboardRecorder leaderboardRecorder;
+    private final QuantileSketchRecorder quantileSketchRecorder;
+
+    public void record(LocalDate date, List<DailyStatus> statuses) {
+        record(date, statuses::forEach);
+    }
+
+    /**
+     * @param rows 하루치 결과를 한 row 씩 넘겨주는 소스 (예: StatsPushdownRepository#forEachDaily)
+     */
+    public void record(LocalDate date, Consumer<Consumer<DailyStatus>> rows) {
+        TopKCollector collector = leaderboardRecorder.newCollector();
+        QuantileCollector quantiles = quantileSketchRecorder.newCollector();
+        rows.accept(s -> {
+            collector.offer(s.getUserId(), s.getOrderCount(), s.getViewCount());
+            quantiles.offer(s.getOrderCount(), s.getViewCount());
+        });
+        String key = LeaderboardPeriod.dailyKey(date);
+        leaderboardRecorder.record(LeaderboardPeriod.DAILY, key, collector);
+        quantileSketchRecorder.record(LeaderboardPeriod.DAILY, key, quantiles);
+    }
+}
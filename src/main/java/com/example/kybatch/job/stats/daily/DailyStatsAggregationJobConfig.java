@@ -2,6 +2,7 @@ package com.example.kybatch.job.stats.daily;
 
 import com.example.kybatch.job.listener.BatchAutoRestartJobListener;
 import com.example.kybatch.job.listener.JobExecutionLoggingListener;
+import com.example.kybatch.job.listener.StatsCacheInvalidationListener;
 import com.example.kybatch.job.listener.StepExecutionLoggingListener;
 import com.example.kybatch.notification.listener.BatchFailureNotificationListener;
 import lombok.RequiredArgsConstructor;
@@ -30,6 +31,7 @@ public class DailyStatsAggregationJobConfig {
 
     // STEP 30: 실패 시 알림 발송 Listener 추가
     private final BatchFailureNotificationListener failureNotificationListener;
+    private final StatsCacheInvalidationListener statsCacheInvalidationListener;
 
     // STEP 34 : 실패 시 알림 발송 후 재실행 여부 판단 후 재실행
     private final BatchAutoRestartJobListener batchAutoRestartJobListener;
@@ -49,6 +51,9 @@ public class DailyStatsAggregationJobConfig {
                 //    - 성공 시엔 아무 것도 하지 않음
                 .listener(failureNotificationListener)
 
+                // 3️⃣ 종료 시 통계 조회 캐시 무효화 (일간 + week/month-to-date)
+                .listener(statsCacheInvalidationListener)
+
                 .start(dailyStatsAggregationStep())
                 .build();
     }
@@ -2,20 +2,28 @@ package com.example.kybatch.job.stats.daily;
 
 import com.example.kybatch.batch.exception.NonCriticalBatchException;
 import com.example.kybatch.domain.lock.BatchLockPolicy;
+import com.example.kybatch.domain.stats.DailyAggregationWatermarkRepository;
 import com.example.kybatch.domain.stats.DailyStatus;
 import com.example.kybatch.domain.stats.DailyStatusRepository;
+import com.example.kybatch.domain.stats.StatsPushdownRepository;
 import com.example.kybatch.dto.DailyAggregationDTO;
 import com.example.kybatch.job.common.AbstractRetryableTasklet;
+import com.example.kybatch.job.listener.StatsCacheInvalidationListener;
+import com.example.kybatch.job.stats.sketch.ActiveUserSketchRecorder;
+import com.example.kybatch.job.stats.writer.StatsBulkWriterFactory;
+import com.example.kybatch.job.stats.writer.StatsWriteMode;
 import com.example.kybatch.lock.BatchLockService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.core.StepContribution;
 import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 @Slf4j
 @Component
@@ -25,8 +33,34 @@ public class DailyStatsAggregationTasklet extends AbstractRetryableTasklet {
     // 일간 통계의 읽기/집계/저장을 담당하는 저장소
     private final DailyStatusRepository dailyRepository;
 
+    // 증분 집계 watermark (전체 재집계한 날짜는 제거)
+    private final DailyAggregationWatermarkRepository watermarkRepository;
+
     // 배치 동시 실행을 제어하기 위한 락 서비스
     private final BatchLockService lockService;
+    private final DailyStatsDateLock dateLock;
+
+    // INSERT ... SELECT 집계 저장소 (PUSHDOWN 모드)
+    private final StatsPushdownRepository pushdownRepository;
+
+    // COPY / JDBC batch 저장 Writer 생성 (COPY 모드)
+    private final StatsBulkWriterFactory bulkWriterFactory;
+
+    // 일간 결과를 week-to-date / month-to-date 통계에 누적
+    private final PeriodToDateAccumulator periodToDateAccumulator;
+
+    // 일간 결과로 최근 7일 / 30일 rolling 통계 갱신
+    private final RollingWindowUpdater rollingWindowUpdater;
+
+    // 집계 결과 상위 N 유저 + 유저별 분포(quantile sketch) 기록
+    private final DailyRankingRecorder dailyRankingRecorder;
+
+    // 그날 활동 유저 HyperLogLog 스케치 기록 (기간별 고유 유저 수 계산용)
+    private final ActiveUserSketchRecorder activeUserSketchRecorder;
+
+    // 저장 방식 (ENTITY: row 단위 save / PUSHDOWN: DB 내부 집계)
+    @Value("${stats.write.mode:ENTITY}")
+    private StatsWriteMode writeMode;
 
     @Override
     protected void doExecute(StepContribution contribution, ChunkContext context) {
@@ -48,23 +82,51 @@ public class DailyStatsAggregationTasklet extends AbstractRetryableTasklet {
 
 
 
+        List<String> dateLocks = List.of();
         try {
 
-
-            // 🔥 STEP 34 테스트용 강제 실패
-            if (true) {
-                throw new RuntimeException("daily stats forced fail");
-            }
             // 집계 대상 날짜를 '어제'로 설정 (당일은 데이터가 아직 변동 중일 수 있음)
             LocalDate targetDate = LocalDate.now().minusDays(1);
 
+            // 같은 날짜를 다시 만드는 백필과 겹치지 않도록 날짜별 락도 획득
+            dateLocks = dateLock.acquire(List.of(targetDate), "일간 통계 집계");
+
+            // 종료 시 캐시에서 비울 기간 : 일간 + week / month-to-date (StatsCacheInvalidationListener)
+            StatsCacheInvalidationListener.markRewrittenThroughPeriod(
+                    context.getStepContext().getStepExecution().getJobExecution().getExecutionContext(), targetDate);
+
             // 집계 구간: [어제 00:00, 오늘 00:00) — 즉 어제 하루
             LocalDateTime start = targetDate.atStartOfDay();
             LocalDateTime end   = targetDate.plusDays(1).atStartOfDay();
 
+            // 재실행 대비 : 기존 결과를 지우기 전에 스냅샷 (to-date 누적은 차이만 반영)
+            // (user_id, 카운터) 만 JDBC 로 읽음 → 엔티티를 영속성 컨텍스트에 올리지 않음
+            Map<Long, long[]> previous = pushdownRepository.findDailyCounts(targetDate);
+
+            // 전체 재집계 → 증분 watermark 제거 (다음 증분 실행이 이번 합계 위에 delta 를 또 더하지 않도록)
+            watermarkRepository.deleteBetween(targetDate, targetDate.plusDays(1));
+
             // 같은 날짜의 기존 결과가 있다면 삭제하여 멱등성 보장
-            // (배치 재실행 시 중복 저장 방지)
-            dailyRepository.deleteByDate(targetDate);
+            // (배치 재실행 시 중복 저장 방지, UPSERT 모드는 키 기준 덮어쓰기 + 빠진 유저만 삭제)
+            if (writeMode != StatsWriteMode.UPSERT) {
+                dailyRepository.deleteByDate(targetDate);
+            }
+
+            // PUSHDOWN: 집계 + 저장을 DB 안에서 한 문장으로 처리
+            if (writeMode == StatsWriteMode.PUSHDOWN) {
+                int inserted = pushdownRepository.insertDailyFromActivity(targetDate, start, end);
+                if (inserted == 0) {
+                    throw new NonCriticalBatchException("Daily 집계 결과 없음");
+                }
+                contribution.incrementWriteCount(inserted);
+                // 후속 갱신용으로 저장 결과를 한 번만 JDBC 로 읽음 (영속 상태 아님)
+                List<DailyStatus> written = pushdownRepository.findDaily(targetDate);
+                periodToDateAccumulator.accumulate(targetDate, previous, written);
+                rollingWindowUpdater.apply(targetDate, previous, written);
+                dailyRankingRecorder.record(targetDate, written);
+                activeUserSketchRecorder.replace(targetDate, userIds(written));
+                return;
+            }
 
             // 원천 데이터에서 어제 하루에 대한 사용자별 집계 결과 생성
             List<DailyAggregationDTO> aggregates = dailyRepository.aggregateDaily(start, end);
@@ -74,22 +136,49 @@ public class DailyStatsAggregationTasklet extends AbstractRetryableTasklet {
                 throw new NonCriticalBatchException("Daily 집계 결과 없음");
             }
 
-            // 집계된 각 사용자별 결과를 일간 통계 테이블에 저장
-            for (DailyAggregationDTO dto : aggregates) {
-                dailyRepository.save(
-                        DailyStatus.builder()
-                                .userId(dto.getUserId())
-                                .date(targetDate)                  // 통계 기준일(어제)
-                                .loginCount(dto.getLoginCount())   // 로그인 횟수
-                                .viewCount(dto.getViewCount())     // 조회(페이지/콘텐츠) 횟수
-                                .orderCount(dto.getOrderCount())   // 주문 횟수
-                                .build()
-                );
+            // 집계된 각 사용자별 결과를 일간 통계 엔티티로 변환
+            List<DailyStatus> statuses = aggregates.stream()
+                    .map(dto -> DailyStatus.builder()
+                            .userId(dto.getUserId())
+                            .date(targetDate)                  // 통계 기준일(어제)
+                            .loginCount(dto.getLoginCount())   // 로그인 횟수
+                            .viewCount(dto.getViewCount())     // 조회(페이지/콘텐츠) 횟수
+                            .orderCount(dto.getOrderCount())   // 주문 횟수
+                            .build())
+                    .toList();
+
+            // 일간 통계 테이블에 저장
+            switch (writeMode) {
+                case COPY -> bulkWriterFactory.dailyStatusWriter().writeAll(statuses);
+                case UPSERT -> {
+                    bulkWriterFactory.dailyStatusUpsertWriter().writeAll(statuses);
+                    // 같은 Step 트랜잭션 안에서 이번 결과에 없는 유저 row 정리
+                    pushdownRepository.deleteStaleDaily(targetDate, start, end);
+                }
+                default -> statuses.forEach(dailyRepository::save);
             }
+            contribution.incrementWriteCount(statuses.size());
+
+            // 주간 / 월간 to-date 통계에 이번 결과 누적 (batched increment upsert)
+            periodToDateAccumulator.accumulate(targetDate, previous, statuses);
+
+            // 최근 7일 / 30일 sliding window 갱신 (새 날짜 더하고 빠진 날짜 빼기)
+            rollingWindowUpdater.apply(targetDate, previous, statuses);
+
+            // 저장한 결과로 일간 리더보드 + 분포 sketch 기록 (추가 정렬 / 추가 스캔 없음)
+            dailyRankingRecorder.record(targetDate, statuses);
+
+            // 그날 활동 유저 스케치 교체 (주간 / 월간 고유 유저 수는 스케치 merge 로 계산)
+            activeUserSketchRecorder.replace(targetDate, userIds(statuses));
 
         } finally {
             // 정상/예외 상관없이 락은 반드시 해제 (deadlock, 장기 점유 방지)
+            dateLock.release(dateLocks);
             lockService.releaseLock("DAILY_STATS");
         }
     }
-}
\ No newline at end of file
+
+    private static List<Long> userIds(List<DailyStatus> statuses) {
+        return statuses.stream().map(DailyStatus::getUserId).toList();
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.kybatch.job.stats.daily;
+
+import com.example.kybatch.job.listener.JobExecutionLoggingListener;
+import com.example.kybatch.job.listener.StatsCacheInvalidationListener;
+import com.example.kybatch.job.listener.StepExecutionLoggingListener;
+import com.example.kybatch.notification.listener.BatchFailureNotificationListener;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * 🧩 Daily Stats Backfill Job
+ * - 기간 전체를 한 번 스캔해 여러 날짜의 일간 통계를 병렬로 다시 생성
+ * - 날짜별 락 / 날짜별 BatchStepLog 기록
+ *
+ * Job Parameters
+ * - startDate   : 시작일 (포함)
+ * - endDate     : 종료일 (미포함)
+ * - parallelism : 저장 worker 수 (기본 CPU 코어 수)
+ */
+@Profile("batch")
+@Configuration
+@RequiredArgsConstructor
+public class DailyStatsBackfillJobConfig {
+
+    private final JobRepository jobRepository;
+    private final PlatformTransactionManager tm;
+
+    private final DailyStatsBackfillTasklet tasklet;
+
+    private final JobExecutionLoggingListener jobListener;
+    private final BatchFailureNotificationListener failureNotificationListener;
+    private final StatsCacheInvalidationListener statsCacheInvalidationListener;
+    private final StepExecutionLoggingListener stepListener;
+
+    @Bean
+    public Job dailyStatsBackfillJob() {
+        return new JobBuilder("dailyStatsBackfillJob", jobRepository)
+                .listener(jobListener)
+                .listener(failureNotificationListener)
+                .listener(statsCacheInvalidationListener)
+                .start(dailyStatsBackfillStep())
+                .build();
+    }
+
+    @Bean
+    public Step dailyStatsBackfillStep() {
+        return new StepBuilder("dailyStatsBackfillStep", jobRepository)
+                .tasklet(tasklet, tm)
+                .listener(stepListener)
+                .build();
+    }
+}
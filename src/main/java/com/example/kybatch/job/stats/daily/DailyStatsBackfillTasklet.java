@@ -0,0 +1,374 @@
+package com.example.kybatch.job.stats.daily;
+
+import com.example.kybatch.api.batchlog.service.BatchLogQueryService;
+import com.example.kybatch.batch.exception.FatalBatchException;
+import com.example.kybatch.domain.batchlog.BatchStepLog;
+import com.example.kybatch.domain.stats.DailyAggregationWatermarkRepository;
+import com.example.kybatch.domain.stats.DailyStatus;
+import com.example.kybatch.domain.stats.StatsPushdownRepository;
+import com.example.kybatch.job.listener.StatsCacheInvalidationListener;
+import com.example.kybatch.job.stats.sketch.ActiveUserSketchRecorder;
+import com.example.kybatch.job.stats.sketch.HyperLogLog;
+import com.example.kybatch.job.stats.writer.StatsBulkWriterFactory;
+import com.example.kybatch.job.stats.writer.StatsUpsertItemWriter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * DailyStatsBackfillTasklet
+ * ------------------------------------------------------------
+ * 여러 날짜의 일간 통계를 한 번에 다시 만드는 백필
+ *
+ * - user_activity 를 기간 전체에 대해 한 번만 스캔 (GROUP BY userId, date / ORDER BY date)
+ * - 스트리밍으로 읽으면서 날짜별 chunk 를 만들어 worker 스레드에 넘김
+ * - chunk 마다 독립 트랜잭션으로 upsert → 날짜끼리 / chunk 끼리 병렬 저장
+ * - 락은 전역 DAILY_STATS 대신 날짜별(DAILY_STATS:yyyy-MM-dd)로 잡아 다른 날짜 배치와 겹쳐도 됨
+ *   (정기 / 증분 / late 재집계도 대상 날짜의 날짜별 락을 함께 잡으므로 같은 날짜끼리는 배타)
+ * - 날짜 하나의 스캔 + 저장이 모두 끝나면 (날짜 락을 쥔 채로) 그 날짜 마무리
+ *   → 이번 스캔에 없는 유저 row 삭제 (삭제 전 to-date 차감) + DAILY 리더보드 / 분포 스케치 재기록
+ * - 날짜별 처리 결과(read/write/status)를 그 날짜의 마무리가 끝나는 즉시 BatchStepLog 에 한 줄씩 기록
+ * - 스캔하면서 날짜별 활동 유저 HyperLogLog 스케치도 함께 만들어, 저장이 모두 성공한 날짜만 교체 (활동이 없던 날짜는 빈 스케치)
+ * - 다시 만든 날짜의 증분 watermark 는 제거 (다음 증분 실행은 0부터 재집계)
+ * - 주간 / 월간 to-date, rolling_status 는 chunk 마다 같은 트랜잭션에서 이전 값과의 차이만 누적
+ *
+ * Job Parameters
+ * - startDate   : 시작일 (포함, yyyy-MM-dd)
+ * - endDate     : 종료일 (미포함, yyyy-MM-dd)
+ * - parallelism : 저장 worker 수 (기본 CPU 코어 수)
+ */
+@Slf4j
+@Component
+public class DailyStatsBackfillTasklet implements Tasklet {
+
+    private static final int CHUNK_SIZE = 1000;
+
+    private static final String SCAN_SQL = """
+            SELECT ua.user_seq AS user_id,
+                   CAST(ua.created_at AS DATE) AS activity_date,
+                   SUM(ua.login_count) AS login_count,
+                   SUM(ua.view_count) AS view_count,
+                   SUM(ua.order_count) AS order_count
+            FROM user_activity ua
+            WHERE ua.created_at >= ?
+              AND ua.created_at < ?
+            GROUP BY ua.user_seq, CAST(ua.created_at AS DATE)
+            ORDER BY activity_date, ua.user_seq
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate chunkTransaction;
+    private final StatsBulkWriterFactory writerFactory;
+    private final DailyStatsDateLock dateLock;
+    private final BatchLogQueryService logQueryService;
+    private final ActiveUserSketchRecorder activeUserSketchRecorder;
+    private final RollingWindowUpdater rollingWindowUpdater;
+    private final DailyAggregationWatermarkRepository watermarkRepository;
+    private final PeriodToDateAccumulator periodToDateAccumulator;
+    private final StatsPushdownRepository pushdownRepository;
+    private final DailyRankingRecorder dailyRankingRecorder;
+
+    public DailyStatsBackfillTasklet(DataSource dataSource,
+                                     PlatformTransactionManager transactionManager,
+                                     StatsBulkWriterFactory writerFactory,
+                                     DailyStatsDateLock dateLock,
+                                     BatchLogQueryService logQueryService,
+                                     ActiveUserSketchRecorder activeUserSketchRecorder,
+                                     RollingWindowUpdater rollingWindowUpdater,
+                                     DailyAggregationWatermarkRepository watermarkRepository,
+                                     PeriodToDateAccumulator periodToDateAccumulator,
+                                     StatsPushdownRepository pushdownRepository,
+                                     DailyRankingRecorder dailyRankingRecorder) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(CHUNK_SIZE * 10);
+        this.chunkTransaction = new TransactionTemplate(transactionManager);
+        this.writerFactory = writerFactory;
+        this.dateLock = dateLock;
+        this.logQueryService = logQueryService;
+        this.activeUserSketchRecorder = activeUserSketchRecorder;
+        this.rollingWindowUpdater = rollingWindowUpdater;
+        this.watermarkRepository = watermarkRepository;
+        this.periodToDateAccumulator = periodToDateAccumulator;
+        this.pushdownRepository = pushdownRepository;
+        this.dailyRankingRecorder = dailyRankingRecorder;
+    }
+
+    @Override
+    public RepeatStatus execute(StepContribution contribution, ChunkContext context) throws Exception {
+
+        Map<String, Object> params = context.getStepContext().getJobParameters();
+        LocalDate startDate = LocalDate.parse((String) params.get("startDate"));
+        LocalDate endDate = LocalDate.parse((String) params.get("endDate"));
+        int parallelism = params.get("parallelism") != null
+                ? ((Long) params.get("parallelism")).intValue()
+                : Runtime.getRuntime().availableProcessors();
+
+        if (!startDate.isBefore(endDate)) {
+            throw new FatalBatchException("startDate는 endDate보다 앞이어야 합니다. " + startDate + " ~ " + endDate);
+        }
+
+        String jobName = context.getStepContext().getJobName();
+        String stepName = context.getStepContext().getStepName();
+        LocalDateTime stepStart = context.getStepContext().getStepExecution().getStartTime();
+
+        // 날짜별 진행 상황
+        Map<LocalDate, DayProgress> progress = new TreeMap<>();
+        for (LocalDate d = startDate; d.isBefore(endDate); d = d.plusDays(1)) {
+            progress.put(d, new DayProgress(d));
+        }
+
+        List<String> locks = dateLock.acquire(progress.keySet(), "일간 통계 백필");
+
+        // 종료 시 캐시에서 비울 기간 : 날짜별 일간 + week / month-to-date (StatsCacheInvalidationListener)
+        ExecutionContext jobContext = context.getStepContext().getStepExecution().getJobExecution().getExecutionContext();
+        progress.keySet().forEach(date -> StatsCacheInvalidationListener.markRewrittenThroughPeriod(jobContext, date));
+
+        ExecutorService workers = Executors.newFixedThreadPool(parallelism, r -> {
+            Thread t = new Thread(r, "daily-backfill-worker");
+            t.setDaemon(true);
+            return t;
+        });
+
+        try {
+            // 날짜 하나의 스캔 + 저장이 모두 끝나면 바로 그 날짜 마무리 + 로그 기록 (진행 상황 실시간 조회)
+            BackfillDispatcher dispatcher = new BackfillDispatcher(workers, parallelism * 2, progress, day -> {
+                completeDay(day);
+                saveDayLog(jobName, stepName, stepStart, day);
+            });
+
+            // 1️⃣ 기간 전체 1회 스캔 → 날짜별 chunk 로 나눠 worker에 전달
+            jdbcTemplate.query(SCAN_SQL, (RowCallbackHandler) rs -> {
+                dispatcher.add(DailyStatus.builder()
+                        .userId(rs.getLong("user_id"))
+                        .date(rs.getDate("activity_date").toLocalDate())
+                        .loginCount(rs.getLong("login_count"))
+                        .viewCount(rs.getLong("view_count"))
+                        .orderCount(rs.getLong("order_count"))
+                        .build());
+            }, Timestamp.valueOf(startDate.atStartOfDay()), Timestamp.valueOf(endDate.atStartOfDay()));
+
+            // 2️⃣ 남은 chunk 전달 후 전체 완료 대기
+            dispatcher.finish();
+
+            long written = progress.values().stream().mapToLong(p -> p.written.sum()).sum();
+            long read = progress.values().stream().mapToLong(p -> p.read.sum()).sum();
+            contribution.incrementWriteCount(written);
+
+            log.info("[DailyBackfill] {} ~ {} done. days={}, rows read={}, written={}",
+                    startDate, endDate, progress.size(), read, written);
+
+            // 3️⃣ 증분 watermark 제거 + 활동이 없던 날짜 마무리 / 로그 기록 + 성공한 날짜의 활동 유저 스케치 저장
+            watermarkRepository.deleteBetween(startDate, endDate);
+            progress.forEach((date, p) -> {
+                completeDay(p);
+                saveDayLog(jobName, stepName, stepStart, p);
+                if (p.failure.get() == null) {
+                    activeUserSketchRecorder.replace(date, p.activeUsers);
+                }
+            });
+
+            Throwable failure = progress.values().stream()
+                    .map(p -> p.failure.get())
+                    .filter(Objects::nonNull)
+                    .findFirst()
+                    .orElse(null);
+            if (failure != null) {
+                throw new FatalBatchException("일부 날짜 백필 실패 - " + failure.getMessage());
+            }
+            return RepeatStatus.FINISHED;
+
+        } finally {
+            workers.shutdownNow();
+            dateLock.release(locks);
+        }
+    }
+
+    // =====================================================
+    // 날짜 마무리
+    // =====================================================
+
+    /**
+     * 날짜당 한 번만 실행 (저장이 모두 성공한 날짜만)
+     * - 이번 스캔에 없던 유저 row 삭제 : 삭제할 row 만큼 to-date / rolling 에서 먼저 차감
+     * - 다시 만든 결과로 DAILY 리더보드 / 분포 스케치 교체
+     * 실패하면 그 날짜를 실패로 기록 (로그 / 최종 결과에 반영)
+     */
+    private void completeDay(DayProgress p) {
+        if (p.failure.get() != null || !p.completed.compareAndSet(false, true)) {
+            return;
+        }
+        LocalDateTime start = p.date.atStartOfDay();
+        LocalDateTime end = p.date.plusDays(1).atStartOfDay();
+        try {
+            chunkTransaction.executeWithoutResult(status -> {
+                Map<Long, long[]> staleRows = pushdownRepository.findStaleDailyCounts(p.date, start, end);
+                periodToDateAccumulator.accumulate(p.date, staleRows, List.of());
+                rollingWindowUpdater.applyChange(p.date, staleRows, List.of());
+                int stale = pushdownRepository.deleteStaleDaily(p.date, start, end);
+                dailyRankingRecorder.record(p.date, rows -> pushdownRepository.forEachDaily(p.date, rows));
+                log.info("[DailyBackfill] {} completed. stale rows removed={}", p.date, stale);
+            });
+        } catch (Exception e) {
+            log.error("[DailyBackfill] completing day failed. date={}", p.date, e);
+            p.failure.compareAndSet(null, e);
+        }
+    }
+
+    // =====================================================
+    // 진행 기록
+    // =====================================================
+
+    /**
+     * 날짜당 한 번만 기록 (완료 시점에 worker / 스캔 스레드에서, 또는 마지막에 tasklet 스레드에서)
+     */
+    private void saveDayLog(String jobName, String stepName, LocalDateTime stepStart, DayProgress p) {
+        if (!p.logged.compareAndSet(false, true)) {
+            return;
+        }
+        BatchStepLog dayLog = new BatchStepLog(jobName, stepName + "[" + p.date + "]", stepStart);
+        Throwable failure = p.failure.get();
+        dayLog.updateProgress(failure == null ? "COMPLETED" : "FAILED",
+                p.read.sum(), p.written.sum(), failure);
+        logQueryService.saveStep(dayLog);
+    }
+
+    private static class DayProgress {
+        final LocalDate date;
+        final LongAdder read = new LongAdder();
+        final LongAdder written = new LongAdder();
+        final AtomicReference<Throwable> failure = new AtomicReference<>();
+        // 스캔 스레드에서만 갱신
+        final HyperLogLog activeUsers = new HyperLogLog();
+
+        // 저장 중인 chunk 수 / 스캔이 이 날짜를 지나갔는지 → 둘 다 끝나면 날짜 완료
+        final AtomicInteger pending = new AtomicInteger();
+        volatile boolean scanned;
+        final AtomicBoolean completed = new AtomicBoolean();
+        final AtomicBoolean logged = new AtomicBoolean();
+
+        DayProgress(LocalDate date) {
+            this.date = date;
+        }
+
+        boolean done() {
+            return scanned && pending.get() == 0;
+        }
+    }
+
+    /**
+     * 스캔 스레드에서 row를 받아 날짜별 chunk를 만들고 worker에 제출
+     * - 동시에 처리 중인 chunk 수를 제한해 스캔이 저장보다 앞서 메모리를 채우지 않도록 함
+     */
+    private class BackfillDispatcher {
+
+        private final ExecutorService workers;
+        private final Semaphore inFlight;
+        private final Map<LocalDate, DayProgress> progress;
+        private final Consumer<DayProgress> onDayDone;
+        private final StatsUpsertItemWriter<DailyStatus> writer = writerFactory.dailyStatusUpsertWriter();
+        private final List<Future<?>> futures = new ArrayList<>();
+
+        private List<DailyStatus> chunk = new ArrayList<>(CHUNK_SIZE);
+        private LocalDate chunkDate;
+
+        BackfillDispatcher(ExecutorService workers, int maxInFlight, Map<LocalDate, DayProgress> progress,
+                           Consumer<DayProgress> onDayDone) {
+            this.workers = workers;
+            this.inFlight = new Semaphore(maxInFlight);
+            this.progress = progress;
+            this.onDayDone = onDayDone;
+        }
+
+        void add(DailyStatus status) {
+            boolean dateChanged = chunkDate != null && !chunkDate.equals(status.getDate());
+            if (chunkDate != null && (dateChanged || chunk.size() >= CHUNK_SIZE)) {
+                submit();
+            }
+            // 스캔은 날짜 순서 → 날짜가 바뀌면 이전 날짜의 row 는 더 오지 않음
+            if (dateChanged) {
+                markScanned(progress.get(chunkDate));
+            }
+            chunkDate = status.getDate();
+            chunk.add(status);
+            DayProgress day = progress.get(chunkDate);
+            day.read.increment();
+            day.activeUsers.offer(status.getUserId());
+        }
+
+        void finish() throws Exception {
+            if (!chunk.isEmpty()) {
+                submit();
+            }
+            if (chunkDate != null) {
+                markScanned(progress.get(chunkDate));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+
+        private void submit() {
+            List<DailyStatus> items = chunk;
+            DayProgress day = progress.get(chunkDate);
+            chunk = new ArrayList<>(CHUNK_SIZE);
+
+            day.pending.incrementAndGet();
+            inFlight.acquireUninterruptibly();
+            futures.add(workers.submit(() -> {
+                try {
+                    chunkTransaction.executeWithoutResult(status -> {
+                        // 덮어쓰기 전에 chunk 유저의 이전 값과의 차이를 to-date / rolling 에 누적
+                        Map<Long, long[]> before = pushdownRepository.findDailyCounts(day.date,
+                                items.stream().map(DailyStatus::getUserId).toList());
+                        periodToDateAccumulator.accumulateChunk(day.date, before, items);
+                        rollingWindowUpdater.applyChange(day.date, before, items);
+                        writer.writeAll(items);
+                    });
+                    day.written.add(items.size());
+                } catch (Exception e) {
+                    log.error("[DailyBackfill] chunk failed. date={}, size={}", items.get(0).getDate(), items.size(), e);
+                    day.failure.compareAndSet(null, e);
+                } finally {
+                    inFlight.release();
+                    if (day.pending.decrementAndGet() == 0 && day.scanned) {
+                        onDayDone.accept(day);
+                    }
+                }
+            }));
+        }
+
+        private void markScanned(DayProgress day) {
+            day.scanned = true;
+            if (day.done()) {
+                onDayDone.accept(day);
+            }
+        }
+    }
+}
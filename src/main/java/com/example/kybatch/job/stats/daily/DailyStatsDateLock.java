@@ -0,0 +1,61 @@
+package com.example.kybatch.job.stats.daily;
+
+import com.example.kybatch.batch.exception.NonCriticalBatchException;
+import com.example.kybatch.domain.lock.BatchLockPolicy;
+import com.example.kybatch.lock.BatchLockService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * DailyStatsDateLock
+ * ------------------------------------------------------------
+ * daily_status 의 날짜별 배타 락 (DAILY_STATS:yyyy-MM-dd)
+ *
+ * - 전역 DAILY_STATS 락은 정기 일간 Job 끼리의 중복 실행 방지용
+ * - 백필은 전역 락 없이 날짜별 락만 잡으므로, 특정 날짜를 쓰는 Job 은 모두 이 락도 함께 잡음
+ *   → 백필과 정기 / 증분 / late 재집계가 같은 날짜를 동시에 쓰지 않음
+ * - 여러 날짜는 전부 잡거나 하나도 잡지 않음 (실패 시 잡은 락 즉시 해제)
+ */
+@Component
+@RequiredArgsConstructor
+public class DailyStatsDateLock {
+
+    private static final String PREFIX = "DAILY_STATS:";
+
+    private final BatchLockService lockService;
+
+    public static String lockName(LocalDate date) {
+        return PREFIX + date;
+    }
+
+    /**
+     * @return 잡은 락 이름 (release 에 그대로 전달)
+     * @throws NonCriticalBatchException 한 날짜라도 이미 다른 배치가 잡고 있는 경우
+     */
+    public List<String> acquire(Iterable<LocalDate> dates, String description) {
+        List<String> acquired = new ArrayList<>();
+        for (LocalDate date : dates) {
+            String lockName = lockName(date);
+            boolean locked = lockService.acquireLock(
+                    lockName,
+                    BatchLockPolicy.EXCLUSIVE,
+                    "DAILY",
+                    description + " (" + date + ")"
+            );
+            if (!locked) {
+                release(acquired);
+                throw new NonCriticalBatchException("Daily 날짜 락 획득 실패 - " + date);
+            }
+            acquired.add(lockName);
+        }
+        return acquired;
+    }
+
+    public void release(List<String> locks) {
+        locks.forEach(lockService::releaseLock);
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.kybatch.job.stats.daily;
+
+import com.example.kybatch.job.listener.JobExecutionLoggingListener;
+import com.example.kybatch.job.listener.StatsCacheInvalidationListener;
+import com.example.kybatch.job.listener.StepExecutionLoggingListener;
+import com.example.kybatch.notification.listener.BatchFailureNotificationListener;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * 🧩 Daily Stats Incremental Job
+ * - 하루에 여러 번 / 재시작 시에도 watermark 이후 row만 집계해 DailyStatus에 병합
+ *
+ * Job Parameters
+ * - targetDate : 집계 대상 일자 (yyyy-MM-dd, 없으면 어제)
+ */
+@Profile("batch")
+@Configuration
+@RequiredArgsConstructor
+public class DailyStatsIncrementalJobConfig {
+
+    private final JobRepository jobRepository;
+    private final PlatformTransactionManager tm;
+
+    private final DailyStatsIncrementalTasklet tasklet;
+
+    private final JobExecutionLoggingListener jobListener;
+    private final BatchFailureNotificationListener failureNotificationListener;
+    private final StatsCacheInvalidationListener statsCacheInvalidationListener;
+    private final StepExecutionLoggingListener stepListener;
+
+    @Bean
+    public Job dailyStatsIncrementalJob() {
+        return new JobBuilder("dailyStatsIncrementalJob", jobRepository)
+                .listener(jobListener)
+                .listener(failureNotificationListener)
+                .listener(statsCacheInvalidationListener)
+                .start(dailyStatsIncrementalStep())
+                .build();
+    }
+
+    @Bean
+    public Step dailyStatsIncrementalStep() {
+        return new StepBuilder("dailyStatsIncrementalStep", jobRepository)
+                .tasklet(tasklet, tm)
+                .listener(stepListener)
+                .build();
+    }
+}
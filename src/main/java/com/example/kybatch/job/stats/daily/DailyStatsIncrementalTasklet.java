@@ -0,0 +1,180 @@
+package com.example.kybatch.job.stats.daily;
+
+import com.example.kybatch.batch.exception.NonCriticalBatchException;
+import com.example.kybatch.domain.activity.UserActivityRepository;
+import com.example.kybatch.domain.lock.BatchLockPolicy;
+import com.example.kybatch.domain.stats.DailyAggregationWatermark;
+import com.example.kybatch.domain.stats.DailyAggregationWatermarkRepository;
+import com.example.kybatch.domain.stats.DailyStatus;
+import com.example.kybatch.domain.stats.DailyStatusRepository;
+import com.example.kybatch.domain.stats.StatsPushdownRepository;
+import com.example.kybatch.dto.DailyAggregationDTO;
+import com.example.kybatch.job.common.AbstractRetryableTasklet;
+import com.example.kybatch.job.listener.StatsCacheInvalidationListener;
+import com.example.kybatch.job.stats.sketch.ActiveUserSketchRecorder;
+import com.example.kybatch.job.stats.writer.StatsBulkWriterFactory;
+import com.example.kybatch.lock.BatchLockService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * DailyStatsIncrementalTasklet
+ * ------------------------------------------------------------
+ * 일간 통계 증분 집계
+ *
+ * - 대상 일자별 watermark(lastActivityId) 이후에 들어온 user_activity row만 합산
+ * - 합산 결과(delta)를 daily_status 에 increment upsert 로 더함 (없는 유저는 INSERT, 엔티티 조회 없음)
+ * - delta 병합과 watermark 전진은 같은 Step 트랜잭션 → 중간 실패 시 함께 롤백
+ *
+ * 상한(uptoId)은 "실행 시각 - safety lag" 이전에 적재된 row 의 MAX(id)로 고정
+ * - IDENTITY id 는 발급 순서일 뿐 커밋 순서가 아님 (buffer / WAL / bulk 적재는 여러 row 를 한 트랜잭션으로 커밋)
+ *   → MAX(id) 를 바로 쓰면 그보다 낮은 id 가 나중에 커밋될 때 영영 건너뜀
+ * - 적재 트랜잭션이 safety lag 보다 오래 열려 있지 않다는 전제 (기본 300초)
+ * - 적재 시각 / 집계 시각은 모두 DB 시계 기준 (JVM 시계와 섞지 않음)
+ * → lag 안쪽 row 와 집계 도중 들어온 row는 다음 실행에서 반영
+ *
+ * 새로 들어온 유저는 그날 활동 유저 스케치에 합침 (HyperLogLog 는 중복 유저를 다시 넣어도 무관)
+ * delta 는 week-to-date / month-to-date 에도 같은 트랜잭션에서 그대로 더함
+ * rolling_status 에도 delta 를 그대로 더함 (윈도우 안 날짜일 때만)
+ *
+ * watermark 없이 기존 DailyStatus가 있다면(전체 집계로 만든 결과) 중복 합산을 막기 위해
+ * 해당 일자를 삭제하고 처음부터 다시 집계
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DailyStatsIncrementalTasklet extends AbstractRetryableTasklet {
+
+    private final UserActivityRepository activityRepository;
+    private final DailyStatusRepository dailyRepository;
+    private final DailyAggregationWatermarkRepository watermarkRepository;
+    private final BatchLockService lockService;
+    private final ActiveUserSketchRecorder activeUserSketchRecorder;
+    private final RollingWindowUpdater rollingWindowUpdater;
+    private final DailyStatsDateLock dateLock;
+    private final PeriodToDateAccumulator periodToDateAccumulator;
+    private final StatsPushdownRepository pushdownRepository;
+    private final StatsBulkWriterFactory writerFactory;
+
+    private static final int TOUCH_BATCH_SIZE = 1000;
+
+    // 상한 id 를 정할 때 최근 적재분을 제외하는 시간 (초)
+    @Value("${stats.incremental.safety-lag-seconds:300}")
+    private long safetyLagSeconds;
+
+    @Override
+    protected void doExecute(StepContribution contribution, ChunkContext context) {
+
+        boolean locked = lockService.acquireLock(
+                "DAILY_STATS",
+                BatchLockPolicy.EXCLUSIVE,
+                "DAILY",
+                "일간 통계 증분 집계 중복 실행 방지"
+        );
+
+        if (!locked) {
+            throw new NonCriticalBatchException("Daily Lock 획득 실패");
+        }
+
+        List<String> dateLocks = List.of();
+        try {
+            Object param = context.getStepContext().getJobParameters().get("targetDate");
+            LocalDate targetDate = (param != null)
+                    ? LocalDate.parse((String) param)
+                    : LocalDate.now().minusDays(1);
+
+            // 같은 날짜를 다시 만드는 백필과 겹치지 않도록 날짜별 락도 획득
+            dateLocks = dateLock.acquire(List.of(targetDate), "일간 통계 증분 집계");
+
+            LocalDateTime start = targetDate.atStartOfDay();
+            LocalDateTime end = targetDate.plusDays(1).atStartOfDay();
+
+            DailyAggregationWatermark watermark = watermarkRepository.findById(targetDate)
+                    .orElseGet(() -> initWatermark(targetDate));
+
+            Long maxId = activityRepository.findMaxIdIngestedBefore(safetyLagSeconds);
+            long afterId = watermark.getLastActivityId();
+            long uptoId = maxId == null ? 0 : maxId;
+
+            if (uptoId <= afterId) {
+                log.info("[DailyIncremental] no new activity. date={}, watermark={}", targetDate, afterId);
+                return;
+            }
+
+            // 종료 시 캐시에서 비울 기간 : 일간 + week / month-to-date (StatsCacheInvalidationListener)
+            StatsCacheInvalidationListener.markRewrittenThroughPeriod(
+                    context.getStepContext().getStepExecution().getJobExecution().getExecutionContext(), targetDate);
+
+            // 1️⃣ watermark 이후 row만 집계 (delta)
+            List<DailyAggregationDTO> deltas =
+                    activityRepository.aggregateDailyBetweenIds(start, end, afterId, uptoId);
+
+            List<DailyStatus> deltaRows = deltas.stream()
+                    .map(delta -> DailyStatus.builder()
+                            .userId(delta.getUserId())
+                            .date(targetDate)
+                            .loginCount(delta.getLoginCount())
+                            .viewCount(delta.getViewCount())
+                            .orderCount(delta.getOrderCount())
+                            .build())
+                    .toList();
+
+            // 2️⃣ daily_status 에 delta 누적 (기존 row 는 더하고, 신규 유저는 INSERT)
+            writerFactory.dailyStatusIncrementWriter().writeAll(deltaRows);
+            touchAggregatedAt(targetDate, deltas.stream().map(DailyAggregationDTO::getUserId).toList());
+
+            // 3️⃣ week / month-to-date 에 delta 누적 (직전 값 없이 delta 를 그대로 더함)
+            periodToDateAccumulator.accumulate(targetDate, Map.of(), deltaRows);
+
+            // 4️⃣ 활동 유저 스케치에 delta 유저 합침
+            activeUserSketchRecorder.add(targetDate,
+                    deltas.stream().map(DailyAggregationDTO::getUserId).toList());
+
+            // 5️⃣ 윈도우 안 날짜면 rolling_status 에도 delta 누적
+            rollingWindowUpdater.applyChange(targetDate, Map.of(), deltaRows);
+
+            // 6️⃣ watermark 전진
+            watermark.advanceTo(uptoId);
+            watermarkRepository.save(watermark);
+
+            contribution.incrementWriteCount(deltas.size());
+            log.info("[DailyIncremental] date={}, ids=({}, {}], merged={}",
+                    targetDate, afterId, uptoId, deltas.size());
+
+        } finally {
+            dateLock.release(dateLocks);
+            lockService.releaseLock("DAILY_STATS");
+        }
+    }
+
+    /**
+     * 병합한 유저의 집계 시각을 DB 시계로 갱신 (IN 절 크기 제한을 위해 나눠서 실행)
+     */
+    private void touchAggregatedAt(LocalDate targetDate, List<Long> userIds) {
+        for (int i = 0; i < userIds.size(); i += TOUCH_BATCH_SIZE) {
+            dailyRepository.touchCreatedAt(targetDate,
+                    userIds.subList(i, Math.min(i + TOUCH_BATCH_SIZE, userIds.size())));
+        }
+    }
+
+    /**
+     * 최초 증분 실행 : 전체 집계로 만든 기존 결과가 있으면 비우고 0부터 시작
+     */
+    private DailyAggregationWatermark initWatermark(LocalDate targetDate) {
+        // 지우는 row 만큼 to-date / rolling 에서도 차감
+        Map<Long, long[]> removed = pushdownRepository.findDailyCounts(targetDate);
+        periodToDateAccumulator.accumulate(targetDate, removed, List.of());
+        rollingWindowUpdater.applyChange(targetDate, removed, List.of());
+        dailyRepository.deleteByDate(targetDate);
+        return new DailyAggregationWatermark(targetDate);
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.kybatch.job.stats.daily;
+
+import com.example.kybatch.batch.exception.NonCriticalBatchException;
+import com.example.kybatch.domain.lock.BatchLockPolicy;
+import com.example.kybatch.lock.BatchLockService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * DailyStatsPartitionLockListener
+ * ------------------------------------------------------------
+ * dailyStatsPartitionedJob 전체(cleanup → 파티션 worker)를 일간 락으로 감쌈
+ *
+ * - 다른 일간 Job 과 같은 전역 DAILY_STATS 락 + 대상 일자 날짜별 락(DailyStatsDateLock)
+ * - 여러 Step 에 걸쳐 daily_status 를 지우고 다시 쓰므로 Tasklet 단위가 아닌 Job 단위로 획득 / 해제
+ * - 획득 실패 시 beforeJob 에서 예외 → Job FAILED (Step 은 실행되지 않음)
+ * - 해제는 이 실행이 실제로 잡은 락만 (다른 Job 이 잡은 락을 풀지 않도록 JobExecution id 로 추적)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DailyStatsPartitionLockListener implements JobExecutionListener {
+
+    private static final String GLOBAL_LOCK = "DAILY_STATS";
+
+    private final BatchLockService lockService;
+    private final DailyStatsDateLock dateLock;
+
+    private final Map<Long, List<String>> heldLocks = new ConcurrentHashMap<>();
+
+    @Override
+    public void beforeJob(JobExecution jobExecution) {
+        String param = jobExecution.getJobParameters().getString("targetDate");
+        LocalDate targetDate = (param != null)
+                ? LocalDate.parse(param)
+                : LocalDate.now().minusDays(1);
+
+        boolean locked = lockService.acquireLock(
+                GLOBAL_LOCK,
+                BatchLockPolicy.EXCLUSIVE,
+                "DAILY",
+                "일간 통계 파티션 집계 중복 실행 방지"
+        );
+
+        if (!locked) {
+            throw new NonCriticalBatchException("Daily Lock 획득 실패");
+        }
+
+        List<String> locks = new ArrayList<>();
+        locks.add(GLOBAL_LOCK);
+        try {
+            locks.addAll(dateLock.acquire(List.of(targetDate), "일간 통계 파티션 집계"));
+        } catch (RuntimeException e) {
+            lockService.releaseLock(GLOBAL_LOCK);
+            throw e;
+        }
+        heldLocks.put(jobExecution.getId(), locks);
+    }
+
+    @Override
+    public void afterJob(JobExecution jobExecution) {
+        List<String> locks = heldLocks.remove(jobExecution.getId());
+        if (locks == null) {
+            return;
+        }
+        // 날짜 락 → 전역 락 순서로 해제 (Tasklet 의 finally 와 동일)
+        for (int i = locks.size() - 1; i >= 0; i--) {
+            lockService.releaseLock(locks.get(i));
+        }
+        log.info("[DailyStatsPartitionedJob] released locks {} ({})", locks, jobExecution.getStatus());
+    }
+}
@@ -0,0 +1,337 @@
+package com.example.kybatch.job.stats.daily;
+
+import com.example.kybatch.domain.activity.UserActivityRepository;
+import com.example.kybatch.domain.stats.DailyAggregationWatermarkRepository;
+import com.example.kybatch.domain.stats.DailyStatus;
+import com.example.kybatch.domain.stats.DailyStatusRepository;
+import com.example.kybatch.domain.stats.StatsPushdownRepository;
+import com.example.kybatch.dto.DailyAggregationDTO;
+import com.example.kybatch.job.aggregation.daily.DailyAggregationKeysetReader;
+import com.example.kybatch.job.listener.BatchAutoRestartJobListener;
+import com.example.kybatch.job.listener.JobExecutionLoggingListener;
+import com.example.kybatch.job.listener.StatsCacheInvalidationListener;
+import com.example.kybatch.job.listener.StepExecutionLoggingListener;
+import com.example.kybatch.job.stats.sketch.ActiveUserSketchRecorder;
+import com.example.kybatch.job.stats.sketch.HyperLogLog;
+import com.example.kybatch.job.stats.writer.StatsBulkWriterFactory;
+import com.example.kybatch.job.stats.writer.StatsWriteMode;
+import com.example.kybatch.notification.listener.BatchFailureNotificationListener;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.partition.support.TaskExecutorPartitionHandler;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.item.ItemProcessor;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.batch.item.database.builder.JpaItemWriterBuilder;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 🧩 Daily Stats Partitioned Job
+ * - dailyStatsAggregationJob(단일 Tasklet, 단일 트랜잭션)의 병렬 버전
+ * - userId 범위를 gridSize 개로 나눠 파티션마다 독립된 chunk 트랜잭션으로 집계/저장
+ *
+ * Job Parameters
+ * - targetDate : 집계 대상 일자 (yyyy-MM-dd, 없으면 어제)
+ * - gridSize   : 파티션 수 (없으면 CPU 코어 수)
+ *
+ * 락
+ * - Job 시작 시 DAILY_STATS 전역 락 + 대상 일자 락 획득, 종료 시 해제 (DailyStatsPartitionLockListener)
+ *   → 정기 / 증분 / late 재집계 / 백필과 같은 날짜를 동시에 쓰지 않음
+ *
+ * 흐름
+ * 1) dailyStatsPartitionCleanupStep : 대상 일자 기존 결과 삭제 (재실행 멱등성, UPSERT 모드는 빠진 유저만)
+ *                                     + 지운 row 만큼 week / month-to-date / rolling_status 차감
+ *                                     + 증분 watermark 제거 (다음 증분 실행은 0부터 재집계)
+ * 2) dailyStatsPartitionedStep      : manager step, 파티션을 worker step으로 병렬 실행
+ *                                     (worker chunk 마다 같은 트랜잭션에서 이전 값과의 차이를 to-date / rolling 에 누적)
+ * 3) dailyStatsPartitionFinalizeStep : 모든 파티션 저장 후 대상 일자 결과를 한 번 스트리밍
+ *                                     (dailyStatsAggregationJob 이 저장 후 하는 일자 단위 기록과 동일)
+ *                                     + DAILY 리더보드 / 분포 스케치 교체
+ *                                     + 그날 활동 유저 HyperLogLog 스케치 교체
+ */
+@Slf4j
+@Profile("batch")
+@Configuration
+@RequiredArgsConstructor
+public class DailyStatsPartitionedJobConfig {
+
+    private static final int CHUNK_SIZE = 1000;
+
+    private final JobRepository jobRepository;
+    private final PlatformTransactionManager tm;
+    private final EntityManagerFactory emf;
+
+    private final UserActivityRepository activityRepository;
+    private final DailyStatusRepository dailyRepository;
+    private final StatsBulkWriterFactory bulkWriterFactory;
+    private final StatsPushdownRepository pushdownRepository;
+    private final RollingWindowUpdater rollingWindowUpdater;
+    private final DailyAggregationWatermarkRepository watermarkRepository;
+    private final PeriodToDateAccumulator periodToDateAccumulator;
+    private final ActiveUserSketchRecorder activeUserSketchRecorder;
+    private final DailyRankingRecorder dailyRankingRecorder;
+
+    private final JobExecutionLoggingListener jobListener;
+    private final BatchFailureNotificationListener failureNotificationListener;
+    private final StatsCacheInvalidationListener statsCacheInvalidationListener;
+    private final BatchAutoRestartJobListener batchAutoRestartJobListener;
+    private final StepExecutionLoggingListener stepListener;
+    private final DailyStatsPartitionLockListener partitionLockListener;
+
+    @Bean
+    public Job dailyStatsPartitionedJob(Step dailyStatsPartitionCleanupStep,
+                                        Step dailyStatsPartitionedStep,
+                                        Step dailyStatsPartitionFinalizeStep) {
+        return new JobBuilder("dailyStatsPartitionedJob", jobRepository)
+                .listener(partitionLockListener)
+                .listener(jobListener)
+                .listener(batchAutoRestartJobListener)
+                .listener(failureNotificationListener)
+                .listener(statsCacheInvalidationListener)
+                .start(dailyStatsPartitionCleanupStep)
+                .next(dailyStatsPartitionedStep)
+                .next(dailyStatsPartitionFinalizeStep)
+                .build();
+    }
+
+    /* =========================================================
+     * 1) 기존 결과 삭제
+     * ========================================================= */
+    @Bean
+    public Step dailyStatsPartitionCleanupStep(
+            @Value("${stats.write.mode:ENTITY}") StatsWriteMode writeMode
+    ) {
+        return new StepBuilder("dailyStatsPartitionCleanupStep", jobRepository)
+                .tasklet((contribution, chunkContext) -> {
+
+                    Object targetDate = chunkContext.getStepContext()
+                            .getJobParameters().get("targetDate");
+                    LocalDate target = resolveTargetDate((String) targetDate);
+
+                    // 종료 시 캐시에서 비울 기간 : 일간 + week / month-to-date (StatsCacheInvalidationListener)
+                    // → worker 시작 전에 한 번만 기록
+                    StatsCacheInvalidationListener.markRewrittenThroughPeriod(
+                            chunkContext.getStepContext().getStepExecution().getJobExecution().getExecutionContext(),
+                            target);
+
+                    watermarkRepository.deleteBetween(target, target.plusDays(1));
+
+                    // UPSERT 모드는 worker가 키 기준으로 덮어쓰므로 그날 활동이 없는 유저 row 만 삭제
+                    if (writeMode == StatsWriteMode.UPSERT) {
+                        Map<Long, long[]> stale = pushdownRepository.findStaleDailyCounts(
+                                target, target.atStartOfDay(), target.plusDays(1).atStartOfDay());
+                        periodToDateAccumulator.accumulate(target, stale, List.of());
+                        rollingWindowUpdater.applyChange(target, stale, List.of());
+                        int removed = pushdownRepository.deleteStaleDaily(
+                                target, target.atStartOfDay(), target.plusDays(1).atStartOfDay());
+                        log.info("[DailyStatsPartitionedJob] removed stale daily_status. date={}, rows={}", target, removed);
+                        return RepeatStatus.FINISHED;
+                    }
+
+                    Map<Long, long[]> existing = pushdownRepository.findDailyCounts(target);
+                    periodToDateAccumulator.accumulate(target, existing, List.of());
+                    rollingWindowUpdater.applyChange(target, existing, List.of());
+                    dailyRepository.deleteByDate(target);
+                    log.info("[DailyStatsPartitionedJob] cleared daily_status. date={}", target);
+                    return RepeatStatus.FINISHED;
+
+                }, tm)
+                .listener(stepListener)
+                .build();
+    }
+
+    /* =========================================================
+     * 2) Manager Step (Partitioner + TaskExecutorPartitionHandler)
+     * ========================================================= */
+    @Bean
+    public Step dailyStatsPartitionedStep(DailyStatsUserRangePartitioner dailyStatsUserRangePartitioner,
+                                          TaskExecutorPartitionHandler dailyStatsPartitionHandler) {
+        return new StepBuilder("dailyStatsPartitionedStep", jobRepository)
+                .partitioner("dailyStatsPartitionWorkerStep", dailyStatsUserRangePartitioner)
+                .partitionHandler(dailyStatsPartitionHandler)
+                .listener(stepListener)
+                .build();
+    }
+
+    @Bean
+    @StepScope
+    public DailyStatsUserRangePartitioner dailyStatsUserRangePartitioner(
+            @Value("#{jobParameters['targetDate']}") String targetDate
+    ) {
+        LocalDate target = resolveTargetDate(targetDate);
+        return new DailyStatsUserRangePartitioner(
+                activityRepository,
+                target.atStartOfDay(),
+                target.plusDays(1).atStartOfDay()
+        );
+    }
+
+    /**
+     * gridSize를 Job 파라미터로 받기 위해 StepScope로 생성
+     */
+    @Bean
+    @StepScope
+    public TaskExecutorPartitionHandler dailyStatsPartitionHandler(
+            @Value("#{jobParameters['gridSize']}") Long gridSize,
+            Step dailyStatsPartitionWorkerStep,
+            TaskExecutor dailyStatsPartitionTaskExecutor
+    ) {
+        TaskExecutorPartitionHandler handler = new TaskExecutorPartitionHandler();
+        handler.setStep(dailyStatsPartitionWorkerStep);
+        handler.setTaskExecutor(dailyStatsPartitionTaskExecutor);
+        handler.setGridSize(gridSize != null && gridSize > 0
+                ? gridSize.intValue()
+                : Runtime.getRuntime().availableProcessors());
+        return handler;
+    }
+
+    @Bean
+    public TaskExecutor dailyStatsPartitionTaskExecutor() {
+        int cores = Runtime.getRuntime().availableProcessors();
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(cores);
+        executor.setMaxPoolSize(cores);
+        executor.setQueueCapacity(Integer.MAX_VALUE);
+        executor.setThreadNamePrefix("daily-stats-partition-");
+        executor.initialize();
+        return executor;
+    }
+
+    /* =========================================================
+     * 3) Worker Step (파티션 1개 = userId 구간 1개)
+     * ========================================================= */
+    @Bean
+    public Step dailyStatsPartitionWorkerStep(
+            DailyAggregationKeysetReader dailyStatsPartitionReader,
+            ItemProcessor<DailyAggregationDTO, DailyStatus> dailyStatsPartitionProcessor,
+            ItemWriter<DailyStatus> dailyStatsPartitionWriter
+    ) {
+        return new StepBuilder("dailyStatsPartitionWorkerStep", jobRepository)
+                .<DailyAggregationDTO, DailyStatus>chunk(CHUNK_SIZE, tm)
+                .reader(dailyStatsPartitionReader)
+                .processor(dailyStatsPartitionProcessor)
+                .writer(dailyStatsPartitionWriter)
+                .build();
+    }
+
+    @Bean
+    @StepScope
+    public DailyAggregationKeysetReader dailyStatsPartitionReader(
+            @Value("#{jobParameters['targetDate']}") String targetDate,
+            @Value("#{stepExecutionContext['minUserId']}") Long minUserId,
+            @Value("#{stepExecutionContext['maxUserId']}") Long maxUserId
+    ) {
+        LocalDate target = resolveTargetDate(targetDate);
+        return new DailyAggregationKeysetReader(
+                "dailyStatsPartitionReader",
+                emf,
+                target.atStartOfDay(),
+                target.plusDays(1).atStartOfDay(),
+                CHUNK_SIZE,
+                minUserId,
+                maxUserId
+        );
+    }
+
+    @Bean
+    @StepScope
+    public ItemProcessor<DailyAggregationDTO, DailyStatus> dailyStatsPartitionProcessor(
+            @Value("#{jobParameters['targetDate']}") String targetDate
+    ) {
+        LocalDate target = resolveTargetDate(targetDate);
+
+        return dto -> DailyStatus.builder()
+                .userId(dto.getUserId())
+                .date(target)
+                .loginCount(dto.getLoginCount())
+                .viewCount(dto.getViewCount())
+                .orderCount(dto.getOrderCount())
+                .build();
+    }
+
+    /**
+     * stats.write.mode 에 따라 COPY / UPSERT writer, 그 외에는 JPA writer
+     * - 저장 전에 같은 chunk 트랜잭션에서 week / month-to-date / rolling 누적 (chunk 유저의 이전 값과의 차이)
+     */
+    @Bean
+    public ItemWriter<DailyStatus> dailyStatsPartitionWriter(
+            @Value("${stats.write.mode:ENTITY}") StatsWriteMode writeMode
+    ) {
+        ItemWriter<DailyStatus> delegate;
+        if (writeMode == StatsWriteMode.COPY) {
+            delegate = bulkWriterFactory.dailyStatusWriter();
+        } else if (writeMode == StatsWriteMode.UPSERT) {
+            delegate = bulkWriterFactory.dailyStatusUpsertWriter();
+        } else {
+            delegate = new JpaItemWriterBuilder<DailyStatus>()
+                    .entityManagerFactory(emf)
+                    .usePersist(true)
+                    .build();
+        }
+
+        return chunk -> {
+            if (!chunk.isEmpty()) {
+                List<? extends DailyStatus> items = chunk.getItems();
+                LocalDate date = items.get(0).getDate();
+                Map<Long, long[]> before = pushdownRepository.findDailyCounts(date,
+                        items.stream().map(DailyStatus::getUserId).toList());
+                periodToDateAccumulator.accumulateChunk(date, before, items);
+                rollingWindowUpdater.applyChange(date, before, items);
+            }
+            delegate.write(chunk);
+        };
+    }
+
+    /* =========================================================
+     * 4) 파티션 저장 이후 일자 단위 후속 기록
+     * ========================================================= */
+    @Bean
+    public Step dailyStatsPartitionFinalizeStep() {
+        return new StepBuilder("dailyStatsPartitionFinalizeStep", jobRepository)
+                .tasklet((contribution, chunkContext) -> {
+
+                    Object targetDate = chunkContext.getStepContext()
+                            .getJobParameters().get("targetDate");
+                    LocalDate target = resolveTargetDate((String) targetDate);
+
+                    // 파티션마다 유저 구간이 달라 worker 에서는 하루 전체 순위 / 스케치를 만들 수 없음
+                    // → 저장 결과를 한 번 스트리밍하며 순위 / 분포 / 활동 유저를 함께 수집
+                    HyperLogLog activeUsers = new HyperLogLog();
+                    dailyRankingRecorder.record(target, rows -> pushdownRepository.forEachDaily(target, s -> {
+                        activeUsers.offer(s.getUserId());
+                        rows.accept(s);
+                    }));
+                    activeUserSketchRecorder.replace(target, activeUsers);
+
+                    log.info("[DailyStatsPartitionedJob] finalized. date={}", target);
+                    return RepeatStatus.FINISHED;
+
+                }, tm)
+                .listener(stepListener)
+                .build();
+    }
+
+    private static LocalDate resolveTargetDate(String targetDate) {
+        return (targetDate != null)
+                ? LocalDate.parse(targetDate)
+                : LocalDate.now().minusDays(1);
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.kybatch.job.stats.daily;
+
+import com.example.kybatch.domain.activity.UserActivityRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * DailyStatsUserRangePartitioner
+ * ------------------------------------------------------------
+ * - 대상 일자의 userId 범위(min ~ max)를 gridSize 개의 연속 구간으로 분할
+ * - 각 파티션 ExecutionContext에 minUserId / maxUserId 저장
+ * - worker step의 reader가 해당 구간만 keyset으로 읽음
+ *
+ * 집계 대상이 없으면 파티션 0개 → worker step 실행 없이 종료
+ */
+@Slf4j
+public class DailyStatsUserRangePartitioner implements Partitioner {
+
+    public static final String MIN_USER_ID = "minUserId";
+    public static final String MAX_USER_ID = "maxUserId";
+
+    private final UserActivityRepository activityRepository;
+    private final LocalDateTime start;
+    private final LocalDateTime end;
+
+    public DailyStatsUserRangePartitioner(UserActivityRepository activityRepository,
+                                          LocalDateTime start,
+                                          LocalDateTime end) {
+        this.activityRepository = activityRepository;
+        this.start = start;
+        this.end = end;
+    }
+
+    @Override
+    public Map<String, ExecutionContext> partition(int gridSize) {
+        Map<String, ExecutionContext> partitions = new LinkedHashMap<>();
+
+        Long min = activityRepository.findMinUserIdBetween(start, end);
+        Long max = activityRepository.findMaxUserIdBetween(start, end);
+        if (min == null || max == null) {
+            log.info("[DailyStatsPartitioner] no activity in [{}, {})", start, end);
+            return partitions;
+        }
+
+        long span = max - min + 1;
+        int grid = (int) Math.max(1, Math.min(gridSize, span));
+        long rangeSize = (span + grid - 1) / grid;
+
+        int index = 0;
+        for (long from = min; from <= max; from += rangeSize) {
+            long to = Math.min(from + rangeSize - 1, max);
+
+            ExecutionContext context = new ExecutionContext();
+            context.putLong(MIN_USER_ID, from);
+            context.putLong(MAX_USER_ID, to);
+            partitions.put("partition" + index++, context);
+        }
+
+        log.info("[DailyStatsPartitioner] userId {}~{} → {} partitions", min, max, partitions.size());
+        return partitions;
+    }
+}
@@ -0,0 +1,181 @@
+package com.example.kybatch.job.stats.daily;
+
+import com.example.kybatch.domain.stats.DailyStatus;
+import com.example.kybatch.domain.stats.MonthlyStatus;
+import com.example.kybatch.domain.stats.StatsPushdownRepository;
+import com.example.kybatch.domain.stats.WeeklyStatus;
+import com.example.kybatch.job.stats.writer.StatsBulkWriterFactory;
+import com.example.kybatch.job.stats.writer.StatsIncrementItemWriter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.temporal.WeekFields;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * PeriodToDateAccumulator
+ * ------------------------------------------------------------
+ * 일간 집계 결과를 month-to-date(MonthlyStatus) / week-to-date(WeeklyStatus) 에 누적
+ *
+ * - 일간 재실행에도 안전하도록 "이번 결과 - 직전 결과" 차이만 더함
+ *   (최초 실행이면 직전 결과가 없으므로 그대로 더해짐)
+ * - 차이가 0인 유저는 건너뜀
+ * - 직전에만 있던 유저는 차감 후 카운터가 모두 0이 되면 to-date row 삭제
+ * - WRITE_BATCH_SIZE 단위 increment upsert
+ *
+ * daily_status 를 쓰는 모든 writer 가 같은 트랜잭션에서 호출 → to-date 합계 = 기간 내 daily_status 합계 유지
+ * - 날짜 전체를 다시 쓰는 경우      : {@link #accumulate} (직전 결과는 StatsPushdownRepository#findDailyCounts)
+ * - chunk 단위로 덮어쓰는 경우      : {@link #accumulateChunk} (저장 직전에 호출, 해당 유저의 이전 값만 조회)
+ * - 일간 row 를 지우기만 하는 경우  : accumulate(date, 지울 row, 빈 목록)
+ * - 증분 delta 를 더하는 경우       : accumulate(date, 빈 map, delta)
+ *
+ * 키 규칙은 정규 Tasklet과 동일
+ * - 주간 : 연도 = ISO week-based year, 주차 = ISO 주차
+ * - 월간 : 해당 일자의 연도 / 월
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PeriodToDateAccumulator {
+
+    private static final int WRITE_BATCH_SIZE = 1000;
+
+    private final StatsBulkWriterFactory writerFactory;
+    private final StatsPushdownRepository pushdownRepository;
+
+    /**
+     * 일간 결과 변경 전 상태 (userId → login, view, order)
+     * - 기존 DailyStatus 를 삭제/덮어쓰기 전에 만들어 둠
+     */
+    public static Map<Long, long[]> snapshot(List<DailyStatus> before) {
+        Map<Long, long[]> snapshot = new HashMap<>(before.size() * 2);
+        for (DailyStatus s : before) {
+            snapshot.put(s.getUserId(), new long[]{s.getLoginCount(), s.getViewCount(), s.getOrderCount()});
+        }
+        return snapshot;
+    }
+
+    /**
+     * @param date   일간 집계 대상일
+     * @param before 변경 전 스냅샷 ({@link #snapshot} 또는 StatsPushdownRepository#findDailyCounts)
+     * @param after  이번 실행에서 저장한 DailyStatus
+     * @return 누적 반영한 유저 수
+     */
+    public int accumulate(LocalDate date, Map<Long, long[]> before, List<DailyStatus> after) {
+        int applied = apply(date, before, after);
+
+        log.info("[PeriodToDate] {} accumulated into week {}-W{} / month {}-{}. users={}",
+                date, date.get(WeekFields.ISO.weekBasedYear()), date.get(WeekFields.ISO.weekOfWeekBasedYear()),
+                date.getYear(), date.getMonthValue(), applied);
+        return applied;
+    }
+
+    /**
+     * chunk 저장 직전 호출 : 같은 날짜 DailyStatus 묶음을 덮어쓰기 전에 이전 값과의 차이만 누적
+     * - 이전 값은 chunk 유저만 (user_id, 카운터) 로 조회 → 날짜 전체를 읽지 않음
+     *
+     * @return 누적 반영한 유저 수
+     */
+    public int accumulateChunk(LocalDate date, List<? extends DailyStatus> rows) {
+        if (rows.isEmpty()) {
+            return 0;
+        }
+        List<Long> userIds = rows.stream().map(DailyStatus::getUserId).toList();
+        return accumulateChunk(date, pushdownRepository.findDailyCounts(date, userIds), rows);
+    }
+
+    /**
+     * 이전 값을 호출 측에서 이미 조회한 경우 (rolling window 등 다른 갱신과 같은 이전 값을 공유)
+     */
+    public int accumulateChunk(LocalDate date, Map<Long, long[]> before, List<? extends DailyStatus> rows) {
+        return apply(date, before, rows);
+    }
+
+    private int apply(LocalDate date, Map<Long, long[]> before, List<? extends DailyStatus> after) {
+
+        LocalDate weekStart = date.with(WeekFields.ISO.dayOfWeek(), 1);
+        LocalDate weekEnd = weekStart.plusDays(6);
+        int weekYear = date.get(WeekFields.ISO.weekBasedYear());
+        int weekOfYear = date.get(WeekFields.ISO.weekOfWeekBasedYear());
+
+        StatsIncrementItemWriter<WeeklyStatus> weeklyWriter = writerFactory.weeklyStatusIncrementWriter();
+        StatsIncrementItemWriter<MonthlyStatus> monthlyWriter = writerFactory.monthlyStatusIncrementWriter();
+
+        List<WeeklyStatus> weekly = new ArrayList<>(WRITE_BATCH_SIZE);
+        List<MonthlyStatus> monthly = new ArrayList<>(WRITE_BATCH_SIZE);
+        Map<Long, long[]> remaining = new HashMap<>(before);
+        int applied = 0;
+
+        // 1️⃣ 이번 결과 - 직전 결과
+        for (DailyStatus s : after) {
+            long[] prev = remaining.remove(s.getUserId());
+            long login = s.getLoginCount() - (prev != null ? prev[0] : 0);
+            long view = s.getViewCount() - (prev != null ? prev[1] : 0);
+            long order = s.getOrderCount() - (prev != null ? prev[2] : 0);
+
+            if (login != 0 || view != 0 || order != 0) {
+                add(weekly, monthly, s.getUserId(), login, view, order, date, weekYear, weekOfYear, weekStart, weekEnd);
+                applied++;
+                flushIfFull(weeklyWriter, weekly, monthlyWriter, monthly);
+            }
+        }
+
+        // 2️⃣ 직전에는 있었지만 이번에 사라진 유저 → 직전 값만큼 차감
+        for (Map.Entry<Long, long[]> gone : remaining.entrySet()) {
+            long[] prev = gone.getValue();
+            add(weekly, monthly, gone.getKey(), -prev[0], -prev[1], -prev[2], date, weekYear, weekOfYear, weekStart, weekEnd);
+            applied++;
+            flushIfFull(weeklyWriter, weekly, monthlyWriter, monthly);
+        }
+
+        weeklyWriter.writeAll(weekly);
+        monthlyWriter.writeAll(monthly);
+
+        // 3️⃣ 사라진 유저 중 그 기간에 남은 값이 없는 유저 row 삭제 (0 row 를 남기지 않음)
+        if (!remaining.isEmpty()) {
+            pushdownRepository.deleteEmptyWeekly(weekYear, weekOfYear, remaining.keySet());
+            pushdownRepository.deleteEmptyMonthly(date.getYear(), date.getMonthValue(), remaining.keySet());
+        }
+        return applied;
+    }
+
+    private void add(List<WeeklyStatus> weekly, List<MonthlyStatus> monthly,
+                     long userId, long login, long view, long order,
+                     LocalDate date, int weekYear, int weekOfYear, LocalDate weekStart, LocalDate weekEnd) {
+
+        weekly.add(WeeklyStatus.builder()
+                .userId(userId)
+                .year(weekYear)
+                .weekOfYear(weekOfYear)
+                .loginCount(login)
+                .viewCount(view)
+                .orderCount(order)
+                .startDate(weekStart)
+                .endDate(weekEnd)
+                .build());
+
+        monthly.add(MonthlyStatus.builder()
+                .userId(userId)
+                .year(date.getYear())
+                .month(date.getMonthValue())
+                .loginCount(login)
+                .viewCount(view)
+                .orderCount(order)
+                .build());
+    }
+
+    private void flushIfFull(StatsIncrementItemWriter<WeeklyStatus> weeklyWriter, List<WeeklyStatus> weekly,
+                             StatsIncrementItemWriter<MonthlyStatus> monthlyWriter, List<MonthlyStatus> monthly) {
+        if (weekly.size() >= WRITE_BATCH_SIZE) {
+            weeklyWriter.writeAll(weekly);
+            weekly.clear();
+            monthlyWriter.writeAll(monthly);
+            monthly.clear();
+        }
+    }
+}
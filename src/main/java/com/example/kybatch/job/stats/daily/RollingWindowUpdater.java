@@ -0,0 +1,228 @@
+package com.example.kybatch.job.stats.daily;
+
+import com.example.kybatch.domain.stats.DailyStatus;
+import com.example.kybatch.domain.stats.RollingStatus;
+import com.example.kybatch.domain.stats.RollingStatusRepository;
+import com.example.kybatch.domain.stats.RollingWindowCursor;
+import com.example.kybatch.domain.stats.RollingWindowCursorRepository;
+import com.example.kybatch.domain.stats.StatsPushdownRepository;
+import com.example.kybatch.job.stats.writer.StatsBulkWriterFactory;
+import com.example.kybatch.job.stats.writer.StatsIncrementItemWriter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * RollingWindowUpdater
+ * ------------------------------------------------------------
+ * 일간 집계 결과로 rolling_status(최근 7일 / 30일) 갱신
+ *
+ * 1) 다음 날짜 (date = cursor + 1)
+ *    - date 합계를 더하고, 윈도우에서 빠진 date-7 (7일) / date-30 (30일) 합계를 뺌
+ *    → 하루 비용 O(해당 날짜들의 유저 수)
+ * 2) 재실행 / 과거 날짜 (date <= cursor)
+ *    - 윈도우 이동 없이 "이번 결과 - 직전 결과" 차이만 반영 (윈도우 밖이면 무시)
+ * 3) 최초 실행 / 날짜 공백 (cursor 없음, date > cursor + 1)
+ *    - daily_status 30일 범위로 rolling_status 전체 재생성
+ * 4) 일간 배치 밖 writer (증분 / late 재집계 / 백필 / 파티션 Job)
+ *    - 차감은 "지금" daily_status 값으로 하므로, 윈도우 안 날짜가 바뀐 만큼 rolling_status 에도 반영해야 어긋나지 않음
+ *    - {@link #applyChange} 로 바뀐 row 의 이전 값 / 새 값을 넘김 → 윈도우 이동 없이 차이만 반영
+ *    - 이전 값을 알 수 없는 writer 만 {@link #invalidate} 로 stale 표시 → 다음 갱신 때 전체 재생성
+ *
+ * 모든 변경은 일간 저장과 같은 트랜잭션에서 수행, cursor 도 함께 갱신
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RollingWindowUpdater {
+
+    private static final int WRITE_BATCH_SIZE = 1000;
+    private static final int SHORT_WINDOW = 7;
+    private static final int LONG_WINDOW = 30;
+
+    private final RollingWindowCursorRepository cursorRepository;
+    private final RollingStatusRepository rollingRepository;
+    private final StatsPushdownRepository pushdownRepository;
+    private final StatsBulkWriterFactory writerFactory;
+
+    /**
+     * @param date     일간 집계 대상일
+     * @param previous 변경 전 스냅샷 ({@link PeriodToDateAccumulator#snapshot})
+     * @param after    이번 실행에서 저장한 DailyStatus
+     */
+    @Transactional
+    public void apply(LocalDate date, Map<Long, long[]> previous, List<DailyStatus> after) {
+
+        RollingWindowCursor cursor = cursorRepository.findById(RollingWindowCursor.ROLLING_STATUS).orElse(null);
+
+        // 3️⃣ 최초 실행 / 날짜 공백 → 전체 재생성
+        if (cursor == null || date.isAfter(cursor.getLastDate().plusDays(1))) {
+            rebuild(date, cursor);
+            return;
+        }
+
+        LocalDate asOf = cursor.getLastDate();
+        boolean advance = date.isAfter(asOf);
+        if (advance) {
+            asOf = date;
+        }
+
+        // 4️⃣ 이전 값을 모르는 writer 가 윈도우 안 날짜를 바꿈 → 전체 재생성
+        if (cursor.isStale()) {
+            rebuild(asOf, cursor);
+            return;
+        }
+
+        // 새 날짜(또는 재실행 날짜) 반영 : 이번 결과 - 직전 결과
+        // 새 날짜는 아직 rolling_status 에 들어간 적이 없으므로 직전 결과(증분 Job 등이 쓴 값)를 빼지 않음
+        Map<Long, long[]> deltas = new HashMap<>();
+        addDifference(deltas, date, asOf, advance ? Map.of() : previous, after);
+
+        // 1️⃣ 윈도우 이동 : 빠지는 날짜 차감 (user_id, 카운터만 JDBC 로 조회)
+        if (advance) {
+            pushdownRepository.findDailyCounts(date.minusDays(SHORT_WINDOW)).forEach((userId, out) ->
+                    add(deltas, userId, -out[0], -out[1], -out[2], true, false));
+            pushdownRepository.findDailyCounts(date.minusDays(LONG_WINDOW)).forEach((userId, out) ->
+                    add(deltas, userId, -out[0], -out[1], -out[2], false, true));
+            cursor.advanceTo(date);
+            cursorRepository.save(cursor);
+        }
+
+        int written = write(deltas);
+        int removed = advance ? rollingRepository.deleteEmpty() : 0;
+
+        log.info("[RollingWindow] date={} asOf={} users updated={}, removed={}", date, asOf, written, removed);
+    }
+
+    /**
+     * 일간 배치 밖에서 daily_status 를 바꾼 writer 가 같은 트랜잭션에서 호출 (윈도우는 이동하지 않음)
+     * - 바뀐 날짜가 현재 윈도우 (cursor - 30, cursor] 안이면 "새 값 - 이전 값" 만큼 rolling_status 에 반영
+     * - cursor 이후 날짜는 아직 반영 전이므로 무시 (윈도우가 그 날짜로 이동할 때 그대로 더해짐)
+     * - cursor 가 없거나 stale 이면 무시 (다음 일간 갱신 때 전체 재생성)
+     *
+     * @param date   바뀐 일자
+     * @param before 바뀐 row 의 이전 값 (userId → login, view, order), 새로 생긴 row 는 없음
+     * @param after  새 값 (증분 delta 는 before 없이 delta 만, 삭제만 한 경우는 빈 목록)
+     */
+    @Transactional
+    public void applyChange(LocalDate date, Map<Long, long[]> before, List<? extends DailyStatus> after) {
+        RollingWindowCursor cursor = cursorRepository.findById(RollingWindowCursor.ROLLING_STATUS).orElse(null);
+        if (cursor == null || cursor.isStale()) {
+            return;
+        }
+        LocalDate asOf = cursor.getLastDate();
+        if (date.isAfter(asOf) || !date.isAfter(asOf.minusDays(LONG_WINDOW))) {
+            return;
+        }
+
+        Map<Long, long[]> deltas = new HashMap<>();
+        addDifference(deltas, date, asOf, before, after);
+        int written = write(deltas);
+
+        log.debug("[RollingWindow] {} changed outside daily job. asOf={}, users updated={}", date, asOf, written);
+    }
+
+    /**
+     * 이전 값을 알 수 없는 writer 가 호출
+     * - 바뀐 날짜가 현재 윈도우 (cursor - 30, cursor] 안이면 다음 갱신 때 전체 재생성
+     * - cursor 이후 날짜는 아직 반영 전이므로 무시 (윈도우가 그 날짜로 이동할 때 그대로 더해짐)
+     */
+    @Transactional
+    public void invalidate(LocalDate date) {
+        cursorRepository.findById(RollingWindowCursor.ROLLING_STATUS).ifPresent(cursor -> {
+            LocalDate asOf = cursor.getLastDate();
+            if (!date.isAfter(asOf) && date.isAfter(asOf.minusDays(LONG_WINDOW)) && !cursor.isStale()) {
+                cursor.markStale();
+                cursorRepository.save(cursor);
+                log.info("[RollingWindow] {} changed outside daily job → rebuild on next update", date);
+            }
+        });
+    }
+
+    private void rebuild(LocalDate date, RollingWindowCursor cursor) {
+        rollingRepository.deleteAllInBatch();
+        int inserted = pushdownRepository.insertRollingFromDaily(date);
+
+        if (cursor == null) {
+            cursor = new RollingWindowCursor(RollingWindowCursor.ROLLING_STATUS, date);
+        }
+        cursor.rebuiltAt(date);
+        cursorRepository.save(cursor);
+
+        log.info("[RollingWindow] rebuilt as of {}. users={}", date, inserted);
+    }
+
+    /**
+     * date 의 "after - before" 를 asOf 기준 7일 / 30일 윈도우에 포함되는 쪽에만 누적
+     */
+    private void addDifference(Map<Long, long[]> deltas, LocalDate date, LocalDate asOf,
+                               Map<Long, long[]> before, List<? extends DailyStatus> after) {
+        boolean inShort = date.isAfter(asOf.minusDays(SHORT_WINDOW));
+        boolean inLong = date.isAfter(asOf.minusDays(LONG_WINDOW));
+
+        Map<Long, long[]> remaining = new HashMap<>(before);
+        for (DailyStatus s : after) {
+            long[] prev = remaining.remove(s.getUserId());
+            add(deltas, s.getUserId(),
+                    s.getLoginCount() - (prev != null ? prev[0] : 0),
+                    s.getViewCount() - (prev != null ? prev[1] : 0),
+                    s.getOrderCount() - (prev != null ? prev[2] : 0),
+                    inShort, inLong);
+        }
+        for (Map.Entry<Long, long[]> gone : remaining.entrySet()) {
+            long[] prev = gone.getValue();
+            add(deltas, gone.getKey(), -prev[0], -prev[1], -prev[2], inShort, inLong);
+        }
+    }
+
+    /**
+     * userId 별 변화량 [login7, view7, order7, login30, view30, order30] 누적
+     */
+    private void add(Map<Long, long[]> deltas, long userId, long login, long view, long order,
+                     boolean shortWindow, boolean longWindow) {
+        if (!shortWindow && !longWindow) {
+            return;
+        }
+        long[] d = deltas.computeIfAbsent(userId, k -> new long[6]);
+        if (shortWindow) {
+            d[0] += login;
+            d[1] += view;
+            d[2] += order;
+        }
+        if (longWindow) {
+            d[3] += login;
+            d[4] += view;
+            d[5] += order;
+        }
+    }
+
+    private int write(Map<Long, long[]> deltas) {
+        StatsIncrementItemWriter<RollingStatus> writer = writerFactory.rollingStatusIncrementWriter();
+        List<RollingStatus> batch = new ArrayList<>(WRITE_BATCH_SIZE);
+        int written = 0;
+
+        for (Map.Entry<Long, long[]> e : deltas.entrySet()) {
+            long[] d = e.getValue();
+            if (d[0] == 0 && d[1] == 0 && d[2] == 0 && d[3] == 0 && d[4] == 0 && d[5] == 0) {
+                continue;
+            }
+            batch.add(RollingStatus.builder()
+                    .userId(e.getKey())
+                    .loginCount7d(d[0]).viewCount7d(d[1]).orderCount7d(d[2])
+                    .loginCount30d(d[3]).viewCount30d(d[4]).orderCount30d(d[5])
+                    .build());
+            if (batch.size() == WRITE_BATCH_SIZE) {
+                written += writer.writeAll(batch);
+                batch.clear();
+            }
+        }
+        return written + writer.writeAll(batch);
+    }
+}
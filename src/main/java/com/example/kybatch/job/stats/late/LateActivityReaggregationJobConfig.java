@@ -0,0 +1,58 @@
+package com.example.kybatch.job.stats.late;
+
+import com.example.kybatch.job.listener.JobExecutionLoggingListener;
+import com.example.kybatch.job.listener.StatsCacheInvalidationListener;
+import com.example.kybatch.job.listener.StepExecutionLoggingListener;
+import com.example.kybatch.notification.listener.BatchFailureNotificationListener;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * 🧩 Late Activity Re-aggregation Job
+ * - 이미 집계된 날짜에 늦게 들어온 로그가 있는 (유저, 일자)만 재집계
+ * - 영향받은 주간/월간 통계까지 보정
+ *
+ * Job Parameters
+ * - lookbackDays : 탐지 기간 (기본 7일)
+ */
+@Profile("batch")
+@Configuration
+@RequiredArgsConstructor
+public class LateActivityReaggregationJobConfig {
+
+    private final JobRepository jobRepository;
+    private final PlatformTransactionManager tm;
+
+    private final LateActivityReaggregationTasklet tasklet;
+
+    private final JobExecutionLoggingListener jobListener;
+    private final BatchFailureNotificationListener failureNotificationListener;
+    private final StatsCacheInvalidationListener statsCacheInvalidationListener;
+    private final StepExecutionLoggingListener stepListener;
+
+    @Bean
+    public Job lateActivityReaggregationJob() {
+        return new JobBuilder("lateActivityReaggregationJob", jobRepository)
+                .listener(jobListener)
+                .listener(failureNotificationListener)
+                .listener(statsCacheInvalidationListener)
+                .start(lateActivityReaggregationStep())
+                .build();
+    }
+
+    @Bean
+    public Step lateActivityReaggregationStep() {
+        return new StepBuilder("lateActivityReaggregationStep", jobRepository)
+                .tasklet(tasklet, tm)
+                .listener(stepListener)
+                .build();
+    }
+}
@@ -0,0 +1,154 @@
+package com.example.kybatch.job.stats.late;
+
+import com.example.kybatch.batch.exception.NonCriticalBatchException;
+import com.example.kybatch.domain.lock.BatchLockPolicy;
+import com.example.kybatch.domain.stats.DailyAggregationWatermarkRepository;
+import com.example.kybatch.domain.stats.DailyStatus;
+import com.example.kybatch.domain.stats.LateActivityRepository;
+import com.example.kybatch.domain.stats.LateActivityRepository.LateActivityPair;
+import com.example.kybatch.domain.stats.StatsPushdownRepository;
+import com.example.kybatch.job.common.AbstractRetryableTasklet;
+import com.example.kybatch.job.listener.StatsCacheInvalidationListener;
+import com.example.kybatch.job.stats.daily.DailyStatsDateLock;
+import com.example.kybatch.job.stats.daily.PeriodToDateAccumulator;
+import com.example.kybatch.job.stats.daily.RollingWindowUpdater;
+import com.example.kybatch.job.stats.sketch.ActiveUserSketchRecorder;
+import com.example.kybatch.job.stats.writer.StatsBulkWriterFactory;
+import com.example.kybatch.job.stats.writer.StatsUpsertItemWriter;
+import com.example.kybatch.lock.BatchLockService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+/**
+ * LateActivityReaggregationTasklet
+ * ------------------------------------------------------------
+ * 이미 집계된 날짜에 늦게 들어온 활동 로그를 찾아 해당 (유저, 일자)만 재집계
+ *
+ * 1) 탐지 : user_activity.ingested_at > DailyStatus.createdAt - safety lag 인 (userId, date)
+ *           - 두 시각 모두 DB 시계 (ingested_at 이 없는 컬럼 추가 이전 row 는 제외)
+ *           - lag 안쪽 row 는 이미 반영됐어도 다시 잡힐 수 있음 → raw 전체 재합산이라 결과는 같음
+ *           - ingested_at 하한을 먼저 고정해 인덱스 범위 스캔으로 읽음 (LateActivityRepository)
+ * 2) 일간 : 쌍 묶음의 그날 raw 로그를 한 쿼리로 다시 합산해 DailyStatus upsert (쌍별 개별 조회 없음)
+ * 3) 전파 : week / month-to-date, rolling_status 에 바뀐 (유저, 일자)의 이전 값 / 새 값 차이만 반영
+ *           - 다른 daily_status writer 와 같은 규칙 (to-date 합계 = 기간 내 daily_status 합계)
+ *           - 바뀐 날짜의 증분 watermark 제거 (raw 전체 합산으로 덮어썼으므로)
+ *           - 다시 만든 유저를 그날 활동 유저 스케치에 합침 (HyperLogLog 는 중복 유저를 다시 넣어도 무관)
+ *
+ * Job Parameters
+ * - lookbackDays : 오늘 기준 탐지 기간 (기본 7일, 오늘 제외)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LateActivityReaggregationTasklet extends AbstractRetryableTasklet {
+
+    private static final long DEFAULT_LOOKBACK_DAYS = 7;
+    private static final int WRITE_BATCH_SIZE = 1000;
+
+    private final LateActivityRepository lateActivityRepository;
+    private final StatsPushdownRepository pushdownRepository;
+    private final StatsBulkWriterFactory writerFactory;
+    private final PeriodToDateAccumulator periodToDateAccumulator;
+    private final RollingWindowUpdater rollingWindowUpdater;
+    private final ActiveUserSketchRecorder activeUserSketchRecorder;
+    private final DailyAggregationWatermarkRepository watermarkRepository;
+    private final BatchLockService lockService;
+    private final DailyStatsDateLock dateLock;
+
+    // 집계 트랜잭션과 겹쳐 커밋된 적재분을 놓치지 않도록 집계 시각보다 이만큼 앞선 적재분까지 탐지 (초)
+    @Value("${stats.late.safety-lag-seconds:300}")
+    private long safetyLagSeconds;
+
+    @Override
+    protected void doExecute(StepContribution contribution, ChunkContext context) {
+
+        boolean locked = lockService.acquireLock(
+                "DAILY_STATS",
+                BatchLockPolicy.EXCLUSIVE,
+                "DAILY",
+                "late-arriving 재집계 중 일간 통계 동시 실행 방지"
+        );
+
+        if (!locked) {
+            throw new NonCriticalBatchException("Daily Lock 획득 실패");
+        }
+
+        List<String> dateLocks = List.of();
+        try {
+            Object param = context.getStepContext().getJobParameters().get("lookbackDays");
+            long lookbackDays = (param != null) ? (Long) param : DEFAULT_LOOKBACK_DAYS;
+
+            LocalDate to = LocalDate.now();
+            LocalDate from = to.minusDays(lookbackDays);
+
+            List<LateActivityPair> pairs = lateActivityRepository.findLatePairs(from, to, safetyLagSeconds);
+            if (pairs.isEmpty()) {
+                log.info("[LateActivity] no late-arriving activity in [{}, {})", from, to);
+                return;
+            }
+
+            // 다시 만드는 날짜는 백필과 겹치지 않도록 날짜별 락도 획득
+            Set<LocalDate> days = pairs.stream()
+                    .map(LateActivityPair::date)
+                    .collect(Collectors.toCollection(TreeSet::new));
+            dateLocks = dateLock.acquire(days, "late-arriving 재집계");
+
+            // 종료 시 캐시에서 비울 기간 : 날짜별 일간 + 해당 주 / 월 (StatsCacheInvalidationListener)
+            ExecutionContext jobContext = context.getStepContext().getStepExecution().getJobExecution().getExecutionContext();
+            days.forEach(day -> StatsCacheInvalidationListener.markRewrittenThroughPeriod(jobContext, day));
+
+            // 1️⃣ 일간 재집계 : (유저, 일자) 쌍 묶음을 한 쿼리로 다시 합산
+            Map<LocalDate, List<DailyStatus>> afterByDay = lateActivityRepository.sumPairs(pairs).stream()
+                    .collect(Collectors.groupingBy(DailyStatus::getDate, TreeMap::new, Collectors.toList()));
+
+            StatsUpsertItemWriter<DailyStatus> dailyWriter = writerFactory.dailyStatusUpsertWriter();
+            for (Map.Entry<LocalDate, List<DailyStatus>> entry : afterByDay.entrySet()) {
+                LocalDate day = entry.getKey();
+                List<DailyStatus> after = entry.getValue();
+
+                for (int i = 0; i < after.size(); i += WRITE_BATCH_SIZE) {
+                    List<DailyStatus> batch = after.subList(i, Math.min(i + WRITE_BATCH_SIZE, after.size()));
+                    List<Long> userIds = batch.stream().map(DailyStatus::getUserId).toList();
+
+                    // 덮어쓰기 전 값 → to-date / rolling_status 에 이전 값과의 차이만 반영
+                    Map<Long, long[]> before = pushdownRepository.findDailyCounts(day, userIds);
+                    periodToDateAccumulator.accumulateChunk(day, before, batch);
+                    rollingWindowUpdater.applyChange(day, before, batch);
+
+                    // 2️⃣ 덮어쓰기 (없으면 생성) : upsert 가 집계 시각도 DB 시계로 갱신 → 다음 탐지에서 같은 로그로 다시 잡히지 않음
+                    dailyWriter.writeAll(batch);
+
+                    // 그날 처음 활동한 유저가 늦게 들어왔을 수 있음 → 날짜별 활동 유저 스케치에 합침
+                    activeUserSketchRecorder.add(day, userIds);
+                }
+            }
+
+            // 3️⃣ raw 전체 합산으로 덮어썼으므로 증분 watermark 제거
+            for (LocalDate day : days) {
+                watermarkRepository.deleteBetween(day, day.plusDays(1));
+            }
+
+            int written = afterByDay.values().stream().mapToInt(List::size).sum();
+            contribution.incrementWriteCount(written);
+            log.info("[LateActivity] pairs={}, daily={} re-aggregated. range=[{}, {})",
+                    pairs.size(), written, from, to);
+
+        } finally {
+            dateLock.release(dateLocks);
+            lockService.releaseLock("DAILY_STATS");
+        }
+    }
+}
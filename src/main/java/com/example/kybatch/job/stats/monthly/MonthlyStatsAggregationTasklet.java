@@ -2,19 +2,35 @@ package com.example.kybatch.job.stats.monthly;
 
 import com.example.kybatch.batch.exception.NonCriticalBatchException;
 import com.example.kybatch.domain.lock.BatchLockPolicy;
+import com.example.kybatch.domain.stats.DailyStatusRepository;
+import com.example.kybatch.domain.stats.LeaderboardPeriod;
 import com.example.kybatch.domain.stats.MonthlyStatus;
 import com.example.kybatch.domain.stats.MonthlyStatusRepository;
+import com.example.kybatch.domain.stats.StatsPushdownRepository;
+import com.example.kybatch.domain.stats.StatsPushdownRepository.RankingRowHandler;
 import com.example.kybatch.dto.MonthlyAggregationDTO;
+import com.example.kybatch.dto.StatsTotalsDTO;
 import com.example.kybatch.job.common.AbstractRetryableTasklet;
+import com.example.kybatch.job.listener.StatsCacheInvalidationListener;
+import com.example.kybatch.job.stats.ranking.LeaderboardRecorder;
+import com.example.kybatch.job.stats.ranking.TopKCollector;
+import com.example.kybatch.job.stats.sketch.QuantileCollector;
+import com.example.kybatch.job.stats.sketch.QuantileSketchRecorder;
+import com.example.kybatch.job.stats.snapshot.StatsSnapshotExporter;
+import com.example.kybatch.job.stats.writer.StatsBulkWriterFactory;
+import com.example.kybatch.job.stats.writer.StatsWriteMode;
 import com.example.kybatch.lock.BatchLockService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.core.StepContribution;
 import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.function.Consumer;
 
 @Slf4j
 @Component
@@ -23,7 +39,15 @@ public class MonthlyStatsAggregationTasklet
         extends AbstractRetryableTasklet {
 
     private final MonthlyStatusRepository monthlyRepository;
+    private final DailyStatusRepository dailyRepository;
     private final BatchLockService lockService;
+    private final StatsPushdownRepository pushdownRepository;
+    private final StatsBulkWriterFactory bulkWriterFactory;
+    private final LeaderboardRecorder leaderboardRecorder;
+    private final QuantileSketchRecorder quantileSketchRecorder;
+
+    @Value("${stats.write.mode:ENTITY}")
+    private StatsWriteMode writeMode;
 
     @Override
     protected void doExecute(StepContribution contribution,
@@ -46,13 +70,46 @@ public class MonthlyStatsAggregationTasklet
             int year = targetMonth.getYear();
             int month = targetMonth.getMonthValue();
 
-            // 1️⃣ 기존 월간 데이터 삭제 (idempotent 보장)
-            monthlyRepository.deleteByYearAndMonth(year, month);
+            // 완료 후 columnar snapshot 으로 내보낼 기간 (StatsSnapshotExportListener)
+            ExecutionContext jobContext = context.getStepContext().getStepExecution().getJobExecution().getExecutionContext();
+            jobContext.putInt(StatsSnapshotExporter.yearKey(LeaderboardPeriod.MONTHLY), year);
+            jobContext.putInt(StatsSnapshotExporter.valueKey(LeaderboardPeriod.MONTHLY), month);
+            // 종료 시 캐시에서 비울 기간 (StatsCacheInvalidationListener)
+            StatsCacheInvalidationListener.markRewritten(jobContext, LeaderboardPeriod.MONTHLY,
+                    LeaderboardPeriod.monthlyKey(year, month));
 
-            // 2️⃣ 집계 기간 계산
+            // 1️⃣ 집계 기간 계산
             LocalDate startDate = targetMonth.withDayOfMonth(1);
             LocalDate startOfNextMonth = startDate.plusMonths(1);
 
+            // 2️⃣ finalize : 일간 배치가 누적한 month-to-date 값이 DailyStatus 합계와 같으면 재집계 생략
+            StatsTotalsDTO expected = dailyRepository.sumTotalsBetween(startDate, startOfNextMonth);
+            StatsTotalsDTO accumulated = monthlyRepository.sumTotals(year, month);
+
+            if (expected.getUserCount() > 0 && expected.matches(accumulated)) {
+                log.info("[MonthlyStats] {}-{} month-to-date verified. {}", year, month, accumulated);
+                recordLeaderboardAndDistributionFromTable(year, month);
+                return;
+            }
+            log.warn("[MonthlyStats] {}-{} month-to-date mismatch → full re-aggregation. expected=[{}], actual=[{}]",
+                    year, month, expected, accumulated);
+
+            // 3️⃣ 기존 월간 데이터 삭제 (idempotent 보장, UPSERT 모드는 키 기준 덮어쓰기 + 빠진 유저만 삭제)
+            if (writeMode != StatsWriteMode.UPSERT) {
+                monthlyRepository.deleteByYearAndMonth(year, month);
+            }
+
+            // PUSHDOWN: 집계 + 저장을 DB 안에서 한 문장으로 처리
+            if (writeMode == StatsWriteMode.PUSHDOWN) {
+                int inserted = pushdownRepository.insertMonthlyFromDaily(year, month, startDate, startOfNextMonth);
+                if (inserted == 0) {
+                    throw new NonCriticalBatchException("Monthly 집계 결과 없음");
+                }
+                contribution.incrementWriteCount(inserted);
+                recordLeaderboardAndDistributionFromTable(year, month);
+                return;
+            }
+
             List<MonthlyAggregationDTO> aggregates =
                     monthlyRepository.aggregateMonthly(
                             year,
@@ -65,22 +122,56 @@ public class MonthlyStatsAggregationTasklet
                 throw new NonCriticalBatchException("Monthly 집계 결과 없음");
             }
 
-            // 3️⃣ 저장
-            for (MonthlyAggregationDTO dto : aggregates) {
-                monthlyRepository.save(
-                        MonthlyStatus.builder()
-                                .userId(dto.getUserId())
-                                .year(year)
-                                .month(month)
-                                .loginCount(dto.getLoginCount())
-                                .viewCount(dto.getViewCount())
-                                .orderCount(dto.getOrderCount())
-                                .build()
-                );
+            // 4️⃣ 저장 (COPY: bulk 저장 / UPSERT: 키 기준 덮어쓰기 / ENTITY: row 단위 save)
+            List<MonthlyStatus> statuses = aggregates.stream()
+                    .map(dto -> MonthlyStatus.builder()
+                            .userId(dto.getUserId())
+                            .year(year)
+                            .month(month)
+                            .loginCount(dto.getLoginCount())
+                            .viewCount(dto.getViewCount())
+                            .orderCount(dto.getOrderCount())
+                            .build())
+                    .toList();
+
+            switch (writeMode) {
+                case COPY -> bulkWriterFactory.monthlyStatusWriter().writeAll(statuses);
+                case UPSERT -> {
+                    bulkWriterFactory.monthlyStatusUpsertWriter().writeAll(statuses);
+                    // 같은 Step 트랜잭션 안에서 이번 결과에 없는 유저 row 정리
+                    pushdownRepository.deleteStaleMonthly(year, month, startDate, startOfNextMonth);
+                }
+                default -> statuses.forEach(monthlyRepository::save);
             }
+            contribution.incrementWriteCount(statuses.size());
+
+            // 저장한 결과로 월간 리더보드 + 분포 sketch 기록
+            recordLeaderboardAndDistribution(year, month, handler -> statuses.forEach(
+                    m -> handler.accept(m.getUserId(), m.getOrderCount(), m.getViewCount())));
 
         } finally {
             lockService.releaseLock("MONTHLY_STATS");
         }
     }
+
+    /**
+     * 월간 결과가 JVM을 거치지 않은 경우(PUSHDOWN / finalize) 테이블을 한 번 순회하며 순위 / 분포 계산
+     * - 엔티티 대신 (user_id, order_count, view_count) 만 JDBC 로 스트리밍
+     */
+    private void recordLeaderboardAndDistributionFromTable(int year, int month) {
+        recordLeaderboardAndDistribution(year, month,
+                handler -> pushdownRepository.forEachMonthlyRanking(year, month, handler));
+    }
+
+    private void recordLeaderboardAndDistribution(int year, int month, Consumer<RankingRowHandler> rows) {
+        TopKCollector collector = leaderboardRecorder.newCollector();
+        QuantileCollector quantiles = quantileSketchRecorder.newCollector();
+        rows.accept((userId, orderCount, viewCount) -> {
+            collector.offer(userId, orderCount, viewCount);
+            quantiles.offer(orderCount, viewCount);
+        });
+        String key = LeaderboardPeriod.monthlyKey(year, month);
+        leaderboardRecorder.record(LeaderboardPeriod.MONTHLY, key, collector);
+        quantileSketchRecorder.record(LeaderboardPeriod.MONTHLY, key, quantiles);
+    }
 }
@@ -0,0 +1,57 @@
+package com.example.kybatch.job.stats.ranking;
+
+import com.example.kybatch.domain.stats.LeaderboardEntry;
+import com.example.kybatch.domain.stats.LeaderboardEntryRepository;
+import com.example.kybatch.domain.stats.LeaderboardMetric;
+import com.example.kybatch.domain.stats.LeaderboardPeriod;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * LeaderboardRecorder
+ * ------------------------------------------------------------
+ * 통계 배치가 집계 결과를 저장하면서 TopKCollector 로 모은 순위를 leaderboard_entry 에 기록
+ * - 같은 기간 기존 순위는 교체 (재실행 대비)
+ * - 호출한 Tasklet 트랜잭션 안에서 실행
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LeaderboardRecorder {
+
+    private final LeaderboardEntryRepository repository;
+
+    @Value("${stats.leaderboard.size:100}")
+    private int size;
+
+    public TopKCollector newCollector() {
+        return new TopKCollector(size);
+    }
+
+    public void record(LeaderboardPeriod period, String periodKey, TopKCollector collector) {
+        repository.deleteByPeriod(period, periodKey);
+
+        List<LeaderboardEntry> entries = new ArrayList<>();
+        for (LeaderboardMetric metric : LeaderboardMetric.values()) {
+            int rank = 1;
+            for (long[] e : collector.ranking(metric)) {
+                entries.add(LeaderboardEntry.builder()
+                        .periodType(period)
+                        .periodKey(periodKey)
+                        .metric(metric)
+                        .rankNo(rank++)
+                        .userId(e[0])
+                        .value(e[1])
+                        .build());
+            }
+        }
+        repository.saveAll(entries);
+
+        log.info("[Leaderboard] {} {} recorded. entries={}", period, periodKey, entries.size());
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.kybatch.job.stats.ranking;
+
+import com.example.kybatch.domain.stats.LeaderboardMetric;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * TopKCollector
+ * ------------------------------------------------------------
+ * 집계 결과를 한 번 훑으면서 지표별 상위 K 유저를 유지
+ *
+ * - 지표마다 크기 K 의 min-heap : 새 값이 heap 최솟값보다 클 때만 교체
+ *   → row 당 O(log K), 메모리 O(K)
+ * - 동점이면 userId 가 작은 쪽이 상위 (결과가 항상 같도록)
+ * - 값이 0인 유저는 순위에 넣지 않음
+ *
+ * 단일 스레드 전용
+ */
+public class TopKCollector {
+
+    /** heap 최상단 = 현재 K개 중 가장 낮은 순위 */
+    private static final Comparator<long[]> WORST_FIRST = Comparator
+            .<long[]>comparingLong(e -> e[1])
+            .thenComparing(Comparator.<long[]>comparingLong(e -> e[0]).reversed());
+
+    private final int k;
+    private final Map<LeaderboardMetric, PriorityQueue<long[]>> heaps = new EnumMap<>(LeaderboardMetric.class);
+
+    public TopKCollector(int k) {
+        this.k = k;
+        for (LeaderboardMetric metric : LeaderboardMetric.values()) {
+            heaps.put(metric, new PriorityQueue<>(k + 1, WORST_FIRST));
+        }
+    }
+
+    public void offer(long userId, long orderCount, long viewCount) {
+        offer(LeaderboardMetric.ORDERS, userId, orderCount);
+        offer(LeaderboardMetric.VIEWS, userId, viewCount);
+    }
+
+    /**
+     * 지표별 순위 (1위부터)
+     *
+     * @return [userId, value] 목록
+     */
+    public List<long[]> ranking(LeaderboardMetric metric) {
+        List<long[]> result = new ArrayList<>(heaps.get(metric));
+        result.sort(WORST_FIRST.reversed());
+        return result;
+    }
+
+    private void offer(LeaderboardMetric metric, long userId, long value) {
+        if (value <= 0 || k <= 0) {
+            return;
+        }
+
+        PriorityQueue<long[]> heap = heaps.get(metric);
+        long[] entry = {userId, value};
+
+        if (heap.size() < k) {
+            heap.add(entry);
+        } else if (WORST_FIRST.compare(entry, heap.peek()) > 0) {
+            heap.poll();
+            heap.add(entry);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.kybatch.job.stats.retention;
+
+import com.example.kybatch.job.listener.JobExecutionLoggingListener;
+import com.example.kybatch.job.listener.StepExecutionLoggingListener;
+import com.example.kybatch.notification.listener.BatchFailureNotificationListener;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * 🧩 Active Bitmap Build Job
+ * - daily_status → 날짜별 활동 유저 Roaring bitmap (daily_active_bitmap)
+ * - retention / cohort matrix 는 RetentionMatrixCalculator 가 bitmap 연산으로 계산
+ * - StatisticsChainScheduler 가 매일 Daily 뒤에 최근 7일을 다시 빌드
+ *   (그보다 오래된 날짜를 백필 / 재집계한 경우에는 해당 기간으로 수동 실행)
+ *
+ * Job Parameters
+ * - startDate : 시작일 (포함, yyyy-MM-dd)
+ * - endDate   : 종료일 (미포함, yyyy-MM-dd)
+ */
+@Profile("batch")
+@Configuration
+@RequiredArgsConstructor
+public class ActiveBitmapBuildJobConfig {
+
+    private final JobRepository jobRepository;
+    private final PlatformTransactionManager tm;
+
+    private final ActiveBitmapBuildTasklet tasklet;
+
+    private final JobExecutionLoggingListener jobListener;
+    private final BatchFailureNotificationListener failureNotificationListener;
+    private final StepExecutionLoggingListener stepListener;
+
+    @Bean
+    public Job activeBitmapBuildJob() {
+        return new JobBuilder("activeBitmapBuildJob", jobRepository)
+                .listener(jobListener)
+                .listener(failureNotificationListener)
+                .start(activeBitmapBuildStep())
+                .build();
+    }
+
+    @Bean
+    public Step activeBitmapBuildStep() {
+        return new StepBuilder("activeBitmapBuildStep", jobRepository)
+                .tasklet(tasklet, tm)
+                .listener(stepListener)
+                .build();
+    }
+}
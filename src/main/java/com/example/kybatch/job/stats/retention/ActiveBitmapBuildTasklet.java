@@ -0,0 +1,175 @@
+package com.example.kybatch.job.stats.retention;
+
+import com.example.kybatch.batch.exception.FatalBatchException;
+import com.example.kybatch.batch.exception.NonCriticalBatchException;
+import com.example.kybatch.domain.lock.BatchLockPolicy;
+import com.example.kybatch.domain.stats.DailyActiveBitmap;
+import com.example.kybatch.domain.stats.DailyActiveBitmapRepository;
+import com.example.kybatch.job.common.AbstractRetryableTasklet;
+import com.example.kybatch.lock.BatchLockService;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+/**
+ * ActiveBitmapBuildTasklet
+ * ------------------------------------------------------------
+ * daily_status 를 기간 전체에 대해 한 번만 스캔해 날짜별 활동 유저 bitmap 생성
+ *
+ * - 정렬 없이 (date, user_id) 만 스트리밍 → 날짜별 RoaringBitmap 에 추가
+ * - 기간 내 날짜는 bitmap 교체 (재실행 시 같은 결과)
+ * - 활동이 없는 날짜는 빈 bitmap 으로 저장 (미집계 날짜와 구분)
+ * - 날짜별 누적 seen bitmap 도 함께 저장 (직전 날짜 seen OR 그날 bitmap)
+ *   → 과거 날짜를 다시 빌드하면 이미 빌드된 이후 날짜까지 누적을 이어서 갱신
+ *
+ * Job Parameters
+ * - startDate : 시작일 (포함, yyyy-MM-dd)
+ * - endDate   : 종료일 (미포함, yyyy-MM-dd)
+ */
+@Slf4j
+@Component
+public class ActiveBitmapBuildTasklet extends AbstractRetryableTasklet {
+
+    private static final String LOCK_NAME = "ACTIVE_BITMAP";
+
+    private static final String SCAN_SQL = """
+            SELECT d.date AS activity_date, d.user_id
+            FROM daily_status d
+            WHERE d.date >= ?
+              AND d.date < ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DailyActiveBitmapRepository bitmapRepository;
+    private final BatchLockService lockService;
+
+    public ActiveBitmapBuildTasklet(DataSource dataSource,
+                                    DailyActiveBitmapRepository bitmapRepository,
+                                    BatchLockService lockService) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(10_000);
+        this.bitmapRepository = bitmapRepository;
+        this.lockService = lockService;
+    }
+
+    @Override
+    protected void doExecute(StepContribution contribution, ChunkContext context) {
+
+        Map<String, Object> params = context.getStepContext().getJobParameters();
+        LocalDate startDate = LocalDate.parse((String) params.get("startDate"));
+        LocalDate endDate = LocalDate.parse((String) params.get("endDate"));
+
+        if (!startDate.isBefore(endDate)) {
+            throw new FatalBatchException("startDate는 endDate보다 앞이어야 합니다. " + startDate + " ~ " + endDate);
+        }
+
+        boolean locked = lockService.acquireLock(
+                LOCK_NAME,
+                BatchLockPolicy.EXCLUSIVE,
+                "RETENTION",
+                "활동 유저 bitmap 생성 중복 실행 방지"
+        );
+        if (!locked) {
+            throw new NonCriticalBatchException("Active bitmap Lock 획득 실패");
+        }
+
+        try {
+            Map<LocalDate, RoaringBitmap> bitmaps = new TreeMap<>();
+            for (LocalDate d = startDate; d.isBefore(endDate); d = d.plusDays(1)) {
+                bitmaps.put(d, new RoaringBitmap());
+            }
+
+            // 1️⃣ 기간 전체 1회 스캔
+            long[] read = {0};
+            jdbcTemplate.query(SCAN_SQL, (RowCallbackHandler) rs -> {
+                LocalDate date = rs.getDate("activity_date").toLocalDate();
+                ActiveBitmaps.add(bitmaps.get(date), rs.getLong("user_id"));
+                read[0]++;
+            }, Date.valueOf(startDate), Date.valueOf(endDate));
+
+            // 2️⃣ 날짜별 bitmap 교체 + 누적 seen bitmap (직전 날짜 seen 에서 이어서 OR)
+            RoaringBitmap seen = seenBefore(startDate);
+            long bytes = 0;
+            for (Map.Entry<LocalDate, RoaringBitmap> e : bitmaps.entrySet()) {
+                byte[] serialized = ActiveBitmaps.serialize(e.getValue());
+                long cardinality = e.getValue().getLongCardinality();
+                bytes += serialized.length;
+
+                DailyActiveBitmap bitmap = bitmapRepository.findById(e.getKey())
+                        .map(b -> {
+                            b.replace(serialized, cardinality);
+                            return b;
+                        })
+                        .orElseGet(() -> bitmapRepository.save(new DailyActiveBitmap(e.getKey(), serialized, cardinality)));
+
+                seen.or(e.getValue());
+                bitmap.replaceSeen(ActiveBitmaps.serialize(seen));
+            }
+
+            // 3️⃣ 이미 빌드된 이후 날짜로 누적 seen 전파 (값이 그대로인 날짜부터는 이후도 같으므로 중단)
+            int propagated = propagateSeen(endDate.minusDays(1), seen);
+            contribution.incrementWriteCount(bitmaps.size());
+
+            log.info("[ActiveBitmap] {} ~ {} built. days={}, rows={}, bytes={}, seenPropagated={}",
+                    startDate, endDate, bitmaps.size(), read[0], bytes, propagated);
+
+        } finally {
+            lockService.releaseLock(LOCK_NAME);
+        }
+    }
+
+    /**
+     * startDate 이전에 한 번이라도 활동한 유저
+     * - 직전 빌드 날짜의 누적 seen bitmap 1건
+     * - 누적 컬럼 추가 이전 빌드분이면 이전 bitmap 전체를 한 번 OR (이번 빌드부터 누적이 채워짐)
+     */
+    private RoaringBitmap seenBefore(LocalDate startDate) {
+        Optional<DailyActiveBitmap> previous = bitmapRepository.findFirstByDateBeforeOrderByDateDesc(startDate);
+        if (previous.isEmpty()) {
+            return new RoaringBitmap();
+        }
+        if (previous.get().getSeenBitmap() != null) {
+            return ActiveBitmaps.deserialize(previous.get().getSeenBitmap());
+        }
+
+        RoaringBitmap seen = new RoaringBitmap();
+        try (Stream<byte[]> before = bitmapRepository.streamBitmapsBefore(startDate)) {
+            before.forEach(bytes -> seen.or(ActiveBitmaps.deserialize(bytes)));
+        }
+        return seen;
+    }
+
+    /**
+     * @param lastBuilt 이번에 빌드한 마지막 날짜
+     * @param seen      lastBuilt 까지의 누적 seen
+     * @return 누적 seen 을 갱신한 이후 날짜 수
+     */
+    private int propagateSeen(LocalDate lastBuilt, RoaringBitmap seen) {
+        int propagated = 0;
+        Optional<DailyActiveBitmap> next = bitmapRepository.findFirstByDateAfterOrderByDateAsc(lastBuilt);
+        while (next.isPresent()) {
+            DailyActiveBitmap bitmap = next.get();
+            seen.or(ActiveBitmaps.deserialize(bitmap.getBitmap()));
+
+            if (bitmap.getSeenBitmap() != null && seen.equals(ActiveBitmaps.deserialize(bitmap.getSeenBitmap()))) {
+                break;
+            }
+            bitmap.replaceSeen(ActiveBitmaps.serialize(seen));
+            propagated++;
+            next = bitmapRepository.findFirstByDateAfterOrderByDateAsc(bitmap.getDate());
+        }
+        return propagated;
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.kybatch.job.stats.retention;
+
+import org.roaringbitmap.RoaringBitmap;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+
+/**
+ * 활동 유저 bitmap 변환 유틸
+ * - RoaringBitmap 은 32bit(unsigned) 값만 담음 → userId 는 0 ~ 2^32-1 범위여야 함
+ */
+public final class ActiveBitmaps {
+
+    private static final long MAX_USER_ID = 0xFFFF_FFFFL;
+
+    private ActiveBitmaps() {
+    }
+
+    public static void add(RoaringBitmap bitmap, long userId) {
+        if (userId < 0 || userId > MAX_USER_ID) {
+            throw new IllegalArgumentException("bitmap 에 담을 수 없는 userId : " + userId);
+        }
+        bitmap.add((int) userId);
+    }
+
+    public static byte[] serialize(RoaringBitmap bitmap) {
+        bitmap.runOptimize();
+        ByteBuffer buffer = ByteBuffer.allocate(bitmap.serializedSizeInBytes());
+        bitmap.serialize(buffer);
+        return buffer.array();
+    }
+
+    public static RoaringBitmap deserialize(byte[] bytes) {
+        RoaringBitmap bitmap = new RoaringBitmap();
+        try {
+            bitmap.deserialize(ByteBuffer.wrap(bytes));
+        } catch (IOException e) {
+            throw new UncheckedIOException("활동 유저 bitmap 역직렬화 실패", e);
+        }
+        return bitmap;
+    }
+}
@@ -0,0 +1,112 @@
+package com.example.kybatch.job.stats.retention;
+
+import com.example.kybatch.domain.stats.DailyActiveBitmap;
+import com.example.kybatch.domain.stats.DailyActiveBitmapRepository;
+import lombok.RequiredArgsConstructor;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * RetentionMatrixCalculator
+ * ------------------------------------------------------------
+ * 날짜별 활동 유저 bitmap 으로 first-activity cohort retention matrix 계산
+ *
+ * - cohort(d)     = active(d) ANDNOT seen   (seen = d 이전에 한 번이라도 활동한 유저)
+ * - retained(d,n) = |cohort(d) AND active(d+n)|
+ * - seen 은 from 직전 빌드 날짜의 누적 seen bitmap 1건으로 시작 → 이미 빌드된 bitmap 기준의 "첫 활동"
+ *   (누적은 ActiveBitmapBuildTasklet 이 유지, 과거 bitmap 전체를 OR 하지 않음)
+ *
+ * SQL join 없이 bitmap 연산만 사용 : 90 × 90 matrix = 최대 8100 번의 AND cardinality
+ * - cohort 기간 / maxDayN 은 각각 최대 90 (로드하는 bitmap 수와 결과 배열 크기 제한)
+ * bitmap 이 없는 날짜(미빌드)의 칸은 -1
+ */
+@Component
+@RequiredArgsConstructor
+public class RetentionMatrixCalculator {
+
+    public static final long UNKNOWN = -1;
+
+    /** 한 번에 조회할 수 있는 최대 cohort 일수 */
+    public static final int MAX_COHORT_DAYS = 90;
+
+    /** 최대 day-N */
+    public static final int MAX_DAY_N = 90;
+
+    private final DailyActiveBitmapRepository bitmapRepository;
+
+    /**
+     * @param from    첫 cohort 날짜 (포함)
+     * @param to      마지막 cohort 날짜 (미포함)
+     * @param maxDayN 계산할 최대 day-N (0 = cohort 당일)
+     * @throws IllegalArgumentException 기간이 비었거나 MAX_COHORT_DAYS / MAX_DAY_N 을 넘는 경우
+     * @throws IllegalStateException    from 직전 날짜가 누적 seen bitmap 없이 빌드된 경우 (재빌드 필요)
+     */
+    @Transactional(readOnly = true)
+    public List<CohortRow> calculate(LocalDate from, LocalDate to, int maxDayN) {
+        if (!from.isBefore(to)) {
+            throw new IllegalArgumentException("from 은 to 보다 앞이어야 합니다. " + from + " ~ " + to);
+        }
+        if (ChronoUnit.DAYS.between(from, to) > MAX_COHORT_DAYS) {
+            throw new IllegalArgumentException(
+                    "cohort 기간은 최대 " + MAX_COHORT_DAYS + "일입니다. " + from + " ~ " + to);
+        }
+        if (maxDayN < 0 || maxDayN > MAX_DAY_N) {
+            throw new IllegalArgumentException("maxDayN 은 0 ~ " + MAX_DAY_N + " 이어야 합니다. " + maxDayN);
+        }
+
+        // 1️⃣ cohort 기간 + 관찰 기간 bitmap 로드
+        Map<LocalDate, RoaringBitmap> active = new TreeMap<>();
+        for (DailyActiveBitmap b : bitmapRepository.findBetween(from, to.plusDays(maxDayN))) {
+            active.put(b.getDate(), ActiveBitmaps.deserialize(b.getBitmap()));
+        }
+
+        // 2️⃣ from 이전 활동 유저 = 직전 빌드 날짜의 누적 seen
+        RoaringBitmap seen = bitmapRepository.findFirstByDateBeforeOrderByDateDesc(from)
+                .map(previous -> {
+                    if (previous.getSeenBitmap() == null) {
+                        throw new IllegalStateException(
+                                "누적 seen bitmap 이 없는 날짜입니다. bitmap 을 다시 빌드해야 합니다. " + previous.getDate());
+                    }
+                    return ActiveBitmaps.deserialize(previous.getSeenBitmap());
+                })
+                .orElseGet(RoaringBitmap::new);
+
+        // 3️⃣ cohort 별 day-N 유지 유저 수
+        List<CohortRow> rows = new ArrayList<>();
+        for (LocalDate day = from; day.isBefore(to); day = day.plusDays(1)) {
+            RoaringBitmap today = active.get(day);
+            if (today == null) {
+                long[] unknown = new long[maxDayN + 1];
+                Arrays.fill(unknown, UNKNOWN);
+                rows.add(new CohortRow(day, UNKNOWN, unknown));
+                continue;
+            }
+
+            RoaringBitmap cohort = RoaringBitmap.andNot(today, seen);
+            seen.or(today);
+
+            long[] retained = new long[maxDayN + 1];
+            for (int n = 0; n <= maxDayN; n++) {
+                RoaringBitmap later = active.get(day.plusDays(n));
+                retained[n] = later == null ? UNKNOWN : RoaringBitmap.andCardinality(cohort, later);
+            }
+            rows.add(new CohortRow(day, cohort.getLongCardinality(), retained));
+        }
+        return rows;
+    }
+
+    /**
+     * @param retained retained[n] = cohort 중 day-N 에 활동한 유저 수 (미빌드 날짜는 -1)
+     */
+    public record CohortRow(LocalDate cohortDate, long cohortSize, long[] retained) {
+    }
+}
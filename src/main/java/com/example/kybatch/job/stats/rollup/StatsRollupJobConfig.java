@@ -0,0 +1,61 @@
+package com.example.kybatch.job.stats.rollup;
+
+import com.example.kybatch.job.listener.JobExecutionLoggingListener;
+import com.example.kybatch.job.listener.StatsCacheInvalidationListener;
+import com.example.kybatch.job.listener.StatsSnapshotExportListener;
+import com.example.kybatch.job.listener.StepExecutionLoggingListener;
+import com.example.kybatch.notification.listener.BatchFailureNotificationListener;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * 🧩 Stats Rollup Job
+ * - 주간 / 월간 경계가 겹치는 날 daily_status 1회 스캔으로 WeeklyStatus + MonthlyStatus 동시 생성
+ *
+ * Job Parameters
+ * - weekStartDate  : 주간 집계 주의 월요일 (yyyy-MM-dd, 없으면 지난 주)
+ * - monthStartDate : 월간 집계 월의 1일 (yyyy-MM-dd, 없으면 지난 달)
+ */
+@Profile("batch")
+@Configuration
+@RequiredArgsConstructor
+public class StatsRollupJobConfig {
+
+    private final JobRepository jobRepository;
+    private final PlatformTransactionManager tm;
+
+    private final StatsRollupTasklet tasklet;
+
+    private final JobExecutionLoggingListener jobListener;
+    private final BatchFailureNotificationListener failureNotificationListener;
+    private final StatsCacheInvalidationListener statsCacheInvalidationListener;
+    private final StatsSnapshotExportListener statsSnapshotExportListener;
+    private final StepExecutionLoggingListener stepListener;
+
+    @Bean
+    public Job statsRollupJob() {
+        return new JobBuilder("statsRollupJob", jobRepository)
+                .listener(jobListener)
+                .listener(failureNotificationListener)
+                .listener(statsCacheInvalidationListener)
+                .listener(statsSnapshotExportListener)
+                .start(statsRollupStep())
+                .build();
+    }
+
+    @Bean
+    public Step statsRollupStep() {
+        return new StepBuilder("statsRollupStep", jobRepository)
+                .tasklet(tasklet, tm)
+                .listener(stepListener)
+                .build();
+    }
+}
@@ -0,0 +1,201 @@
+package com.example.kybatch.job.stats.rollup;
+
+import com.example.kybatch.batch.exception.NonCriticalBatchException;
+import com.example.kybatch.domain.lock.BatchLockPolicy;
+import com.example.kybatch.domain.stats.LeaderboardPeriod;
+import com.example.kybatch.domain.stats.MonthlyStatus;
+import com.example.kybatch.domain.stats.MonthlyStatusRepository;
+import com.example.kybatch.domain.stats.StatsRollupRepository;
+import com.example.kybatch.domain.stats.StatsRollupRepository.PeriodTotals;
+import com.example.kybatch.domain.stats.WeeklyStatus;
+import com.example.kybatch.domain.stats.WeeklyStatusRepository;
+import com.example.kybatch.job.common.AbstractRetryableTasklet;
+import com.example.kybatch.job.listener.StatsCacheInvalidationListener;
+import com.example.kybatch.job.stats.ranking.LeaderboardRecorder;
+import com.example.kybatch.job.stats.ranking.TopKCollector;
+import com.example.kybatch.job.stats.sketch.QuantileCollector;
+import com.example.kybatch.job.stats.sketch.QuantileSketchRecorder;
+import com.example.kybatch.job.stats.snapshot.StatsSnapshotExporter;
+import com.example.kybatch.job.stats.writer.StatsBulkWriterFactory;
+import com.example.kybatch.job.stats.writer.StatsUpsertItemWriter;
+import com.example.kybatch.lock.BatchLockService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.stereotype.Component;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.WeekFields;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * StatsRollupTasklet
+ * ------------------------------------------------------------
+ * 주간 + 월간 통계를 daily_status 1회 스캔으로 동시에 생성
+ *
+ * - 월요일이면서 1일인 날처럼 주간/월간 경계가 겹칠 때 사용
+ * - 두 기간을 덮는 범위를 한 번만 읽고, 유저별 결과를 WeeklyStatus / MonthlyStatus 로 나눠 저장
+ * - 기존 데이터 삭제 후 upsert writer 로 WRITE_BATCH_SIZE 단위 저장
+ * - 이 Job 이 정규 주간/월간 Job 을 대신하므로, 같은 스캔에서 주간/월간 리더보드 + 분포 sketch 도 함께 기록
+ *
+ * 키 규칙은 정규 Tasklet과 동일
+ * - 주간 : 연도 = ISO week-based year, 주차 = ISO 주차
+ * - 월간 : 연도 / 월 = monthStartDate 기준
+ *
+ * Job Parameters
+ * - weekStartDate  : 주간 집계 주의 월요일 (yyyy-MM-dd, 없으면 지난 주)
+ * - monthStartDate : 월간 집계 월의 1일 (yyyy-MM-dd, 없으면 지난 달)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StatsRollupTasklet extends AbstractRetryableTasklet {
+
+    private static final int WRITE_BATCH_SIZE = 1000;
+
+    private final StatsRollupRepository rollupRepository;
+    private final WeeklyStatusRepository weeklyRepository;
+    private final MonthlyStatusRepository monthlyRepository;
+    private final StatsBulkWriterFactory writerFactory;
+    private final LeaderboardRecorder leaderboardRecorder;
+    private final QuantileSketchRecorder quantileSketchRecorder;
+    private final BatchLockService lockService;
+
+    @Override
+    protected void doExecute(StepContribution contribution, ChunkContext context) {
+
+        Map<String, Object> params = context.getStepContext().getJobParameters();
+        LocalDate today = LocalDate.now();
+
+        LocalDate weekStart = params.get("weekStartDate") != null
+                ? LocalDate.parse((String) params.get("weekStartDate")).with(DayOfWeek.MONDAY)
+                : today.minusWeeks(1).with(DayOfWeek.MONDAY);
+        LocalDate weekEnd = weekStart.plusWeeks(1);
+
+        LocalDate monthStart = params.get("monthStartDate") != null
+                ? LocalDate.parse((String) params.get("monthStartDate")).withDayOfMonth(1)
+                : today.minusMonths(1).withDayOfMonth(1);
+        LocalDate monthEnd = monthStart.plusMonths(1);
+
+        int weekYear = weekStart.get(WeekFields.ISO.weekBasedYear());
+        int weekOfYear = weekStart.get(WeekFields.ISO.weekOfWeekBasedYear());
+        int year = monthStart.getYear();
+        int month = monthStart.getMonthValue();
+
+        acquire("WEEKLY_STATS", "WEEKLY", "주간/월간 rollup 중 주간 통계 동시 실행 방지");
+        try {
+            acquire("MONTHLY_STATS", "MONTHLY", "주간/월간 rollup 중 월간 통계 동시 실행 방지");
+            try {
+                // 종료 시 캐시에서 비울 기간 (StatsCacheInvalidationListener) → 삭제 전에 기록
+                ExecutionContext jobContext = context.getStepContext().getStepExecution().getJobExecution().getExecutionContext();
+                StatsCacheInvalidationListener.markRewritten(jobContext, LeaderboardPeriod.WEEKLY,
+                        LeaderboardPeriod.weeklyKey(weekYear, weekOfYear));
+                StatsCacheInvalidationListener.markRewritten(jobContext, LeaderboardPeriod.MONTHLY,
+                        LeaderboardPeriod.monthlyKey(year, month));
+
+                // 1️⃣ 기존 데이터 삭제 (idempotent 보장)
+                weeklyRepository.deleteByYearAndWeekOfYear(weekYear, weekOfYear);
+                monthlyRepository.deleteByYearAndMonth(year, month);
+
+                // 2️⃣ 1회 스캔 → 주간 / 월간 두 출력으로 분배
+                StatsUpsertItemWriter<WeeklyStatus> weeklyWriter = writerFactory.weeklyStatusUpsertWriter();
+                StatsUpsertItemWriter<MonthlyStatus> monthlyWriter = writerFactory.monthlyStatusUpsertWriter();
+
+                List<WeeklyStatus> weeklyBuffer = new ArrayList<>(WRITE_BATCH_SIZE);
+                List<MonthlyStatus> monthlyBuffer = new ArrayList<>(WRITE_BATCH_SIZE);
+                long[] written = new long[2];
+
+                TopKCollector weeklyRanking = leaderboardRecorder.newCollector();
+                TopKCollector monthlyRanking = leaderboardRecorder.newCollector();
+                QuantileCollector weeklyQuantiles = quantileSketchRecorder.newCollector();
+                QuantileCollector monthlyQuantiles = quantileSketchRecorder.newCollector();
+
+                rollupRepository.scanWeeklyAndMonthly(weekStart, weekEnd, monthStart, monthEnd, row -> {
+                    PeriodTotals week = row.week();
+                    if (!week.isEmpty()) {
+                        weeklyBuffer.add(WeeklyStatus.builder()
+                                .userId(row.userId())
+                                .year(weekYear)
+                                .weekOfYear(weekOfYear)
+                                .loginCount(week.loginCount())
+                                .viewCount(week.viewCount())
+                                .orderCount(week.orderCount())
+                                .startDate(weekStart)
+                                .endDate(weekEnd.minusDays(1))
+                                .build());
+                        weeklyRanking.offer(row.userId(), week.orderCount(), week.viewCount());
+                        weeklyQuantiles.offer(week.orderCount(), week.viewCount());
+                        if (weeklyBuffer.size() == WRITE_BATCH_SIZE) {
+                            written[0] += flush(weeklyWriter, weeklyBuffer);
+                        }
+                    }
+
+                    PeriodTotals monthTotals = row.month();
+                    if (!monthTotals.isEmpty()) {
+                        monthlyBuffer.add(MonthlyStatus.builder()
+                                .userId(row.userId())
+                                .year(year)
+                                .month(month)
+                                .loginCount(monthTotals.loginCount())
+                                .viewCount(monthTotals.viewCount())
+                                .orderCount(monthTotals.orderCount())
+                                .build());
+                        monthlyRanking.offer(row.userId(), monthTotals.orderCount(), monthTotals.viewCount());
+                        monthlyQuantiles.offer(monthTotals.orderCount(), monthTotals.viewCount());
+                        if (monthlyBuffer.size() == WRITE_BATCH_SIZE) {
+                            written[1] += flush(monthlyWriter, monthlyBuffer);
+                        }
+                    }
+                });
+
+                written[0] += flush(weeklyWriter, weeklyBuffer);
+                written[1] += flush(monthlyWriter, monthlyBuffer);
+
+                if (written[0] + written[1] == 0) {
+                    throw new NonCriticalBatchException("Rollup 집계 결과 없음");
+                }
+
+                // 3️⃣ 주간 / 월간 리더보드 + 분포 sketch (정규 Tasklet과 같은 periodKey)
+                String weekKey = LeaderboardPeriod.weeklyKey(weekYear, weekOfYear);
+                String monthKey = LeaderboardPeriod.monthlyKey(year, month);
+                leaderboardRecorder.record(LeaderboardPeriod.WEEKLY, weekKey, weeklyRanking);
+                leaderboardRecorder.record(LeaderboardPeriod.MONTHLY, monthKey, monthlyRanking);
+                quantileSketchRecorder.record(LeaderboardPeriod.WEEKLY, weekKey, weeklyQuantiles);
+                quantileSketchRecorder.record(LeaderboardPeriod.MONTHLY, monthKey, monthlyQuantiles);
+
+                // 4️⃣ 완료 후 주간 / 월간 columnar snapshot 으로 내보낼 기간 (StatsSnapshotExportListener)
+                jobContext.putInt(StatsSnapshotExporter.yearKey(LeaderboardPeriod.WEEKLY), weekYear);
+                jobContext.putInt(StatsSnapshotExporter.valueKey(LeaderboardPeriod.WEEKLY), weekOfYear);
+                jobContext.putInt(StatsSnapshotExporter.yearKey(LeaderboardPeriod.MONTHLY), year);
+                jobContext.putInt(StatsSnapshotExporter.valueKey(LeaderboardPeriod.MONTHLY), month);
+
+                contribution.incrementWriteCount(written[0] + written[1]);
+                log.info("[Rollup] week {}-W{} ({} rows), month {}-{} ({} rows) in one scan",
+                        weekYear, weekOfYear, written[0], year, month, written[1]);
+
+            } finally {
+                lockService.releaseLock("MONTHLY_STATS");
+            }
+        } finally {
+            lockService.releaseLock("WEEKLY_STATS");
+        }
+    }
+
+    private void acquire(String lockName, String group, String description) {
+        boolean locked = lockService.acquireLock(lockName, BatchLockPolicy.EXCLUSIVE, group, description);
+        if (!locked) {
+            throw new NonCriticalBatchException(lockName + " Lock 획득 실패");
+        }
+    }
+
+    private <T> int flush(StatsUpsertItemWriter<T> writer, List<T> buffer) {
+        int count = writer.writeAll(buffer);
+        buffer.clear();
+        return count;
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.kybatch.job.stats.sketch;
+
+import com.example.kybatch.domain.stats.DailyActiveSketch;
+import com.example.kybatch.domain.stats.DailyActiveSketchRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+/**
+ * ActiveUserSketchRecorder
+ * ------------------------------------------------------------
+ * 일간 배치가 저장한 활동 유저로 daily_active_sketch 를 기록
+ *
+ * - replace : 그날 전체를 다시 집계한 경우 (일간 / 백필) → 스케치 교체
+ * - add     : 증분 집계처럼 일부 유저만 새로 들어온 경우 → 기존 스케치에 합침
+ *
+ * 호출한 Tasklet 트랜잭션 안에서 실행
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ActiveUserSketchRecorder {
+
+    private final DailyActiveSketchRepository repository;
+
+    public void replace(LocalDate date, Iterable<Long> userIds) {
+        HyperLogLog sketch = new HyperLogLog();
+        userIds.forEach(sketch::offer);
+        replace(date, sketch);
+    }
+
+    public void replace(LocalDate date, HyperLogLog sketch) {
+        byte[] bytes = sketch.toBytes();
+        long estimate = sketch.cardinality();
+
+        repository.findById(date).ifPresentOrElse(
+                s -> s.replace(bytes, estimate),
+                () -> repository.save(new DailyActiveSketch(date, bytes, estimate)));
+
+        log.info("[ActiveSketch] {} recorded. estimate={}", date, estimate);
+    }
+
+    public void add(LocalDate date, Iterable<Long> userIds) {
+        HyperLogLog sketch = repository.findById(date)
+                .map(s -> HyperLogLog.fromBytes(s.getSketch()))
+                .orElseGet(HyperLogLog::new);
+        userIds.forEach(sketch::offer);
+        replace(date, sketch);
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.kybatch.job.stats.sketch;
+
+import com.example.kybatch.domain.stats.LeaderboardMetric;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 통계 배치가 결과를 저장하면서 유저별 값을 지표별 QuantileSketch 에 누적
+ * - 0 인 유저도 분포에 포함 (분위수는 해당 기간 집계된 전체 유저 기준)
+ */
+public class QuantileCollector {
+
+    private final Map<LeaderboardMetric, QuantileSketch> sketches = new EnumMap<>(LeaderboardMetric.class);
+
+    public QuantileCollector() {
+        for (LeaderboardMetric metric : LeaderboardMetric.values()) {
+            sketches.put(metric, new QuantileSketch());
+        }
+    }
+
+    public void offer(long orders, long views) {
+        sketches.get(LeaderboardMetric.ORDERS).offer(orders);
+        sketches.get(LeaderboardMetric.VIEWS).offer(views);
+    }
+
+    public QuantileSketch sketch(LeaderboardMetric metric) {
+        return sketches.get(metric);
+    }
+}
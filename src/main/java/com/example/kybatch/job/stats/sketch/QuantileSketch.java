@@ -0,0 +1,150 @@
+package com.example.kybatch.job.stats.sketch;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+
+/**
+ * QuantileSketch
+ * ------------------------------------------------------------
+ * 유저별 카운트(0 이상 정수) 분포의 mergeable quantile sketch (DDSketch 방식 log bucket)
+ *
+ * - 값 v ≥ 1 은 bucket i = ⌈log_γ v⌉ 에, 0 은 별도 카운터에 누적 (γ = (1+α)/(1-α))
+ * - 어떤 분위수든 반환값의 상대 오차 ≤ α (기본 1%) → p50 / p95 / p99 모두 같은 보장
+ * - bucket 수는 값 범위에만 비례 (long 전체 범위도 2200개 이하) → 보통 수백 byte ~ 수 KB
+ * - merge = bucket 별 카운트 합 → 순서와 상관없이 같은 결과
+ *
+ * 직렬화 형식 : [version(1)] [count(8)] [zeroCount(8)] [bucket 수(4)] ([index(4)] [count(8)])*
+ *
+ * 단일 스레드 전용
+ */
+public final class QuantileSketch {
+
+    public static final double RELATIVE_ACCURACY = 0.01;
+
+    private static final byte FORMAT_VERSION = 1;
+    private static final double GAMMA = (1 + RELATIVE_ACCURACY) / (1 - RELATIVE_ACCURACY);
+    private static final double LOG_GAMMA = Math.log(GAMMA);
+
+    private long count;
+    private long zeroCount;
+    private long[] buckets = new long[0];
+
+    public void offer(long value) {
+        if (value < 0) {
+            throw new IllegalArgumentException("음수는 담을 수 없습니다. value=" + value);
+        }
+        count++;
+        if (value == 0) {
+            zeroCount++;
+            return;
+        }
+        int index = index(value);
+        ensureCapacity(index);
+        buckets[index]++;
+    }
+
+    public void merge(QuantileSketch other) {
+        count += other.count;
+        zeroCount += other.zeroCount;
+        ensureCapacity(other.buckets.length - 1);
+        for (int i = 0; i < other.buckets.length; i++) {
+            buckets[i] += other.buckets[i];
+        }
+    }
+
+    /**
+     * @param q 0.0 ~ 1.0 (0.5 = 중앙값)
+     * @return 분위수 근사값 (비어 있으면 0)
+     */
+    public long quantile(double q) {
+        if (q < 0 || q > 1) {
+            throw new IllegalArgumentException("q 는 0 ~ 1 사이여야 합니다. q=" + q);
+        }
+        if (count == 0) {
+            return 0;
+        }
+
+        long rank = (long) Math.floor(q * (count - 1));
+        long seen = zeroCount;
+        if (rank < seen) {
+            return 0;
+        }
+        for (int i = 0; i < buckets.length; i++) {
+            seen += buckets[i];
+            if (rank < seen) {
+                return value(i);
+            }
+        }
+        return value(buckets.length - 1);
+    }
+
+    public long count() {
+        return count;
+    }
+
+    public byte[] toBytes() {
+        int nonEmpty = 0;
+        for (long b : buckets) {
+            if (b > 0) nonEmpty++;
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(21 + nonEmpty * 12);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(FORMAT_VERSION);
+            out.writeLong(count);
+            out.writeLong(zeroCount);
+            out.writeInt(nonEmpty);
+            for (int i = 0; i < buckets.length; i++) {
+                if (buckets[i] > 0) {
+                    out.writeInt(i);
+                    out.writeLong(buckets[i]);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("QuantileSketch 직렬화 실패", e);
+        }
+        return bytes.toByteArray();
+    }
+
+    public static QuantileSketch fromBytes(byte[] bytes) {
+        QuantileSketch sketch = new QuantileSketch();
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes))) {
+            if (in.readByte() != FORMAT_VERSION) {
+                throw new IllegalArgumentException("지원하지 않는 QuantileSketch 형식");
+            }
+            sketch.count = in.readLong();
+            sketch.zeroCount = in.readLong();
+            int nonEmpty = in.readInt();
+            for (int n = 0; n < nonEmpty; n++) {
+                int index = in.readInt();
+                sketch.ensureCapacity(index);
+                sketch.buckets[index] = in.readLong();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("QuantileSketch 역직렬화 실패", e);
+        }
+        return sketch;
+    }
+
+    private static int index(long value) {
+        return (int) Math.ceil(Math.log(value) / LOG_GAMMA);
+    }
+
+    /**
+     * bucket (γ^(i-1), γ^i] 의 대표값 : 양 끝 어느 쪽과도 상대 오차 α 이내
+     */
+    private static long value(int index) {
+        return Math.round(2 * Math.pow(GAMMA, index) / (GAMMA + 1));
+    }
+
+    private void ensureCapacity(int index) {
+        if (index >= buckets.length) {
+            buckets = Arrays.copyOf(buckets, index + 1);
+        }
+    }
+}
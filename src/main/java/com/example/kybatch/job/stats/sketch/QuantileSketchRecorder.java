@@ -0,0 +1,54 @@
+package com.example.kybatch.job.stats.sketch;
+
+import com.example.kybatch.domain.stats.ActivityQuantileSketch;
+import com.example.kybatch.domain.stats.ActivityQuantileSketchRepository;
+import com.example.kybatch.domain.stats.LeaderboardMetric;
+import com.example.kybatch.domain.stats.LeaderboardPeriod;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * QuantileSketchRecorder
+ * ------------------------------------------------------------
+ * 통계 배치가 QuantileCollector 로 모은 지표별 분포를 activity_quantile_sketch 에 기록
+ * - 같은 기간 기존 sketch 는 교체 (재실행 대비)
+ * - 호출한 Tasklet 트랜잭션 안에서 실행
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class QuantileSketchRecorder {
+
+    private final ActivityQuantileSketchRepository repository;
+
+    public QuantileCollector newCollector() {
+        return new QuantileCollector();
+    }
+
+    public void record(LeaderboardPeriod period, String periodKey, QuantileCollector collector) {
+        repository.deleteByPeriod(period, periodKey);
+
+        List<ActivityQuantileSketch> sketches = new ArrayList<>();
+        long bytes = 0;
+        for (LeaderboardMetric metric : LeaderboardMetric.values()) {
+            QuantileSketch sketch = collector.sketch(metric);
+            byte[] serialized = sketch.toBytes();
+            bytes += serialized.length;
+
+            sketches.add(ActivityQuantileSketch.builder()
+                    .periodType(period)
+                    .periodKey(periodKey)
+                    .metric(metric)
+                    .sketch(serialized)
+                    .userCount(sketch.count())
+                    .build());
+        }
+        repository.saveAll(sketches);
+
+        log.info("[QuantileSketch] {} {} recorded. bytes={}", period, periodKey, bytes);
+    }
+}
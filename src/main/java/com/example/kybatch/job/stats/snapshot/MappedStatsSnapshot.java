@@ -0,0 +1,118 @@
+package com.example.kybatch.job.stats.snapshot;
+
+import com.example.kybatch.domain.stats.LeaderboardPeriod;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.LongBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * MappedStatsSnapshot
+ * ------------------------------------------------------------
+ * 한 기간(주 / 월) 통계의 읽기 전용 columnar snapshot (memory-mapped)
+ *
+ * 파일 형식 (big-endian)
+ * - header 16 byte : [magic(4)] [version(4)] [rowCount(4)] [reserved(4)]
+ * - userId[n] (오름차순) → loginCount[n] → viewCount[n] → orderCount[n]   (모두 long)
+ *
+ * - 파일은 한 번 쓰면 바뀌지 않음 → 여러 스레드가 잠금 없이 동시에 읽어도 안전
+ * - indexOf 는 userId 컬럼 이진 탐색, 이후 같은 index 로 각 컬럼 조회 (객체 할당 없음)
+ * - 단일 mapping 제한으로 파일은 2GB 미만 (약 6,700만 유저)
+ */
+public final class MappedStatsSnapshot {
+
+    static final int MAGIC = 0x4B595353; // "KYSS"
+    static final int VERSION = 1;
+    static final int HEADER_BYTES = 16;
+
+    private final LeaderboardPeriod period;
+    private final String periodKey;
+    private final Path path;
+    private final int size;
+
+    private final LongBuffer userIds;
+    private final LongBuffer loginCounts;
+    private final LongBuffer viewCounts;
+    private final LongBuffer orderCounts;
+
+    private MappedStatsSnapshot(LeaderboardPeriod period, String periodKey, Path path, MappedByteBuffer buffer) {
+        if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+            throw new IllegalStateException("stats snapshot 형식이 아닙니다. " + path);
+        }
+        this.period = period;
+        this.periodKey = periodKey;
+        this.path = path;
+        this.size = buffer.getInt(8);
+
+        int columnBytes = size * Long.BYTES;
+        if (buffer.capacity() != HEADER_BYTES + 4L * columnBytes) {
+            throw new IllegalStateException("stats snapshot 길이 불일치. rows=" + size + ", path=" + path);
+        }
+        this.userIds = buffer.slice(HEADER_BYTES, columnBytes).asLongBuffer();
+        this.loginCounts = buffer.slice(HEADER_BYTES + columnBytes, columnBytes).asLongBuffer();
+        this.viewCounts = buffer.slice(HEADER_BYTES + 2 * columnBytes, columnBytes).asLongBuffer();
+        this.orderCounts = buffer.slice(HEADER_BYTES + 3 * columnBytes, columnBytes).asLongBuffer();
+    }
+
+    public static MappedStatsSnapshot open(LeaderboardPeriod period, String periodKey, Path path) {
+        // mapping 은 channel 을 닫아도 유지됨
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return new MappedStatsSnapshot(period, periodKey, path,
+                    channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        } catch (IOException e) {
+            throw new UncheckedIOException("stats snapshot 열기 실패. " + path, e);
+        }
+    }
+
+    /**
+     * @return userId 의 row index (없으면 -1)
+     */
+    public int indexOf(long userId) {
+        int low = 0;
+        int high = size - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            long value = userIds.get(mid);
+            if (value < userId) {
+                low = mid + 1;
+            } else if (value > userId) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    public long loginCount(int index) {
+        return loginCounts.get(index);
+    }
+
+    public long viewCount(int index) {
+        return viewCounts.get(index);
+    }
+
+    public long orderCount(int index) {
+        return orderCounts.get(index);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public LeaderboardPeriod period() {
+        return period;
+    }
+
+    public String periodKey() {
+        return periodKey;
+    }
+
+    public Path path() {
+        return path;
+    }
+}
@@ -0,0 +1,201 @@
+package com.example.kybatch.job.stats.snapshot;
+
+import com.example.kybatch.domain.stats.LeaderboardPeriod;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * StatsSnapshotExporter
+ * ------------------------------------------------------------
+ * 주간 / 월간 통계 한 기간을 columnar snapshot 파일로 내보내고 registry 에 교체 등록
+ *
+ * 1) userId 순으로 한 번 스트리밍 → 컬럼별 primitive 배열 (유저당 32 byte)
+ * 2) 임시 파일에 header + 컬럼 순서로 기록 후 fsync
+ * 3) 같은 디렉터리 안에서 atomic rename → 읽는 쪽은 완성된 파일만 봄
+ * 4) 새 파일 mapping → StatsSnapshotRegistry.swap
+ * 5) 기간 종류별 최신 KEEP_PER_PERIOD 개만 남기고 정리
+ *
+ * 내보낼 기간은 Tasklet 이 Job ExecutionContext 에 기간 종류별로 기록 (yearKey / valueKey)
+ * - rollup Job 처럼 한 실행에서 주간 / 월간을 함께 쓰는 경우도 각각 내보냄
+ */
+@Slf4j
+@Component
+public class StatsSnapshotExporter {
+
+    private static final String CONTEXT_KEY_PREFIX = "statsSnapshot.";
+
+    private static final int KEEP_PER_PERIOD = 2;
+    private static final int WRITE_BUFFER_BYTES = 64 * 1024;
+
+    private static final String WEEKLY_SQL = """
+            SELECT user_id, login_count, view_count, order_count
+            FROM weekly_status
+            WHERE year_value = ? AND week_of_year = ?
+            ORDER BY user_id
+            """;
+
+    private static final String MONTHLY_SQL = """
+            SELECT user_id, login_count, view_count, order_count
+            FROM monthly_status
+            WHERE year_value = ? AND month_value = ?
+            ORDER BY user_id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final StatsSnapshotRegistry registry;
+
+    public StatsSnapshotExporter(DataSource dataSource, StatsSnapshotRegistry registry) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(10_000);
+        this.registry = registry;
+    }
+
+    /** Job ExecutionContext 키 : 내보낼 기간의 연도 (주간이면 ISO week-based year) */
+    public static String yearKey(LeaderboardPeriod period) {
+        return CONTEXT_KEY_PREFIX + period.name().toLowerCase() + ".year";
+    }
+
+    /** Job ExecutionContext 키 : 주간이면 ISO 주차, 월간이면 월 */
+    public static String valueKey(LeaderboardPeriod period) {
+        return CONTEXT_KEY_PREFIX + period.name().toLowerCase() + ".value";
+    }
+
+    /**
+     * @param value 주간이면 ISO 주차, 월간이면 월
+     */
+    public MappedStatsSnapshot export(LeaderboardPeriod period, int year, int value) {
+        String sql;
+        String periodKey;
+        switch (period) {
+            case WEEKLY -> {
+                sql = WEEKLY_SQL;
+                periodKey = LeaderboardPeriod.weeklyKey(year, value);
+            }
+            case MONTHLY -> {
+                sql = MONTHLY_SQL;
+                periodKey = LeaderboardPeriod.monthlyKey(year, value);
+            }
+            default -> throw new IllegalArgumentException("snapshot 을 지원하지 않는 기간 : " + period);
+        }
+
+        // 1️⃣ userId 순 스트리밍 → 컬럼 배열
+        Columns columns = new Columns();
+        jdbcTemplate.query(sql, (RowCallbackHandler) rs -> columns.add(
+                rs.getLong("user_id"),
+                rs.getLong("login_count"),
+                rs.getLong("view_count"),
+                rs.getLong("order_count")), year, value);
+
+        // 2️⃣ 임시 파일 기록 → 3️⃣ atomic rename
+        Path target = registry.directory().resolve(StatsSnapshotRegistry.fileName(period, periodKey));
+        Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+        try {
+            Files.createDirectories(registry.directory());
+            write(temp, columns);
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            throw new UncheckedIOException("stats snapshot 기록 실패. " + target, e);
+        }
+
+        // 4️⃣ 교체
+        MappedStatsSnapshot snapshot = MappedStatsSnapshot.open(period, periodKey, target);
+        MappedStatsSnapshot serving = registry.swap(snapshot);
+
+        // 5️⃣ 오래된 파일 정리
+        cleanup(period, serving.path());
+
+        log.info("[StatsSnapshot] {} {} exported. rows={}, serving={}",
+                period, periodKey, columns.size, serving.periodKey());
+        return snapshot;
+    }
+
+    private void write(Path path, Columns columns) throws IOException {
+        try (FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+
+            ByteBuffer buffer = ByteBuffer.allocate(WRITE_BUFFER_BYTES);
+            buffer.putInt(MappedStatsSnapshot.MAGIC)
+                    .putInt(MappedStatsSnapshot.VERSION)
+                    .putInt(columns.size)
+                    .putInt(0);
+
+            for (long[] column : List.of(columns.userIds, columns.loginCounts, columns.viewCounts, columns.orderCounts)) {
+                for (int i = 0; i < columns.size; i++) {
+                    if (buffer.remaining() < Long.BYTES) {
+                        drain(channel, buffer);
+                    }
+                    buffer.putLong(column[i]);
+                }
+            }
+            drain(channel, buffer);
+            channel.force(true);
+        }
+    }
+
+    private static void drain(FileChannel channel, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    private void cleanup(LeaderboardPeriod period, Path serving) {
+        List<Path> files = registry.list(period);
+        for (int i = KEEP_PER_PERIOD; i < files.size(); i++) {
+            Path file = files.get(i);
+            if (file.equals(serving)) {
+                continue;
+            }
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                log.warn("[StatsSnapshot] old snapshot cleanup failed. {}", file, e);
+            }
+        }
+    }
+
+    /**
+     * userId 오름차순 컬럼 배열 (필요할 때 2배로 확장)
+     */
+    private static final class Columns {
+
+        long[] userIds = new long[1024];
+        long[] loginCounts = new long[1024];
+        long[] viewCounts = new long[1024];
+        long[] orderCounts = new long[1024];
+        int size;
+
+        void add(long userId, long login, long view, long order) {
+            if (size > 0 && userIds[size - 1] >= userId) {
+                throw new IllegalStateException("userId 가 오름차순이 아닙니다. " + userIds[size - 1] + " → " + userId);
+            }
+            if (size == userIds.length) {
+                int capacity = size * 2;
+                userIds = Arrays.copyOf(userIds, capacity);
+                loginCounts = Arrays.copyOf(loginCounts, capacity);
+                viewCounts = Arrays.copyOf(viewCounts, capacity);
+                orderCounts = Arrays.copyOf(orderCounts, capacity);
+            }
+            userIds[size] = userId;
+            loginCounts[size] = login;
+            viewCounts[size] = view;
+            orderCounts[size] = order;
+            size++;
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.example.kybatch.job.stats.snapshot;
+
+import com.example.kybatch.domain.stats.LeaderboardPeriod;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+
+/**
+ * StatsSnapshotRegistry
+ * ------------------------------------------------------------
+ * 기간 종류(WEEKLY / MONTHLY)별 현재 서빙 중인 snapshot 보관
+ *
+ * - swap 은 참조 교체 한 번 (AtomicReference) → 조회는 배치 쓰기를 기다리지 않음
+ * - 이미 current() 로 받은 이전 snapshot 도 계속 읽을 수 있음 (파일 / mapping 은 불변)
+ * - 더 오래된 기간을 재집계해 내보낸 경우에는 교체하지 않음 (항상 최신 기간 서빙)
+ * - 기동 시 디렉터리에서 기간 종류별 가장 최신 파일을 불러옴
+ *
+ * 설정
+ * - stats.snapshot.dir : snapshot 파일 디렉터리 (기본 ./data/stats-snapshot)
+ */
+@Slf4j
+@Component
+public class StatsSnapshotRegistry {
+
+    static final String SUFFIX = ".snap";
+
+    /**
+     * 기간 키 순서 (yyyy-Www / yyyy-MM 를 연도, 주차/월 숫자로 비교)
+     * - 문자열 비교는 자릿수가 다른 연도나 잘못 붙은 연도에서 순서가 어긋날 수 있음
+     */
+    static final Comparator<String> PERIOD_KEY_ORDER = Comparator.comparingLong(StatsSnapshotRegistry::periodOrdinal);
+
+    private final Path directory;
+    private final Map<LeaderboardPeriod, AtomicReference<MappedStatsSnapshot>> current =
+            new EnumMap<>(LeaderboardPeriod.class);
+
+    public StatsSnapshotRegistry(@Value("${stats.snapshot.dir:./data/stats-snapshot}") String directory) {
+        this.directory = Paths.get(directory);
+        for (LeaderboardPeriod period : LeaderboardPeriod.values()) {
+            current.put(period, new AtomicReference<>());
+        }
+    }
+
+    @PostConstruct
+    void loadLatest() {
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+        for (LeaderboardPeriod period : LeaderboardPeriod.values()) {
+            List<Path> files = list(period);
+            if (!files.isEmpty()) {
+                Path latest = files.get(0);
+                swap(MappedStatsSnapshot.open(period, periodKeyOf(period, latest), latest));
+                log.info("[StatsSnapshot] {} loaded. {}", period, latest);
+            }
+        }
+    }
+
+    /**
+     * @return 현재 snapshot (없으면 null)
+     */
+    public MappedStatsSnapshot current(LeaderboardPeriod period) {
+        return current.get(period).get();
+    }
+
+    /**
+     * @return 교체 후 현재 snapshot (next 가 더 오래된 기간이면 기존 것 유지)
+     */
+    public MappedStatsSnapshot swap(MappedStatsSnapshot next) {
+        return current.get(next.period()).accumulateAndGet(next, (prev, candidate) ->
+                prev == null || PERIOD_KEY_ORDER.compare(candidate.periodKey(), prev.periodKey()) >= 0 ? candidate : prev);
+    }
+
+    public Path directory() {
+        return directory;
+    }
+
+    static String fileName(LeaderboardPeriod period, String periodKey) {
+        return prefix(period) + periodKey + SUFFIX;
+    }
+
+    /**
+     * 해당 기간 종류 snapshot 파일 (기간 키 내림차순 = 최신 먼저)
+     */
+    List<Path> list(LeaderboardPeriod period) {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files
+                    .filter(f -> {
+                        String name = f.getFileName().toString();
+                        return name.startsWith(prefix(period)) && name.endsWith(SUFFIX);
+                    })
+                    .sorted(Comparator.comparing((Path f) -> periodKeyOf(period, f), PERIOD_KEY_ORDER).reversed())
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String prefix(LeaderboardPeriod period) {
+        return period.name().toLowerCase() + "-";
+    }
+
+    private static String periodKeyOf(LeaderboardPeriod period, Path file) {
+        String name = file.getFileName().toString();
+        return name.substring(prefix(period).length(), name.length() - SUFFIX.length());
+    }
+
+    /**
+     * "2026-W53" → 2026 * 100 + 53, "2026-07" → 2026 * 100 + 7
+     * - 형식이 맞지 않는 키는 가장 오래된 것으로 취급
+     */
+    private static long periodOrdinal(String periodKey) {
+        String[] parts = periodKey.split("-W?", 2);
+        try {
+            return Long.parseLong(parts[0]) * 100 + Long.parseLong(parts[1]);
+        } catch (RuntimeException e) {
+            return Long.MIN_VALUE;
+        }
+    }
+}
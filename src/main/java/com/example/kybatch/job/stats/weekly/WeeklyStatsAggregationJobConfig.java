@@ -2,6 +2,8 @@ package com.example.kybatch.job.stats.weekly;
 
 import com.example.kybatch.job.listener.BatchAutoRestartJobListener; // ✅ STEP 34 추가
 import com.example.kybatch.job.listener.JobExecutionLoggingListener;
+import com.example.kybatch.job.listener.StatsCacheInvalidationListener;
+import com.example.kybatch.job.listener.StatsSnapshotExportListener;
 import com.example.kybatch.job.listener.StepExecutionLoggingListener;
 import com.example.kybatch.notification.listener.BatchFailureNotificationListener;
 import lombok.RequiredArgsConstructor;
@@ -29,6 +31,8 @@ public class WeeklyStatsAggregationJobConfig {
 
     // STEP 30 알림 Listener
     private final BatchFailureNotificationListener failureNotificationListener;
+    private final StatsCacheInvalidationListener statsCacheInvalidationListener;
+    private final StatsSnapshotExportListener statsSnapshotExportListener;
 
     private final StepExecutionLoggingListener stepExecutionLoggingListener;
 
@@ -43,6 +47,8 @@ public class WeeklyStatsAggregationJobConfig {
 
                 // Job 실패 시 알림 발송
                 .listener(failureNotificationListener)
+                .listener(statsCacheInvalidationListener)
+                .listener(statsSnapshotExportListener)
 
                 // ✅ (STEP 34) 실패 시 AFTER_COMMIT + ASYNC로 1회 자동 재실행 요청
                 .listener(batchAutoRestartJobListener)
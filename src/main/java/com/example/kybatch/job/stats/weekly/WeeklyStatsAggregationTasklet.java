@@ -2,20 +2,34 @@ package com.example.kybatch.job.stats.weekly;
 
 import com.example.kybatch.batch.exception.NonCriticalBatchException;
 import com.example.kybatch.domain.lock.BatchLockPolicy;
+import com.example.kybatch.domain.stats.LeaderboardPeriod;
+import com.example.kybatch.domain.stats.StatsPushdownRepository;
+import com.example.kybatch.domain.stats.StatsPushdownRepository.RankingRowHandler;
 import com.example.kybatch.domain.stats.WeeklyStatus;
 import com.example.kybatch.domain.stats.WeeklyStatusRepository;
 import com.example.kybatch.dto.WeeklyAggregationDTO;
 import com.example.kybatch.job.common.AbstractRetryableTasklet;
+import com.example.kybatch.job.listener.StatsCacheInvalidationListener;
+import com.example.kybatch.job.stats.ranking.LeaderboardRecorder;
+import com.example.kybatch.job.stats.ranking.TopKCollector;
+import com.example.kybatch.job.stats.sketch.QuantileCollector;
+import com.example.kybatch.job.stats.sketch.QuantileSketchRecorder;
+import com.example.kybatch.job.stats.snapshot.StatsSnapshotExporter;
+import com.example.kybatch.job.stats.writer.StatsBulkWriterFactory;
+import com.example.kybatch.job.stats.writer.StatsWriteMode;
 import com.example.kybatch.lock.BatchLockService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.core.StepContribution;
 import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDate;
 import java.time.temporal.WeekFields;
 import java.util.List;
+import java.util.function.Consumer;
 
 @Slf4j
 @Component
@@ -25,6 +39,13 @@ public class WeeklyStatsAggregationTasklet
 
     private final WeeklyStatusRepository weeklyRepository;
     private final BatchLockService lockService;
+    private final StatsPushdownRepository pushdownRepository;
+    private final StatsBulkWriterFactory bulkWriterFactory;
+    private final LeaderboardRecorder leaderboardRecorder;
+    private final QuantileSketchRecorder quantileSketchRecorder;
+
+    @Value("${stats.write.mode:ENTITY}")
+    private StatsWriteMode writeMode;
 
     @Override
     protected void doExecute(StepContribution contribution,
@@ -45,10 +66,22 @@ public class WeeklyStatsAggregationTasklet
             LocalDate targetDate = LocalDate.now().minusDays(1);
             WeekFields wf = WeekFields.ISO;
 
-            int year = targetDate.getYear();
+            // ISO 주차의 연도 (12/29~1/3 처럼 연도가 걸친 주도 한 키로 고정)
+            int year = targetDate.get(wf.weekBasedYear());
             int weekOfYear = targetDate.get(wf.weekOfWeekBasedYear());
 
-            weeklyRepository.deleteByYearAndWeekOfYear(year, weekOfYear);
+            // 완료 후 columnar snapshot 으로 내보낼 기간 (StatsSnapshotExportListener)
+            ExecutionContext jobContext = context.getStepContext().getStepExecution().getJobExecution().getExecutionContext();
+            jobContext.putInt(StatsSnapshotExporter.yearKey(LeaderboardPeriod.WEEKLY), year);
+            jobContext.putInt(StatsSnapshotExporter.valueKey(LeaderboardPeriod.WEEKLY), weekOfYear);
+            // 종료 시 캐시에서 비울 기간 (StatsCacheInvalidationListener)
+            StatsCacheInvalidationListener.markRewritten(jobContext, LeaderboardPeriod.WEEKLY,
+                    LeaderboardPeriod.weeklyKey(year, weekOfYear));
+
+            // UPSERT 모드는 키 기준 덮어쓰기 → 전체 삭제 대신 저장 후 빠진 유저만 삭제
+            if (writeMode != StatsWriteMode.UPSERT) {
+                weeklyRepository.deleteByYearAndWeekOfYear(year, weekOfYear);
+            }
 
             LocalDate startDate = targetDate
                     .with(wf.weekOfWeekBasedYear(), weekOfYear)
@@ -56,6 +89,20 @@ public class WeeklyStatsAggregationTasklet
 
             LocalDate endDate = startDate.plusDays(7);
 
+            // PUSHDOWN: 집계 + 저장을 DB 안에서 한 문장으로 처리
+            if (writeMode == StatsWriteMode.PUSHDOWN) {
+                int inserted = pushdownRepository.insertWeeklyFromDaily(year, weekOfYear, startDate, endDate);
+                if (inserted == 0) {
+                    throw new NonCriticalBatchException("Weekly 집계 결과 없음");
+                }
+                contribution.incrementWriteCount(inserted);
+
+                // DB 안에서 저장된 결과 → 필요한 컬럼만 JDBC 로 한 번 순회하며 순위 / 분포 계산
+                recordLeaderboardAndDistribution(year, weekOfYear,
+                        handler -> pushdownRepository.forEachWeeklyRanking(year, weekOfYear, handler));
+                return;
+            }
+
             List<WeeklyAggregationDTO> aggregates =
                     weeklyRepository.aggregateWeekly(startDate, endDate);
 
@@ -63,21 +110,46 @@ public class WeeklyStatsAggregationTasklet
                 throw new NonCriticalBatchException("Weekly 집계 결과 없음");
             }
 
-            for (WeeklyAggregationDTO dto : aggregates) {
-                weeklyRepository.save(
-                        WeeklyStatus.builder()
-                                .userId(dto.getUserId())
-                                .year(year)
-                                .weekOfYear(weekOfYear)
-                                .loginCount(dto.getLoginCount())
-                                .viewCount(dto.getViewCount())
-                                .orderCount(dto.getOrderCount())
-                                .build()
-                );
+            List<WeeklyStatus> statuses = aggregates.stream()
+                    .map(dto -> WeeklyStatus.builder()
+                            .userId(dto.getUserId())
+                            .year(year)
+                            .weekOfYear(weekOfYear)
+                            .loginCount(dto.getLoginCount())
+                            .viewCount(dto.getViewCount())
+                            .orderCount(dto.getOrderCount())
+                            .build())
+                    .toList();
+
+            switch (writeMode) {
+                case COPY -> bulkWriterFactory.weeklyStatusWriter().writeAll(statuses);
+                case UPSERT -> {
+                    bulkWriterFactory.weeklyStatusUpsertWriter().writeAll(statuses);
+                    // 같은 Step 트랜잭션 안에서 이번 결과에 없는 유저 row 정리
+                    pushdownRepository.deleteStaleWeekly(year, weekOfYear, startDate, endDate);
+                }
+                default -> statuses.forEach(weeklyRepository::save);
             }
+            contribution.incrementWriteCount(statuses.size());
+
+            // 저장한 결과로 주간 리더보드 + 분포 sketch 기록
+            recordLeaderboardAndDistribution(year, weekOfYear, handler -> statuses.forEach(
+                    w -> handler.accept(w.getUserId(), w.getOrderCount(), w.getViewCount())));
 
         } finally {
             lockService.releaseLock("WEEKLY_STATS");
         }
     }
+
+    private void recordLeaderboardAndDistribution(int year, int weekOfYear, Consumer<RankingRowHandler> rows) {
+        TopKCollector collector = leaderboardRecorder.newCollector();
+        QuantileCollector quantiles = quantileSketchRecorder.newCollector();
+        rows.accept((userId, orderCount, viewCount) -> {
+            collector.offer(userId, orderCount, viewCount);
+            quantiles.offer(orderCount, viewCount);
+        });
+        String key = LeaderboardPeriod.weeklyKey(year, weekOfYear);
+        leaderboardRecorder.record(LeaderboardPeriod.WEEKLY, key, collector);
+        quantileSketchRecorder.record(LeaderboardPeriod.WEEKLY, key, quantiles);
+    }
 }
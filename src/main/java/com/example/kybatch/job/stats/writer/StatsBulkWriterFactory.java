@@ -0,0 +1,139 @@
+package com.example.kybatch.job.stats.writer;
+
+import com.example.kybatch.domain.stats.DailyStatus;
+import com.example.kybatch.domain.stats.MonthlyStatus;
+import com.example.kybatch.domain.stats.RollingStatus;
+import com.example.kybatch.domain.stats.WeeklyStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 통계 테이블별 bulk / upsert / 누적(increment) Writer 생성
+ * - 컬럼 순서, 유니크 키, 엔티티 → row 매핑을 한 곳에서 관리
+ * - created_at 은 DB DEFAULT 사용 (daily_status upsert 는 갱신 시에도 CURRENT_TIMESTAMP)
+ */
+@Component
+@RequiredArgsConstructor
+public class StatsBulkWriterFactory {
+
+    // ---------------------------------------------------------------
+    // daily_status
+    // ---------------------------------------------------------------
+    private static final String DAILY_TABLE = "daily_status";
+    private static final List<String> DAILY_COLUMNS =
+            List.of("user_id", "date", "login_count", "view_count", "order_count");
+    private static final List<String> DAILY_KEYS = List.of("user_id", "date");
+    private static final String DAILY_AGGREGATED_AT = "created_at";
+    private static final List<String> COUNTER_COLUMNS = List.of("login_count", "view_count", "order_count");
+    private static final Function<DailyStatus, Object[]> DAILY_ROW = s -> new Object[]{
+            s.getUserId(), s.getDate(),
+            s.getLoginCount(), s.getViewCount(), s.getOrderCount()
+    };
+
+    // ---------------------------------------------------------------
+    // weekly_status
+    // ---------------------------------------------------------------
+    private static final String WEEKLY_TABLE = "weekly_status";
+    private static final List<String> WEEKLY_COLUMNS = List.of("user_id", "year_value", "week_of_year",
+            "login_count", "view_count", "order_count", "start_date", "end_date");
+    private static final List<String> WEEKLY_KEYS = List.of("user_id", "year_value", "week_of_year");
+    private static final Function<WeeklyStatus, Object[]> WEEKLY_ROW = s -> new Object[]{
+            s.getUserId(), s.getYear(), s.getWeekOfYear(),
+            s.getLoginCount(), s.getViewCount(), s.getOrderCount(),
+            s.getStartDate(), s.getEndDate()
+    };
+
+    // ---------------------------------------------------------------
+    // monthly_status
+    // ---------------------------------------------------------------
+    private static final String MONTHLY_TABLE = "monthly_status";
+    private static final List<String> MONTHLY_COLUMNS = List.of("user_id", "year_value", "month_value",
+            "login_count", "view_count", "order_count");
+    private static final List<String> MONTHLY_KEYS = List.of("user_id", "year_value", "month_value");
+    private static final Function<MonthlyStatus, Object[]> MONTHLY_ROW = s -> new Object[]{
+            s.getUserId(), s.getYear(), s.getMonth(),
+            s.getLoginCount(), s.getViewCount(), s.getOrderCount()
+    };
+
+    // ---------------------------------------------------------------
+    // rolling_status (7일 / 30일 sliding window)
+    // ---------------------------------------------------------------
+    private static final String ROLLING_TABLE = "rolling_status";
+    private static final List<String> ROLLING_COUNTERS = List.of(
+            "login_count_7d", "view_count_7d", "order_count_7d",
+            "login_count_30d", "view_count_30d", "order_count_30d");
+    private static final List<String> ROLLING_COLUMNS = List.of(
+            "user_id",
+            "login_count_7d", "view_count_7d", "order_count_7d",
+            "login_count_30d", "view_count_30d", "order_count_30d");
+    private static final List<String> ROLLING_KEYS = List.of("user_id");
+    private static final Function<RollingStatus, Object[]> ROLLING_ROW = s -> new Object[]{
+            s.getUserId(),
+            s.getLoginCount7d(), s.getViewCount7d(), s.getOrderCount7d(),
+            s.getLoginCount30d(), s.getViewCount30d(), s.getOrderCount30d()
+    };
+
+    private final DataSource dataSource;
+
+    // =====================================================
+    // COPY / JDBC batch INSERT
+    // =====================================================
+
+    public StatsBulkItemWriter<DailyStatus> dailyStatusWriter() {
+        return new StatsBulkItemWriter<>(dataSource, DAILY_TABLE, DAILY_COLUMNS, DAILY_ROW);
+    }
+
+    public StatsBulkItemWriter<WeeklyStatus> weeklyStatusWriter() {
+        return new StatsBulkItemWriter<>(dataSource, WEEKLY_TABLE, WEEKLY_COLUMNS, WEEKLY_ROW);
+    }
+
+    public StatsBulkItemWriter<MonthlyStatus> monthlyStatusWriter() {
+        return new StatsBulkItemWriter<>(dataSource, MONTHLY_TABLE, MONTHLY_COLUMNS, MONTHLY_ROW);
+    }
+
+    // =====================================================
+    // UPSERT (ON CONFLICT / MERGE)
+    // =====================================================
+
+    public StatsUpsertItemWriter<DailyStatus> dailyStatusUpsertWriter() {
+        // created_at = 일간 집계 시각 (late-arriving 탐지 기준) → 덮어쓸 때도 갱신
+        return new StatsUpsertItemWriter<>(dataSource, DAILY_TABLE, DAILY_COLUMNS, DAILY_KEYS, DAILY_ROW,
+                DAILY_AGGREGATED_AT);
+    }
+
+    public StatsUpsertItemWriter<WeeklyStatus> weeklyStatusUpsertWriter() {
+        return new StatsUpsertItemWriter<>(dataSource, WEEKLY_TABLE, WEEKLY_COLUMNS, WEEKLY_KEYS, WEEKLY_ROW);
+    }
+
+    public StatsUpsertItemWriter<MonthlyStatus> monthlyStatusUpsertWriter() {
+        return new StatsUpsertItemWriter<>(dataSource, MONTHLY_TABLE, MONTHLY_COLUMNS, MONTHLY_KEYS, MONTHLY_ROW);
+    }
+
+    // =====================================================
+    // INCREMENT (카운터 누적 upsert, 일간 증분, week/month-to-date, rolling window)
+    // =====================================================
+
+    public StatsIncrementItemWriter<DailyStatus> dailyStatusIncrementWriter() {
+        return new StatsIncrementItemWriter<>(dataSource, DAILY_TABLE, DAILY_COLUMNS, DAILY_KEYS,
+                COUNTER_COLUMNS, DAILY_ROW);
+    }
+
+    public StatsIncrementItemWriter<WeeklyStatus> weeklyStatusIncrementWriter() {
+        return new StatsIncrementItemWriter<>(dataSource, WEEKLY_TABLE, WEEKLY_COLUMNS, WEEKLY_KEYS,
+                COUNTER_COLUMNS, WEEKLY_ROW);
+    }
+
+    public StatsIncrementItemWriter<MonthlyStatus> monthlyStatusIncrementWriter() {
+        return new StatsIncrementItemWriter<>(dataSource, MONTHLY_TABLE, MONTHLY_COLUMNS, MONTHLY_KEYS,
+                COUNTER_COLUMNS, MONTHLY_ROW);
+    }
+
+    public StatsIncrementItemWriter<RollingStatus> rollingStatusIncrementWriter() {
+        return new StatsIncrementItemWriter<>(dataSource, ROLLING_TABLE, ROLLING_COLUMNS, ROLLING_KEYS,
+                ROLLING_COUNTERS, ROLLING_ROW);
+    }
+}
@@ -0,0 +1,133 @@
+package com.example.kybatch.job.stats.writer;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * StatsUpsertItemWriter
+ * ------------------------------------------------------------
+ * 통계 엔티티를 유니크 키 기준으로 upsert 하는 ItemWriter
+ *
+ * - PostgreSQL : INSERT ... ON CONFLICT (key) DO UPDATE
+ *                값이 같은 row는 WHERE ... IS DISTINCT FROM 조건으로 갱신 생략
+ * - H2         : MERGE INTO ... KEY (key) VALUES (...)
+ *
+ * touchColumn 을 주면 (예: daily_status.created_at) 갱신되는 row 의 해당 컬럼도 DB 시계로 다시 기록
+ * - 일간 집계 시각 기준으로 late-arriving 로그를 탐지하므로, 덮어쓴 row 가 예전 시각을 들고 있으면 같은 로그를 또 잡음
+ *
+ * delete → insert 방식과 달리 재실행 중에도 해당 기간 통계가 비는 구간이 없음
+ * JDBC batchUpdate 로 묶어서 실행, 현재 트랜잭션 커넥션 사용
+ */
+@Slf4j
+public class StatsUpsertItemWriter<T> implements ItemWriter<T> {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String table;
+    private final List<String> columns;
+    private final List<String> keyColumns;
+    private final Function<T, Object[]> rowMapper;
+    private final String touchColumn;
+
+    /** DB 종류에 따라 최초 1회 결정 */
+    private volatile String upsertSql;
+
+    public StatsUpsertItemWriter(DataSource dataSource,
+                                 String table,
+                                 List<String> columns,
+                                 List<String> keyColumns,
+                                 Function<T, Object[]> rowMapper) {
+        this(dataSource, table, columns, keyColumns, rowMapper, null);
+    }
+
+    /**
+     * @param touchColumn INSERT / UPDATE 때 CURRENT_TIMESTAMP 로 기록할 컬럼 (없으면 null)
+     */
+    public StatsUpsertItemWriter(DataSource dataSource,
+                                 String table,
+                                 List<String> columns,
+                                 List<String> keyColumns,
+                                 Function<T, Object[]> rowMapper,
+                                 String touchColumn) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.table = table;
+        this.columns = columns;
+        this.keyColumns = keyColumns;
+        this.rowMapper = rowMapper;
+        this.touchColumn = touchColumn;
+    }
+
+    @Override
+    public void write(Chunk<? extends T> chunk) {
+        writeAll(chunk.getItems());
+    }
+
+    /**
+     * Tasklet 등 chunk 밖에서 목록을 한 번에 upsert 할 때 사용
+     *
+     * @return upsert 요청 row 수
+     */
+    public int writeAll(List<? extends T> items) {
+        if (items.isEmpty()) {
+            return 0;
+        }
+
+        List<Object[]> rows = new ArrayList<>(items.size());
+        for (T item : items) {
+            rows.add(rowMapper.apply(item));
+        }
+
+        jdbcTemplate.batchUpdate(upsertSql(), rows);
+        return rows.size();
+    }
+
+    private String upsertSql() {
+        if (upsertSql == null) {
+            String product = jdbcTemplate.execute(
+                    (ConnectionCallback<String>) con -> con.getMetaData().getDatabaseProductName());
+            upsertSql = "PostgreSQL".equalsIgnoreCase(product) ? postgresSql() : mergeSql();
+            log.info("[StatsUpsertWriter] table={}, db={}", table, product);
+        }
+        return upsertSql;
+    }
+
+    private String postgresSql() {
+        List<String> valueColumns = columns.stream()
+                .filter(c -> !keyColumns.contains(c))
+                .toList();
+
+        return "INSERT INTO " + table + " AS t (" + insertColumns() + ")"
+                + " VALUES (" + insertValues() + ")"
+                + " ON CONFLICT (" + String.join(", ", keyColumns) + ") DO UPDATE SET "
+                + valueColumns.stream().map(c -> c + " = EXCLUDED." + c).collect(Collectors.joining(", "))
+                + (touchColumn != null ? ", " + touchColumn + " = CURRENT_TIMESTAMP" : "")
+                + " WHERE (" + valueColumns.stream().map(c -> "t." + c).collect(Collectors.joining(", ")) + ")"
+                + " IS DISTINCT FROM ("
+                + valueColumns.stream().map(c -> "EXCLUDED." + c).collect(Collectors.joining(", ")) + ")";
+    }
+
+    private String mergeSql() {
+        // KEY 가 일치하면 나열한 컬럼을 모두 덮어씀 → touchColumn 도 매번 CURRENT_TIMESTAMP 로 갱신
+        return "MERGE INTO " + table + " (" + insertColumns() + ")"
+                + " KEY (" + String.join(", ", keyColumns) + ")"
+                + " VALUES (" + insertValues() + ")";
+    }
+
+    private String insertColumns() {
+        String joined = String.join(", ", columns);
+        return touchColumn != null ? joined + ", " + touchColumn : joined;
+    }
+
+    private String insertValues() {
+        String placeholders = columns.stream().map(c -> "?").collect(Collectors.joining(", "));
+        return touchColumn != null ? placeholders + ", CURRENT_TIMESTAMP" : placeholders;
+    }
+}
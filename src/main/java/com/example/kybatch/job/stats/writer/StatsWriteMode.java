@@ -0,0 +1,20 @@
+package com.example.kybatch.job.stats.writer;
+
+/**
+ * 통계 Tasklet 저장 방식
+ * - 설정값 stats.write.mode 로 선택 (기본 ENTITY)
+ */
+public enum StatsWriteMode {
+
+    /** 집계 DTO를 JVM으로 가져와 repository.save() 로 row 단위 저장 (기존 방식) */
+    ENTITY,
+
+    /** INSERT INTO ... SELECT ... GROUP BY 로 DB 안에서 집계 + 저장 (JVM 데이터 이동 없음) */
+    PUSHDOWN,
+
+    /** 집계 DTO를 StatsBulkItemWriter 로 한 번에 저장 (PostgreSQL COPY / H2 JDBC batch) */
+    COPY,
+
+    /** 기존 결과를 삭제하지 않고 유니크 키 기준 upsert (ON CONFLICT / MERGE) */
+    UPSERT
+}
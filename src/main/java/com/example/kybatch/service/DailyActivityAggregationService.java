@@ -28,6 +28,9 @@ public class DailyActivityAggregationService {
         List<DailyAggregationDTO> results =
                 userActivityRepository.aggregateDaily(startOfDay, endOfDay);
 
+        // (user_id, date) 유니크 키 → 재실행 시 같은 트랜잭션에서 기존 결과 삭제 후 저장
+        dailyStatusRepository.deleteByDate(targetDate);
+
         for (DailyAggregationDTO dto : results) {
             DailyStatus status = DailyStatus.builder()
                     .userId(dto.getUserId())
@@ -25,6 +25,9 @@ public class MonthlyAggregationService {
         List<MonthlyAggregationDTO> result =
                 repo.aggregateMonthly(year, month, start, next);
 
+        // (user_id, year, month) 유니크 키 → 재실행 시 같은 트랜잭션에서 기존 결과 삭제 후 저장
+        repo.deleteByYearAndMonth(year, month);
+
         for (MonthlyAggregationDTO dto : result) {
             repo.save(
                     MonthlyStatus.builder()
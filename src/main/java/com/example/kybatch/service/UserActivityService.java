@@ -2,6 +2,11 @@ package com.example.kybatch.service;
 
 import com.example.kybatch.domain.activity.UserActivity;
 import com.example.kybatch.domain.activity.UserActivityRepository;
+import com.example.kybatch.ingest.ActivityEvent;
+import com.example.kybatch.ingest.ActivityIngestBuffer;
+import com.example.kybatch.ingest.ActivityPreAggregator;
+import com.example.kybatch.ingest.ActivityType;
+import com.example.kybatch.ingest.wal.ActivityWriteAheadLog;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -14,23 +19,49 @@ public class UserActivityService {
 
     private final UserActivityRepository repository;
 
+    // activity.ingest.mode=BUFFERED 일 때 group commit 경로
+    private final ActivityIngestBuffer ingestBuffer;
+
+    // activity.ingest.mode=PRE_AGGREGATE 일 때 (userId, 시간 버킷) 합산 경로
+    private final ActivityPreAggregator preAggregator;
+
+    // activity.ingest.mode=WAL 일 때 로컬 로그 선기록 경로
+    private final ActivityWriteAheadLog writeAheadLog;
+
     public void recordLogin(Long userId){
-        saveActivity(userId, 1, 0, 0);
+        record(userId, ActivityType.LOGIN);
     }
 
     public void recordView(Long userId){
-        saveActivity(userId, 0, 1, 0);
+        record(userId, ActivityType.VIEW);
     }
 
     public void recordOrder(Long userId){
-        saveActivity(userId, 0, 0, 1);
+        record(userId, ActivityType.ORDER);
     }
 
     /**
-     *  공통 처리 로직
+     *  수집 경로 분기
+     *  - 사전 집계가 기동 중이면 버킷에 합산 (flush 시 버킷당 1 row 저장)
+     *  - 버퍼가 기동 중이면 버퍼에 적재 (writer 스레드가 배치로 저장)
+     *  - WAL이 기동 중이면 로컬 로그에 기록 (loader가 비동기로 DB 이관)
+     *  - 모두 비활성 / 버퍼 포화 시 기존 단건 저장으로 fallback
      * */
-    private void saveActivity(Long userId, int login, int view, int order) {
+    private void record(Long userId, ActivityType type) {
         LocalDateTime now = LocalDateTime.now();
+        ActivityEvent event = new ActivityEvent(userId, type, now);
+
+        if (preAggregator.add(event) || ingestBuffer.offer(event) || writeAheadLog.append(event)) {
+            return;
+        }
+
+        saveActivity(userId, type.getLoginCount(), type.getViewCount(), type.getOrderCount(), now);
+    }
+
+    /**
+     *  공통 처리 로직
+     * */
+    private void saveActivity(Long userId, int login, int view, int order, LocalDateTime now) {
 
         UserActivity activity = UserActivity.builder()
                 .userId(userId)
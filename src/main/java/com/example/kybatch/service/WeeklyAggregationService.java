@@ -33,6 +33,9 @@ public class WeeklyAggregationService {
         List<WeeklyAggregationDTO> results =
                 weeklyRepo.aggregateWeekly(startOfWeek, endOfWeek);
 
+        // (user_id, year, week) 유니크 키 → 재실행 시 같은 트랜잭션에서 기존 결과 삭제 후 저장
+        weeklyRepo.deleteByYearAndWeekOfYear(year, week);
+
         for (WeeklyAggregationDTO dto : results) {
             weeklyRepo.save(
                     WeeklyStatus.builder()
@@ -1,11 +1,19 @@
 package com.example.kybatch.api.batchlog;
 
+import com.example.kybatch.domain.batchlog.BatchStepLog;
+import com.example.kybatch.domain.batchlog.BatchStepLogRepository;
+import com.jayway.jsonpath.JsonPath;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 
@@ -17,6 +25,9 @@ class BatchLogControllerTest {
     @Autowired
     MockMvc mvc;
 
+    @Autowired
+    BatchStepLogRepository stepLogRepository;
+
     @Test
     void jobLog_API_정상조회() throws Exception {
         mvc.perform(get("/api/batch-logs/jobs")
@@ -30,4 +41,33 @@ class BatchLogControllerTest {
                         .param("stepName", "dailyAggregationStep"))
                 .andExpect(status().isOk());
     }
+
+    @Test
+    void stepLog_API_커서_페이지조회() throws Exception {
+        String stepName = "pagingStep-" + UUID.randomUUID();
+        for (int i = 0; i < 3; i++) {
+            stepLogRepository.save(new BatchStepLog("pagingJob", stepName, LocalDateTime.now()));
+        }
+
+        // 1페이지 : 최신 2건 + 다음 커서
+        String first = mvc.perform(get("/api/batch-logs/steps")
+                        .param("stepName", stepName)
+                        .param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(2))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andReturn().getResponse().getContentAsString();
+
+        Number cursor = JsonPath.read(first, "$.nextCursor");
+
+        // 2페이지 : 남은 1건, 마지막 페이지
+        mvc.perform(get("/api/batch-logs/steps")
+                        .param("stepName", stepName)
+                        .param("size", "2")
+                        .param("cursor", cursor.toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(1))
+                .andExpect(jsonPath("$.hasNext").value(false))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
 }
@@ -0,0 +1,58 @@
+package com.example.kybatch.api.leaderboard;
+
+import com.example.kybatch.domain.stats.LeaderboardEntry;
+import com.example.kybatch.domain.stats.LeaderboardEntryRepository;
+import com.example.kybatch.domain.stats.LeaderboardMetric;
+import com.example.kybatch.domain.stats.LeaderboardPeriod;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class LeaderboardControllerTest {
+
+    @Autowired
+    MockMvc mvc;
+
+    @Autowired
+    LeaderboardEntryRepository repository;
+
+    @BeforeEach
+    void setup() {
+        repository.deleteAll();
+        repository.save(entry(2, 7L, 40));
+        repository.save(entry(1, 3L, 90));
+    }
+
+    @Test
+    void leaderboard_API_순위순조회() throws Exception {
+        mvc.perform(get("/api/leaderboards")
+                        .param("period", "DAILY")
+                        .param("periodKey", "2025-07-01")
+                        .param("metric", "ORDERS"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].userId").value(3))
+                .andExpect(jsonPath("$[0].value").value(90))
+                .andExpect(jsonPath("$[1].rank").value(2));
+    }
+
+    private LeaderboardEntry entry(int rank, long userId, long value) {
+        return LeaderboardEntry.builder()
+                .periodType(LeaderboardPeriod.DAILY)
+                .periodKey("2025-07-01")
+                .metric(LeaderboardMetric.ORDERS)
+                .rankNo(rank)
+                .userId(userId)
+                .value(value)
+                .build();
+    }
+}
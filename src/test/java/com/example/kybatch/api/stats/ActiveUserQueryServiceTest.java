@@ -0,0 +1,67 @@
+package com.example.kybatch.api.stats;
+
+import com.example.kybatch.api.stats.dto.ActiveUserCountResponseDTO;
+import com.example.kybatch.api.stats.service.ActiveUserQueryService;
+import com.example.kybatch.domain.stats.DailyActiveSketchRepository;
+import com.example.kybatch.job.stats.sketch.ActiveUserSketchRecorder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@ActiveProfiles("test")
+class ActiveUserQueryServiceTest {
+
+    @Autowired
+    ActiveUserSketchRecorder recorder;
+
+    @Autowired
+    ActiveUserQueryService queryService;
+
+    @Autowired
+    DailyActiveSketchRepository repository;
+
+    private final LocalDate monday = LocalDate.of(2025, 6, 2);
+
+    @BeforeEach
+    void setup() {
+        repository.deleteAll();
+    }
+
+    @Test
+    @Transactional
+    void weeklyDistinctComesFromMergedDailySketches() {
+        // 월 : user 1 ~ 100, 화 : user 51 ~ 150, 수 : 증분 두 번 (1 ~ 10, 5 ~ 20)
+        recorder.replace(monday, users(1, 100));
+        recorder.replace(monday.plusDays(1), users(51, 150));
+        recorder.add(monday.plusDays(2), users(1, 10));
+        recorder.add(monday.plusDays(2), users(5, 20));
+
+        ActiveUserCountResponseDTO week = queryService.countWeek(monday);
+        // 근사치 : 작은 값 구간은 linear counting 이라 오차 ±1 ~ 2명 수준
+        assertThat(week.getEstimate()).isCloseTo(150L, within(2L));
+        assertThat(week.getCoveredDays()).isEqualTo(3);
+        assertThat(week.getMissingDays()).isEqualTo(4);
+
+        ActiveUserCountResponseDTO wednesday = queryService.countBetween(monday.plusDays(2), monday.plusDays(3));
+        assertThat(wednesday.getEstimate()).isCloseTo(20L, within(1L));
+
+        // 같은 날짜 재집계 → 교체
+        recorder.replace(monday, users(1, 30));
+        assertThat(queryService.countBetween(monday, monday.plusDays(1)).getEstimate()).isCloseTo(30L, within(1L));
+    }
+
+    private static List<Long> users(long from, long to) {
+        return LongStream.rangeClosed(from, to).boxed().toList();
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.kybatch.api.stats;
+
+import com.example.kybatch.api.stats.dto.StatsCacheMetricsDTO;
+import com.example.kybatch.api.stats.service.StatsQueryService;
+import com.example.kybatch.domain.stats.DailyStatus;
+import com.example.kybatch.domain.stats.DailyStatusRepository;
+import com.example.kybatch.domain.stats.LeaderboardPeriod;
+import com.example.kybatch.domain.stats.MonthlyStatus;
+import com.example.kybatch.domain.stats.MonthlyStatusRepository;
+import com.example.kybatch.job.listener.StatsCacheInvalidationListener;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.test.MetaDataInstanceFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@ActiveProfiles("test")
+class StatsQueryServiceTest {
+
+    @Autowired
+    StatsQueryService queryService;
+
+    @Autowired
+    StatsCacheInvalidationListener invalidationListener;
+
+    @Autowired
+    DailyStatusRepository dailyRepository;
+
+    @Autowired
+    MonthlyStatusRepository monthlyRepository;
+
+    private final LocalDate day = LocalDate.of(2025, 4, 10);
+
+    @BeforeEach
+    void setup() {
+        dailyRepository.deleteAll();
+        monthlyRepository.deleteAll();
+        finishDaily("lateActivityReaggregationJob", day); // 이전 테스트 캐시 비우기
+        finishDaily("lateActivityReaggregationJob", day.plusDays(1));
+    }
+
+    @Test
+    void readThroughUntilJobFinishes() {
+        dailyRepository.save(new DailyStatus(1L, day, 1L, 2L, 0L));
+        monthlyRepository.save(MonthlyStatus.builder()
+                .userId(1L).year(2025).month(4)
+                .loginCount(1L).viewCount(2L).orderCount(0L)
+                .build());
+
+        StatsCacheMetricsDTO before = queryService.getCacheMetrics();
+
+        // 1) 첫 조회 miss → 두 번째 hit
+        assertThat(queryService.getDaily(1L, day).orElseThrow().getViewCount()).isEqualTo(2);
+        assertThat(queryService.getDaily(1L, day).orElseThrow().getViewCount()).isEqualTo(2);
+        assertThat(queryService.getMonthly(1L, 2025, 4)).isPresent();
+        assertThat(queryService.getDaily(2L, day)).isEmpty();
+
+        StatsCacheMetricsDTO after = queryService.getCacheMetrics();
+        assertThat(after.getMissCount() - before.getMissCount()).isEqualTo(3);
+        assertThat(after.getHitCount() - before.getHitCount()).isEqualTo(1);
+
+        // 2) DB 가 바뀌어도 Job 종료 전까지는 캐시 값
+        dailyRepository.deleteAll();
+        dailyRepository.save(new DailyStatus(1L, day, 1L, 9L, 0L));
+        assertThat(queryService.getDaily(1L, day).orElseThrow().getViewCount()).isEqualTo(2);
+
+        // 3) 월간 Job 종료 → 월간만 무효화
+        finish("monthlyStatsAggregationJob", LeaderboardPeriod.MONTHLY, LeaderboardPeriod.monthlyKey(2025, 4));
+        assertThat(queryService.getDaily(1L, day).orElseThrow().getViewCount()).isEqualTo(2);
+
+        // 4) 다른 날짜를 다시 쓴 일간 Job 종료 → 이 날짜 캐시는 유지
+        finish("dailyStatsIncrementalJob", LeaderboardPeriod.DAILY, LeaderboardPeriod.dailyKey(day.plusDays(1)));
+        assertThat(queryService.getDaily(1L, day).orElseThrow().getViewCount()).isEqualTo(2);
+
+        // 5) 이 날짜를 다시 쓴 일간 Job 종료 → 해당 키 무효화 → 새 값
+        finish("dailyStatsIncrementalJob", LeaderboardPeriod.DAILY, LeaderboardPeriod.dailyKey(day));
+        assertThat(queryService.getDaily(1L, day).orElseThrow().getViewCount()).isEqualTo(9);
+        assertThat(queryService.getCacheMetrics().getInvalidationCount())
+                .isGreaterThan(after.getInvalidationCount());
+    }
+
+    private void finishDaily(String jobName, LocalDate date) {
+        JobExecution execution = MetaDataInstanceFactory.createJobExecution(jobName, 1L, 1L);
+        StatsCacheInvalidationListener.markRewrittenThroughPeriod(execution.getExecutionContext(), date);
+        invalidationListener.afterJob(execution);
+    }
+
+    private void finish(String jobName, LeaderboardPeriod period, String periodKey) {
+        JobExecution execution = MetaDataInstanceFactory.createJobExecution(jobName, 1L, 1L);
+        StatsCacheInvalidationListener.markRewritten(execution.getExecutionContext(), period, periodKey);
+        invalidationListener.afterJob(execution);
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.kybatch.domain.activity;
+
+import java.time.LocalDateTime;
+
+/**
+ * 테스트용 UserActivity 생성 헬퍼 (집계 / 증분 / 백필 / late-arriving 테스트 공통)
+ */
+public final class UserActivityFixtures {
+
+    private UserActivityFixtures() {
+    }
+
+    public static UserActivity activity(long userId, long login, long view, long order, LocalDateTime createdAt) {
+        return UserActivity.builder()
+                .userId(userId)
+                .loginCount(login)
+                .viewCount(view)
+                .orderCount(order)
+                .createdAt(createdAt)
+                .build();
+    }
+}
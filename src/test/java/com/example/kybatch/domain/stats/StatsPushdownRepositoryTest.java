@@ -0,0 +1,83 @@
+package com.example.kybatch.domain.stats;
+
+import com.example.kybatch.domain.activity.UserActivityRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+
+import static com.example.kybatch.domain.activity.UserActivityFixtures.activity;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@ActiveProfiles("test")
+class StatsPushdownRepositoryTest {
+
+    @Autowired
+    StatsPushdownRepository pushdownRepository;
+
+    @Autowired
+    UserActivityRepository activityRepository;
+
+    @Autowired
+    DailyStatusRepository dailyRepository;
+
+    @Autowired
+    MonthlyStatusRepository monthlyRepository;
+
+    @AfterEach
+    void tearDown() {
+        activityRepository.deleteAll();
+        dailyRepository.deleteAll();
+        monthlyRepository.deleteAll();
+    }
+
+    @Test
+    void insertDailyFromActivity_aggregatesInsideDatabase() {
+
+        // given
+        LocalDate target = LocalDate.of(2025, 11, 26);
+
+        activityRepository.save(activity(1L, 1, 3, 2, target.atTime(10, 0)));
+        activityRepository.save(activity(1L, 1, 2, 1, target.atTime(10, 0)));
+        activityRepository.save(activity(2L, 2, 4, 1, target.atTime(10, 0)));
+        activityRepository.save(activity(2L, 10, 10, 10, target.minusDays(1).atTime(10, 0))); // 집계 제외
+
+        // when
+        int inserted = pushdownRepository.insertDailyFromActivity(
+                target, target.atStartOfDay(), target.plusDays(1).atStartOfDay());
+
+        // then
+        assertThat(inserted).isEqualTo(2);
+
+        DailyStatus user1 = dailyRepository.findByUserIdAndDate(1L, target).orElseThrow();
+        assertThat(user1.getLoginCount()).isEqualTo(2);
+        assertThat(user1.getViewCount()).isEqualTo(5);
+        assertThat(user1.getOrderCount()).isEqualTo(3);
+    }
+
+    @Test
+    void insertMonthlyFromDaily_aggregatesInsideDatabase() {
+
+        // given
+        dailyRepository.save(new DailyStatus(1L, LocalDate.of(2025, 7, 1), 3L, 1L, 2L));
+        dailyRepository.save(new DailyStatus(1L, LocalDate.of(2025, 7, 31), 2L, 4L, 0L));
+        dailyRepository.save(new DailyStatus(1L, LocalDate.of(2025, 8, 1), 9L, 9L, 9L)); // 집계 제외
+
+        // when
+        int inserted = pushdownRepository.insertMonthlyFromDaily(
+                2025, 7, LocalDate.of(2025, 7, 1), LocalDate.of(2025, 8, 1));
+
+        // then
+        assertThat(inserted).isEqualTo(1);
+
+        MonthlyStatus july = monthlyRepository.findAll().get(0);
+        assertThat(july.getMonth()).isEqualTo(7);
+        assertThat(july.getLoginCount()).isEqualTo(5);
+        assertThat(july.getViewCount()).isEqualTo(5);
+        assertThat(july.getOrderCount()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.kybatch.ingest;
+
+import com.example.kybatch.domain.activity.UserActivityRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * POST /activity/bulk
+ * - 레코드 단위 오류는 rejected 로 세고 나머지는 적재
+ * - 청크마다 커밋, 구조 오류는 400 + 커밋된 청크 유지 (committed / resumeFrom 으로 남은 부분만 재전송)
+ */
+@SpringBootTest(properties = "activity.ingest.bulk.chunk-size=2")
+@AutoConfigureMockMvc
+class ActivityBulkIngestTest {
+
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
+    @Autowired
+    MockMvc mvc;
+
+    @Autowired
+    UserActivityRepository activityRepository;
+
+    @BeforeEach
+    void setup() {
+        activityRepository.deleteAll();
+    }
+
+    @Test
+    void malformedRecordsAreRejectedNotFailed() throws Exception {
+        String body = String.join("\n",
+                "{\"userId\":1,\"type\":\"VIEW\"}",
+                "{\"userId\":\"abc\",\"type\":\"VIEW\"}",
+                "{\"userId\":{\"id\":3},\"type\":\"VIEW\"}",
+                "{\"userId\":4,\"type\":\"ORDER\",\"createdAt\":\"not-a-date\"}",
+                "{\"userId\":5,\"type\":\"ORDER\",\"createdAt\":[2025,1,1]}",
+                "{\"userId\":6,\"type\":[\"VIEW\"]}",
+                "{\"userId\":7,\"type\":\"LOGIN\",\"meta\":{\"tags\":[1,2,{\"x\":null}]}}",
+                "{\"userId\":8,\"type\":\"ORDER\",\"createdAt\":\"2025-01-01T10:00:00\"}");
+
+        mvc.perform(post("/activity/bulk").contentType(NDJSON).content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.accepted").value(3))
+                .andExpect(jsonPath("$.committed").value(3))
+                .andExpect(jsonPath("$.rejected").value(5))
+                .andExpect(jsonPath("$.resumeFrom").value(8));
+
+        assertThat(activityRepository.count()).isEqualTo(3);
+    }
+
+    @Test
+    void brokenBodyIsBadRequestAndKeepsCommittedChunks() throws Exception {
+        // chunk-size=2 → 앞의 4건은 청크 2개로 이미 커밋된 뒤 깨진 JSON 을 만남
+        String body = String.join("\n",
+                "{\"userId\":1,\"type\":\"VIEW\"}",
+                "{\"userId\":2,\"type\":\"VIEW\"}",
+                "{\"userId\":3,\"type\":\"VIEW\"}",
+                "{\"userId\":4,\"type\":\"VIEW\"}",
+                "{\"userId\":5,\"type\":");
+
+        mvc.perform(post("/activity/bulk").contentType(NDJSON).content(body))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.committed").value(4))
+                .andExpect(jsonPath("$.chunks").value(2))
+                .andExpect(jsonPath("$.resumeFrom").value(4))
+                .andExpect(jsonPath("$.error").isNotEmpty());
+
+        assertThat(activityRepository.count()).isEqualTo(4);
+    }
+
+    @Test
+    void nonObjectElementIsBadRequest() throws Exception {
+        mvc.perform(post("/activity/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[{\"userId\":1,\"type\":\"VIEW\"},{\"userId\":2,\"type\":\"VIEW\"},42]"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.committed").value(2))
+                .andExpect(jsonPath("$.resumeFrom").value(2));
+
+        // chunk-size=2 → 앞의 두 건은 커밋됨
+        assertThat(activityRepository.count()).isEqualTo(2);
+    }
+}
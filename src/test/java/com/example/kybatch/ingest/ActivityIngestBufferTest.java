@@ -0,0 +1,118 @@
+package com.example.kybatch.ingest;
+
+import com.example.kybatch.domain.activity.UserActivity;
+import com.example.kybatch.domain.activity.UserActivityJdbcRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+class ActivityIngestBufferTest {
+
+    UserActivityJdbcRepository jdbcRepository;
+    ActivityIngestBuffer buffer;
+
+    @BeforeEach
+    void setup() {
+        jdbcRepository = mock(UserActivityJdbcRepository.class);
+        buffer = new ActivityIngestBuffer(jdbcRepository, ActivityIngestMode.BUFFERED, 100, 10, 5, 10);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (buffer.isRunning()) {
+            buffer.stop();
+        }
+    }
+
+    @Test
+    void DB_일시_장애는_성공할_때까지_재시도하고_버리지_않는다() throws Exception {
+        DataAccessResourceFailureException down = new DataAccessResourceFailureException("connection refused");
+        when(jdbcRepository.batchInsert(anyList()))
+                .thenThrow(down, down, down, down, down)
+                .thenAnswer(inv -> ((List<?>) inv.getArgument(0)).size());
+
+        buffer.start();
+        for (long userId = 1; userId <= 3; userId++) {
+            assertThat(buffer.offer(event(userId))).isTrue();
+        }
+
+        await(() -> flushed() == 3);
+
+        assertThat(buffer.stats().get("droppedEvents")).isEqualTo(0L);
+    }
+
+    @Test
+    void 제약_위반은_행_단위로_나눠_문제_row만_격리한다() throws Exception {
+        when(jdbcRepository.batchInsert(anyList())).thenAnswer(inv -> {
+            List<UserActivity> rows = inv.getArgument(0);
+            if (rows.stream().anyMatch(r -> r.getUserId() == 2L)) {
+                throw new DataIntegrityViolationException("bad row");
+            }
+            return rows.size();
+        });
+
+        buffer.start();
+        for (long userId = 1; userId <= 3; userId++) {
+            buffer.offer(event(userId));
+        }
+
+        await(() -> flushed() + dropped() == 3);
+
+        assertThat(flushed()).isEqualTo(2);
+        assertThat(dropped()).isEqualTo(1);
+    }
+
+    @Test
+    void 종료_중_DB_장애가_계속되면_유실_건수를_남기고_종료한다() {
+        when(jdbcRepository.batchInsert(anyList()))
+                .thenThrow(new DataAccessResourceFailureException("connection refused"));
+
+        buffer.start();
+        buffer.offer(event(1L));
+        buffer.offer(event(2L));
+
+        buffer.stop();
+
+        assertThat(flushed()).isZero();
+        assertThat(dropped()).isEqualTo(2);
+    }
+
+    @Test
+    void 비활성_모드는_큐_용량을_할당하지_않는다() {
+        ActivityIngestBuffer direct = new ActivityIngestBuffer(jdbcRepository, ActivityIngestMode.DIRECT, 100_000, 1000, 50, 10);
+
+        assertThat(direct.isAutoStartup()).isFalse();
+        assertThat(direct.offer(event(1L))).isFalse();
+        assertThat(direct.stats().get("queueRemainingCapacity")).isEqualTo(1);
+    }
+
+    private long flushed() {
+        return (Long) buffer.stats().get("flushedEvents");
+    }
+
+    private long dropped() {
+        return (Long) buffer.stats().get("droppedEvents");
+    }
+
+    private ActivityEvent event(long userId) {
+        return new ActivityEvent(userId, ActivityType.VIEW, LocalDateTime.now());
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(condition.getAsBoolean()).isTrue();
+    }
+}
@@ -0,0 +1,115 @@
+package com.example.kybatch.ingest;
+
+import com.example.kybatch.domain.activity.UserActivity;
+import com.example.kybatch.domain.activity.UserActivityJdbcRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+class ActivityPreAggregatorTest {
+
+    UserActivityJdbcRepository jdbcRepository;
+    ActivityPreAggregator aggregator;
+
+    @BeforeEach
+    void setup() {
+        jdbcRepository = mock(UserActivityJdbcRepository.class);
+        when(jdbcRepository.batchInsert(anyList())).thenAnswer(inv -> ((List<?>) inv.getArgument(0)).size());
+
+        // flush 주기는 테스트 중 자동 실행되지 않도록 길게
+        aggregator = new ActivityPreAggregator(jdbcRepository, ActivityIngestMode.PRE_AGGREGATE, 60, 600_000);
+        aggregator.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (aggregator.isRunning()) {
+            aggregator.stop();
+        }
+    }
+
+    @Test
+    void 버킷_합산_결과는_raw_일별_합계와_동일() {
+
+        LocalDate day = LocalDate.of(2025, 12, 3);
+        List<ActivityEvent> raw = new ArrayList<>();
+
+        // user1: 같은 분 3건 + 다른 분 1건, user2: 자정 직전 1건
+        raw.add(new ActivityEvent(1L, ActivityType.VIEW, day.atTime(10, 0, 1)));
+        raw.add(new ActivityEvent(1L, ActivityType.VIEW, day.atTime(10, 0, 30)));
+        raw.add(new ActivityEvent(1L, ActivityType.ORDER, day.atTime(10, 0, 59)));
+        raw.add(new ActivityEvent(1L, ActivityType.LOGIN, day.atTime(10, 1, 0)));
+        raw.add(new ActivityEvent(2L, ActivityType.VIEW, day.atTime(23, 59, 59)));
+        // 다음 날 이벤트는 별도 버킷
+        raw.add(new ActivityEvent(2L, ActivityType.VIEW, day.plusDays(1).atTime(0, 0, 0)));
+
+        raw.forEach(e -> assertThat(aggregator.add(e)).isTrue());
+
+        int rows = aggregator.flush();
+
+        ArgumentCaptor<List<UserActivity>> captor = ArgumentCaptor.forClass(List.class);
+        verify(jdbcRepository).batchInsert(captor.capture());
+        List<UserActivity> flushed = captor.getValue();
+
+        // 6 이벤트 → 4 버킷
+        assertThat(rows).isEqualTo(4);
+        assertThat(dailyTotals(flushed)).isEqualTo(dailyTotals(raw.stream().map(ActivityEvent::toEntity).toList()));
+
+        // 버킷 row는 분 단위 시작 시각 (bucketSeconds = 60)
+        assertThat(flushed).allSatisfy(a ->
+                assertThat(a.getCreatedAt().getSecond()).isZero());
+
+        // 버킷 row는 항상 원본과 같은 날짜 (23:59:59 이벤트도 다음 날로 넘어가지 않음)
+        assertThat(flushed)
+                .extracting(a -> a.getCreatedAt().toLocalDate())
+                .containsOnly(day, day.plusDays(1));
+    }
+
+    @Test
+    void 중지_후에는_fallback_경로로_넘긴다() {
+        aggregator.add(new ActivityEvent(1L, ActivityType.LOGIN, LocalDateTime.now()));
+
+        aggregator.stop();
+
+        // stop 시점에 남은 버킷은 flush 되어야 함
+        verify(jdbcRepository, times(1)).batchInsert(anyList());
+        assertThat(aggregator.add(new ActivityEvent(1L, ActivityType.LOGIN, LocalDateTime.now()))).isFalse();
+    }
+
+    @Test
+    void 종료_시_최종_flush가_실패해도_예외를_던지지_않는다() {
+        aggregator.add(new ActivityEvent(1L, ActivityType.LOGIN, LocalDateTime.now()));
+        when(jdbcRepository.batchInsert(anyList())).thenThrow(new IllegalStateException("db down"));
+
+        // 유실 건수는 로그로만 남기고 종료는 계속 진행
+        assertThatCode(() -> aggregator.stop()).doesNotThrowAnyException();
+        assertThat(aggregator.isRunning()).isFalse();
+    }
+
+    /** (userId, 날짜) → [login, view, order] */
+    private Map<String, List<Long>> dailyTotals(List<UserActivity> rows) {
+        Map<String, List<Long>> totals = new HashMap<>();
+        for (UserActivity a : rows) {
+            String key = a.getUserId() + "_" + a.getCreatedAt().toLocalDate();
+            List<Long> current = totals.getOrDefault(key, List.of(0L, 0L, 0L));
+            totals.put(key, List.of(
+                    current.get(0) + a.getLoginCount(),
+                    current.get(1) + a.getViewCount(),
+                    current.get(2) + a.getOrderCount()));
+        }
+        return totals;
+    }
+}
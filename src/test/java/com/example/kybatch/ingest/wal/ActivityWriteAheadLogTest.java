@@ -0,0 +1,154 @@
+package com.example.kybatch.ingest.wal;
+
+import com.example.kybatch.ingest.ActivityEvent;
+import com.example.kybatch.ingest.ActivityIngestMode;
+import com.example.kybatch.ingest.ActivityType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ActivityWriteAheadLog 세그먼트 기록/복구 단위 테스트
+ * - 세그먼트 4 레코드 → 10건 기록 시 세그먼트 3개
+ */
+class ActivityWriteAheadLogTest {
+
+    private static final int SEGMENT_BYTES = ActivityWriteAheadLog.RECORD_BYTES * 4;
+
+    @TempDir
+    Path dir;
+
+    private final LocalDateTime base = LocalDateTime.of(2025, 8, 25, 9, 0);
+
+    @Test
+    void reopenRecoversLogEndAcrossSegments() {
+        ActivityWriteAheadLog wal = open(ActivityIngestMode.WAL);
+        wal.start();
+        appendEvents(wal, 10);
+        wal.stop();
+
+        ActivityWriteAheadLog reopened = open(ActivityIngestMode.WAL);
+        reopened.start();
+
+        assertThat(reopened.nextSequence()).isEqualTo(10);
+        assertThat(reopened.firstSequence()).isZero();
+
+        List<ActivityEvent> events = reopened.read(0, 100);
+        assertThat(events).hasSize(10);
+        assertThat(events.get(7).getUserId()).isEqualTo(8L);
+        assertThat(events.get(7).getType()).isEqualTo(ActivityType.values()[7 % 3]);
+        assertThat(events.get(7).getCreatedAt()).isEqualTo(base.plusMinutes(7));
+
+        // 복구 후 이어서 기록
+        assertThat(reopened.append(event(11))).isTrue();
+        assertThat(reopened.nextSequence()).isEqualTo(11);
+        reopened.stop();
+    }
+
+    @Test
+    void recoveryStopsAtTornRecord() throws IOException {
+        ActivityWriteAheadLog wal = open(ActivityIngestMode.WAL);
+        wal.start();
+        appendEvents(wal, 6);
+        wal.stop();
+
+        // 마지막 세그먼트(4~7)의 두 번째 레코드(seq 5) checksum 훼손
+        Path last = segments().get(1);
+        try (FileChannel channel = FileChannel.open(last, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.allocate(4).putInt(0, 12345), ActivityWriteAheadLog.RECORD_BYTES + 20);
+        }
+
+        ActivityWriteAheadLog reopened = open(ActivityIngestMode.WAL);
+        reopened.start();
+
+        assertThat(reopened.nextSequence()).isEqualTo(5);
+        assertThat(reopened.read(0, 100)).hasSize(5);
+        reopened.stop();
+    }
+
+    @Test
+    void disabledLogRefreshesFromDiskForReplay() {
+        ActivityWriteAheadLog writer = open(ActivityIngestMode.WAL);
+        writer.start();
+        appendEvents(writer, 9);
+        writer.stop();
+
+        // DIRECT 모드 노드: 기록은 거부, replay 는 디스크 기준으로 읽음
+        ActivityWriteAheadLog replay = open(ActivityIngestMode.DIRECT);
+        assertThat(replay.isAutoStartup()).isFalse();
+        assertThat(replay.append(event(99))).isFalse();
+        assertThat(replay.nextSequence()).isZero();
+
+        replay.refreshForReplay();
+
+        assertThat(replay.nextSequence()).isEqualTo(9);
+        assertThat(replay.read(4, 100)).hasSize(5);
+    }
+
+    @Test
+    void deleteKeepsSegmentHoldingLastRecord() throws IOException {
+        ActivityWriteAheadLog wal = open(ActivityIngestMode.WAL);
+        wal.start();
+        appendEvents(wal, 10);
+        wal.stop();
+
+        ActivityWriteAheadLog replay = open(ActivityIngestMode.DIRECT);
+        replay.refreshForReplay();
+
+        // 전부 이관 완료 → 마지막 세그먼트(8~11)만 남음
+        replay.deleteSegmentsBefore(10);
+
+        assertThat(segments()).hasSize(1);
+        assertThat(replay.firstSequence()).isEqualTo(8);
+
+        // 다시 열어도 sequence 는 이어짐
+        ActivityWriteAheadLog reopened = open(ActivityIngestMode.WAL);
+        reopened.start();
+        assertThat(reopened.nextSequence()).isEqualTo(10);
+        reopened.stop();
+    }
+
+    @Test
+    void missingDirectoryIsEmptyLog() {
+        ActivityWriteAheadLog replay = new ActivityWriteAheadLog(
+                ActivityIngestMode.DIRECT, dir.resolve("none").toString(), SEGMENT_BYTES, false);
+
+        replay.refreshForReplay();
+        replay.deleteSegmentsBefore(100);
+
+        assertThat(replay.nextSequence()).isZero();
+        assertThat(replay.firstSequence()).isZero();
+        assertThat(replay.read(0, 10)).isEmpty();
+    }
+
+    private ActivityWriteAheadLog open(ActivityIngestMode mode) {
+        return new ActivityWriteAheadLog(mode, dir.toString(), SEGMENT_BYTES, false);
+    }
+
+    private void appendEvents(ActivityWriteAheadLog wal, int count) {
+        for (int i = 0; i < count; i++) {
+            assertThat(wal.append(event(i))).isTrue();
+        }
+    }
+
+    private ActivityEvent event(int i) {
+        return new ActivityEvent(i + 1L, ActivityType.values()[i % 3], base.plusMinutes(i));
+    }
+
+    private List<Path> segments() throws IOException {
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.sorted().toList();
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package com.example.kybatch.job.aggregation.daily;
+
+import com.example.kybatch.domain.activity.UserActivity;
+import com.example.kybatch.domain.activity.UserActivityJdbcRepository;
+import com.example.kybatch.domain.activity.UserActivityRepository;
+import com.example.kybatch.dto.DailyAggregationDTO;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamReader;
+import org.springframework.batch.item.database.JpaPagingItemReader;
+import org.springframework.batch.item.database.builder.JpaPagingItemReaderBuilder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * OFFSET 페이징 reader vs keyset reader 비교
+ * - 재시작 테스트는 항상 실행
+ * - 100k 유저 벤치마크는 -Dbenchmark=true 일 때만 실행
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@ActiveProfiles("test")
+class DailyAggregationReaderBenchmarkTest {
+
+    private static final LocalDate TARGET = LocalDate.of(2025, 12, 3);
+
+    @Autowired
+    EntityManagerFactory emf;
+
+    @Autowired
+    UserActivityRepository activityRepository;
+
+    @Autowired
+    UserActivityJdbcRepository jdbcRepository;
+
+    @AfterEach
+    void tearDown() {
+        activityRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void keysetReader_resumesFromExecutionContext() throws Exception {
+        seed(25);
+
+        // 1차 실행: 10건 읽고 중단
+        DailyAggregationKeysetReader first = keysetReader(4);
+        ExecutionContext ctx = new ExecutionContext();
+        first.open(ctx);
+        for (int i = 0; i < 10; i++) {
+            first.read();
+        }
+        first.update(ctx);
+        first.close();
+
+        // 재시작: 11번째 유저부터 이어서 읽어야 함
+        DailyAggregationKeysetReader restarted = keysetReader(4);
+        restarted.open(ctx);
+        List<DailyAggregationDTO> rest = readAll(restarted);
+        restarted.close();
+
+        assertThat(rest).hasSize(15);
+        assertThat(rest.get(0).getUserId()).isEqualTo(11L);
+        assertThat(rest.get(14).getUserId()).isEqualTo(25L);
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    void benchmark_offsetVsKeyset_100kUsers() throws Exception {
+        int users = Integer.getInteger("benchmark.users", 100_000);
+        seed(users);
+
+        long offsetMillis = time(offsetReader(1000), users);
+        long keysetMillis = time(keysetReader(1000), users);
+
+        System.out.printf("[BENCH] users=%d offset=%dms keyset=%dms (x%.1f)%n",
+                users, offsetMillis, keysetMillis, (double) offsetMillis / Math.max(1, keysetMillis));
+
+        assertThat(keysetMillis).isLessThan(offsetMillis);
+    }
+
+    // =====================================================
+    // helpers
+    // =====================================================
+
+    private void seed(int users) {
+        List<UserActivity> rows = new ArrayList<>(10_000);
+        for (long userId = 1; userId <= users; userId++) {
+            rows.add(UserActivity.builder()
+                    .userId(userId)
+                    .loginCount(1)
+                    .viewCount(2)
+                    .orderCount(0)
+                    .createdAt(TARGET.atTime(10, 0))
+                    .build());
+
+            if (rows.size() == 10_000) {
+                jdbcRepository.batchInsert(rows);
+                rows.clear();
+            }
+        }
+        jdbcRepository.batchInsert(rows);
+    }
+
+    private DailyAggregationKeysetReader keysetReader(int pageSize) {
+        return new DailyAggregationKeysetReader("keysetReader", emf,
+                TARGET.atStartOfDay(), TARGET.plusDays(1).atStartOfDay(), pageSize);
+    }
+
+    /** 변경 전 reader 구성 (비교 기준) */
+    private JpaPagingItemReader<DailyAggregationDTO> offsetReader(int pageSize) throws Exception {
+        JpaPagingItemReader<DailyAggregationDTO> reader = new JpaPagingItemReaderBuilder<DailyAggregationDTO>()
+                .name("offsetReader")
+                .entityManagerFactory(emf)
+                .pageSize(pageSize)
+                .queryString(
+                        "SELECT new com.example.kybatch.dto.DailyAggregationDTO(" +
+                                "ua.userId, SUM(ua.loginCount), SUM(ua.viewCount), SUM(ua.orderCount)) " +
+                                "FROM UserActivity ua " +
+                                "WHERE ua.createdAt >= :start AND ua.createdAt < :end " +
+                                "GROUP BY ua.userId")
+                .parameterValues(Map.of(
+                        "start", TARGET.atStartOfDay(),
+                        "end", TARGET.plusDays(1).atStartOfDay()))
+                .build();
+        reader.afterPropertiesSet();
+        return reader;
+    }
+
+    private long time(ItemStreamReader<DailyAggregationDTO> reader, int expected) throws Exception {
+        long started = System.currentTimeMillis();
+        reader.open(new ExecutionContext());
+        List<DailyAggregationDTO> items = readAll(reader);
+        reader.close();
+        long elapsed = System.currentTimeMillis() - started;
+
+        assertThat(items).hasSize(expected);
+        return elapsed;
+    }
+
+    private List<DailyAggregationDTO> readAll(ItemStreamReader<DailyAggregationDTO> reader) throws Exception {
+        List<DailyAggregationDTO> items = new ArrayList<>();
+        DailyAggregationDTO item;
+        while ((item = reader.read()) != null) {
+            items.add(item);
+        }
+        return items;
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.kybatch.job.aggregation.week;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SpillingCounterAggregatorTest {
+
+    @TempDir
+    Path spillDir;
+
+    @Test
+    void spillsOverBudgetAndMergesRunsInUserIdOrder() throws IOException {
+        // 엔트리 100개 분량 예산 → 여러 번 spill
+        SpillingCounterAggregator aggregator =
+                new SpillingCounterAggregator(spillDir, 100L * SpillingCounterAggregator.BYTES_PER_ENTRY);
+
+        // 7일치 : 같은 userId 가 여러 run 에 흩어짐
+        for (int day = 0; day < 7; day++) {
+            for (long userId = 1_000; userId >= 1; userId--) {
+                aggregator.add(userId, 1, 2, day);
+            }
+        }
+        assertThat(aggregator.spillCount()).isGreaterThan(1);
+
+        List<long[]> merged = new ArrayList<>();
+        aggregator.merge((userId, login, view, order) -> merged.add(new long[]{userId, login, view, order}));
+
+        assertThat(merged).hasSize(1_000);
+        for (int i = 0; i < merged.size(); i++) {
+            long[] row = merged.get(i);
+            assertThat(row[0]).isEqualTo(i + 1);
+            assertThat(row[1]).isEqualTo(7);
+            assertThat(row[2]).isEqualTo(14);
+            assertThat(row[3]).isEqualTo(0 + 1 + 2 + 3 + 4 + 5 + 6);
+        }
+
+        aggregator.close();
+        try (Stream<Path> files = Files.list(spillDir)) {
+            assertThat(files).isEmpty();
+        }
+    }
+
+    @Test
+    void staysInMemoryUnderBudget() {
+        SpillingCounterAggregator aggregator = new SpillingCounterAggregator(spillDir, 1024L * 1024);
+
+        aggregator.add(2L, 1, 1, 1);
+        aggregator.add(1L, 1, 1, 1);
+        aggregator.add(2L, 1, 1, 1);
+
+        List<Long> order = new ArrayList<>();
+        aggregator.merge((userId, login, view, o) -> order.add(userId));
+
+        assertThat(aggregator.spillCount()).isZero();
+        assertThat(order).containsExactly(1L, 2L);
+        aggregator.close();
+    }
+
+    @Test
+    void mergedCursorPullsOneUserAtATimeAcrossRuns() {
+        SpillingCounterAggregator aggregator =
+                new SpillingCounterAggregator(spillDir, 2L * SpillingCounterAggregator.BYTES_PER_ENTRY);
+
+        aggregator.add(3L, 1, 0, 0);
+        aggregator.add(1L, 1, 0, 0);
+        aggregator.add(2L, 1, 0, 0);
+        aggregator.add(1L, 0, 5, 0);
+        assertThat(aggregator.spillCount()).isGreaterThan(0);
+
+        List<String> pulled = new ArrayList<>();
+        try (SpillingCounterAggregator.MergedCursor cursor = aggregator.openMerged()) {
+            while (cursor.next()) {
+                pulled.add(cursor.userId() + ":" + cursor.login() + "/" + cursor.view());
+            }
+        }
+
+        assertThat(pulled).containsExactly("1:1/5", "2:1/0", "3:1/0");
+        aggregator.close();
+    }
+}
@@ -10,6 +10,7 @@ import org.springframework.batch.core.Job;
 import org.springframework.batch.core.JobExecution;
 import org.springframework.batch.core.JobParameters;
 import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.StepExecution;
 import org.springframework.batch.core.launch.JobLauncher;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -89,6 +90,14 @@ public class WAGJobTest {
         // THEN
         assertThat(execution.getExitStatus().getExitCode()).isEqualTo("COMPLETED");
 
+        // 유저 단위로 묶여 chunk 로 저장 → read = 유저 수, write = WeeklyStatus 수
+        StepExecution aggregationStep = execution.getStepExecutions().stream()
+                .filter(se -> se.getStepName().equals("weeklyAggregationStep"))
+                .findFirst()
+                .orElseThrow();
+        assertThat(aggregationStep.getReadCount()).isEqualTo(2);
+        assertThat(aggregationStep.getWriteCount()).isEqualTo(2);
+
         List<WeeklyStatus> results = weeklyRepo.findAll();
         assertThat(results).hasSize(2);   // user1, user2
 
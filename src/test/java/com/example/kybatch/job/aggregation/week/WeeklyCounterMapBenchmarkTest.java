@@ -0,0 +1,176 @@
+package com.example.kybatch.job.aggregation.week;
+
+import com.example.kybatch.domain.stats.WeeklyStatus;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.lang.management.ManagementFactory;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 주간 누적 : String 키 HashMap + WeeklyStatus vs primitive 카운터 맵 비교
+ * - 정합성 테스트는 항상 실행
+ * - 1M 유저 처리량 / 할당량 벤치마크는 -Dbenchmark=true 일 때만 실행
+ *   (JMH 는 빌드에 없으므로 DailyAggregationReaderBenchmarkTest 와 같은 방식)
+ */
+class WeeklyCounterMapBenchmarkTest {
+
+    private static final int DAYS = 7;
+
+    @Test
+    void counterMap_accumulatesAcrossResize() {
+        WeeklyCounterMap map = new WeeklyCounterMap(4);
+
+        for (long userId = 1; userId <= 10_000; userId++) {
+            map.add(userId, 1, 2, 3);
+        }
+        for (long userId = 1; userId <= 10_000; userId += 2) {
+            map.add(userId, 1, 1, 1);
+        }
+
+        assertThat(map.size()).isEqualTo(10_000);
+
+        long[] totals = new long[3];
+        map.forEach((userId, login, view, order) -> {
+            long expectedLogin = (userId % 2 == 1) ? 2 : 1;
+            assertThat(login).isEqualTo(expectedLogin);
+            totals[0] += login;
+            totals[1] += view;
+            totals[2] += order;
+        });
+        assertThat(totals).containsExactly(15_000L, 25_000L, 35_000L);
+    }
+
+    @Test
+    void counterMap_forEachSortedVisitsUserIdsInOrder() {
+        WeeklyCounterMap map = new WeeklyCounterMap();
+        map.add(30L, 1, 0, 0);
+        map.add(10L, 1, 0, 0);
+        map.add(20L, 1, 0, 0);
+        map.add(10L, 1, 0, 0);
+
+        StringBuilder visited = new StringBuilder();
+        map.forEachSorted((userId, login, view, order) -> visited.append(userId).append(':').append(login).append(' '));
+
+        assertThat(visited.toString()).isEqualTo("10:2 20:1 30:1 ");
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    void benchmark_stringKeyVsPrimitiveMap_1mUsers() {
+        int users = Integer.getInteger("benchmark.users", 1_000_000);
+
+        // 워밍업
+        for (int i = 0; i < 3; i++) {
+            run(StringKeyAccumulator::new, users);
+            run(PrimitiveAccumulator::new, users);
+        }
+
+        Result legacy = run(StringKeyAccumulator::new, users);
+        Result primitive = run(PrimitiveAccumulator::new, users);
+
+        long rows = (long) users * DAYS;
+        System.out.printf("[BENCH] users=%d rows=%d%n", users, rows);
+        System.out.printf("[BENCH] string-key : %,d rows/s, %,d MB allocated%n",
+                legacy.rowsPerSecond(rows), legacy.allocatedBytes >> 20);
+        System.out.printf("[BENCH] primitive  : %,d rows/s, %,d MB allocated%n",
+                primitive.rowsPerSecond(rows), primitive.allocatedBytes >> 20);
+
+        assertThat(primitive.allocatedBytes).isLessThan(legacy.allocatedBytes);
+    }
+
+    // =====================================================
+    // helpers
+    // =====================================================
+
+    /**
+     * 7일치 (userId, login, view, order) row 를 Reader 가 읽는 순서(날짜 → 유저)로 누적
+     * - 입력 row 는 미리 만들지 않음 → 측정되는 할당은 누적 구조 자체의 비용
+     */
+    private Result run(Supplier<Accumulator> factory, int users) {
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+
+        long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+        long started = System.nanoTime();
+
+        Accumulator accumulator = factory.get();
+        for (int day = 0; day < DAYS; day++) {
+            for (long userId = 1; userId <= users; userId++) {
+                accumulator.add(userId, 1, 2, 0);
+            }
+        }
+        int size = accumulator.size();
+
+        long elapsed = System.nanoTime() - started;
+        long allocated = threads.getThreadAllocatedBytes(threadId) - allocatedBefore;
+
+        assertThat(size).isEqualTo(users);
+        return new Result(elapsed, allocated);
+    }
+
+    private interface Accumulator {
+        void add(long userId, long login, long view, long order);
+
+        int size();
+    }
+
+    private record Result(long elapsedNanos, long allocatedBytes) {
+        long rowsPerSecond(long rows) {
+            return rows * 1_000_000_000L / Math.max(1, elapsedNanos);
+        }
+    }
+
+    private static class PrimitiveAccumulator implements Accumulator {
+
+        private final WeeklyCounterMap map = new WeeklyCounterMap();
+
+        @Override
+        public void add(long userId, long login, long view, long order) {
+            map.add(userId, login, view, order);
+        }
+
+        @Override
+        public int size() {
+            return map.size();
+        }
+    }
+
+    /** 변경 전 Processor 의 누적 방식 (비교 기준) */
+    private static class StringKeyAccumulator implements Accumulator {
+
+        private static final int YEAR = 2025;
+        private static final int WEEK = 3;
+
+        private final Map<String, WeeklyStatus> map = new HashMap<>();
+
+        @Override
+        public void add(long userId, long login, long view, long order) {
+            String key = userId + "_" + YEAR + "_" + WEEK;
+
+            WeeklyStatus weekly = map.get(key);
+            if (weekly == null) {
+                weekly = WeeklyStatus.builder()
+                        .userId(userId)
+                        .year(YEAR)
+                        .weekOfYear(WEEK)
+                        .build();
+                map.put(key, weekly);
+            }
+
+            weekly.setLoginCount(weekly.getLoginCount() + login);
+            weekly.setViewCount(weekly.getViewCount() + view);
+            weekly.setOrderCount(weekly.getOrderCount() + order);
+        }
+
+        @Override
+        public int size() {
+            return map.size();
+        }
+    }
+}
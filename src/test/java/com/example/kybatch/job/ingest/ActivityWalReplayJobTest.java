@@ -0,0 +1,123 @@
+package com.example.kybatch.job.ingest;
+
+import com.example.kybatch.domain.activity.ActivityWalCheckpoint;
+import com.example.kybatch.domain.activity.ActivityWalCheckpointRepository;
+import com.example.kybatch.domain.activity.UserActivityRepository;
+import com.example.kybatch.ingest.ActivityEvent;
+import com.example.kybatch.ingest.ActivityIngestMode;
+import com.example.kybatch.ingest.ActivityType;
+import com.example.kybatch.ingest.wal.ActivityWriteAheadLog;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.test.JobLauncherTestUtils;
+import org.springframework.batch.test.context.SpringBatchTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * activityWalReplayJob 통합 테스트
+ * - activity.ingest.mode 기본값(DIRECT) → WAL 기록은 꺼져 있어도 디스크에 남은 세그먼트를 이관
+ * - 체크포인트 이후 구간만 적재 → 재실행/추가 기록 시 중복 없음
+ */
+@SpringBatchTest
+@SpringBootTest(properties = {
+        "activity.ingest.wal.dir=${java.io.tmpdir}/kybatch-wal-replay-${random.uuid}",
+        "activity.ingest.wal.segment-bytes=96",
+        "activity.ingest.wal.node-id=replay-test"
+})
+class ActivityWalReplayJobTest {
+
+    private static final String NODE_ID = "replay-test";
+
+    @Autowired
+    private JobLauncherTestUtils jobLauncherTestUtils;
+
+    @Autowired
+    private Job activityWalReplayJob;
+
+    @Autowired
+    private UserActivityRepository activityRepository;
+
+    @Autowired
+    private ActivityWalCheckpointRepository checkpointRepository;
+
+    @Value("${activity.ingest.wal.dir}")
+    private String walDir;
+
+    private final LocalDateTime base = LocalDateTime.of(2025, 8, 25, 9, 0);
+
+    @BeforeEach
+    void setup() {
+        activityRepository.deleteAll();
+        checkpointRepository.deleteAll();
+        jobLauncherTestUtils.setJob(activityWalReplayJob);
+    }
+
+    @Test
+    void replaysSegmentsFromCheckpointWithoutDuplicates() throws Exception {
+
+        // ------------------------------------------------------
+        // 1) WAL 모드였던 시점에 기록된 7건 (세그먼트 4건 단위 → 2개)
+        // ------------------------------------------------------
+        writeWal(0, 7);
+
+        // ------------------------------------------------------
+        // 2) replay → 7건 적재, 체크포인트 7
+        // ------------------------------------------------------
+        JobExecution first = jobLauncherTestUtils.launchJob(params());
+        assertThat(first.getExitStatus().getExitCode()).isEqualTo("COMPLETED");
+        assertThat(activityRepository.count()).isEqualTo(7);
+        assertThat(committed()).isEqualTo(7);
+
+        // ------------------------------------------------------
+        // 3) 새 기록 없이 재실행 → 추가 적재 없음
+        // ------------------------------------------------------
+        jobLauncherTestUtils.launchJob(params());
+        assertThat(activityRepository.count()).isEqualTo(7);
+
+        // ------------------------------------------------------
+        // 4) 이어서 3건 기록 → 체크포인트 이후 3건만 적재
+        // ------------------------------------------------------
+        writeWal(7, 3);
+
+        JobExecution third = jobLauncherTestUtils.launchJob(params());
+        assertThat(third.getStepExecutions().iterator().next().getWriteCount()).isEqualTo(3);
+        assertThat(activityRepository.count()).isEqualTo(10);
+        assertThat(committed()).isEqualTo(10);
+        assertThat(activityRepository.findAll())
+                .anySatisfy(a -> {
+                    assertThat(a.getUserId()).isEqualTo(10L);
+                    assertThat(a.getCreatedAt()).isEqualTo(base.plusMinutes(9));
+                });
+    }
+
+    private void writeWal(int from, int count) {
+        ActivityWriteAheadLog writer = new ActivityWriteAheadLog(ActivityIngestMode.WAL, walDir, 96, false);
+        writer.start();
+        for (int i = from; i < from + count; i++) {
+            writer.append(new ActivityEvent(i + 1L, ActivityType.values()[i % 3], base.plusMinutes(i)));
+        }
+        writer.stop();
+    }
+
+    private long committed() {
+        return checkpointRepository.findById(NODE_ID)
+                .map(ActivityWalCheckpoint::getCommittedSequence)
+                .orElse(0L);
+    }
+
+    private JobParameters params() {
+        return new JobParametersBuilder()
+                .addLong("time", System.nanoTime())
+                .toJobParameters();
+    }
+}
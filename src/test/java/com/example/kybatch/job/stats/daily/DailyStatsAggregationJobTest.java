@@ -0,0 +1,124 @@
+package com.example.kybatch.job.stats.daily;
+
+import com.example.kybatch.domain.activity.UserActivityRepository;
+import com.example.kybatch.domain.stats.DailyStatus;
+import com.example.kybatch.domain.stats.DailyStatusRepository;
+import com.example.kybatch.domain.stats.MonthlyStatus;
+import com.example.kybatch.domain.stats.MonthlyStatusRepository;
+import com.example.kybatch.domain.stats.WeeklyStatus;
+import com.example.kybatch.domain.stats.WeeklyStatusRepository;
+import com.example.kybatch.lock.BatchLockService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.test.JobLauncherTestUtils;
+import org.springframework.batch.test.context.SpringBatchTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+import java.time.temporal.WeekFields;
+
+import static com.example.kybatch.domain.activity.UserActivityFixtures.activity;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * dailyStatsAggregationJob 통합 테스트
+ * - 어제 활동 로그 → DailyStatus 저장
+ * - 같은 실행에서 week-to-date / month-to-date 누적
+ * - 같은 날 재실행해도 to-date 합계는 한 번만 반영
+ */
+@SpringBatchTest
+@SpringBootTest
+class DailyStatsAggregationJobTest {
+
+    @Autowired
+    private JobLauncherTestUtils jobLauncherTestUtils;
+
+    @Autowired
+    private UserActivityRepository activityRepository;
+
+    @Autowired
+    private DailyStatusRepository dailyStatusRepository;
+
+    @Autowired
+    private WeeklyStatusRepository weeklyStatusRepository;
+
+    @Autowired
+    private MonthlyStatusRepository monthlyStatusRepository;
+
+    @Autowired
+    private BatchLockService lockService;
+
+    @Autowired
+    private Job dailyStatsAggregationJob;
+
+    private final LocalDate yesterday = LocalDate.now().minusDays(1);
+
+    @BeforeEach
+    void setup() {
+        activityRepository.deleteAll();
+        dailyStatusRepository.deleteAll();
+        weeklyStatusRepository.deleteAll();
+        monthlyStatusRepository.deleteAll();
+        lockService.releaseLock("DAILY_STATS");
+
+        jobLauncherTestUtils.setJob(dailyStatsAggregationJob);
+    }
+
+    @Test
+    void testDailyJobWritesDailyAndToDateTotals() throws Exception {
+
+        // ------------------------------------------------------
+        // 1) 어제 로그 : user1 2건, user2 1건 / 오늘 로그는 제외
+        // ------------------------------------------------------
+        activityRepository.save(activity(1L, 1, 2, 0, yesterday.atTime(9, 0)));
+        activityRepository.save(activity(1L, 1, 3, 1, yesterday.atTime(10, 0)));
+        activityRepository.save(activity(2L, 2, 1, 1, yesterday.atTime(11, 0)));
+        activityRepository.save(activity(1L, 9, 9, 9, yesterday.plusDays(1).atTime(0, 30)));
+
+        // ------------------------------------------------------
+        // 2) 실행 2회 (재실행 포함)
+        // ------------------------------------------------------
+        for (long run = 1; run <= 2; run++) {
+            JobExecution execution = jobLauncherTestUtils.launchJob(params(run));
+            assertThat(execution.getExitStatus().getExitCode()).isEqualTo("COMPLETED");
+        }
+
+        // ------------------------------------------------------
+        // 3) 일간 결과
+        // ------------------------------------------------------
+        DailyStatus user1 = dailyStatusRepository.findByUserIdAndDate(1L, yesterday).orElseThrow();
+        assertThat(user1.getLoginCount()).isEqualTo(2);
+        assertThat(user1.getViewCount()).isEqualTo(5);
+        assertThat(user1.getOrderCount()).isEqualTo(1);
+        assertThat(dailyStatusRepository.findByDate(yesterday)).hasSize(2);
+
+        // ------------------------------------------------------
+        // 4) month-to-date / week-to-date (재실행은 차이만 반영 → 한 번만 누적)
+        // ------------------------------------------------------
+        MonthlyStatus month = monthlyStatusRepository
+                .findByUserIdAndYearAndMonth(1L, yesterday.getYear(), yesterday.getMonthValue()).orElseThrow();
+        assertThat(month.getLoginCount()).isEqualTo(2);
+        assertThat(month.getViewCount()).isEqualTo(5);
+        assertThat(month.getOrderCount()).isEqualTo(1);
+
+        LocalDate weekStart = yesterday.with(WeekFields.ISO.dayOfWeek(), 1);
+        WeeklyStatus week = weeklyStatusRepository.findAll().stream()
+                .filter(w -> w.getUserId() == 2L && w.getStartDate().equals(weekStart))
+                .findFirst()
+                .orElseThrow();
+        assertThat(week.getLoginCount()).isEqualTo(2);
+        assertThat(week.getViewCount()).isEqualTo(1);
+    }
+
+    private JobParameters params(long run) {
+        return new JobParametersBuilder()
+                .addLong("run", run)
+                .addLong("time", System.currentTimeMillis())
+                .toJobParameters();
+    }
+}
@@ -0,0 +1,146 @@
+package com.example.kybatch.job.stats.daily;
+
+import com.example.kybatch.domain.activity.UserActivityRepository;
+import com.example.kybatch.domain.batchlog.BatchStepLog;
+import com.example.kybatch.domain.batchlog.BatchLogSearchCondition;
+import com.example.kybatch.domain.batchlog.BatchLogSearchRepository;
+import com.example.kybatch.domain.lock.BatchLockPolicy;
+import com.example.kybatch.domain.stats.DailyStatus;
+import com.example.kybatch.domain.stats.DailyStatusRepository;
+import com.example.kybatch.lock.BatchLockService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.test.JobLauncherTestUtils;
+import org.springframework.batch.test.context.SpringBatchTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static com.example.kybatch.domain.activity.UserActivityFixtures.activity;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBatchTest
+@SpringBootTest
+class DailyStatsBackfillJobTest {
+
+    @Autowired
+    private JobLauncherTestUtils jobLauncherTestUtils;
+
+    @Autowired
+    private UserActivityRepository activityRepository;
+
+    @Autowired
+    private DailyStatusRepository dailyStatusRepository;
+
+    @Autowired
+    private BatchLogSearchRepository logSearchRepository;
+
+    @Autowired
+    private BatchLockService lockService;
+
+    @Autowired
+    private Job dailyStatsBackfillJob;
+
+    private final LocalDate start = LocalDate.of(2025, 11, 1);
+
+    @BeforeEach
+    void setup() {
+        dailyStatusRepository.deleteAll();
+        activityRepository.deleteAll();
+
+        jobLauncherTestUtils.setJob(dailyStatsBackfillJob);
+    }
+
+    @Test
+    void testBackfillBuildsEveryDayInRange() throws Exception {
+
+        // ------------------------------------------------------
+        // 1) 3일치 로그 + 범위 밖 로그
+        // ------------------------------------------------------
+        for (int day = 0; day < 3; day++) {
+            LocalDate date = start.plusDays(day);
+            for (long userId = 1; userId <= 5; userId++) {
+                activityRepository.save(activity(userId, 1, 2, 0, date.atTime(9, 0)));
+                activityRepository.save(activity(userId, 1, 3, 1, date.atTime(18, 0)));
+            }
+        }
+        activityRepository.save(activity(1L, 9, 9, 9, start.plusDays(3).atTime(1, 0)));
+
+        // 기존 잘못된 값은 덮어써져야 함
+        dailyStatusRepository.save(new DailyStatus(1L, start, 100L, 100L, 100L));
+        // 그날 활동이 없는 유저 row 는 지워져야 함
+        dailyStatusRepository.save(new DailyStatus(9L, start, 7L, 7L, 7L));
+
+        // ------------------------------------------------------
+        // 2) Job 실행
+        // ------------------------------------------------------
+        JobParameters params = new JobParametersBuilder()
+                .addString("startDate", start.toString())
+                .addString("endDate", start.plusDays(3).toString())
+                .addLong("parallelism", 3L)
+                .addLong("time", System.currentTimeMillis())
+                .toJobParameters();
+
+        JobExecution execution = jobLauncherTestUtils.launchJob(params);
+        assertThat(execution.getExitStatus().getExitCode()).isEqualTo("COMPLETED");
+
+        // ------------------------------------------------------
+        // 3) 날짜별 결과 검증
+        // ------------------------------------------------------
+        for (int day = 0; day < 3; day++) {
+            assertThat(dailyStatusRepository.findByDate(start.plusDays(day))).hasSize(5);
+        }
+        assertThat(dailyStatusRepository.findByDate(start.plusDays(3))).isEmpty();
+        assertThat(dailyStatusRepository.findByUserIdAndDate(9L, start)).isEmpty();
+
+        DailyStatus user1 = dailyStatusRepository.findByUserIdAndDate(1L, start).orElseThrow();
+        assertThat(user1.getLoginCount()).isEqualTo(2);
+        assertThat(user1.getViewCount()).isEqualTo(5);
+        assertThat(user1.getOrderCount()).isEqualTo(1);
+
+        // ------------------------------------------------------
+        // 4) 날짜별 BatchStepLog 기록
+        // ------------------------------------------------------
+        for (int day = 0; day < 3; day++) {
+            List<BatchStepLog> logs = logSearchRepository.searchStepLogs(new BatchLogSearchCondition(
+                    null, "dailyStatsBackfillStep[" + start.plusDays(day) + "]", null, null, null, null, 50));
+            assertThat(logs).isNotEmpty();
+            assertThat(logs.get(0).getStatus()).isEqualTo("COMPLETED");
+            assertThat(logs.get(0).getWriteCount()).isEqualTo(5);
+        }
+    }
+
+    @Test
+    void testBackfillSkipsWhenDateIsLockedByDailyJob() throws Exception {
+
+        // 정기 / 증분 일간 Job 이 같은 날짜를 쓰는 중 (날짜별 락 보유)
+        activityRepository.save(activity(1L, 1, 1, 1, start.plusDays(1).atTime(9, 0)));
+        String lockName = DailyStatsDateLock.lockName(start.plusDays(1));
+        lockService.acquireLock(lockName, BatchLockPolicy.EXCLUSIVE, "DAILY", "test");
+
+        try {
+            JobParameters params = new JobParametersBuilder()
+                    .addString("startDate", start.toString())
+                    .addString("endDate", start.plusDays(3).toString())
+                    .addLong("time", System.currentTimeMillis())
+                    .toJobParameters();
+
+            JobExecution execution = jobLauncherTestUtils.launchJob(params);
+
+            // 락을 못 잡으면 아무 날짜도 쓰지 않고 종료, 먼저 잡은 날짜 락도 해제
+            assertThat(execution.getExitStatus().getExitCode()).isNotEqualTo("COMPLETED");
+            assertThat(dailyStatusRepository.findByDate(start.plusDays(1))).isEmpty();
+            assertThat(lockService.acquireLock(DailyStatsDateLock.lockName(start),
+                    BatchLockPolicy.EXCLUSIVE, "DAILY", "test")).isTrue();
+            lockService.releaseLock(DailyStatsDateLock.lockName(start));
+        } finally {
+            lockService.releaseLock(lockName);
+        }
+    }
+}
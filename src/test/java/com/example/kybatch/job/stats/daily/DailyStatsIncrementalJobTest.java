@@ -0,0 +1,148 @@
+package com.example.kybatch.job.stats.daily;
+
+import com.example.kybatch.domain.activity.UserActivityRepository;
+import com.example.kybatch.domain.stats.DailyAggregationWatermarkRepository;
+import com.example.kybatch.domain.stats.DailyStatus;
+import com.example.kybatch.domain.stats.DailyStatusRepository;
+import com.example.kybatch.lock.BatchLockService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.test.JobLauncherTestUtils;
+import org.springframework.batch.test.context.SpringBatchTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+
+import static com.example.kybatch.domain.activity.UserActivityFixtures.activity;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBatchTest
+@SpringBootTest(properties = "stats.incremental.safety-lag-seconds=0")
+class DailyStatsIncrementalJobTest {
+
+    @Autowired
+    private JobLauncherTestUtils jobLauncherTestUtils;
+
+    @Autowired
+    private UserActivityRepository activityRepository;
+
+    @Autowired
+    private DailyStatusRepository dailyStatusRepository;
+
+    @Autowired
+    private DailyAggregationWatermarkRepository watermarkRepository;
+
+    @Autowired
+    private BatchLockService lockService;
+
+    @Autowired
+    private Job dailyStatsIncrementalJob;
+
+    @Autowired
+    private Job dailyStatsBackfillJob;
+
+    private final LocalDate targetDate = LocalDate.of(2025, 12, 3);
+
+    @BeforeEach
+    void setup() {
+        dailyStatusRepository.deleteAll();
+        activityRepository.deleteAll();
+        watermarkRepository.deleteAll();
+        lockService.releaseLock("DAILY_STATS");
+
+        jobLauncherTestUtils.setJob(dailyStatsIncrementalJob);
+    }
+
+    @Test
+    void testIncrementalRunsMergeOnlyNewRows() throws Exception {
+
+        // ------------------------------------------------------
+        // 1) 1차 실행 : user1 2건, user2 1건
+        // ------------------------------------------------------
+        activityRepository.save(activity(1L, 1, 2, 0, targetDate.atTime(9, 0)));
+        activityRepository.save(activity(1L, 1, 3, 1, targetDate.atTime(10, 0)));
+        activityRepository.save(activity(2L, 1, 1, 1, targetDate.atTime(11, 0)));
+
+        JobExecution first = jobLauncherTestUtils.launchJob(params(1L));
+        assertThat(first.getExitStatus().getExitCode()).isEqualTo("COMPLETED");
+
+        DailyStatus user1 = dailyStatusRepository.findByUserIdAndDate(1L, targetDate).orElseThrow();
+        assertThat(user1.getLoginCount()).isEqualTo(2);
+        assertThat(user1.getViewCount()).isEqualTo(5);
+
+        // ------------------------------------------------------
+        // 2) 2차 실행 : 신규 row만 병합 (user1 추가 1건, user3 신규)
+        // ------------------------------------------------------
+        activityRepository.save(activity(1L, 1, 10, 0, targetDate.atTime(20, 0)));
+        activityRepository.save(activity(3L, 1, 1, 0, targetDate.atTime(21, 0)));
+        activityRepository.save(activity(3L, 9, 9, 9, targetDate.plusDays(1).atTime(1, 0))); // 다른 날짜
+
+        JobExecution second = jobLauncherTestUtils.launchJob(params(2L));
+        assertThat(second.getExitStatus().getExitCode()).isEqualTo("COMPLETED");
+        assertThat(second.getStepExecutions().iterator().next().getWriteCount()).isEqualTo(2);
+
+        assertThat(dailyStatusRepository.findByDate(targetDate)).hasSize(3);
+
+        user1 = dailyStatusRepository.findByUserIdAndDate(1L, targetDate).orElseThrow();
+        assertThat(user1.getLoginCount()).isEqualTo(3);
+        assertThat(user1.getViewCount()).isEqualTo(15);
+
+        DailyStatus user2 = dailyStatusRepository.findByUserIdAndDate(2L, targetDate).orElseThrow();
+        assertThat(user2.getLoginCount()).isEqualTo(1);
+
+        // ------------------------------------------------------
+        // 3) 3차 실행 : 신규 row 없음 → 결과 변화 없음
+        // ------------------------------------------------------
+        jobLauncherTestUtils.launchJob(params(3L));
+
+        user1 = dailyStatusRepository.findByUserIdAndDate(1L, targetDate).orElseThrow();
+        assertThat(user1.getLoginCount()).isEqualTo(3);
+    }
+
+    @Test
+    void testFullRebuildResetsWatermark() throws Exception {
+
+        // ------------------------------------------------------
+        // 1) 증분 실행으로 watermark 생성
+        // ------------------------------------------------------
+        activityRepository.save(activity(1L, 1, 2, 0, targetDate.atTime(9, 0)));
+        jobLauncherTestUtils.launchJob(params(1L));
+        assertThat(watermarkRepository.findById(targetDate)).isPresent();
+
+        // ------------------------------------------------------
+        // 2) 같은 날짜 전체 재집계 (백필) → watermark 제거
+        // ------------------------------------------------------
+        activityRepository.save(activity(1L, 1, 3, 0, targetDate.atTime(10, 0)));
+
+        jobLauncherTestUtils.setJob(dailyStatsBackfillJob);
+        JobExecution backfill = jobLauncherTestUtils.launchJob(new JobParametersBuilder()
+                .addString("startDate", targetDate.toString())
+                .addString("endDate", targetDate.plusDays(1).toString())
+                .addLong("time", System.currentTimeMillis())
+                .toJobParameters());
+        assertThat(backfill.getExitStatus().getExitCode()).isEqualTo("COMPLETED");
+        assertThat(watermarkRepository.findById(targetDate)).isEmpty();
+
+        // ------------------------------------------------------
+        // 3) 다음 증분 실행 : 백필 합계 위에 다시 더하지 않음
+        // ------------------------------------------------------
+        jobLauncherTestUtils.setJob(dailyStatsIncrementalJob);
+        jobLauncherTestUtils.launchJob(params(2L));
+
+        DailyStatus user1 = dailyStatusRepository.findByUserIdAndDate(1L, targetDate).orElseThrow();
+        assertThat(user1.getLoginCount()).isEqualTo(2);
+        assertThat(user1.getViewCount()).isEqualTo(5);
+    }
+
+    private JobParameters params(long run) {
+        return new JobParametersBuilder()
+                .addString("targetDate", targetDate.toString())
+                .addLong("run", run)
+                .toJobParameters();
+    }
+}
@@ -0,0 +1,154 @@
+package com.example.kybatch.job.stats.daily;
+
+import com.example.kybatch.domain.activity.UserActivityRepository;
+import com.example.kybatch.domain.lock.BatchLockPolicy;
+import com.example.kybatch.domain.stats.DailyActiveSketchRepository;
+import com.example.kybatch.domain.stats.DailyStatus;
+import com.example.kybatch.domain.stats.DailyStatusRepository;
+import com.example.kybatch.domain.stats.LeaderboardEntryRepository;
+import com.example.kybatch.domain.stats.LeaderboardMetric;
+import com.example.kybatch.domain.stats.LeaderboardPeriod;
+import com.example.kybatch.lock.BatchLockService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.test.JobLauncherTestUtils;
+import org.springframework.batch.test.context.SpringBatchTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static com.example.kybatch.domain.activity.UserActivityFixtures.activity;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@SpringBatchTest
+@SpringBootTest
+class DailyStatsPartitionedJobTest {
+
+    @Autowired
+    private JobLauncherTestUtils jobLauncherTestUtils;
+
+    @Autowired
+    private UserActivityRepository activityRepository;
+
+    @Autowired
+    private DailyStatusRepository dailyStatusRepository;
+
+    @Autowired
+    private LeaderboardEntryRepository leaderboardRepository;
+
+    @Autowired
+    private DailyActiveSketchRepository sketchRepository;
+
+    @Autowired
+    private BatchLockService lockService;
+
+    @Autowired
+    private Job dailyStatsPartitionedJob;
+
+    @BeforeEach
+    void setup() {
+        dailyStatusRepository.deleteAll();
+        activityRepository.deleteAll();
+        lockService.releaseLock("DAILY_STATS");
+    }
+
+    @Test
+    void testPartitionedDailyAggregation() throws Exception {
+
+        // ------------------------------------------------------
+        // 1) 테스트 데이터 준비 : userId 1~40, 유저당 2건
+        // ------------------------------------------------------
+        LocalDate targetDate = LocalDate.of(2025, 12, 3);
+
+        for (long userId = 1; userId <= 40; userId++) {
+            activityRepository.save(activity(userId, 1, 2, 0, targetDate.atTime(9, 0)));
+            activityRepository.save(activity(userId, 1, 3, 1, targetDate.atTime(18, 0)));
+        }
+        // 다른 날짜 (집계 제외)
+        activityRepository.save(activity(1L, 9, 9, 9, targetDate.minusDays(1).atTime(12, 0)));
+
+        // ------------------------------------------------------
+        // 2) gridSize=4 로 실행
+        // ------------------------------------------------------
+        JobParameters params = new JobParametersBuilder()
+                .addString("targetDate", targetDate.toString())
+                .addLong("gridSize", 4L)
+                .toJobParameters();
+
+        jobLauncherTestUtils.setJob(dailyStatsPartitionedJob);
+
+        JobExecution execution = jobLauncherTestUtils.launchJob(params);
+
+        assertThat(execution.getExitStatus().getExitCode()).isEqualTo("COMPLETED");
+
+        // manager 1 + cleanup 1 + worker 4
+        assertThat(execution.getStepExecutions())
+                .filteredOn(se -> se.getStepName().startsWith("dailyStatsPartitionWorkerStep"))
+                .hasSize(4);
+
+        // ------------------------------------------------------
+        // 3) DB 결과 검증
+        // ------------------------------------------------------
+        List<DailyStatus> list = dailyStatusRepository.findAll();
+        assertThat(list).hasSize(40);
+
+        DailyStatus u1 = dailyStatusRepository.findByUserIdAndDate(1L, targetDate).orElseThrow();
+        assertThat(u1.getLoginCount()).isEqualTo(2);
+        assertThat(u1.getViewCount()).isEqualTo(5);
+        assertThat(u1.getOrderCount()).isEqualTo(1);
+
+        // 파티션 저장 이후 일자 전체 기준 리더보드 / 활동 유저 스케치 기록
+        assertThat(leaderboardRepository.findByPeriodTypeAndPeriodKeyAndMetricOrderByRankNo(
+                LeaderboardPeriod.DAILY, LeaderboardPeriod.dailyKey(targetDate), LeaderboardMetric.ORDERS))
+                .hasSize(40);
+        assertThat(sketchRepository.findById(targetDate).orElseThrow().getEstimate())
+                .isCloseTo(40L, within(1L));
+
+        // 종료 후 전역 / 날짜 락 모두 해제
+        assertThat(lockService.acquireLock("DAILY_STATS", BatchLockPolicy.EXCLUSIVE, "DAILY", "test")).isTrue();
+        lockService.releaseLock("DAILY_STATS");
+        assertThat(lockService.acquireLock(DailyStatsDateLock.lockName(targetDate),
+                BatchLockPolicy.EXCLUSIVE, "DAILY", "test")).isTrue();
+        lockService.releaseLock(DailyStatsDateLock.lockName(targetDate));
+    }
+
+    @Test
+    void testPartitionedJobSkipsWhenDateIsLocked() throws Exception {
+
+        // 백필이 같은 날짜를 쓰는 중 (날짜별 락 보유)
+        LocalDate targetDate = LocalDate.of(2025, 12, 4);
+        activityRepository.save(activity(1L, 1, 1, 1, targetDate.atTime(9, 0)));
+        dailyStatusRepository.save(new DailyStatus(1L, targetDate, 7L, 7L, 7L));
+
+        String lockName = DailyStatsDateLock.lockName(targetDate);
+        lockService.acquireLock(lockName, BatchLockPolicy.EXCLUSIVE, "DAILY", "test");
+
+        try {
+            JobParameters params = new JobParametersBuilder()
+                    .addString("targetDate", targetDate.toString())
+                    .addLong("gridSize", 2L)
+                    .addLong("time", System.currentTimeMillis())
+                    .toJobParameters();
+
+            jobLauncherTestUtils.setJob(dailyStatsPartitionedJob);
+            JobExecution execution = jobLauncherTestUtils.launchJob(params);
+
+            // 락을 못 잡으면 cleanup 부터 실행하지 않음, 먼저 잡은 전역 락도 해제
+            assertThat(execution.getExitStatus().getExitCode()).isNotEqualTo("COMPLETED");
+            assertThat(execution.getStepExecutions()).isEmpty();
+            assertThat(dailyStatusRepository.findByUserIdAndDate(1L, targetDate).orElseThrow().getLoginCount())
+                    .isEqualTo(7);
+            assertThat(lockService.acquireLock("DAILY_STATS", BatchLockPolicy.EXCLUSIVE, "DAILY", "test")).isTrue();
+            lockService.releaseLock("DAILY_STATS");
+        } finally {
+            lockService.releaseLock(lockName);
+        }
+    }
+}
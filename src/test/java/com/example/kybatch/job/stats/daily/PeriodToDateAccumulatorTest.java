@@ -0,0 +1,113 @@
+package com.example.kybatch.job.stats.daily;
+
+import com.example.kybatch.domain.stats.DailyStatus;
+import com.example.kybatch.domain.stats.DailyStatusRepository;
+import com.example.kybatch.domain.stats.MonthlyStatus;
+import com.example.kybatch.domain.stats.MonthlyStatusRepository;
+import com.example.kybatch.domain.stats.WeeklyStatus;
+import com.example.kybatch.domain.stats.WeeklyStatusRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@ActiveProfiles("test")
+class PeriodToDateAccumulatorTest {
+
+    @Autowired
+    PeriodToDateAccumulator accumulator;
+
+    @Autowired
+    DailyStatusRepository dailyRepository;
+
+    @Autowired
+    WeeklyStatusRepository weeklyRepository;
+
+    @Autowired
+    MonthlyStatusRepository monthlyRepository;
+
+    // 2025-07-01 (화) / 2025-07-02 (수) → ISO 27주차
+    private final LocalDate day1 = LocalDate.of(2025, 7, 1);
+    private final LocalDate day2 = LocalDate.of(2025, 7, 2);
+
+    @BeforeEach
+    void setup() {
+        dailyRepository.deleteAll();
+        weeklyRepository.deleteAll();
+        monthlyRepository.deleteAll();
+    }
+
+    @Test
+    void accumulatesDailyTotalsIntoWeekAndMonthToDate() {
+        accumulator.accumulate(day1, Map.of(), List.of(
+                new DailyStatus(1L, day1, 1L, 10L, 1L),
+                new DailyStatus(2L, day1, 2L, 20L, 0L)));
+
+        accumulator.accumulate(day2, Map.of(), List.of(
+                new DailyStatus(1L, day2, 3L, 30L, 3L)));
+
+        MonthlyStatus user1 = monthlyRepository.findByUserIdAndYearAndMonth(1L, 2025, 7).orElseThrow();
+        assertThat(user1.getLoginCount()).isEqualTo(4);
+        assertThat(user1.getViewCount()).isEqualTo(40);
+        assertThat(user1.getOrderCount()).isEqualTo(4);
+
+        WeeklyStatus week = weeklyRepository.findByUserIdAndYearAndWeekOfYear(1L, 2025, 27).orElseThrow();
+        assertThat(week.getLoginCount()).isEqualTo(4);
+        assertThat(week.getStartDate()).isEqualTo(LocalDate.of(2025, 6, 30));
+
+        assertThat(monthlyRepository.findByUserIdAndYearAndMonth(2L, 2025, 7).orElseThrow().getLoginCount())
+                .isEqualTo(2);
+    }
+
+    @Test
+    void rerunOfSameDayAppliesOnlyTheDifference() {
+        List<DailyStatus> first = List.of(
+                new DailyStatus(1L, day1, 1L, 10L, 1L),
+                new DailyStatus(2L, day1, 2L, 20L, 0L));
+        accumulator.accumulate(day1, Map.of(), first);
+
+        // 재실행 : user1 값 변경, user2 사라짐, user3 신규
+        List<DailyStatus> second = List.of(
+                new DailyStatus(1L, day1, 5L, 50L, 5L),
+                new DailyStatus(3L, day1, 1L, 1L, 1L));
+        accumulator.accumulate(day1, PeriodToDateAccumulator.snapshot(first), second);
+
+        assertThat(monthlyRepository.findByUserIdAndYearAndMonth(1L, 2025, 7).orElseThrow().getLoginCount())
+                .isEqualTo(5);
+        // 남은 값이 없는 유저는 0 row 를 남기지 않음
+        assertThat(monthlyRepository.findByUserIdAndYearAndMonth(2L, 2025, 7)).isEmpty();
+        assertThat(weeklyRepository.findByUserIdAndYearAndWeekOfYear(2L, 2025, 27)).isEmpty();
+        assertThat(monthlyRepository.findByUserIdAndYearAndMonth(3L, 2025, 7).orElseThrow().getLoginCount())
+                .isEqualTo(1);
+        assertThat(weeklyRepository.findByUserIdAndYearAndWeekOfYear(1L, 2025, 27).orElseThrow().getViewCount())
+                .isEqualTo(50);
+    }
+
+    @Test
+    void chunkAppliesDifferenceAgainstStoredDailyRows() {
+        // 이미 저장된 일간 row 를 to-date 에 반영해 둔 상태
+        List<DailyStatus> stored = List.of(
+                new DailyStatus(1L, day1, 1L, 10L, 1L),
+                new DailyStatus(2L, day1, 2L, 20L, 0L));
+        dailyRepository.saveAll(stored);
+        accumulator.accumulate(day1, Map.of(), stored);
+
+        // user1 만 다시 쓰는 chunk : user2 는 건드리지 않음
+        accumulator.accumulateChunk(day1, List.of(new DailyStatus(1L, day1, 4L, 40L, 4L)));
+
+        assertThat(monthlyRepository.findByUserIdAndYearAndMonth(1L, 2025, 7).orElseThrow().getLoginCount())
+                .isEqualTo(4);
+        assertThat(monthlyRepository.findByUserIdAndYearAndMonth(2L, 2025, 7).orElseThrow().getLoginCount())
+                .isEqualTo(2);
+        assertThat(weeklyRepository.findByUserIdAndYearAndWeekOfYear(1L, 2025, 27).orElseThrow().getViewCount())
+                .isEqualTo(40);
+    }
+}
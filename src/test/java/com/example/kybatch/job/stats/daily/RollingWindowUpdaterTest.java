@@ -0,0 +1,145 @@
+package com.example.kybatch.job.stats.daily;
+
+import com.example.kybatch.domain.stats.DailyStatus;
+import com.example.kybatch.domain.stats.DailyStatusRepository;
+import com.example.kybatch.domain.stats.RollingStatus;
+import com.example.kybatch.domain.stats.RollingStatusRepository;
+import com.example.kybatch.domain.stats.RollingWindowCursor;
+import com.example.kybatch.domain.stats.RollingWindowCursorRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@ActiveProfiles("test")
+class RollingWindowUpdaterTest {
+
+    @Autowired
+    RollingWindowUpdater updater;
+
+    @Autowired
+    DailyStatusRepository dailyRepository;
+
+    @Autowired
+    RollingStatusRepository rollingRepository;
+
+    @Autowired
+    RollingWindowCursorRepository cursorRepository;
+
+    private final LocalDate day0 = LocalDate.of(2025, 6, 1);
+
+    @BeforeEach
+    void setup() {
+        dailyRepository.deleteAll();
+        rollingRepository.deleteAll();
+        cursorRepository.deleteAll();
+    }
+
+    @Test
+    void slidesWindowDayByDay() {
+        // 첫날 : 전체 재생성
+        runDay(day0, 1L);
+
+        // 이후 44일 : 증분 (새 날짜 더하고 빠진 날짜 빼기)
+        for (int i = 1; i < 45; i++) {
+            runDay(day0.plusDays(i), 1L);
+        }
+
+        RollingStatus user1 = rollingRepository.findByUserId(1L).orElseThrow();
+        assertThat(user1.getLoginCount7d()).isEqualTo(7);
+        assertThat(user1.getViewCount7d()).isEqualTo(7 * 10);
+        assertThat(user1.getLoginCount30d()).isEqualTo(30);
+
+        // 다른 유저는 첫날만 활동 → 30일 지나 정리됨
+        assertThat(rollingRepository.findByUserId(2L)).isEmpty();
+    }
+
+    @Test
+    @Transactional
+    void rerunOfSameDayAppliesOnlyTheDifference() {
+        for (int i = 0; i < 3; i++) {
+            runDay(day0.plusDays(i), 1L);
+        }
+
+        // 마지막 날 재실행 : user1 값 1 → 5
+        LocalDate last = day0.plusDays(2);
+        List<DailyStatus> before = dailyRepository.findByDate(last);
+        Map<Long, long[]> snapshot = PeriodToDateAccumulator.snapshot(before);
+        dailyRepository.deleteByDate(last);
+        DailyStatus rerun = dailyRepository.save(new DailyStatus(1L, last, 5L, 50L, 5L));
+
+        updater.apply(last, snapshot, List.of(rerun));
+
+        RollingStatus user1 = rollingRepository.findByUserId(1L).orElseThrow();
+        assertThat(user1.getLoginCount7d()).isEqualTo(1 + 1 + 5);
+        assertThat(user1.getLoginCount30d()).isEqualTo(1 + 1 + 5);
+    }
+
+    @Test
+    void outsideWriterMarksStaleAndNextUpdateRebuilds() {
+        for (int i = 0; i < 5; i++) {
+            runDay(day0.plusDays(i), 1L);
+        }
+
+        // 일간 배치 밖에서 윈도우 안 날짜 변경 (증분 / late 재집계 등)
+        LocalDate changed = day0.plusDays(1);
+        DailyStatus rewritten = dailyRepository.findByUserIdAndDate(1L, changed).orElseThrow();
+        rewritten.recalculate(4L, 40L, 0L);
+        dailyRepository.save(rewritten);
+        updater.invalidate(changed);
+
+        assertThat(cursorRepository.findById(RollingWindowCursor.ROLLING_STATUS).orElseThrow().isStale()).isTrue();
+
+        // 다음 날 갱신 → daily_status 기준 재생성 (차감 값과 더한 값이 어긋나지 않음)
+        runDay(day0.plusDays(5), 1L);
+
+        RollingStatus user1 = rollingRepository.findByUserId(1L).orElseThrow();
+        assertThat(user1.getLoginCount7d()).isEqualTo(5 + 4);
+        assertThat(user1.getLoginCount30d()).isEqualTo(5 + 4);
+        assertThat(cursorRepository.findById(RollingWindowCursor.ROLLING_STATUS).orElseThrow().isStale()).isFalse();
+    }
+
+    @Test
+    void outsideWriterAppliesDifferenceWithoutRebuild() {
+        for (int i = 0; i < 5; i++) {
+            runDay(day0.plusDays(i), 1L);
+        }
+
+        // 일간 배치 밖에서 윈도우 안 날짜 변경 : 이전 값 / 새 값을 함께 넘김
+        LocalDate changed = day0.plusDays(1);
+        DailyStatus rewritten = dailyRepository.findByUserIdAndDate(1L, changed).orElseThrow();
+        Map<Long, long[]> before = PeriodToDateAccumulator.snapshot(List.of(rewritten));
+        rewritten.recalculate(4L, 40L, 0L);
+        dailyRepository.save(rewritten);
+        updater.applyChange(changed, before, List.of(rewritten));
+
+        RollingStatus user1 = rollingRepository.findByUserId(1L).orElseThrow();
+        assertThat(user1.getLoginCount7d()).isEqualTo(4 + 4);
+        assertThat(cursorRepository.findById(RollingWindowCursor.ROLLING_STATUS).orElseThrow().isStale()).isFalse();
+
+        // 윈도우가 그 날짜를 지나갈 때 지금 값(4)을 빼도 어긋나지 않음
+        for (int i = 5; i < 9; i++) {
+            runDay(day0.plusDays(i), 1L);
+        }
+        assertThat(rollingRepository.findByUserId(1L).orElseThrow().getLoginCount7d()).isEqualTo(7);
+    }
+
+    private void runDay(LocalDate date, long login) {
+        List<DailyStatus> after = new ArrayList<>();
+        after.add(dailyRepository.save(new DailyStatus(1L, date, login, login * 10, 0L)));
+        if (date.equals(day0)) {
+            after.add(dailyRepository.save(new DailyStatus(2L, date, 1L, 1L, 1L)));
+        }
+        updater.apply(date, Map.of(), after);
+    }
+}
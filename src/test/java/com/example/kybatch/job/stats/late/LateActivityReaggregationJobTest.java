@@ -0,0 +1,141 @@
+package com.example.kybatch.job.stats.late;
+
+import com.example.kybatch.domain.activity.UserActivityRepository;
+import com.example.kybatch.domain.stats.DailyStatus;
+import com.example.kybatch.domain.stats.DailyStatusRepository;
+import com.example.kybatch.domain.stats.MonthlyStatus;
+import com.example.kybatch.domain.stats.MonthlyStatusRepository;
+import com.example.kybatch.lock.BatchLockService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.test.JobLauncherTestUtils;
+import org.springframework.batch.test.context.SpringBatchTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+
+import static com.example.kybatch.domain.activity.UserActivityFixtures.activity;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBatchTest
+@SpringBootTest(properties = "stats.late.safety-lag-seconds=0")
+class LateActivityReaggregationJobTest {
+
+    @Autowired
+    private JobLauncherTestUtils jobLauncherTestUtils;
+
+    @Autowired
+    private UserActivityRepository activityRepository;
+
+    @Autowired
+    private DailyStatusRepository dailyStatusRepository;
+
+    @Autowired
+    private MonthlyStatusRepository monthlyStatusRepository;
+
+    @Autowired
+    private BatchLockService lockService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private Job lateActivityReaggregationJob;
+
+    @BeforeEach
+    void setup() {
+        activityRepository.deleteAll();
+        dailyStatusRepository.deleteAll();
+        monthlyStatusRepository.deleteAll();
+        lockService.releaseLock("DAILY_STATS");
+    }
+
+    @Test
+    void testLateActivityIsReaggregatedAndCascaded() throws Exception {
+
+        // ------------------------------------------------------
+        // 1) 이미 집계된 상태 : user1 = 로그 1건, user2 = 로그 1건
+        // ------------------------------------------------------
+        LocalDate day = LocalDate.now().minusDays(2);
+
+        activityRepository.save(activity(1L, 1, 1, 0, day.atTime(12, 0)));
+        activityRepository.save(activity(2L, 1, 1, 0, day.atTime(12, 0)));
+
+        Thread.sleep(20);
+        dailyStatusRepository.save(new DailyStatus(1L, day, 1L, 1L, 0L));
+        dailyStatusRepository.save(new DailyStatus(2L, day, 1L, 1L, 0L));
+        monthlyStatusRepository.save(MonthlyStatus.builder()
+                .userId(1L).year(day.getYear()).month(day.getMonthValue())
+                .loginCount(1L).viewCount(1L).orderCount(0L)
+                .build());
+
+        // ------------------------------------------------------
+        // 2) 집계 이후 user1 로그가 늦게 도착
+        // ------------------------------------------------------
+        Thread.sleep(20);
+        activityRepository.save(activity(1L, 2, 5, 1, day.atTime(12, 0)));
+
+        // ------------------------------------------------------
+        // 3) Job 실행
+        // ------------------------------------------------------
+        JobParameters params = new JobParametersBuilder()
+                .addLong("lookbackDays", 7L)
+                .addLong("time", System.currentTimeMillis())
+                .toJobParameters();
+
+        jobLauncherTestUtils.setJob(lateActivityReaggregationJob);
+        JobExecution execution = jobLauncherTestUtils.launchJob(params);
+
+        assertThat(execution.getExitStatus().getExitCode()).isEqualTo("COMPLETED");
+
+        // ------------------------------------------------------
+        // 4) user1만 재집계 + 월간 보정, user2는 그대로
+        // ------------------------------------------------------
+        DailyStatus user1 = dailyStatusRepository.findByUserIdAndDate(1L, day).orElseThrow();
+        assertThat(user1.getLoginCount()).isEqualTo(3);
+        assertThat(user1.getViewCount()).isEqualTo(6);
+        assertThat(user1.getOrderCount()).isEqualTo(1);
+
+        DailyStatus user2 = dailyStatusRepository.findByUserIdAndDate(2L, day).orElseThrow();
+        assertThat(user2.getLoginCount()).isEqualTo(1);
+
+        MonthlyStatus monthly = monthlyStatusRepository
+                .findByUserIdAndYearAndMonth(1L, day.getYear(), day.getMonthValue()).orElseThrow();
+        assertThat(monthly.getLoginCount()).isEqualTo(3);
+    }
+
+    @Test
+    void testRowsWithoutIngestTimeAreNotLate() throws Exception {
+
+        // ------------------------------------------------------
+        // 1) ingested_at 컬럼 추가 이전에 적재된 row (적재 시각 미상)
+        // ------------------------------------------------------
+        LocalDate day = LocalDate.now().minusDays(2);
+
+        dailyStatusRepository.save(new DailyStatus(1L, day, 1L, 1L, 0L));
+        activityRepository.save(activity(1L, 1, 1, 0, day.atTime(12, 0)));
+        activityRepository.save(activity(1L, 7, 7, 7, day.atTime(12, 0)));
+        jdbcTemplate.update("UPDATE user_activity SET ingested_at = NULL");
+
+        // ------------------------------------------------------
+        // 2) Job 실행 → 재집계 대상 없음, 기존 값 유지
+        // ------------------------------------------------------
+        JobParameters params = new JobParametersBuilder()
+                .addLong("lookbackDays", 7L)
+                .addLong("time", System.currentTimeMillis())
+                .toJobParameters();
+
+        jobLauncherTestUtils.setJob(lateActivityReaggregationJob);
+        JobExecution execution = jobLauncherTestUtils.launchJob(params);
+
+        assertThat(execution.getExitStatus().getExitCode()).isEqualTo("COMPLETED");
+        assertThat(dailyStatusRepository.findByUserIdAndDate(1L, day).orElseThrow().getLoginCount())
+                .isEqualTo(1);
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.kybatch.job.stats.ranking;
+
+import com.example.kybatch.domain.stats.LeaderboardMetric;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TopKCollectorTest {
+
+    @Test
+    void keepsOnlyTopKPerMetric() {
+        TopKCollector collector = new TopKCollector(3);
+
+        for (long userId = 1; userId <= 1_000; userId++) {
+            // 주문 : userId 가 클수록 많음 / 조회 : userId 가 작을수록 많음
+            collector.offer(userId, userId, 1_001 - userId);
+        }
+
+        List<long[]> orders = collector.ranking(LeaderboardMetric.ORDERS);
+        assertThat(orders).extracting(e -> e[0]).containsExactly(1_000L, 999L, 998L);
+        assertThat(orders).extracting(e -> e[1]).containsExactly(1_000L, 999L, 998L);
+
+        List<long[]> views = collector.ranking(LeaderboardMetric.VIEWS);
+        assertThat(views).extracting(e -> e[0]).containsExactly(1L, 2L, 3L);
+    }
+
+    @Test
+    void tiesPreferSmallerUserIdAndZeroIsIgnored() {
+        TopKCollector collector = new TopKCollector(2);
+
+        collector.offer(5L, 10, 0);
+        collector.offer(3L, 10, 0);
+        collector.offer(9L, 10, 0);
+        collector.offer(1L, 0, 0);
+
+        assertThat(collector.ranking(LeaderboardMetric.ORDERS)).extracting(e -> e[0]).containsExactly(3L, 5L);
+        assertThat(collector.ranking(LeaderboardMetric.VIEWS)).isEmpty();
+    }
+}
@@ -0,0 +1,151 @@
+package com.example.kybatch.job.stats.retention;
+
+import com.example.kybatch.domain.stats.DailyActiveBitmapRepository;
+import com.example.kybatch.domain.stats.DailyStatus;
+import com.example.kybatch.domain.stats.DailyStatusRepository;
+import com.example.kybatch.job.stats.retention.RetentionMatrixCalculator.CohortRow;
+import com.example.kybatch.lock.BatchLockService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.test.JobLauncherTestUtils;
+import org.springframework.batch.test.context.SpringBatchTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBatchTest
+@SpringBootTest
+class ActiveBitmapBuildJobTest {
+
+    @Autowired
+    private JobLauncherTestUtils jobLauncherTestUtils;
+
+    @Autowired
+    private DailyStatusRepository dailyStatusRepository;
+
+    @Autowired
+    private DailyActiveBitmapRepository bitmapRepository;
+
+    @Autowired
+    private RetentionMatrixCalculator calculator;
+
+    @Autowired
+    private BatchLockService lockService;
+
+    @Autowired
+    private Job activeBitmapBuildJob;
+
+    private final LocalDate day0 = LocalDate.of(2025, 5, 1);
+
+    @BeforeEach
+    void setup() {
+        dailyStatusRepository.deleteAll();
+        bitmapRepository.deleteAll();
+        lockService.releaseLock("ACTIVE_BITMAP");
+    }
+
+    @Test
+    void testBitmapsBuildFirstActivityCohortMatrix() throws Exception {
+
+        // ------------------------------------------------------
+        // 1) day0 : user 1, 2, 3 / day1 : user 1, 4 / day2 : user 1, 2, 4
+        // ------------------------------------------------------
+        active(day0, 1L, 2L, 3L);
+        active(day0.plusDays(1), 1L, 4L);
+        active(day0.plusDays(2), 1L, 2L, 4L);
+
+        JobParameters params = new JobParametersBuilder()
+                .addString("startDate", day0.toString())
+                .addString("endDate", day0.plusDays(3).toString())
+                .addLong("time", System.currentTimeMillis())
+                .toJobParameters();
+
+        jobLauncherTestUtils.setJob(activeBitmapBuildJob);
+        JobExecution execution = jobLauncherTestUtils.launchJob(params);
+
+        assertThat(execution.getExitStatus().getExitCode()).isEqualTo("COMPLETED");
+        assertThat(bitmapRepository.findById(day0).orElseThrow().getCardinality()).isEqualTo(3);
+
+        // ------------------------------------------------------
+        // 2) cohort day0 = {1,2,3}, cohort day1 = {4}, cohort day2 = {}
+        // ------------------------------------------------------
+        List<CohortRow> rows = calculator.calculate(day0, day0.plusDays(3), 2);
+
+        assertThat(rows.get(0).cohortSize()).isEqualTo(3);
+        assertThat(rows.get(0).retained()).containsExactly(3, 1, 2);
+
+        assertThat(rows.get(1).cohortSize()).isEqualTo(1);
+        assertThat(rows.get(1).retained()).containsExactly(1, 1, RetentionMatrixCalculator.UNKNOWN);
+
+        assertThat(rows.get(2).cohortSize()).isEqualTo(0);
+    }
+
+    @Test
+    void testRebuildingEarlierDayPropagatesSeenBitmap() throws Exception {
+
+        // ------------------------------------------------------
+        // 1) day1 : user 1, 4 / day2 : user 1, 2 먼저 빌드
+        // ------------------------------------------------------
+        active(day0.plusDays(1), 1L, 4L);
+        active(day0.plusDays(2), 1L, 2L);
+        build(day0.plusDays(1), day0.plusDays(3));
+
+        assertThat(calculator.calculate(day0.plusDays(2), day0.plusDays(3), 0).get(0).cohortSize())
+                .isEqualTo(1);
+
+        // ------------------------------------------------------
+        // 2) 나중에 day0 (user 1, 2) 빌드 → 이후 날짜 누적 seen 까지 갱신
+        // ------------------------------------------------------
+        active(day0, 1L, 2L);
+        build(day0, day0.plusDays(1));
+
+        List<CohortRow> rows = calculator.calculate(day0.plusDays(1), day0.plusDays(3), 0);
+        assertThat(rows.get(0).cohortSize()).isEqualTo(1);
+        assertThat(rows.get(1).cohortSize()).isEqualTo(0);
+
+        // from 직전 날짜 누적 seen 1건만 읽어도 같은 결과
+        assertThat(calculator.calculate(day0.plusDays(2), day0.plusDays(3), 0).get(0).cohortSize())
+                .isEqualTo(0);
+    }
+
+    @Test
+    void testCalculatorRejectsUnboundedRequests() {
+        // cohort 기간 / maxDayN 상한 (90) 초과, 빈 기간, 음수
+        assertThatThrownBy(() -> calculator.calculate(day0, day0.plusDays(91), 0))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> calculator.calculate(day0, day0.plusDays(1), Integer.MAX_VALUE))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> calculator.calculate(day0, day0, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> calculator.calculate(day0, day0.plusDays(1), -1))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        assertThat(calculator.calculate(day0, day0.plusDays(90), 90)).hasSize(90);
+    }
+
+    private void build(LocalDate startDate, LocalDate endDate) throws Exception {
+        JobParameters params = new JobParametersBuilder()
+                .addString("startDate", startDate.toString())
+                .addString("endDate", endDate.toString())
+                .addLong("time", System.nanoTime())
+                .toJobParameters();
+
+        jobLauncherTestUtils.setJob(activeBitmapBuildJob);
+        assertThat(jobLauncherTestUtils.launchJob(params).getExitStatus().getExitCode()).isEqualTo("COMPLETED");
+    }
+
+    private void active(LocalDate date, Long... userIds) {
+        for (Long userId : userIds) {
+            dailyStatusRepository.save(new DailyStatus(userId, date, 1L, 1L, 0L));
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package com.example.kybatch.job.stats.rollup;
+
+import com.example.kybatch.domain.stats.ActivityQuantileSketchRepository;
+import com.example.kybatch.domain.stats.DailyStatus;
+import com.example.kybatch.domain.stats.DailyStatusRepository;
+import com.example.kybatch.domain.stats.LeaderboardEntry;
+import com.example.kybatch.domain.stats.LeaderboardEntryRepository;
+import com.example.kybatch.domain.stats.LeaderboardMetric;
+import com.example.kybatch.domain.stats.LeaderboardPeriod;
+import com.example.kybatch.domain.stats.MonthlyStatus;
+import com.example.kybatch.domain.stats.MonthlyStatusRepository;
+import com.example.kybatch.domain.stats.WeeklyStatus;
+import com.example.kybatch.domain.stats.WeeklyStatusRepository;
+import com.example.kybatch.lock.BatchLockService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.test.JobLauncherTestUtils;
+import org.springframework.batch.test.context.SpringBatchTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBatchTest
+@SpringBootTest(properties = "stats.snapshot.dir=${java.io.tmpdir}/kybatch-rollup-snapshot-${random.uuid}")
+class StatsRollupJobTest {
+
+    @Autowired
+    private JobLauncherTestUtils jobLauncherTestUtils;
+
+    @Autowired
+    private DailyStatusRepository dailyStatusRepository;
+
+    @Autowired
+    private WeeklyStatusRepository weeklyStatusRepository;
+
+    @Autowired
+    private MonthlyStatusRepository monthlyStatusRepository;
+
+    @Autowired
+    private LeaderboardEntryRepository leaderboardRepository;
+
+    @Autowired
+    private ActivityQuantileSketchRepository quantileSketchRepository;
+
+    @Autowired
+    private BatchLockService lockService;
+
+    @Autowired
+    private Job statsRollupJob;
+
+    @Value("${stats.snapshot.dir}")
+    private String snapshotDir;
+
+    // 2025-09-01 : 월요일 + 1일 → 지난 주 = 08-25 ~ 08-31, 지난 달 = 08월
+    private final LocalDate weekStart = LocalDate.of(2025, 8, 25);
+    private final LocalDate monthStart = LocalDate.of(2025, 8, 1);
+
+    @BeforeEach
+    void setup() {
+        dailyStatusRepository.deleteAll();
+        weeklyStatusRepository.deleteAll();
+        monthlyStatusRepository.deleteAll();
+        leaderboardRepository.deleteAll();
+        quantileSketchRepository.deleteAll();
+        lockService.releaseLock("WEEKLY_STATS");
+        lockService.releaseLock("MONTHLY_STATS");
+    }
+
+    @Test
+    void testWeeklyAndMonthlyWrittenInOnePass() throws Exception {
+
+        // ------------------------------------------------------
+        // 1) user1 : 지난 주 2일 + 같은 달 이전 주 1일 / user2 : 월초에만 활동
+        // ------------------------------------------------------
+        dailyStatusRepository.save(new DailyStatus(1L, weekStart, 1L, 10L, 1L));
+        dailyStatusRepository.save(new DailyStatus(1L, weekStart.plusDays(6), 2L, 20L, 0L));
+        dailyStatusRepository.save(new DailyStatus(1L, monthStart.plusDays(3), 4L, 40L, 4L));
+        dailyStatusRepository.save(new DailyStatus(2L, monthStart, 1L, 1L, 1L));
+        dailyStatusRepository.save(new DailyStatus(3L, weekStart.plusDays(7), 9L, 9L, 9L)); // 범위 밖
+
+        // ------------------------------------------------------
+        // 2) Job 실행
+        // ------------------------------------------------------
+        JobExecution execution = launch(weekStart, monthStart);
+
+        assertThat(execution.getExitStatus().getExitCode()).isEqualTo("COMPLETED");
+        assertThat(execution.getStepExecutions().iterator().next().getWriteCount()).isEqualTo(3);
+
+        // ------------------------------------------------------
+        // 3) 주간 : user1만 / 월간 : user1, user2
+        // ------------------------------------------------------
+        assertThat(weeklyStatusRepository.findAll()).hasSize(1);
+        WeeklyStatus weekly = weeklyStatusRepository.findByUserIdAndYearAndWeekOfYear(1L, 2025, 35).orElseThrow();
+        assertThat(weekly.getLoginCount()).isEqualTo(3);
+        assertThat(weekly.getViewCount()).isEqualTo(30);
+        assertThat(weekly.getStartDate()).isEqualTo(weekStart);
+
+        assertThat(monthlyStatusRepository.findAll()).hasSize(2);
+        MonthlyStatus user1 = monthlyStatusRepository.findByUserIdAndYearAndMonth(1L, 2025, 8).orElseThrow();
+        assertThat(user1.getLoginCount()).isEqualTo(7);
+        assertThat(user1.getOrderCount()).isEqualTo(5);
+
+        MonthlyStatus user2 = monthlyStatusRepository.findByUserIdAndYearAndMonth(2L, 2025, 8).orElseThrow();
+        assertThat(user2.getLoginCount()).isEqualTo(1);
+
+        // ------------------------------------------------------
+        // 4) 정규 Job 대신 실행되므로 주간 / 월간 리더보드도 기록
+        // ------------------------------------------------------
+        List<LeaderboardEntry> weeklyTop = leaderboardRepository.findByPeriodTypeAndPeriodKeyAndMetricOrderByRankNo(
+                LeaderboardPeriod.WEEKLY, "2025-W35", LeaderboardMetric.VIEWS);
+        assertThat(weeklyTop).extracting(LeaderboardEntry::getUserId).containsExactly(1L);
+        assertThat(weeklyTop.get(0).getValue()).isEqualTo(30);
+
+        List<LeaderboardEntry> monthlyTop = leaderboardRepository.findByPeriodTypeAndPeriodKeyAndMetricOrderByRankNo(
+                LeaderboardPeriod.MONTHLY, "2025-08", LeaderboardMetric.ORDERS);
+        assertThat(monthlyTop).extracting(LeaderboardEntry::getUserId).containsExactly(1L, 2L);
+
+        // 분포 sketch 도 두 기간 모두 기록
+        assertThat(quantileSketchRepository.findByPeriodTypeAndPeriodKeyAndMetric(
+                LeaderboardPeriod.WEEKLY, "2025-W35", LeaderboardMetric.VIEWS).orElseThrow().getUserCount())
+                .isEqualTo(1);
+        assertThat(quantileSketchRepository.findByPeriodTypeAndPeriodKeyAndMetric(
+                LeaderboardPeriod.MONTHLY, "2025-08", LeaderboardMetric.ORDERS).orElseThrow().getUserCount())
+                .isEqualTo(2);
+
+        // 주간 / 월간 columnar snapshot 도 두 기간 모두 내보냄
+        assertThat(Files.exists(Path.of(snapshotDir, "weekly-2025-W35.snap"))).isTrue();
+        assertThat(Files.exists(Path.of(snapshotDir, "monthly-2025-08.snap"))).isTrue();
+    }
+
+    @Test
+    void testWeekSpanningYearUsesIsoWeekBasedYear() throws Exception {
+
+        // 2026-12-28(월) ~ 2027-01-03(일) = ISO 2026-W53
+        LocalDate isoWeekStart = LocalDate.of(2026, 12, 28);
+        dailyStatusRepository.save(new DailyStatus(1L, isoWeekStart, 1L, 1L, 1L));
+        dailyStatusRepository.save(new DailyStatus(1L, LocalDate.of(2027, 1, 3), 1L, 2L, 0L));
+
+        JobExecution execution = launch(isoWeekStart, LocalDate.of(2026, 12, 1));
+        assertThat(execution.getExitStatus().getExitCode()).isEqualTo("COMPLETED");
+
+        // 일요일의 달력 연도(2027)가 아니라 ISO 연도(2026)로 저장
+        WeeklyStatus weekly = weeklyStatusRepository.findByUserIdAndYearAndWeekOfYear(1L, 2026, 53).orElseThrow();
+        assertThat(weekly.getViewCount()).isEqualTo(3);
+        assertThat(weeklyStatusRepository.findByUserIdAndYearAndWeekOfYear(1L, 2027, 53)).isEmpty();
+
+        assertThat(leaderboardRepository.findByPeriodTypeAndPeriodKeyAndMetricOrderByRankNo(
+                LeaderboardPeriod.WEEKLY, "2026-W53", LeaderboardMetric.VIEWS)).hasSize(1);
+        assertThat(Files.exists(Path.of(snapshotDir, "weekly-2026-W53.snap"))).isTrue();
+    }
+
+    private JobExecution launch(LocalDate weekStartDate, LocalDate monthStartDate) throws Exception {
+        JobParameters params = new JobParametersBuilder()
+                .addString("weekStartDate", weekStartDate.toString())
+                .addString("monthStartDate", monthStartDate.toString())
+                .addLong("time", System.currentTimeMillis())
+                .toJobParameters();
+
+        jobLauncherTestUtils.setJob(statsRollupJob);
+        return jobLauncherTestUtils.launchJob(params);
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.kybatch.job.stats.sketch;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class HyperLogLogTest {
+
+    @Test
+    void estimateStaysWithinErrorBound() {
+        for (long n : new long[]{1_000, 50_000, 500_000}) {
+            HyperLogLog hll = new HyperLogLog();
+            for (long userId = 1; userId <= n; userId++) {
+                hll.offer(userId);
+                hll.offer(userId); // 중복은 무시
+            }
+
+            double bound = 3 * hll.relativeStandardError();
+            assertThat((double) hll.cardinality()).isCloseTo(n, within(n * bound));
+        }
+    }
+
+    @Test
+    void mergeEqualsUnion() {
+        // day1 : 1 ~ 60000, day2 : 40001 ~ 100000 → 합집합 100000
+        HyperLogLog day1 = new HyperLogLog();
+        HyperLogLog day2 = new HyperLogLog();
+        HyperLogLog all = new HyperLogLog();
+
+        for (long userId = 1; userId <= 100_000; userId++) {
+            if (userId <= 60_000) day1.offer(userId);
+            if (userId > 40_000) day2.offer(userId);
+            all.offer(userId);
+        }
+
+        day1.merge(day2);
+        assertThat(day1.toBytes()).isEqualTo(all.toBytes());
+        assertThat((double) day1.cardinality()).isCloseTo(100_000, within(100_000 * 3 * day1.relativeStandardError()));
+    }
+
+    @Test
+    void serializationRoundTrip() {
+        HyperLogLog hll = new HyperLogLog(10);
+        for (long userId = 1; userId <= 5_000; userId++) {
+            hll.offer(userId);
+        }
+
+        HyperLogLog restored = HyperLogLog.fromBytes(hll.toBytes());
+        assertThat(restored.precision()).isEqualTo(10);
+        assertThat(restored.cardinality()).isEqualTo(hll.cardinality());
+
+        assertThatThrownBy(() -> restored.merge(new HyperLogLog()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
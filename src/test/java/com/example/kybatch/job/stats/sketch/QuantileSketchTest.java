@@ -0,0 +1,65 @@
+package com.example.kybatch.job.stats.sketch;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class QuantileSketchTest {
+
+    @Test
+    void quantilesStayWithinRelativeAccuracy() {
+        Random random = new Random(42);
+        long[] values = new long[200_000];
+        QuantileSketch sketch = new QuantileSketch();
+
+        for (int i = 0; i < values.length; i++) {
+            // 대부분 적고 일부만 많은 long-tail 분포
+            values[i] = (long) Math.floor(Math.exp(random.nextGaussian() * 1.5 + 2));
+            sketch.offer(values[i]);
+        }
+        Arrays.sort(values);
+
+        for (double q : new double[]{0.5, 0.9, 0.95, 0.99, 0.999}) {
+            long exact = values[(int) Math.floor(q * (values.length - 1))];
+            // 상대 오차 α + 정수 반올림 0.5
+            assertThat((double) sketch.quantile(q))
+                    .isCloseTo(exact, within(exact * QuantileSketch.RELATIVE_ACCURACY + 0.5));
+        }
+        assertThat(sketch.count()).isEqualTo(values.length);
+    }
+
+    @Test
+    void smallCountsAndZerosAreExact() {
+        QuantileSketch sketch = new QuantileSketch();
+        for (long v = 0; v <= 40; v++) {
+            sketch.offer(v);
+        }
+
+        assertThat(sketch.quantile(0)).isZero();
+        assertThat(sketch.quantile(0.5)).isEqualTo(20);
+        assertThat(sketch.quantile(1)).isEqualTo(40);
+    }
+
+    @Test
+    void mergeAndSerializationKeepDistribution() {
+        QuantileSketch a = new QuantileSketch();
+        QuantileSketch b = new QuantileSketch();
+        QuantileSketch all = new QuantileSketch();
+
+        for (long v = 0; v < 10_000; v++) {
+            (v % 2 == 0 ? a : b).offer(v);
+            all.offer(v);
+        }
+
+        QuantileSketch merged = QuantileSketch.fromBytes(a.toBytes());
+        merged.merge(QuantileSketch.fromBytes(b.toBytes()));
+
+        assertThat(merged.toBytes()).isEqualTo(all.toBytes());
+        assertThat(merged.toBytes().length).isLessThan(8 * 1024);
+        assertThat(merged.quantile(0.99)).isEqualTo(all.quantile(0.99));
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.kybatch.job.stats.snapshot;
+
+import com.example.kybatch.domain.stats.LeaderboardPeriod;
+import com.example.kybatch.domain.stats.WeeklyStatus;
+import com.example.kybatch.domain.stats.WeeklyStatusRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.NONE,
+        properties = "stats.snapshot.dir=${java.io.tmpdir}/kybatch-stats-snapshot-${random.uuid}")
+@ActiveProfiles("test")
+class StatsSnapshotExporterTest {
+
+    @Autowired
+    StatsSnapshotExporter exporter;
+
+    @Autowired
+    StatsSnapshotRegistry registry;
+
+    @Autowired
+    WeeklyStatusRepository weeklyRepository;
+
+    @BeforeEach
+    void setup() {
+        weeklyRepository.deleteAll();
+    }
+
+    @Test
+    void exportsSortedColumnsAndSwapsToNewestPeriod() {
+        // userId 를 섞어서 저장 → snapshot 은 userId 오름차순
+        weekly(30L, 26, 3, 30, 0);
+        weekly(10L, 26, 1, 10, 1);
+        weekly(20L, 26, 2, 20, 2);
+
+        MappedStatsSnapshot w26 = exporter.export(LeaderboardPeriod.WEEKLY, 2025, 26);
+
+        assertThat(w26.size()).isEqualTo(3);
+        assertThat(w26.indexOf(10L)).isZero();
+        assertThat(w26.viewCount(w26.indexOf(20L))).isEqualTo(20);
+        assertThat(w26.orderCount(w26.indexOf(10L))).isEqualTo(1);
+        assertThat(w26.indexOf(15L)).isEqualTo(-1);
+        assertThat(registry.current(LeaderboardPeriod.WEEKLY)).isSameAs(w26);
+
+        // 다음 주차 → 교체, 이전 snapshot 은 계속 읽힘
+        weekly(10L, 27, 5, 50, 5);
+        MappedStatsSnapshot w27 = exporter.export(LeaderboardPeriod.WEEKLY, 2025, 27);
+
+        assertThat(registry.current(LeaderboardPeriod.WEEKLY)).isSameAs(w27);
+        assertThat(w27.periodKey()).isEqualTo("2025-W27");
+        assertThat(w27.viewCount(w27.indexOf(10L))).isEqualTo(50);
+        assertThat(w26.viewCount(w26.indexOf(30L))).isEqualTo(30);
+
+        // 지난 주차 재내보내기 → 최신 주차 서빙 유지
+        exporter.export(LeaderboardPeriod.WEEKLY, 2025, 26);
+        assertThat(registry.current(LeaderboardPeriod.WEEKLY)).isSameAs(w27);
+    }
+
+    private void weekly(long userId, int week, long login, long view, long order) {
+        weeklyRepository.save(WeeklyStatus.builder()
+                .userId(userId)
+                .year(2025)
+                .weekOfYear(week)
+                .loginCount(login)
+                .viewCount(view)
+                .orderCount(order)
+                .build());
+    }
+}
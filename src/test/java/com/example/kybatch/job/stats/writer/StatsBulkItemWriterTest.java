@@ -0,0 +1,86 @@
+package com.example.kybatch.job.stats.writer;
+
+import com.example.kybatch.domain.stats.DailyStatus;
+import com.example.kybatch.domain.stats.DailyStatusRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.item.Chunk;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * H2 환경 검증
+ * - bulk writer : COPY 대신 JDBC batch INSERT fallback 경로
+ * - upsert writer : MERGE INTO ... KEY 경로
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@ActiveProfiles("test")
+class StatsBulkItemWriterTest {
+
+    @Autowired
+    StatsBulkWriterFactory writerFactory;
+
+    @Autowired
+    DailyStatusRepository dailyRepository;
+
+    @AfterEach
+    void tearDown() {
+        dailyRepository.deleteAll();
+    }
+
+    @Test
+    void dailyStatusWriter_writesWholeChunk() throws Exception {
+
+        // given
+        LocalDate date = LocalDate.of(2025, 12, 3);
+
+        List<DailyStatus> statuses = new ArrayList<>();
+        for (long userId = 1; userId <= 250; userId++) {
+            statuses.add(new DailyStatus(userId, date, userId, 2L, 0L));
+        }
+
+        // when
+        writerFactory.dailyStatusWriter().write(new Chunk<>(statuses));
+
+        // then
+        assertThat(dailyRepository.count()).isEqualTo(250);
+
+        DailyStatus user7 = dailyRepository.findByUserIdAndDate(7L, date).orElseThrow();
+        assertThat(user7.getLoginCount()).isEqualTo(7);
+        assertThat(user7.getViewCount()).isEqualTo(2);
+        assertThat(user7.getCreatedAt()).isNotNull();
+    }
+
+    @Test
+    void dailyStatusUpsertWriter_overwritesByUniqueKey() {
+
+        // given : 최초 실행 결과
+        LocalDate date = LocalDate.of(2025, 12, 3);
+        StatsUpsertItemWriter<DailyStatus> writer = writerFactory.dailyStatusUpsertWriter();
+
+        writer.writeAll(List.of(
+                new DailyStatus(1L, date, 1L, 1L, 1L),
+                new DailyStatus(2L, date, 2L, 2L, 2L)));
+
+        // when : 재실행 (user1 값 변경, user3 신규)
+        writer.writeAll(List.of(
+                new DailyStatus(1L, date, 5L, 6L, 7L),
+                new DailyStatus(2L, date, 2L, 2L, 2L),
+                new DailyStatus(3L, date, 3L, 3L, 3L)));
+
+        // then : 중복 없이 키 기준으로 덮어씀
+        assertThat(dailyRepository.count()).isEqualTo(3);
+
+        DailyStatus user1 = dailyRepository.findByUserIdAndDate(1L, date).orElseThrow();
+        assertThat(user1.getLoginCount()).isEqualTo(5);
+        assertThat(user1.getViewCount()).isEqualTo(6);
+        assertThat(user1.getOrderCount()).isEqualTo(7);
+    }
+}